@@ -38,6 +38,10 @@ CREATE TABLE IF NOT EXISTS `auction_master` (
     `pbct_no` VARCHAR(50) COMMENT '공매번호',
     `onbid_detail_url` VARCHAR(500) COMMENT '온비드 상세 URL',
 
+    -- 변경분 동기화 (data_generation 세대 기준)
+    `created_generation` BIGINT NOT NULL DEFAULT 0 COMMENT '처음 수집된 데이터 세대',
+    `change_generation` BIGINT NOT NULL DEFAULT 0 COMMENT '마스터 또는 이력 값이 마지막으로 바뀐 데이터 세대',
+
     `created_at` DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
     `updated_at` DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
 
@@ -55,6 +59,7 @@ CREATE TABLE IF NOT EXISTS `auction_history` (
     `pbct_begn_dtm` DATETIME COMMENT '입찰시작일시',
     `pbct_cls_dtm` DATETIME COMMENT '입찰마감일시',
     `pbct_cltr_stat_nm` VARCHAR(100) COMMENT '물건상태',
+    `change_generation` BIGINT NOT NULL DEFAULT 0 COMMENT '값이 마지막으로 바뀐 데이터 세대',
     `created_at` DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
     `updated_at` DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
 
@@ -73,6 +78,7 @@ CREATE TABLE IF NOT EXISTS `user` (
     `password` VARCHAR(255) NOT NULL COMMENT '비밀번호 (BCrypt 해시)',
     `nickname` VARCHAR(100) COMMENT '닉네임',
     `role` VARCHAR(20) NOT NULL DEFAULT 'USER' COMMENT '권한 (USER/ADMIN)',
+    `token_version` INT NOT NULL DEFAULT 0 COMMENT '토큰 버전 (증가시키면 기존 JWT 무효화)',
     `created_at` DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '가입일시',
     `updated_at` DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
 
@@ -85,6 +91,9 @@ CREATE TABLE IF NOT EXISTS `saved_item` (
     `id` BIGINT AUTO_INCREMENT PRIMARY KEY,
     `user_id` BIGINT NOT NULL COMMENT '사용자 ID',
     `item_id` VARCHAR(50) NOT NULL COMMENT '물건번호 (auction_master.cltr_no)',
+    `saved_min_bid_prc` BIGINT COMMENT '찜할 당시 최저입찰가 (가격 인하폭 정렬용)',
+    `notified_min_bid_prc` BIGINT COMMENT '마지막으로 알림 기준이 된 최저입찰가',
+    `notified_status` VARCHAR(100) COMMENT '마지막으로 알림 기준이 된 물건상태',
     `created_at` DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '찜한 날짜',
 
     KEY `idx_user_id` (`user_id`),
@@ -108,6 +117,142 @@ CREATE TABLE IF NOT EXISTS `shedlock` (
     `locked_by` VARCHAR(255) NOT NULL COMMENT '락 획득 인스턴스'
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci COMMENT='ShedLock 분산 락';
 
+-- 2.6. 가격 일별 집계 테이블 (배치 시 변경분만 재계산)
+-- ========================================
+CREATE TABLE IF NOT EXISTS `price_rollup_daily` (
+    `bucket_date` DATE NOT NULL COMMENT '입찰마감일',
+    `region_name` VARCHAR(50) NOT NULL COMMENT '시/도 (주소 첫 단어, 없으면 빈 문자열)',
+    `category_name` VARCHAR(100) NOT NULL COMMENT '대분류 카테고리 (없으면 빈 문자열)',
+    `item_count` INT NOT NULL COMMENT '이력 건수',
+    `min_bid_prc_sum` BIGINT NOT NULL COMMENT '최저입찰가 합계',
+    `appraisal_ratio_sum` DOUBLE NOT NULL COMMENT '감정가 대비 최저입찰가 비율 합계',
+    `appraisal_ratio_count` INT NOT NULL COMMENT '비율 계산 가능 건수 (감정가 > 0)',
+
+    PRIMARY KEY (`bucket_date`, `region_name`, `category_name`),
+    KEY `idx_region_category_date` (`region_name`, `category_name`, `bucket_date`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci COMMENT='가격 일별 집계';
+
+-- 2.7. 가격 월별 집계 테이블 (일별 집계에서 파생)
+-- ========================================
+CREATE TABLE IF NOT EXISTS `price_rollup_monthly` (
+    `bucket_month` DATE NOT NULL COMMENT '월 (해당 월 1일)',
+    `region_name` VARCHAR(50) NOT NULL COMMENT '시/도',
+    `category_name` VARCHAR(100) NOT NULL COMMENT '대분류 카테고리',
+    `item_count` INT NOT NULL COMMENT '이력 건수',
+    `min_bid_prc_sum` BIGINT NOT NULL COMMENT '최저입찰가 합계',
+    `appraisal_ratio_sum` DOUBLE NOT NULL COMMENT '감정가 대비 최저입찰가 비율 합계',
+    `appraisal_ratio_count` INT NOT NULL COMMENT '비율 계산 가능 건수',
+
+    PRIMARY KEY (`bucket_month`, `region_name`, `category_name`),
+    KEY `idx_region_category_month` (`region_name`, `category_name`, `bucket_month`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci COMMENT='가격 월별 집계';
+
+-- 2.8. 지역별 통계 요약 테이블 (대시보드용, 배치 시 변경된 지역만 재계산)
+-- ========================================
+CREATE TABLE IF NOT EXISTS `region_stats` (
+    `region_name` VARCHAR(50) NOT NULL PRIMARY KEY COMMENT '시/도 (정제 지번주소 첫 단어)',
+    `history_count` BIGINT NOT NULL COMMENT '이력 건수',
+    `price_count` BIGINT NOT NULL COMMENT '최저입찰가가 있는 이력 건수',
+    `min_bid_prc_sum` BIGINT NOT NULL COMMENT '최저입찰가 합계',
+    `refreshed_at` DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '재계산 일시'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci COMMENT='지역별 통계 요약';
+
+-- 2.9. 카테고리별 통계 요약 테이블 (대시보드용, 배치 시 변경된 카테고리만 재계산)
+-- ========================================
+CREATE TABLE IF NOT EXISTS `category_stats` (
+    `category_name` VARCHAR(100) NOT NULL PRIMARY KEY COMMENT '대분류 카테고리',
+    `item_count` BIGINT NOT NULL COMMENT '물건 수',
+    `refreshed_at` DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '재계산 일시'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci COMMENT='카테고리별 통계 요약';
+
+-- 2.10. 가격 분포 스케치 테이블 (월/지역/카테고리별 직렬화된 분위수 스케치)
+-- ========================================
+CREATE TABLE IF NOT EXISTS `price_sketch_monthly` (
+    `bucket_month` DATE NOT NULL COMMENT '월 (해당 월 1일, 입찰마감일 기준)',
+    `region_name` VARCHAR(50) NOT NULL COMMENT '시/도',
+    `category_name` VARCHAR(100) NOT NULL COMMENT '대분류 카테고리',
+    `item_count` INT NOT NULL COMMENT '이력 건수',
+    `price_sketch` BLOB NOT NULL COMMENT '최저입찰가 분위수 스케치',
+    `ratio_sketch` BLOB NOT NULL COMMENT '감정가 대비 최저입찰가 비율 분위수 스케치',
+
+    PRIMARY KEY (`bucket_month`, `region_name`, `category_name`),
+    KEY `idx_region_category_month` (`region_name`, `category_name`, `bucket_month`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci COMMENT='가격 분포 스케치 (월별)';
+
+-- 2.11. 물건 활동 일별 집계 테이블 (배치 실행마다 추가만 하는 append-only)
+-- ========================================
+CREATE TABLE IF NOT EXISTS `activity_rollup_daily` (
+    `run_started_at` DATETIME NOT NULL COMMENT '집계한 배치 시작 일시',
+    `activity_date` DATE NOT NULL COMMENT '활동 일자',
+    `region_name` VARCHAR(50) NOT NULL COMMENT '시/도',
+    `category_name` VARCHAR(100) NOT NULL COMMENT '대분류 카테고리',
+    `new_listings` INT NOT NULL COMMENT '신규 물건 수',
+    `price_cuts` INT NOT NULL COMMENT '가격 인하 회차 수 (직전 회차보다 최저입찰가가 낮아진 이력)',
+    `closings` INT NOT NULL COMMENT '입찰 마감 수',
+
+    PRIMARY KEY (`run_started_at`, `activity_date`, `region_name`, `category_name`),
+    KEY `idx_activity_date` (`activity_date`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci COMMENT='물건 활동 일별 집계';
+
+-- 2.12. 물건 활동 집계 실행 기록 (중복 집계 방지 및 마감 집계 구간 관리)
+-- ========================================
+CREATE TABLE IF NOT EXISTS `activity_rollup_run` (
+    `run_started_at` DATETIME NOT NULL PRIMARY KEY COMMENT '배치 시작 일시',
+    `closed_until` DATETIME NOT NULL COMMENT '마감 집계 구간의 끝 (다음 실행의 시작점)',
+    `created_at` DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '집계 일시'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci COMMENT='물건 활동 집계 실행 기록';
+
+-- 2.13. 찜 물건 알림 테이블 (배치 후 가격 인하/상태 변경을 사용자별로 기록)
+-- ========================================
+CREATE TABLE IF NOT EXISTS `notification` (
+    `id` BIGINT AUTO_INCREMENT PRIMARY KEY,
+    `user_id` BIGINT NOT NULL COMMENT '사용자 ID',
+    `item_id` VARCHAR(50) NOT NULL COMMENT '물건번호 (auction_master.cltr_no)',
+    `type` VARCHAR(20) NOT NULL COMMENT '알림 종류 (PRICE_DROP / STATUS_CHANGE / SEARCH_MATCH)',
+    `saved_search_id` BIGINT COMMENT '일치한 저장 검색 ID (SEARCH_MATCH만)',
+    `cltr_hstr_no` VARCHAR(50) NOT NULL COMMENT '알림을 만든 이력번호',
+    `old_min_bid_prc` BIGINT COMMENT '이전 최저입찰가',
+    `new_min_bid_prc` BIGINT COMMENT '새 최저입찰가',
+    `old_status` VARCHAR(100) COMMENT '이전 물건상태',
+    `new_status` VARCHAR(100) COMMENT '새 물건상태',
+    `created_at` DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
+    `read_at` DATETIME COMMENT '읽은 일시',
+
+    KEY `idx_user_id_id` (`user_id`, `id`),
+    -- 같은 저장 검색에 같은 물건은 한 번만 알림 (NULL인 찜 알림은 해당 없음)
+    UNIQUE KEY `uk_search_item` (`saved_search_id`, `item_id`),
+    CONSTRAINT `fk_notification_user`
+        FOREIGN KEY (`user_id`) REFERENCES `user`(`id`)
+        ON DELETE CASCADE ON UPDATE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci COMMENT='찜 물건 알림';
+
+-- 2.14. 저장 검색 테이블 (배치 후 새로 들어오거나 바뀐 물건과 대조해 알림)
+-- ========================================
+CREATE TABLE IF NOT EXISTS `saved_search` (
+    `id` BIGINT AUTO_INCREMENT PRIMARY KEY,
+    `user_id` BIGINT NOT NULL COMMENT '사용자 ID',
+    `keyword` VARCHAR(100) COMMENT '검색어 (토큰마다 물건명/주소 단어의 접두어)',
+    `region` VARCHAR(50) COMMENT '지역 (지번주소 접두어)',
+    `category` VARCHAR(100) COMMENT '카테고리 (카테고리 전체명 접두어)',
+    `min_price` BIGINT COMMENT '최저입찰가 하한',
+    `max_price` BIGINT COMMENT '최저입찰가 상한',
+    `created_at` DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
+
+    KEY `idx_user_id` (`user_id`),
+    CONSTRAINT `fk_saved_search_user`
+        FOREIGN KEY (`user_id`) REFERENCES `user`(`id`)
+        ON DELETE CASCADE ON UPDATE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci COMMENT='저장 검색';
+
+-- ========================================
+-- 2.15. 데이터 세대 테이블 (배치가 커밋 후 증가, 각 노드가 폴링해 로컬 캐시/인덱스 갱신)
+-- ========================================
+CREATE TABLE IF NOT EXISTS `data_generation` (
+    `id` INT PRIMARY KEY COMMENT '항상 1 (단일 행)',
+    `generation` BIGINT NOT NULL DEFAULT 0 COMMENT '데이터 세대 (배치 완료마다 1 증가)',
+    `updated_at` DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '마지막 증가 일시'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci COMMENT='데이터 세대';
+
 -- ========================================
 -- 3. 추가 인덱스 생성 (성능 최적화)
 -- ========================================
@@ -123,11 +268,22 @@ CREATE INDEX IF NOT EXISTS `idx_latitude_longitude` ON `auction_master` (`latitu
 -- 카테고리별 검색 최적화
 CREATE INDEX IF NOT EXISTS `idx_ctgr_full_nm` ON `auction_master` (`ctgr_full_nm`);
 
+-- 변경분 동기화 키셋 조회 (세대 + 물건번호 순)
+CREATE INDEX IF NOT EXISTS `idx_change_generation` ON `auction_master` (`change_generation`, `cltr_no`);
+
 -- 3.2. auction_history 테이블 추가 인덱스
 -- ========================================
 -- 복합 인덱스 (물건번호 + 마감일시)
 CREATE INDEX IF NOT EXISTS `idx_cltr_no_pbct_cls_dtm` ON `auction_history` (`cltr_no`, `pbct_cls_dtm` DESC);
 
+-- 배치 변경분 조회 (가격 집계 재계산 대상 판별)
+CREATE INDEX IF NOT EXISTS `idx_updated_at` ON `auction_history` (`updated_at`);
+CREATE INDEX IF NOT EXISTS `idx_master_updated_at` ON `auction_master` (`updated_at`);
+
+-- 배치 신규 행 조회 (물건 활동 집계)
+CREATE INDEX IF NOT EXISTS `idx_created_at` ON `auction_history` (`created_at`);
+CREATE INDEX IF NOT EXISTS `idx_master_created_at` ON `auction_master` (`created_at`);
+
 -- ========================================
 -- 4. 초기 데이터 삽입
 -- ========================================
@@ -139,6 +295,11 @@ INSERT INTO `user` (`email`, `password`, `nickname`, `role`)
 VALUES ('admin@example.com', '$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy', '관리자', 'ADMIN')
 ON DUPLICATE KEY UPDATE `email`=`email`;
 
+-- 데이터 세대 초기 행
+INSERT INTO `data_generation` (`id`, `generation`)
+VALUES (1, 0)
+ON DUPLICATE KEY UPDATE `id`=`id`;
+
 -- ========================================
 -- 5. 인덱스 확인 (주석 처리)
 -- ========================================
@@ -148,6 +309,15 @@ ON DUPLICATE KEY UPDATE `email`=`email`;
 -- SHOW INDEX FROM user;
 -- SHOW INDEX FROM saved_item;
 -- SHOW INDEX FROM shedlock;
+-- SHOW INDEX FROM price_rollup_daily;
+-- SHOW INDEX FROM price_rollup_monthly;
+-- SHOW INDEX FROM region_stats;
+-- SHOW INDEX FROM category_stats;
+-- SHOW INDEX FROM price_sketch_monthly;
+-- SHOW INDEX FROM activity_rollup_daily;
+-- SHOW INDEX FROM notification;
+-- SHOW INDEX FROM saved_search;
+-- SHOW INDEX FROM data_generation;
 
 -- ========================================
 -- 완료
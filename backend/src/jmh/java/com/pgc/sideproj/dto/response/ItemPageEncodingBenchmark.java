@@ -0,0 +1,126 @@
+package com.pgc.sideproj.dto.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.pgc.sideproj.util.ItemFields;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 물건 목록 한 페이지(PageResponseDTO&lt;AuctionItemSummaryDTO&gt;)의 응답 인코딩 벤치마크입니다.
+ *
+ * <ul>
+ *   <li>json / cbor / smile: 같은 매퍼 설정(ISO 날짜 문자열, 기본 필터)으로 직렬화</li>
+ *   <li>fields: full(전체 필드) 또는 marker(지도 마커 프로필)</li>
+ * </ul>
+ *
+ * <p>인코딩별 페이로드 크기(바이트)는 Setup에서 출력합니다.
+ * 실행: {@code ./gradlew jmh}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemPageEncodingBenchmark {
+
+    private static final String[] REGIONS = {"서울특별시 강남구 역삼동", "경기도 수원시 영통구 매탄동", "부산광역시 해운대구 우동"};
+    private static final String[] NAMES = {"아파트", "토지", "상가", "오피스텔", "다세대주택"};
+    private static final String[] STATUSES = {"입찰준비중", "입찰진행중", "입찰마감"};
+
+    @Param({"full", "marker"})
+    public String fields;
+
+    private PageResponseDTO<AuctionItemSummaryDTO> page;
+    private ObjectWriter json;
+    private ObjectWriter cbor;
+    private ObjectWriter smile;
+
+    @Setup
+    public void setUp() throws Exception {
+        // 실서비스 목록의 최대 페이지 크기(100)와 비슷한 길이의 주소/URL
+        Random random = new Random(49);
+        List<AuctionItemSummaryDTO> items = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            String region = REGIONS[random.nextInt(REGIONS.length)];
+            String address = region + " " + (100 + random.nextInt(900)) + "-" + random.nextInt(50) + "번지";
+            AuctionItemSummaryDTO item = new AuctionItemSummaryDTO();
+            item.setCltrNo(String.valueOf(1_500_000 + i));
+            item.setCltrNm(address + " " + NAMES[random.nextInt(NAMES.length)] + " 제" + random.nextInt(20) + "층 제" + i + "호");
+            item.setCtgrFullNm("부동산 / 주거용건물 / " + NAMES[random.nextInt(NAMES.length)]);
+            item.setLdnmAdrs(address + " 외 " + random.nextInt(5) + "필지");
+            item.setNmrdAdrs(region + "로 " + random.nextInt(300) + "길 " + random.nextInt(80));
+            item.setClnLdnmAdrs(address);
+            item.setClnNmrdAdrs(region + "로 " + random.nextInt(300));
+            item.setLatitude(new BigDecimal("37.49794200").add(BigDecimal.valueOf(random.nextInt(100_000), 8)));
+            item.setLongitude(new BigDecimal("127.02762100").add(BigDecimal.valueOf(random.nextInt(100_000), 8)));
+            item.setOnbidDetailUrl("https://www.onbid.co.kr/op/cta/cltrdtl/collateralRealEstateDetail.do?cltrNo=" + item.getCltrNo());
+            item.setPlnmNo(String.valueOf(700_000 + random.nextInt(10_000)));
+            item.setPbctNo(String.valueOf(9_000_000 + random.nextInt(100_000)));
+            long appraisal = 50_000_000L + random.nextInt(900_000_000);
+            item.setApslAsesAvgAmt(appraisal);
+            item.setMinBidPrc(appraisal * (50 + random.nextInt(50)) / 100);
+            LocalDateTime begin = LocalDateTime.of(2025, 3, 1, 10, 0).plusDays(random.nextInt(60));
+            item.setPbctBegnDtm(begin);
+            item.setPbctClsDtm(begin.plusDays(2).withHour(17));
+            item.setPbctCltrStatNm(STATUSES[random.nextInt(STATUSES.length)]);
+            items.add(item);
+        }
+        page = new PageResponseDTO<>(items, 1, items.size(), 12_345);
+
+        FilterProvider filters = "full".equals(fields)
+                ? new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll())
+                : new SimpleFilterProvider().addFilter(ItemFields.FILTER_ID,
+                        SimpleBeanPropertyFilter.filterOutAllExcept(ItemFields.parse(fields)));
+        json = writer(Jackson2ObjectMapperBuilder.json(), filters);
+        cbor = writer(Jackson2ObjectMapperBuilder.cbor(), filters);
+        smile = writer(Jackson2ObjectMapperBuilder.smile(), filters);
+
+        System.out.printf("%n[%s] payload bytes - json: %d, cbor: %d, smile: %d%n", fields,
+                json.writeValueAsBytes(page).length, cbor.writeValueAsBytes(page).length,
+                smile.writeValueAsBytes(page).length);
+    }
+
+    // 애플리케이션 설정과 같게 날짜는 ISO 문자열로 직렬화
+    private static ObjectWriter writer(Jackson2ObjectMapperBuilder builder, FilterProvider filters) {
+        ObjectMapper mapper = builder.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+        return mapper.writer(filters);
+    }
+
+    @Benchmark
+    public byte[] json() throws Exception {
+        return json.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] cbor() throws Exception {
+        return cbor.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] smile() throws Exception {
+        return smile.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,81 @@
+package com.pgc.sideproj.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.Authentication;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter의 토큰 검증 경로 벤치마크입니다.
+ *
+ * <ul>
+ *   <li>legacy: 변경 전 경로 (validateToken + getAuthentication, 매번 파서 생성 후 두 번 서명 검증)</li>
+ *   <li>parseOnce: 미리 만든 파서로 한 번만 검증 (캐시 비활성화)</li>
+ *   <li>parseOnceCached: 한 번 검증 후 다이제스트 캐시 조회</li>
+ * </ul>
+ *
+ * <p>실행: {@code ./gradlew jmh}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class JwtAuthenticationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-which-is-long-enough-for-hs256";
+
+    private Key key;
+    private String token;
+    private JwtTokenProvider uncachedProvider;
+    private JwtTokenProvider cachedProvider;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+
+        uncachedProvider = new JwtTokenProvider(SECRET, 3_600_000L, 0);
+        uncachedProvider.init();
+        cachedProvider = new JwtTokenProvider(SECRET, 3_600_000L, 10_000);
+        cachedProvider.init();
+
+        token = cachedProvider.createToken(42L, "bench@example.com", "USER", 0);
+    }
+
+    @Benchmark
+    public Object legacy() {
+        Claims validated = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        if (validated.getExpiration().before(new Date())) {
+            return null;
+        }
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().getSubject();
+    }
+
+    @Benchmark
+    public Authentication parseOnce() {
+        return uncachedProvider.authenticate(token).orElseThrow();
+    }
+
+    @Benchmark
+    public Authentication parseOnceCached() {
+        return cachedProvider.authenticate(token).orElseThrow();
+    }
+}
@@ -0,0 +1,50 @@
+package com.pgc.sideproj.config;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * {@code @JsonFilter}가 붙은 응답 DTO는 필터를 따로 지정하지 않으면 모든 필드를 직렬화합니다.
+     * (물건 목록의 fields 파라미터처럼 요청별 필터는 MappingJacksonValue로 지정)
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer defaultFilterCustomizer() {
+        return builder -> builder.filters(new SimpleFilterProvider()
+                .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()));
+    }
+
+    /**
+     * Accept: application/cbor 요청에 CBOR로 응답합니다.
+     *
+     * <p>Spring 기본 CBOR/Smile 컨버터는 애플리케이션 설정(날짜 형식, 필터 등)이 적용되지 않은 매퍼를 쓰므로,
+     * JSON과 같은 빌더로 만든 매퍼로 교체합니다. 기본 컨버터 자리(JSON 뒤)에 들어가므로
+     * Accept가 없거나 *&#47;*인 요청은 계속 JSON으로 응답합니다.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder
+                .factory(new CBORFactory())
+                .build());
+    }
+
+    /**
+     * Accept: application/x-jackson-smile 요청에 Smile로 응답합니다.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder
+                .factory(new SmileFactory())
+                .build());
+    }
+}
@@ -1,6 +1,7 @@
 package com.pgc.sideproj.config;
 
 import com.pgc.sideproj.filter.JwtAuthenticationFilter;
+import com.pgc.sideproj.service.TokenVersionService;
 import com.pgc.sideproj.util.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -20,6 +21,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenVersionService tokenVersionService;
     /**
      * PasswordEncoder Bean 등록 (비밀번호 암호화기)
      */
@@ -50,6 +52,8 @@ public class SecurityConfig {
                                 "/api/v1/auth/**",
                                 "/api/v1/items/**",
                                 "/api/v1/statistics/**",
+                                "/api/v1/tiles/**",
+                                "/api/v1/events/**",
 
                                 // --- Swagger UI 접근 허용 ---
                                 "/v3/api-docs/**",
@@ -57,9 +61,11 @@ public class SecurityConfig {
                                 "/swagger-ui.html"
                         ).permitAll()
 
-                        // 찜하기 API는 'USER' 권한을 가진 사용자만 허용
+                        // 찜하기/저장 검색/알림 API는 'USER' 권한을 가진 사용자만 허용
                         .requestMatchers(
-                                "/api/v1/saved-items/**"
+                                "/api/v1/saved-items/**",
+                                "/api/v1/saved-searches/**",
+                                "/api/v1/notifications/**"
                         ).hasRole("USER")
 
                         .requestMatchers(
@@ -74,7 +80,7 @@ public class SecurityConfig {
                 // 4. JWT 필터 추가: JWT 인증 필터를 UsernamePasswordAuthenticationFilter 전에 추가하여
                 // 실제 인증 처리가 되기 전에 토큰을 검증하도록 합니다.
                 .addFilterBefore(
-                        new JwtAuthenticationFilter(jwtTokenProvider),
+                        new JwtAuthenticationFilter(jwtTokenProvider, tokenVersionService),
                         UsernamePasswordAuthenticationFilter.class
                 );
 
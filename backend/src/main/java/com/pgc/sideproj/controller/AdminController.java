@@ -1,12 +1,17 @@
 package com.pgc.sideproj.controller;
 
+import com.pgc.sideproj.dto.response.AuthMetricsDTO;
 import com.pgc.sideproj.dto.response.UserResponse;
 import com.pgc.sideproj.service.AuctionBatchService;
+import com.pgc.sideproj.service.PasswordHashingService;
+import com.pgc.sideproj.service.PriceDistributionService;
+import com.pgc.sideproj.service.TokenVersionService;
 import com.pgc.sideproj.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -29,6 +34,9 @@ public class AdminController {
 
     private final AuctionBatchService auctionBatchService;
     private final UserService userService;
+    private final PriceDistributionService priceDistributionService;
+    private final TokenVersionService tokenVersionService;
+    private final PasswordHashingService passwordHashingService;
 
     /**
      * 온비드 배치 작업을 수동으로 실행합니다.
@@ -54,6 +62,21 @@ public class AdminController {
         }
     }
 
+    /**
+     * 이력이 있는 모든 월의 가격 분포 스케치를 다시 만듭니다.
+     *
+     * <p>스케치 테이블을 처음 만든 뒤 기존 이력을 적재하거나, 스케치 형식이 바뀌었을 때 사용합니다.
+     * 평소에는 배치가 변경된 월만 다시 만듭니다.
+     *
+     * @return 다시 만든 월 수 메시지
+     */
+    @PostMapping("/statistics/sketches/rebuild")
+    public ResponseEntity<String> rebuildPriceSketches() {
+        log.info("관리자에 의해 가격 분포 스케치 재생성이 요청되었습니다.");
+        int rebuilt = priceDistributionService.rebuildAll();
+        return ResponseEntity.ok(rebuilt + "개월의 가격 분포 스케치를 다시 만들었습니다.");
+    }
+
     /**
      * 시스템에 등록된 모든 회원 목록을 조회합니다.
      * 
@@ -67,4 +90,29 @@ public class AdminController {
         List<UserResponse> userList = userService.getAllUsers();
         return ResponseEntity.ok(userList);
     }
+
+    /**
+     * 비밀번호 해싱 소요 시간과 거부된 인증 시도 수를 조회합니다.
+     *
+     * @return 해싱 지연 분위수, 거부/시간 초과/요청 제한 횟수, 실행기 상태
+     */
+    @GetMapping("/auth/metrics")
+    public ResponseEntity<AuthMetricsDTO> getAuthMetrics() {
+        return ResponseEntity.ok(passwordHashingService.getMetrics());
+    }
+
+    /**
+     * 사용자에게 발급된 모든 JWT 토큰을 폐기합니다.
+     *
+     * <p>사용자의 토큰 버전을 올리므로 이후 해당 사용자는 다시 로그인해야 합니다.
+     *
+     * @param userId 토큰을 폐기할 사용자 ID
+     * @return 204 No Content 상태 코드
+     */
+    @PostMapping("/users/{user_id}/revoke-tokens")
+    public ResponseEntity<Void> revokeTokens(@PathVariable("user_id") Long userId) {
+        log.info("관리자에 의해 사용자 {}의 토큰 폐기가 요청되었습니다.", userId);
+        tokenVersionService.revoke(userId);
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -1,26 +1,55 @@
 package com.pgc.sideproj.controller;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.pgc.sideproj.dto.common.AuthUser;
+import com.pgc.sideproj.dto.request.ClosingSoonRequest;
+import com.pgc.sideproj.dto.request.ItemChangesRequest;
+import com.pgc.sideproj.dto.request.NearbyItemRequest;
+import com.pgc.sideproj.dto.request.PriceHistoryRequest;
 import com.pgc.sideproj.dto.request.SearchItemRequest;
+import com.pgc.sideproj.dto.request.TrendingItemRequest;
 import com.pgc.sideproj.dto.response.AuctionItemDetailDTO;
 import com.pgc.sideproj.dto.response.AuctionItemSummaryDTO;
+import com.pgc.sideproj.dto.response.ClosingSoonItemDTO;
+import com.pgc.sideproj.dto.response.ItemChangesResponseDTO;
+import com.pgc.sideproj.dto.response.NearbyItemDTO;
 import com.pgc.sideproj.dto.response.PageResponseDTO;
+import com.pgc.sideproj.dto.response.TrendingItemDTO;
+import com.pgc.sideproj.dto.stats.PriceSeriesDTO;
+import com.pgc.sideproj.service.AuctionDeadlineService;
 import com.pgc.sideproj.service.AuctionItemService;
+import com.pgc.sideproj.service.ItemListCacheService;
+import com.pgc.sideproj.service.NearbyItemService;
+import com.pgc.sideproj.service.PriceTrendService;
+import com.pgc.sideproj.service.SavedFlagService;
+import com.pgc.sideproj.service.TrendingItemService;
+import com.pgc.sideproj.util.ItemFields;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
 /**
  * 공매 물건 조회 API 컨트롤러입니다.
  * 
  * <p>공매 물건 목록 조회 및 상세 정보 조회 기능을 제공합니다.
  * 목록 조회는 Full-Text Search(FTS)를 지원하며 페이지네이션이 적용됩니다.
+ * 로그인한 사용자의 요청이면 목록 항목마다 찜 여부(isSaved)를 함께 반환합니다.
  * 
  * @author sideproj
  * @since 1.0
@@ -31,30 +60,125 @@ import lombok.RequiredArgsConstructor;
 public class AuctionItemController {
 
     private final AuctionItemService auctionItemService;
+    private final NearbyItemService nearbyItemService;
+    private final PriceTrendService priceTrendService;
+    private final SavedFlagService savedFlagService;
+    private final AuctionDeadlineService auctionDeadlineService;
+    private final TrendingItemService trendingItemService;
+    private final ItemListCacheService itemListCacheService;
 
     /**
      * [GET] /api/v1/items : 공매 물건 목록을 조회합니다. (FTS 검색 및 페이지네이션)
      *
-     * @param request 검색 요청 DTO (keyword, region, page, size)
-     * @return PageResponseDTO<AuctionItemSummaryDTO>
+     * <p>fields 파라미터(필드명 또는 프로필 card / marker / full)를 주면 그 필드만 DB에서 읽고 응답에 담습니다.
+     * 사용자마다 달라지는 찜 여부가 없는 JSON 응답은 {@link ItemListCacheService}가 직렬화된 바이트를 캐시해 직접 씁니다.
+     *
+     * @param request 검색 요청 DTO (keyword, region, page, size, fields)
+     * @param user    로그인한 사용자 (비로그인이면 null)
+     * @return PageResponseDTO<AuctionItemSummaryDTO> (fields에 없는 필드는 제외, 캐시 경로로 이미 썼으면 null)
      */
     @GetMapping
-    public ResponseEntity<PageResponseDTO<AuctionItemSummaryDTO>> getAuctionItems(
-            @Valid @ModelAttribute SearchItemRequest request) {
-        // 기본값 설정
+    public ResponseEntity<MappingJacksonValue> getAuctionItems(
+            @Valid @ModelAttribute SearchItemRequest request,
+            @AuthenticationPrincipal AuthUser user,
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse) throws IOException {
+        // 기본값 설정 및 페이지/사이즈 값 보정 (최소 1)
         String keyword = request.getKeyword() != null ? request.getKeyword() : "";
         String region = request.getRegion() != null ? request.getRegion() : "";
-        int page = request.getPage() != null ? request.getPage() : 1;
-        int size = request.getSize() != null ? request.getSize() : 10;
+        int page = Math.max(request.getPage() != null ? request.getPage() : 1, 1);
+        int size = Math.max(request.getSize() != null ? request.getSize() : 10, 1);
+        Set<String> fields = ItemFields.parse(request.getFields());
 
-        // 페이지/사이즈 값 보정 (최소 1)
-        page = Math.max(page, 1);
-        size = Math.max(size, 1);
+        if ((user == null || !fields.contains(ItemFields.IS_SAVED)) && itemListCacheService.isCacheable(httpRequest)) {
+            itemListCacheService.writeItems(keyword, region, page, size, fields,
+                    () -> auctionItemService.getItems(keyword, region, page, size, fields), httpRequest, httpResponse);
+            return null;
+        }
 
         // 서비스 호출
-        PageResponseDTO<AuctionItemSummaryDTO> response = auctionItemService.getItems(keyword, region, page, size);
+        PageResponseDTO<AuctionItemSummaryDTO> response = auctionItemService.getItems(keyword, region, page, size, fields);
+
+        if (user != null && fields.contains(ItemFields.IS_SAVED)) {
+            SavedFlagService.SavedFlags saved = savedFlagService.flagsOf(user.getUserId());
+            response.getData().forEach(item -> item.setIsSaved(saved.contains(item.getCltrNo())));
+        }
+
+        MappingJacksonValue body = new MappingJacksonValue(response);
+        if (!ItemFields.isAll(fields)) {
+            body.setFilters(new SimpleFilterProvider()
+                    .addFilter(ItemFields.FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(fields)));
+        }
+        return ResponseEntity.ok(body);
+    }
+
+    /**
+     * 곧 입찰이 마감되는 물건을 마감 시각 순으로 조회합니다.
+     *
+     * <p>마감 타이밍 휠이 관리하는 인메모리 정렬 구조에서 바로 잘라 반환하므로 DB를 조회하지 않으며,
+     * 마감 시각이 지난 물건은 배치를 기다리지 않고 즉시 빠집니다.
+     * 기본값: 24시간 이내, 20건
+     *
+     * @param request 조회 조건 (withinHours, size)
+     * @param user    로그인한 사용자 (비로그인이면 null)
+     * @return 마감 시각 오름차순의 물건 목록
+     */
+    @GetMapping("/closing-soon")
+    public ResponseEntity<List<ClosingSoonItemDTO>> getClosingSoonItems(
+            @Valid @ModelAttribute ClosingSoonRequest request,
+            @AuthenticationPrincipal AuthUser user) {
+        int withinHours = request.getWithinHours() != null ? request.getWithinHours() : 24;
+        int size = request.getSize() != null ? request.getSize() : 20;
 
-        return ResponseEntity.ok(response);
+        List<ClosingSoonItemDTO> items = auctionDeadlineService.getClosingSoon(withinHours, size);
+
+        if (user != null) {
+            SavedFlagService.SavedFlags saved = savedFlagService.flagsOf(user.getUserId());
+            items.forEach(item -> item.setIsSaved(saved.contains(item.getCltrNo())));
+        }
+        return ResponseEntity.ok(items);
+    }
+
+    /**
+     * 최근 상세 조회 수가 많은 인기 물건을 조회합니다.
+     *
+     * <p>주기적으로 갱신되는 인메모리 스냅샷을 반환하므로 DB를 조회하지 않습니다. (최대 10초 지연)
+     * 기본값: 10건
+     *
+     * @param request 조회 조건 (size)
+     * @param user    로그인한 사용자 (비로그인이면 null)
+     * @return 조회 수 내림차순의 물건 목록
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<List<TrendingItemDTO>> getTrendingItems(
+            @Valid @ModelAttribute TrendingItemRequest request,
+            @AuthenticationPrincipal AuthUser user) {
+        int size = request.getSize() != null ? request.getSize() : 10;
+
+        List<TrendingItemDTO> items = trendingItemService.getTrending(size);
+
+        if (user != null) {
+            SavedFlagService.SavedFlags saved = savedFlagService.flagsOf(user.getUserId());
+            items.forEach(item -> item.setIsSaved(saved.contains(item.getCltrNo())));
+        }
+        return ResponseEntity.ok(items);
+    }
+
+    /**
+     * 마지막 동기화 이후 새로 들어오거나 바뀐 물건만 조회합니다. (모바일/외부 미러 증분 동기화)
+     *
+     * <p>응답의 nextCursor로 hasNext가 false가 될 때까지 이어 받은 뒤, generation을 다음 요청의 since로 넘깁니다.
+     * since를 생략하면 전체 물건을 같은 방식으로 내려받습니다.
+     * 기본값: 500건
+     *
+     * @param request 동기화 조건 (since, size, cursor)
+     * @return 변경 물건 페이지와 기준 세대
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<ItemChangesResponseDTO> getItemChanges(
+            @Valid @ModelAttribute ItemChangesRequest request) {
+        int size = request.getSize() != null ? request.getSize() : 500;
+        return ResponseEntity.ok(auctionItemService.getChanges(request.getSince(), size, request.getCursor()));
     }
 
     /**
@@ -71,6 +195,58 @@ public class AuctionItemController {
     public ResponseEntity<AuctionItemDetailDTO> getItemDetail(
             @PathVariable("cltr_no") String cltrNo) {
         AuctionItemDetailDTO detail = auctionItemService.getItemDetail(cltrNo);
+        // 존재하는 물건의 조회만 인기 물건 집계에 기록
+        trendingItemService.recordView(cltrNo);
         return ResponseEntity.ok(detail);
     }
+
+    /**
+     * 기준 물건 주변의 유사 물건을 가까운 순서로 조회합니다.
+     *
+     * <p>인메모리 공간 인덱스(k-d 트리)에서 k-NN 검색을 수행하므로 DB를 조회하지 않습니다.
+     * 기본값: 반경 5km, 10건, 같은 카테고리만, 가격 조건 없음
+     *
+     * @param cltrNo  기준 공매 물건 번호 (cltr_no)
+     * @param request 검색 조건 (radiusKm, size, sameCategory, priceTolerance)
+     * @param user    로그인한 사용자 (비로그인이면 null)
+     * @return 거리 오름차순의 주변 물건 목록
+     * @throws com.pgc.sideproj.exception.custom.ResourceNotFoundException 기준 물건의 좌표가 없는 경우
+     */
+    @GetMapping("/{cltr_no}/nearby")
+    public ResponseEntity<List<NearbyItemDTO>> getNearbyItems(
+            @PathVariable("cltr_no") String cltrNo,
+            @Valid @ModelAttribute NearbyItemRequest request,
+            @AuthenticationPrincipal AuthUser user) {
+        double radiusKm = request.getRadiusKm() != null ? request.getRadiusKm() : 5.0;
+        int size = request.getSize() != null ? request.getSize() : 10;
+        boolean sameCategory = request.getSameCategory() == null || request.getSameCategory();
+
+        List<NearbyItemDTO> nearby = nearbyItemService.findNearby(
+                cltrNo, radiusKm, size, sameCategory, request.getPriceTolerance());
+
+        if (user != null) {
+            SavedFlagService.SavedFlags saved = savedFlagService.flagsOf(user.getUserId());
+            nearby.forEach(item -> item.setIsSaved(saved.contains(item.getCltrNo())));
+        }
+        return ResponseEntity.ok(nearby);
+    }
+
+    /**
+     * 물건의 가격 이력을 차트용 시계열로 조회합니다.
+     *
+     * <p>입찰마감일시 순의 최저입찰가와 감정가 대비 비율을 반환하며,
+     * 이력이 points개보다 많으면 LTTB로 다운샘플링합니다. (기본값 200)
+     *
+     * @param cltrNo  공매 물건 번호 (cltr_no)
+     * @param request 최대 점 개수 (points)
+     * @return 가격 이력 시계열
+     * @throws com.pgc.sideproj.exception.custom.ResourceNotFoundException 해당 물건을 찾을 수 없는 경우
+     */
+    @GetMapping("/{cltr_no}/price-history")
+    public ResponseEntity<PriceSeriesDTO> getPriceHistory(
+            @PathVariable("cltr_no") String cltrNo,
+            @Valid @ModelAttribute PriceHistoryRequest request) {
+        int points = request.getPoints() != null ? request.getPoints() : 200;
+        return ResponseEntity.ok(priceTrendService.getItemPriceHistory(cltrNo, points));
+    }
 }
@@ -4,7 +4,9 @@ import com.pgc.sideproj.dto.request.UserLoginRequest;
 import com.pgc.sideproj.dto.request.UserRegisterRequest;
 import com.pgc.sideproj.dto.response.TokenResponse;
 import com.pgc.sideproj.dto.response.UserResponse;
+import com.pgc.sideproj.service.LoginRateLimiter;
 import com.pgc.sideproj.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -19,6 +21,7 @@ import org.springframework.web.bind.annotation.RestController;
  * 
  * <p>회원가입 및 로그인 기능을 제공합니다.
  * 로그인 성공 시 JWT 토큰이 발급되며, 이후 API 호출 시 이 토큰을 사용하여 인증합니다.
+ * 두 엔드포인트 모두 비밀번호 해싱 전에 IP/이메일별 요청 제한을 검사합니다.
  * 
  * @author sideproj
  * @since 1.0
@@ -29,6 +32,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthContorller {
 
     private final UserService userService;
+    private final LoginRateLimiter loginRateLimiter;
 
     /**
      * 새로운 사용자를 등록합니다.
@@ -39,11 +43,14 @@ public class AuthContorller {
      * @param request 회원가입 요청 정보 (이메일, 비밀번호, 닉네임)
      * @return 생성된 사용자 정보 (비밀번호 제외)
      * @throws com.pgc.sideproj.exception.custom.DuplicateEmailException 이메일이 이미 존재하는 경우
+     * @throws com.pgc.sideproj.exception.custom.TooManyRequestsException 요청 제한을 넘은 경우
      */
     @PostMapping("/register")
     public ResponseEntity<UserResponse> register(
-            @Valid @RequestBody UserRegisterRequest request
+            @Valid @RequestBody UserRegisterRequest request,
+            HttpServletRequest httpRequest
     ) {
+        loginRateLimiter.checkRegister(httpRequest.getRemoteAddr());
         UserResponse response = userService.registerUser(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
@@ -57,11 +64,14 @@ public class AuthContorller {
      * @param request 로그인 요청 정보 (이메일, 비밀번호)
      * @return JWT 토큰 정보 (accessToken, tokenType)
      * @throws com.pgc.sideproj.exception.custom.BadCredentialsException 이메일 또는 비밀번호가 일치하지 않는 경우
+     * @throws com.pgc.sideproj.exception.custom.TooManyRequestsException 요청 제한을 넘은 경우
      */
     @PostMapping("/login")
     public ResponseEntity<TokenResponse> login(
-            @RequestBody UserLoginRequest request
+            @RequestBody UserLoginRequest request,
+            HttpServletRequest httpRequest
     ) {
+        loginRateLimiter.checkLogin(httpRequest.getRemoteAddr(), request.getEmail());
         TokenResponse response = userService.login(request);
         return ResponseEntity.ok(response);
     }
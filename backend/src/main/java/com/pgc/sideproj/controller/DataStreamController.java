@@ -0,0 +1,54 @@
+package com.pgc.sideproj.controller;
+
+import com.pgc.sideproj.dto.common.AuthUser;
+import com.pgc.sideproj.dto.request.DataStreamRequest;
+import com.pgc.sideproj.dto.response.DataStreamEventDTO;
+import com.pgc.sideproj.service.DataStreamService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+import java.util.Set;
+
+/**
+ * 데이터 변경 이벤트 SSE 스트림 컨트롤러입니다.
+ *
+ * <p>프론트엔드가 주기적으로 다시 조회하는 대신, 배치 완료(새 데이터 세대)와 통계 갱신,
+ * 관심 물건의 입찰 시작/마감을 받아 필요한 화면만 갱신합니다.
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+@RestController
+@RequestMapping("/api/v1/events")
+@RequiredArgsConstructor
+public class DataStreamController {
+
+    private final DataStreamService dataStreamService;
+
+    /**
+     * 데이터 변경 이벤트 스트림을 엽니다.
+     *
+     * <p>이벤트: {@code batch-completed}, {@code statistics-refreshed} ({@code generation}),
+     * {@code items-changed} ({@code startedCltrNos}, {@code closedCltrNos}).
+     * 밀린 이벤트는 다시 보내지 않으므로, 재연결 후에는 변경분 동기화 API로 놓친 변경을 확인합니다.
+     *
+     * @param request 관심 물건 (items)
+     * @param user    로그인한 사용자 (비로그인이면 null, 로그인 시 찜 물건의 상태 변경도 포함)
+     * @return SSE 이벤트 스트림
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<DataStreamEventDTO>> stream(
+            @Valid @ModelAttribute DataStreamRequest request,
+            @AuthenticationPrincipal AuthUser user) {
+        Set<String> items = request.getItems() != null ? Set.copyOf(request.getItems()) : Set.of();
+        return dataStreamService.subscribe(user != null ? user.getUserId() : null, items);
+    }
+}
@@ -0,0 +1,99 @@
+package com.pgc.sideproj.controller;
+
+import com.pgc.sideproj.dto.common.AuthUser;
+import com.pgc.sideproj.dto.db.NotificationDTO;
+import com.pgc.sideproj.dto.request.NotificationListRequest;
+import com.pgc.sideproj.dto.response.CursorPageResponseDTO;
+import com.pgc.sideproj.service.NotificationService;
+import com.pgc.sideproj.service.NotificationStreamService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+
+/**
+ * 찜 물건 알림(가격 인하, 상태 변경) API 컨트롤러입니다.
+ * 
+ * <p>알림은 배치가 끝날 때마다 만들어지며, 목록 폴링 또는 SSE 스트림으로 받을 수 있습니다.
+ * 모든 엔드포인트는 인증된 사용자만 접근 가능합니다.
+ * 
+ * @author sideproj
+ * @since 1.0
+ */
+@RestController
+@RequestMapping("/api/v1/notifications")
+@RequiredArgsConstructor
+public class NotificationController {
+
+    private final NotificationService notificationService;
+    private final NotificationStreamService notificationStreamService;
+
+    /**
+     * 알림 목록을 조회합니다.
+     * 
+     * <p>afterId를 주면 그 이후의 새 알림을 오래된 순으로(폴링), 아니면 최신 순으로(목록, beforeId로 다음 페이지) 반환합니다.
+     * 
+     * @param user 인증된 사용자 정보 (JWT 토큰에서 자동 주입)
+     * @param request afterId / beforeId / size(기본 20)
+     * @return 알림 페이지
+     */
+    @GetMapping
+    public ResponseEntity<CursorPageResponseDTO<NotificationDTO>> getNotifications(
+            @AuthenticationPrincipal AuthUser user,
+            @Valid @ModelAttribute NotificationListRequest request
+    ) {
+        int size = request.getSize() != null ? request.getSize() : 20;
+        return ResponseEntity.ok(notificationService.getNotifications(
+                user.getUserId(), request.getAfterId(), request.getBeforeId(), size));
+    }
+
+    /**
+     * 읽지 않은 알림 수를 조회합니다.
+     * 
+     * @param user 인증된 사용자 정보 (JWT 토큰에서 자동 주입)
+     * @return {"unreadCount": n}
+     */
+    @GetMapping("/unread-count")
+    public ResponseEntity<Map<String, Long>> getUnreadCount(@AuthenticationPrincipal AuthUser user) {
+        return ResponseEntity.ok(Map.of("unreadCount", notificationService.countUnread(user.getUserId())));
+    }
+
+    /**
+     * 지정한 알림까지(포함) 모두 읽음으로 표시합니다.
+     * 
+     * @param user 인증된 사용자 정보 (JWT 토큰에서 자동 주입)
+     * @param notificationId 마지막으로 읽은 알림 ID
+     * @return 204 No Content 상태 코드
+     */
+    @PostMapping("/read-up-to/{notification_id}")
+    public ResponseEntity<Void> markReadUpTo(
+            @AuthenticationPrincipal AuthUser user,
+            @PathVariable("notification_id") Long notificationId
+    ) {
+        notificationService.markReadUpTo(user.getUserId(), notificationId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 알림 SSE 스트림을 엽니다.
+     * 
+     * <p>새 알림은 {@code notification} 이벤트(id = 알림 ID)로 전달됩니다.
+     * 재연결 시 Last-Event-ID 헤더를 보내면 그 이후의 알림부터 다시 받습니다.
+     * 
+     * @param user 인증된 사용자 정보 (JWT 토큰에서 자동 주입)
+     * @param lastEventId 마지막으로 받은 알림 ID (선택)
+     * @return SSE 연결
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @AuthenticationPrincipal AuthUser user,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId
+    ) {
+        return notificationStreamService.subscribe(user.getUserId(), lastEventId);
+    }
+}
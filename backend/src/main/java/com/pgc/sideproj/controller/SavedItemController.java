@@ -1,10 +1,13 @@
 package com.pgc.sideproj.controller;
 
+import com.pgc.sideproj.dto.common.AuthUser;
 import com.pgc.sideproj.dto.db.AuctionMasterDTO;
-import com.pgc.sideproj.dto.db.UserDTO;
-import com.pgc.sideproj.exception.custom.UserNotFoundException;
-import com.pgc.sideproj.mapper.UserMapper;
+import com.pgc.sideproj.dto.request.SavedItemBulkRequest;
+import com.pgc.sideproj.dto.request.SavedItemPageRequest;
+import com.pgc.sideproj.dto.response.CursorPageResponseDTO;
+import com.pgc.sideproj.dto.response.SavedItemSummaryDTO;
 import com.pgc.sideproj.service.SavedItemService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -17,7 +20,7 @@ import java.util.List;
  * 찜하기 기능을 제공하는 컨트롤러입니다.
  * 
  * <p>사용자가 관심 있는 공매 물건을 찜 목록에 추가하거나 제거할 수 있습니다.
- * 모든 엔드포인트는 인증된 사용자만 접근 가능합니다.
+ * 모든 엔드포인트는 인증된 사용자만 접근 가능하며, 사용자 ID는 JWT 클레임에서 바로 가져옵니다.
  * 
  * @author sideproj
  * @since 1.0
@@ -28,71 +31,110 @@ import java.util.List;
 public class SavedItemController {
 
     private final SavedItemService savedItemService;
-    private final UserMapper userMapper;
-
-    /**
-     * 이메일을 기반으로 사용자 ID를 조회하는 헬퍼 메서드입니다.
-     * 
-     * @param email 사용자 이메일
-     * @return 사용자 ID
-     * @throws UserNotFoundException 해당 이메일의 사용자를 찾을 수 없는 경우
-     */
-    private Long getUserId(String email) {
-        UserDTO user = userMapper.findByEmail(email)
-                .orElseThrow(() -> new UserNotFoundException("email", email));
-        return user.getId();
-    }
 
     /**
      * 공매 물건을 찜 목록에 추가합니다.
      * 
-     * <p>이미 찜한 물건인 경우 DuplicateSavedItemException이 발생합니다.
+     * <p>이미 찜한 물건이어도 같은 결과(201)를 반환합니다. (멱등)
      * 
-     * @param email 인증된 사용자의 이메일 (JWT 토큰에서 자동 주입)
+     * @param user 인증된 사용자 정보 (JWT 토큰에서 자동 주입)
      * @param itemId 찜할 공매 물건의 ID (cltr_no)
      * @return 201 Created 상태 코드
      */
     @PostMapping("/{item_id}")
     public ResponseEntity<Void> addSavedItem(
-            @AuthenticationPrincipal String email,
+            @AuthenticationPrincipal AuthUser user,
             @PathVariable("item_id") String itemId
     ) {
-        Long userId = getUserId(email);
-        savedItemService.addSavedItem(userId, itemId);
+        savedItemService.addSavedItem(user.getUserId(), itemId);
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
 
+    /**
+     * 여러 공매 물건을 한 번에 찜 목록에 추가합니다. (관심 목록 가져오기 등)
+     * 
+     * <p>존재하지 않는 물건은 건너뛰고, 이미 찜한 물건은 그대로 둡니다.
+     * 
+     * @param user 인증된 사용자 정보 (JWT 토큰에서 자동 주입)
+     * @param request 추가할 물건 ID 목록 (최대 1000개)
+     * @return 204 No Content 상태 코드
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<Void> addSavedItems(
+            @AuthenticationPrincipal AuthUser user,
+            @Valid @RequestBody SavedItemBulkRequest request
+    ) {
+        savedItemService.addSavedItems(user.getUserId(), request.getItemIds());
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * 찜 목록에서 공매 물건을 제거합니다.
      * 
      * <p>해당 물건이 찜 목록에 없는 경우에도 정상적으로 처리됩니다.
      * 
-     * @param email 인증된 사용자의 이메일 (JWT 토큰에서 자동 주입)
+     * @param user 인증된 사용자 정보 (JWT 토큰에서 자동 주입)
      * @param itemId 제거할 공매 물건의 ID (cltr_no)
      * @return 204 No Content 상태 코드
      */
     @DeleteMapping("/{item_id}")
     public ResponseEntity<Void> deleteSavedItem(
-            @AuthenticationPrincipal String email,
+            @AuthenticationPrincipal AuthUser user,
             @PathVariable("item_id") String itemId
     ) {
-        Long userId = getUserId(email);
-        savedItemService.deleteSavedItem(userId, itemId);
+        savedItemService.deleteSavedItem(user.getUserId(), itemId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 여러 공매 물건을 한 번에 찜 목록에서 제거합니다.
+     * 
+     * @param user 인증된 사용자 정보 (JWT 토큰에서 자동 주입)
+     * @param request 제거할 물건 ID 목록 (최대 1000개)
+     * @return 204 No Content 상태 코드
+     */
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<Void> deleteSavedItems(
+            @AuthenticationPrincipal AuthUser user,
+            @Valid @RequestBody SavedItemBulkRequest request
+    ) {
+        savedItemService.deleteSavedItems(user.getUserId(), request.getItemIds());
         return ResponseEntity.noContent().build();
     }
 
     /**
      * 현재 로그인한 사용자의 찜 목록을 조회합니다.
      * 
-     * @param email 인증된 사용자의 이메일 (JWT 토큰에서 자동 주입)
+     * <p>전체 목록을 한 번에 반환하므로 찜이 많은 사용자는 {@code /page}를 사용합니다.
+     * 
+     * @param user 인증된 사용자 정보 (JWT 토큰에서 자동 주입)
      * @return 찜한 공매 물건 목록 (AuctionMasterDTO 리스트)
      */
     @GetMapping
     public ResponseEntity<List<AuctionMasterDTO>> getMySavedItems(
-            @AuthenticationPrincipal String email
+            @AuthenticationPrincipal AuthUser user
     ) {
-        Long userId = getUserId(email);
-        List<AuctionMasterDTO> savedItems = savedItemService.getMySavedItems(userId);
+        List<AuctionMasterDTO> savedItems = savedItemService.getMySavedItems(user.getUserId());
         return ResponseEntity.ok(savedItems);
     }
+
+    /**
+     * 현재 로그인한 사용자의 찜 목록을 키셋 페이지로 조회합니다.
+     * 
+     * <p>각 물건의 최신 최저입찰가, 상태, 마감일시와 찜한 뒤 가격 인하율이 포함됩니다.
+     * 
+     * @param user 인증된 사용자 정보 (JWT 토큰에서 자동 주입)
+     * @param request 정렬(recent/closing/priceDrop, 기본 recent), 페이지 크기(기본 20), 커서
+     * @return 찜 목록 페이지와 다음 페이지 커서
+     */
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageResponseDTO<SavedItemSummaryDTO>> getMySavedItemPage(
+            @AuthenticationPrincipal AuthUser user,
+            @Valid @ModelAttribute SavedItemPageRequest request
+    ) {
+        String sort = request.getSort() != null ? request.getSort() : SavedItemService.SORT_RECENT;
+        int size = request.getSize() != null ? request.getSize() : 20;
+        return ResponseEntity.ok(
+                savedItemService.getMySavedItemPage(user.getUserId(), sort, size, request.getCursor()));
+    }
 }
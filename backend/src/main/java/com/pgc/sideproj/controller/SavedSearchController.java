@@ -0,0 +1,77 @@
+package com.pgc.sideproj.controller;
+
+import com.pgc.sideproj.dto.common.AuthUser;
+import com.pgc.sideproj.dto.db.SavedSearchDTO;
+import com.pgc.sideproj.dto.request.SavedSearchRequest;
+import com.pgc.sideproj.service.SavedSearchService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 저장 검색 API 컨트롤러입니다.
+ * 
+ * <p>검색 조건(검색어, 지역, 카테고리, 가격 범위)을 저장해 두면 배치가 끝날 때마다
+ * 새로 들어오거나 바뀐 물건 중 일치하는 물건을 SEARCH_MATCH 알림으로 받습니다.
+ * 모든 엔드포인트는 인증된 사용자만 접근 가능합니다.
+ * 
+ * @author sideproj
+ * @since 1.0
+ */
+@RestController
+@RequestMapping("/api/v1/saved-searches")
+@RequiredArgsConstructor
+public class SavedSearchController {
+
+    private final SavedSearchService savedSearchService;
+
+    /**
+     * 내 저장 검색 목록을 조회합니다.
+     * 
+     * @param user 인증된 사용자 정보 (JWT 토큰에서 자동 주입)
+     * @return 저장 검색 목록 (최신 순)
+     */
+    @GetMapping
+    public ResponseEntity<List<SavedSearchDTO>> getSavedSearches(@AuthenticationPrincipal AuthUser user) {
+        return ResponseEntity.ok(savedSearchService.getSavedSearches(user.getUserId()));
+    }
+
+    /**
+     * 저장 검색을 등록합니다.
+     * 
+     * @param user 인증된 사용자 정보 (JWT 토큰에서 자동 주입)
+     * @param request 검색 조건 (검색어/지역/카테고리 중 하나 이상 필수)
+     * @return 201 Created와 등록된 저장 검색
+     * @throws com.pgc.sideproj.exception.custom.SavedSearchLimitExceededException 사용자당 최대 개수를 넘는 경우
+     */
+    @PostMapping
+    public ResponseEntity<SavedSearchDTO> createSavedSearch(
+            @AuthenticationPrincipal AuthUser user,
+            @Valid @RequestBody SavedSearchRequest request
+    ) {
+        SavedSearchDTO created = savedSearchService.createSavedSearch(user.getUserId(), request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+    }
+
+    /**
+     * 저장 검색을 삭제합니다.
+     * 
+     * @param user 인증된 사용자 정보 (JWT 토큰에서 자동 주입)
+     * @param id 저장 검색 ID
+     * @return 204 No Content 상태 코드
+     * @throws com.pgc.sideproj.exception.custom.ResourceNotFoundException 내 저장 검색이 아닌 경우
+     */
+    @DeleteMapping("/{saved_search_id}")
+    public ResponseEntity<Void> deleteSavedSearch(
+            @AuthenticationPrincipal AuthUser user,
+            @PathVariable("saved_search_id") Long id
+    ) {
+        savedSearchService.deleteSavedSearch(user.getUserId(), id);
+        return ResponseEntity.noContent().build();
+    }
+}
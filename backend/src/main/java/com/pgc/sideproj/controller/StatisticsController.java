@@ -1,13 +1,33 @@
 package com.pgc.sideproj.controller;
 
+import com.pgc.sideproj.dto.request.ActivityStatsRequest;
+import com.pgc.sideproj.dto.request.CubeRequest;
+import com.pgc.sideproj.dto.request.HeatmapRequest;
+import com.pgc.sideproj.dto.request.PriceDistributionRequest;
+import com.pgc.sideproj.dto.request.PriceTrendRequest;
+import com.pgc.sideproj.dto.stats.ActivityPointDTO;
+import com.pgc.sideproj.dto.stats.CubeResponseDTO;
 import com.pgc.sideproj.dto.stats.DashboardStatsDTO;
+import com.pgc.sideproj.dto.stats.HeatmapResponseDTO;
+import com.pgc.sideproj.dto.stats.PriceDistributionDTO;
+import com.pgc.sideproj.dto.stats.PriceSeriesDTO;
+import com.pgc.sideproj.service.ActivityStatsService;
+import com.pgc.sideproj.service.PriceDistributionService;
+import com.pgc.sideproj.service.PriceHeatmapService;
+import com.pgc.sideproj.service.PriceTrendService;
+import com.pgc.sideproj.service.StatisticsCubeService;
 import com.pgc.sideproj.service.StatisticsService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
+import java.util.List;
+
 /**
  * 통계 데이터를 제공하는 컨트롤러입니다.
  * 
@@ -22,6 +42,11 @@ import org.springframework.web.bind.annotation.RestController;
 public class StatisticsController {
 
     private final StatisticsService statisticsService;
+    private final PriceHeatmapService priceHeatmapService;
+    private final PriceTrendService priceTrendService;
+    private final PriceDistributionService priceDistributionService;
+    private final ActivityStatsService activityStatsService;
+    private final StatisticsCubeService statisticsCubeService;
 
     /**
      * 대시보드에 필요한 통계 요약 데이터를 조회합니다.
@@ -35,4 +60,119 @@ public class StatisticsController {
         DashboardStatsDTO summary = statisticsService.getDashboardSummary();
         return ResponseEntity.ok(summary);
     }
-}
\ No newline at end of file
+
+    /**
+     * 지도 가격 히트맵용 격자 집계를 조회합니다.
+     *
+     * <p>배치 완료 시 미리 계산된 격자 중 화면 영역(bbox)에 걸친 격자만 반환합니다.
+     * 격자별 물건 수, 평균/중앙값 최저입찰가를 포함합니다.
+     *
+     * @param request bbox (minLon,minLat,maxLon,maxLat), res (해상도 인덱스, 기본값 1)
+     * @return 히트맵 격자 목록
+     */
+    @GetMapping("/heatmap")
+    public ResponseEntity<HeatmapResponseDTO> getPriceHeatmap(@Valid @ModelAttribute HeatmapRequest request) {
+        String[] bbox = request.getBbox().split(",");
+        double minLon = Double.parseDouble(bbox[0]);
+        double minLat = Double.parseDouble(bbox[1]);
+        double maxLon = Double.parseDouble(bbox[2]);
+        double maxLat = Double.parseDouble(bbox[3]);
+        int res = request.getRes() != null ? request.getRes() : 1;
+
+        HeatmapResponseDTO heatmap = priceHeatmapService.getHeatmap(
+                Math.min(minLon, maxLon), Math.min(minLat, maxLat),
+                Math.max(minLon, maxLon), Math.max(minLat, maxLat), res);
+        return ResponseEntity.ok(heatmap);
+    }
+
+    /**
+     * 지역/카테고리별 가격 추이를 조회합니다.
+     *
+     * <p>배치 때 갱신되는 일별/월별 집계 테이블에서 평균 최저입찰가와 평균 감정가 비율을 읽고,
+     * 점이 많으면 LTTB로 다운샘플링합니다.
+     * 기본값: 전체 지역/카테고리, 일별, 최근 1년(월별은 5년), 200개
+     *
+     * @param request region, category, granularity (day/month), from, to (yyyy-MM-dd), points
+     * @return 가격 추이 시계열
+     */
+    @GetMapping("/price-trend")
+    public ResponseEntity<PriceSeriesDTO> getPriceTrend(@Valid @ModelAttribute PriceTrendRequest request) {
+        String granularity = request.getGranularity() != null
+                ? request.getGranularity() : PriceTrendService.GRANULARITY_DAY;
+        boolean monthly = PriceTrendService.GRANULARITY_MONTH.equals(granularity);
+        LocalDate to = request.getTo() != null ? request.getTo() : LocalDate.now();
+        LocalDate from = request.getFrom() != null
+                ? request.getFrom() : (monthly ? to.minusYears(5) : to.minusYears(1));
+        int points = request.getPoints() != null ? request.getPoints() : 200;
+
+        PriceSeriesDTO trend = priceTrendService.getPriceTrend(
+                request.getRegion(), request.getCategory(), granularity,
+                from.isAfter(to) ? to : from, from.isAfter(to) ? from : to, points);
+        return ResponseEntity.ok(trend);
+    }
+
+    /**
+     * 최저입찰가와 할인율의 분위수(p10/중앙값/p90)를 조회합니다.
+     *
+     * <p>월/지역/카테고리별로 저장된 분위수 스케치를 병합하여 계산하므로 원본 이력을 읽지 않습니다.
+     * 기본값: 전체 지역/카테고리, 최근 12개월, 그룹 없음
+     *
+     * @param request region, category, from, to (yyyy-MM-dd, 월 단위 적용), groupBy (none/region/category)
+     * @return 그룹별 분위수 목록
+     */
+    @GetMapping("/percentiles")
+    public ResponseEntity<List<PriceDistributionDTO>> getPricePercentiles(
+            @Valid @ModelAttribute PriceDistributionRequest request) {
+        LocalDate to = request.getTo() != null ? request.getTo() : LocalDate.now();
+        LocalDate from = request.getFrom() != null ? request.getFrom() : to.minusMonths(11);
+        String groupBy = request.getGroupBy() != null
+                ? request.getGroupBy() : PriceDistributionService.GROUP_BY_NONE;
+
+        List<PriceDistributionDTO> distribution = priceDistributionService.getDistribution(
+                request.getRegion(), request.getCategory(),
+                from.isAfter(to) ? to : from, from.isAfter(to) ? from : to, groupBy);
+        return ResponseEntity.ok(distribution);
+    }
+
+    /**
+     * 신규 물건, 가격 인하, 입찰 마감 건수의 기간별 추이를 조회합니다.
+     *
+     * <p>배치마다 적재되는 일별 집계를 읽어 주/월 단위로 묶습니다.
+     * 기본값: 전체 지역/카테고리, 일별, 그룹 없음, 최근 30일(주별 12주, 월별 12개월)
+     *
+     * @param request region, category, granularity (day/week/month), groupBy (none/region/category), from, to
+     * @return 기간별 활동 건수 목록
+     */
+    @GetMapping("/activity")
+    public ResponseEntity<List<ActivityPointDTO>> getActivity(@Valid @ModelAttribute ActivityStatsRequest request) {
+        String granularity = request.getGranularity() != null
+                ? request.getGranularity() : ActivityStatsService.GRANULARITY_DAY;
+        String groupBy = request.getGroupBy() != null ? request.getGroupBy() : "none";
+        LocalDate to = request.getTo() != null ? request.getTo() : LocalDate.now();
+        LocalDate from = request.getFrom() != null ? request.getFrom() : switch (granularity) {
+            case ActivityStatsService.GRANULARITY_WEEK -> to.minusWeeks(12);
+            case ActivityStatsService.GRANULARITY_MONTH -> to.minusMonths(12);
+            default -> to.minusDays(30);
+        };
+
+        List<ActivityPointDTO> activity = activityStatsService.getActivity(
+                request.getRegion(), request.getCategory(), granularity, groupBy,
+                from.isAfter(to) ? to : from, from.isAfter(to) ? from : to);
+        return ResponseEntity.ok(activity);
+    }
+
+    /**
+     * 지역(시/도 → 시/군/구 → 읍/면/동) x 카테고리 경로 집계를 조회합니다.
+     *
+     * <p>배치 완료 시 메모리에 미리 계산된 큐브에서 읽으므로 DB를 조회하지 않습니다.
+     * drill을 지정하면 해당 축의 바로 아래 단계별 합계를 함께 반환합니다.
+     *
+     * @param request region (예: "서울특별시 강남구"), category (예: "토지 / 대지"), drill (none/region/category)
+     * @return 조각 합계와 하위 단계 목록
+     */
+    @GetMapping("/cube")
+    public ResponseEntity<CubeResponseDTO> getCube(@Valid @ModelAttribute CubeRequest request) {
+        String drill = request.getDrill() != null ? request.getDrill() : StatisticsCubeService.DRILL_NONE;
+        return ResponseEntity.ok(statisticsCubeService.query(request.getRegion(), request.getCategory(), drill));
+    }
+}
@@ -0,0 +1,125 @@
+package com.pgc.sideproj.controller;
+
+import com.pgc.sideproj.dto.response.TileMetaDTO;
+import com.pgc.sideproj.service.MarkerTileService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지도 마커 정적 타일을 제공하는 컨트롤러입니다.
+ *
+ * <p>타일 URL에 세대(generation)가 포함되므로 한 번 받은 타일은 바뀌지 않습니다.
+ * 따라서 1년짜리 immutable 캐시 헤더를 붙이고, Tomcat sendfile을 사용해
+ * 파일을 유저 공간 복사 없이(zero-copy) 소켓으로 전송합니다.
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+@RestController
+@RequestMapping("/api/v1/tiles")
+@RequiredArgsConstructor
+public class TileController {
+
+    // Tomcat sendfile 요청 속성 (org.apache.coyote.Constants 참고)
+    private static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    private static final String TILE_CONTENT_TYPE = "application/octet-stream";
+    private static final String IMMUTABLE_CACHE_CONTROL =
+            CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().getHeaderValue() + ", immutable";
+
+    private final MarkerTileService markerTileService;
+
+    /**
+     * 현재 타일 세대의 메타 정보를 조회합니다.
+     *
+     * <p>클라이언트는 이 응답의 urlTemplate으로 타일을 요청하고,
+     * statuses 사전으로 타일 안의 상태 코드를 해석합니다.
+     * 배치 후 세대가 바뀌므로 짧게만 캐시합니다.
+     *
+     * @return 타일 메타 정보 (타일이 아직 생성되지 않았으면 503)
+     */
+    @GetMapping("/meta")
+    public ResponseEntity<TileMetaDTO> getTileMeta() {
+        TileMetaDTO meta = markerTileService.getCurrentMeta();
+        if (meta == null) {
+            return ResponseEntity.status(HttpServletResponse.SC_SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(60, TimeUnit.SECONDS).cachePublic())
+                .body(meta);
+    }
+
+    /**
+     * 마커 타일 파일을 전송합니다.
+     *
+     * <p>마커가 없는 타일은 204 No Content를 같은 캐시 헤더와 함께 반환하여
+     * 클라이언트가 다시 요청하지 않도록 합니다.
+     *
+     * @param generation 타일 세대
+     * @param z          줌 레벨
+     * @param x          타일 X
+     * @param y          타일 Y
+     */
+    @GetMapping("/{generation}/{z}/{x}/{y}.bin")
+    public void getTile(
+            @PathVariable("generation") long generation,
+            @PathVariable("z") int z,
+            @PathVariable("x") int x,
+            @PathVariable("y") int y,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        Path tile = markerTileService.resolveTile(generation, z, x, y);
+        if (tile == null || !markerTileService.isAvailable(generation)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        String etag = "\"" + generation + "-" + z + "-" + x + "-" + y + "\"";
+        response.setHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE_CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ETAG, etag);
+
+        if (etag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        if (!Files.isRegularFile(tile)) {
+            response.setStatus(HttpServletResponse.SC_NO_CONTENT);
+            return;
+        }
+
+        long length = Files.size(tile);
+        response.setContentType(TILE_CONTENT_TYPE);
+        response.setContentLengthLong(length);
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))) {
+            // 커넥터가 응답 완료 후 파일을 직접 소켓으로 전송합니다 (sendfile/transferTo).
+            request.setAttribute(SENDFILE_FILENAME_ATTR, tile.toString());
+            request.setAttribute(SENDFILE_START_ATTR, 0L);
+            request.setAttribute(SENDFILE_END_ATTR, length);
+            return;
+        }
+
+        // sendfile을 지원하지 않는 커넥터에서는 일반 스트림 복사로 전송합니다.
+        try (OutputStream out = response.getOutputStream()) {
+            Files.copy(tile, out);
+        }
+    }
+}
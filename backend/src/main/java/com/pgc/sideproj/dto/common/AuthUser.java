@@ -0,0 +1,32 @@
+package com.pgc.sideproj.dto.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.security.Principal;
+
+/**
+ * JWT 클레임에서 만든 인증 사용자 정보입니다.
+ *
+ * <p>{@code @AuthenticationPrincipal AuthUser user}로 주입받아 사용자 ID를 DB 조회 없이 사용합니다.
+ * {@link #getName()}은 이메일을 반환하므로 {@code Authentication#getName()}의 기존 동작과 같습니다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class AuthUser implements Principal {
+
+    private final Long userId;
+
+    private final String email;
+
+    private final String role;
+
+    private final int tokenVersion;
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
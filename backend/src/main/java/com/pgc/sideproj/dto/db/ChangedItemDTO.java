@@ -0,0 +1,27 @@
+package com.pgc.sideproj.dto.db;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 저장 검색 대조용 조회 결과입니다.
+ * 배치에서 새로 들어오거나 바뀐 물건의 마스터 정보와 "최신" 이력을 담습니다.
+ */
+@Getter
+@Setter
+public class ChangedItemDTO {
+
+    // 물건번호 / 물건명 / 카테고리 전체명
+    private String cltrNo;
+    private String cltrNm;
+    private String ctgrFullNm;
+
+    // 정제된 지번주소 / 도로명주소
+    private String clnLdnmAdrs;
+    private String clnNmrdAdrs;
+
+    // 최신 이력번호 / 최저입찰가 / 물건상태
+    private String cltrHstrNo;
+    private Long minBidPrc;
+    private String pbctCltrStatNm;
+}
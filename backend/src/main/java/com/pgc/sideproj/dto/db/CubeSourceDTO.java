@@ -0,0 +1,13 @@
+package com.pgc.sideproj.dto.db;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class CubeSourceDTO {
+
+    private String clnLdnmAdrs;    // 정제된 지번주소
+    private String ctgrFullNm;     // 카테고리 전체명 ("토지 / 대지" 형식)
+    private Long minBidPrc;        // 최신 회차 최저입찰가 (이력이 없으면 null)
+}
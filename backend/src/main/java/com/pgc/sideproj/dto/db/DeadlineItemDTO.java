@@ -0,0 +1,31 @@
+package com.pgc.sideproj.dto.db;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마감 타이밍 휠/인기 물건 스냅샷 적재용 조회 결과입니다.
+ * 물건의 마스터 요약과 "최신" 이력을 담습니다.
+ */
+@Getter
+@Setter
+public class DeadlineItemDTO {
+
+    // 물건번호 / 물건명 / 카테고리 전체명 / 정제된 지번주소
+    private String cltrNo;
+    private String cltrNm;
+    private String ctgrFullNm;
+    private String clnLdnmAdrs;
+
+    // 최신 최저입찰가
+    private Long minBidPrc;
+
+    // 최신 입찰시작일시 / 입찰마감일시
+    private LocalDateTime pbctBegnDtm;
+    private LocalDateTime pbctClsDtm;
+
+    // 최신 물건상태 (DB 값)
+    private String pbctCltrStatNm;
+}
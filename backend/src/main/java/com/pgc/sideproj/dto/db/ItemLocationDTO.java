@@ -0,0 +1,34 @@
+package com.pgc.sideproj.dto.db;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+/**
+ * 인메모리 공간 인덱스 적재용 조회 결과입니다.
+ * auction_master의 좌표와 auction_history의 "최신" 가격/상태만 담습니다.
+ */
+@Getter
+@Setter
+public class ItemLocationDTO {
+
+    // 물건번호
+    private String cltrNo;
+
+    // 물건명
+    private String cltrNm;
+
+    // 카테고리 전체명
+    private String ctgrFullNm;
+
+    // 위도 / 경도 (DECIMAL)
+    private BigDecimal latitude;
+    private BigDecimal longitude;
+
+    // 최신 최저입찰가 (이력이 없으면 null)
+    private Long minBidPrc;
+
+    // 최신 물건상태
+    private String pbctCltrStatNm;
+}
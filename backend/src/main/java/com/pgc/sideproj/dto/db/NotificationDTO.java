@@ -0,0 +1,41 @@
+package com.pgc.sideproj.dto.db;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+public class NotificationDTO {
+
+    private Long id;
+
+    // DB 필드명: user_id (스트림 전달 대상 판별용)
+    @JsonIgnore
+    private Long userId;
+
+    // DB 필드명: item_id (auction_master.cltr_no)
+    private String itemId;
+
+    // 물건명 (auction_master.cltr_nm)
+    private String cltrNm;
+
+    // PRICE_DROP / STATUS_CHANGE (가격 인하와 상태 변경이 함께 일어나면 PRICE_DROP)
+    // SEARCH_MATCH: 저장 검색과 일치하는 물건이 새로 들어오거나 바뀜 (new_* 값만 채워짐)
+    private String type;
+
+    // 일치한 저장 검색 ID (SEARCH_MATCH만)
+    private Long savedSearchId;
+
+    private Long oldMinBidPrc;
+    private Long newMinBidPrc;
+    private String oldStatus;
+    private String newStatus;
+
+    private LocalDateTime createdAt;
+
+    // 읽지 않았으면 null
+    private LocalDateTime readAt;
+}
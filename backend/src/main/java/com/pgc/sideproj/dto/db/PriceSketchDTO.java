@@ -0,0 +1,32 @@
+package com.pgc.sideproj.dto.db;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceSketchDTO {
+
+    // 월 (해당 월 1일)
+    private LocalDate bucketMonth;
+
+    private String regionName;
+
+    private String categoryName;
+
+    private int itemCount;
+
+    // 최저입찰가 스케치 (QuantileSketch 직렬화)
+    private byte[] priceSketch;
+
+    // 감정가 대비 최저입찰가 비율 스케치 (QuantileSketch 직렬화)
+    private byte[] ratioSketch;
+}
@@ -0,0 +1,14 @@
+package com.pgc.sideproj.dto.db;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class PriceSketchSourceDTO {
+
+    private String regionName;
+    private String categoryName;
+    private Long minBidPrc;
+    private Long apslAsesAvgAmt;
+}
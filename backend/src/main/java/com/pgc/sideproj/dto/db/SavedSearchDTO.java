@@ -0,0 +1,29 @@
+package com.pgc.sideproj.dto.db;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+public class SavedSearchDTO {
+
+    private Long id;
+
+    // DB 필드명: user_id
+    @JsonIgnore
+    private Long userId;
+
+    // 검색어 / 지역 / 카테고리 (없으면 null)
+    private String keyword;
+    private String region;
+    private String category;
+
+    // 최저입찰가 범위 (없으면 null)
+    private Long minPrice;
+    private Long maxPrice;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,19 @@
+package com.pgc.sideproj.dto.db;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 저장 검색과 물건이 일치한 결과 (notification 일괄 INSERT용)
+ */
+@Getter
+@Builder
+public class SearchMatchDTO {
+
+    private final Long userId;
+    private final Long savedSearchId;
+    private final String itemId;
+    private final String cltrHstrNo;
+    private final Long minBidPrc;
+    private final String status;
+}
@@ -23,4 +23,7 @@ public class UserDTO {
 
     // 사용자 권한 (예: USER, ADMIN)
     private String role;
+
+    // 토큰 버전 (JWT의 ver 클레임과 비교하여 폐기된 토큰을 거부)
+    private int tokenVersion;
 }
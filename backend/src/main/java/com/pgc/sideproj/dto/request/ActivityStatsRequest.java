@@ -0,0 +1,37 @@
+package com.pgc.sideproj.dto.request;
+
+import com.pgc.sideproj.validation.ValidRegion;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityStatsRequest {
+
+    @ValidRegion(message = "유효하지 않은 지역입니다")
+    private String region;
+
+    @Size(max = 100, message = "카테고리는 100자 이하여야 합니다")
+    private String category;
+
+    @Pattern(regexp = "^(day|week|month)$", message = "granularity는 day, week, month 중 하나여야 합니다")
+    private String granularity;
+
+    @Pattern(regexp = "^(none|region|category)$", message = "groupBy는 none, region, category 중 하나여야 합니다")
+    private String groupBy;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+}
@@ -0,0 +1,24 @@
+package com.pgc.sideproj.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClosingSoonRequest {
+
+    // 지금부터 몇 시간 안에 마감되는 물건까지 조회할지 (타이밍 휠 적재 범위인 14일 이내)
+    @Min(value = 1, message = "조회 범위는 1시간 이상이어야 합니다")
+    @Max(value = 336, message = "조회 범위는 336시간(14일) 이하여야 합니다")
+    private Integer withinHours;
+
+    @Min(value = 1, message = "결과 개수는 1 이상이어야 합니다")
+    @Max(value = 100, message = "결과 개수는 100 이하여야 합니다")
+    private Integer size;
+}
@@ -0,0 +1,26 @@
+package com.pgc.sideproj.dto.request;
+
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CubeRequest {
+
+    // 지역 경로 (공백 구분, 예: "서울특별시 강남구 역삼동"), 비우면 전체
+    @Size(max = 100, message = "지역 경로는 100자 이하여야 합니다")
+    private String region;
+
+    // 카테고리 경로 ("/" 구분, 예: "토지 / 대지"), 비우면 전체
+    @Size(max = 255, message = "카테고리 경로는 255자 이하여야 합니다")
+    private String category;
+
+    @Pattern(regexp = "^(none|region|category)$", message = "drill은 none, region, category 중 하나여야 합니다")
+    private String drill;
+}
@@ -0,0 +1,20 @@
+package com.pgc.sideproj.dto.request;
+
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DataStreamRequest {
+
+    // 상태 변경 이벤트를 받을 물건번호 (쉼표로 구분, 로그인 사용자는 찜 물건이 자동 포함)
+    @Size(max = 200, message = "관심 물건은 200개 이하여야 합니다")
+    private List<String> items;
+}
@@ -0,0 +1,28 @@
+package com.pgc.sideproj.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class HeatmapRequest {
+
+    // 화면 영역: "서쪽경도,남쪽위도,동쪽경도,북쪽위도"
+    @NotBlank(message = "bbox는 필수입니다")
+    @Pattern(regexp = "^-?\\d+(\\.\\d+)?(,-?\\d+(\\.\\d+)?){3}$",
+            message = "bbox는 minLon,minLat,maxLon,maxLat 형식이어야 합니다")
+    private String bbox;
+
+    // 해상도 인덱스 (0: 약 55km, 1: 약 11km, 2: 약 2.2km, 3: 약 0.55km)
+    @Min(value = 0, message = "해상도는 0 이상이어야 합니다")
+    @Max(value = 3, message = "해상도는 3 이하여야 합니다")
+    private Integer res;
+}
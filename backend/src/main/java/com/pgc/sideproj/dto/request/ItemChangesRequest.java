@@ -0,0 +1,28 @@
+package com.pgc.sideproj.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemChangesRequest {
+
+    // 이전 동기화 응답의 generation (최초 동기화는 생략)
+    @Min(value = 0, message = "since는 0 이상이어야 합니다")
+    private Long since;
+
+    @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다")
+    @Max(value = 1000, message = "페이지 크기는 1000 이하여야 합니다")
+    private Integer size;
+
+    // 이전 응답의 nextCursor ("기준세대_세대_물건번호")
+    @Pattern(regexp = "^\\d{1,18}_\\d{1,18}_.{1,50}$", message = "유효하지 않은 커서입니다")
+    private String cursor;
+}
@@ -0,0 +1,33 @@
+package com.pgc.sideproj.dto.request;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearbyItemRequest {
+
+    @DecimalMin(value = "0.1", message = "검색 반경은 0.1km 이상이어야 합니다")
+    @DecimalMax(value = "50", message = "검색 반경은 50km 이하여야 합니다")
+    private Double radiusKm;
+
+    @Min(value = 1, message = "결과 개수는 1 이상이어야 합니다")
+    @Max(value = 50, message = "결과 개수는 50 이하여야 합니다")
+    private Integer size;
+
+    // 같은 카테고리(ctgr_full_nm)만 조회할지 여부
+    private Boolean sameCategory;
+
+    // 기준 물건 최저입찰가 대비 허용 비율 (예: 0.3 → ±30%), null이면 가격 조건 없음
+    @DecimalMin(value = "0.0", message = "가격 허용 비율은 0 이상이어야 합니다")
+    @DecimalMax(value = "1.0", message = "가격 허용 비율은 1 이하여야 합니다")
+    private Double priceTolerance;
+}
@@ -0,0 +1,28 @@
+package com.pgc.sideproj.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationListRequest {
+
+    // 마지막으로 받은 알림 ID (폴링: 이후 알림을 오래된 순으로)
+    @PositiveOrZero(message = "afterId는 0 이상이어야 합니다")
+    private Long afterId;
+
+    // 이전 페이지 마지막 알림 ID (목록: 이전 알림을 최신 순으로)
+    @PositiveOrZero(message = "beforeId는 0 이상이어야 합니다")
+    private Long beforeId;
+
+    @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다")
+    @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다")
+    private Integer size;
+}
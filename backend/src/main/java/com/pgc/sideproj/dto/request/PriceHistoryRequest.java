@@ -0,0 +1,19 @@
+package com.pgc.sideproj.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceHistoryRequest {
+
+    @Min(value = 3, message = "점 개수는 3 이상이어야 합니다")
+    @Max(value = 2000, message = "점 개수는 2000 이하여야 합니다")
+    private Integer points;
+}
@@ -0,0 +1,41 @@
+package com.pgc.sideproj.dto.request;
+
+import com.pgc.sideproj.validation.ValidRegion;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceTrendRequest {
+
+    @ValidRegion(message = "유효하지 않은 지역입니다")
+    private String region;
+
+    // 대분류 카테고리 (예: "토지", "주거용건물")
+    @Size(max = 100, message = "카테고리는 100자 이하여야 합니다")
+    private String category;
+
+    @Pattern(regexp = "^(day|month)$", message = "granularity는 day 또는 month여야 합니다")
+    private String granularity;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+
+    @Min(value = 3, message = "점 개수는 3 이상이어야 합니다")
+    @Max(value = 2000, message = "점 개수는 2000 이하여야 합니다")
+    private Integer points;
+}
@@ -0,0 +1,28 @@
+package com.pgc.sideproj.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 찜 목록 일괄 추가/제거 요청
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedItemBulkRequest {
+
+    // 한 요청에서 처리할 수 있는 최대 물건 수
+    public static final int MAX_ITEMS = 1000;
+
+    @NotEmpty(message = "물건 ID 목록은 필수입니다")
+    @Size(max = MAX_ITEMS, message = "한 번에 최대 1000개까지 처리할 수 있습니다")
+    private List<@NotBlank(message = "물건 ID는 비어 있을 수 없습니다") String> itemIds;
+}
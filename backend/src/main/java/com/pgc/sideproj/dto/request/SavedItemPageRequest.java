@@ -0,0 +1,28 @@
+package com.pgc.sideproj.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedItemPageRequest {
+
+    // recent: 찜한 순, closing: 마감 임박순, priceDrop: 찜한 뒤 가격 인하율 순
+    @Pattern(regexp = "^(recent|closing|priceDrop)$", message = "sort는 recent, closing, priceDrop 중 하나여야 합니다")
+    private String sort;
+
+    @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다")
+    @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다")
+    private Integer size;
+
+    // 이전 응답의 nextCursor ("정렬키_ID" 또는 "ID")
+    @Pattern(regexp = "^(-?\\d{1,18}_)?\\d{1,18}$", message = "유효하지 않은 커서입니다")
+    private String cursor;
+}
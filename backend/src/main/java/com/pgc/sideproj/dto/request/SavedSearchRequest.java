@@ -0,0 +1,50 @@
+package com.pgc.sideproj.dto.request;
+
+import com.pgc.sideproj.validation.ValidRegion;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 저장 검색 등록 요청
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedSearchRequest {
+
+    @Size(max = 100, message = "검색어는 100자 이하여야 합니다")
+    private String keyword;
+
+    @ValidRegion(message = "유효하지 않은 지역입니다")
+    private String region;
+
+    @Size(max = 100, message = "카테고리는 100자 이하여야 합니다")
+    private String category;
+
+    @PositiveOrZero(message = "최소 가격은 0 이상이어야 합니다")
+    private Long minPrice;
+
+    @PositiveOrZero(message = "최대 가격은 0 이상이어야 합니다")
+    private Long maxPrice;
+
+    // 조건이 없으면 모든 물건과 일치하므로 검색어/지역/카테고리 중 하나는 필수
+    @AssertTrue(message = "검색어, 지역, 카테고리 중 하나 이상을 입력해야 합니다")
+    private boolean isConditionPresent() {
+        return hasText(keyword) || hasText(region) || hasText(category);
+    }
+
+    @AssertTrue(message = "최소 가격은 최대 가격보다 클 수 없습니다")
+    private boolean isPriceRangeValid() {
+        return minPrice == null || maxPrice == null || minPrice <= maxPrice;
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
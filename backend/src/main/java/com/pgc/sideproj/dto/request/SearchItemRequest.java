@@ -1,5 +1,6 @@
 package com.pgc.sideproj.dto.request;
 
+import com.pgc.sideproj.validation.ValidItemFields;
 import com.pgc.sideproj.validation.ValidRegion;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
@@ -28,4 +29,9 @@ public class SearchItemRequest {
     @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다")
     @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다")
     private Integer size;
+
+    // 응답 필드 (쉼표로 구분한 필드명 또는 프로필 card / marker / full, 생략하면 전체)
+    @Size(max = 300, message = "fields는 300자 이하여야 합니다")
+    @ValidItemFields(message = "유효하지 않은 필드입니다 (필드명 또는 card, marker, full)")
+    private String fields;
 }
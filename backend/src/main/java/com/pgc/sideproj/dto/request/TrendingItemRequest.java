@@ -0,0 +1,19 @@
+package com.pgc.sideproj.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingItemRequest {
+
+    @Min(value = 1, message = "결과 개수는 1 이상이어야 합니다")
+    @Max(value = 100, message = "결과 개수는 100 이하여야 합니다")
+    private Integer size;
+}
@@ -1,12 +1,17 @@
 package com.pgc.sideproj.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.pgc.sideproj.dto.db.AuctionMasterDTO;
+import com.pgc.sideproj.util.ItemFields;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
 
 // AuctionMasterDTO를 상속받아 마스터 정보를 모두 포함
+// 목록 조회의 fields 파라미터로 응답 필드를 고를 수 있음 (필터를 지정하지 않으면 전체)
+@JsonFilter(ItemFields.FILTER_ID)
 @Getter
 @Setter
 public class AuctionItemSummaryDTO extends AuctionMasterDTO {
@@ -17,4 +22,8 @@ public class AuctionItemSummaryDTO extends AuctionMasterDTO {
     private LocalDateTime pbctBegnDtm;   // 최신 입찰시작일
     private LocalDateTime pbctClsDtm;    // 최신 입찰마감일
     private String pbctCltrStatNm;  // 최신 물건상태
+
+    // 로그인한 사용자의 찜 여부 (비로그인 요청에서는 응답에 포함하지 않음)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean isSaved;
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.pgc.sideproj.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 비밀번호 해싱/로그인 제한 지표 (애플리케이션 시작 이후 누적)
+ */
+@Getter
+@Builder
+public class AuthMetricsDTO {
+
+    // 완료된 해싱(encode/matches) 수
+    private final long hashCount;
+
+    // 해싱 소요 시간 분위수 (ms, 실행 대기 시간 제외)
+    private final Double hashLatencyP50Ms;
+    private final Double hashLatencyP99Ms;
+    private final Double hashLatencyMaxMs;
+
+    // 해싱 실행기 대기열이 가득 차 거부된 수
+    private final long hashRejected;
+
+    // 대기 시간 초과로 포기한 수
+    private final long hashTimeouts;
+
+    // IP/이메일 요청 제한으로 거부된 수
+    private final long ipRateLimited;
+    private final long emailRateLimited;
+
+    // 현재 실행 중/대기 중인 해싱 작업 수
+    private final int hashActive;
+    private final int hashQueued;
+}
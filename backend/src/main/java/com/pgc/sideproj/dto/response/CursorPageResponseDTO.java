@@ -0,0 +1,29 @@
+package com.pgc.sideproj.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 키셋(커서) 페이지 응답
+ *
+ * <p>다음 페이지는 {@code nextCursor}를 그대로 cursor 파라미터로 넘겨 요청합니다.
+ * 전체 개수를 세지 않으므로 목록이 커도 페이지마다 비용이 일정합니다.
+ */
+@Getter
+public class CursorPageResponseDTO<T> {
+
+    // 현재 페이지의 데이터 목록
+    private final List<T> data;
+
+    // 다음 페이지 커서 (마지막 페이지면 null)
+    private final String nextCursor;
+
+    private final boolean hasNext;
+
+    public CursorPageResponseDTO(List<T> data, String nextCursor) {
+        this.data = data;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+}
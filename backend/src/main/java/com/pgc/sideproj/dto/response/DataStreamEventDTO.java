@@ -0,0 +1,20 @@
+package com.pgc.sideproj.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 데이터 변경 SSE 이벤트 본문 (이벤트 종류별로 필요한 필드만 포함)
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DataStreamEventDTO {
+
+    private final Long generation;            // batch-completed, statistics-refreshed: 새 데이터 세대
+    private final List<String> startedCltrNos; // items-changed: 입찰 시작 시각이 지난 관심 물건
+    private final List<String> closedCltrNos;  // items-changed: 입찰 마감 시각이 지난 관심 물건
+}
@@ -0,0 +1,25 @@
+package com.pgc.sideproj.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 변경분 동기화 항목 (물건 목록 항목 + 변경 종류/세대)
+ *
+ * <p>물건상태는 배치가 저장한 값 그대로이며, 입찰 시작·마감 시각에 따른 파생 상태는 적용하지 않습니다.
+ */
+@Getter
+@Setter
+public class ItemChangeDTO extends AuctionItemSummaryDTO {
+
+    // CREATED: since 이후 처음 수집된 물건, UPDATED: 값이 바뀐 물건
+    private String changeType;
+
+    // 값이 마지막으로 바뀐 데이터 세대
+    private Long changeGeneration;
+
+    // 처음 수집된 데이터 세대 (changeType 판별용)
+    @JsonIgnore
+    private Long createdGeneration;
+}
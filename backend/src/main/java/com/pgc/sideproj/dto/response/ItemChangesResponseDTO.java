@@ -0,0 +1,33 @@
+package com.pgc.sideproj.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 변경분 동기화 응답
+ *
+ * <p>hasNext가 false가 될 때까지 nextCursor로 이어 받은 뒤,
+ * generation을 다음 동기화의 since로 넘깁니다. 모든 페이지는 같은 generation 기준으로 잘립니다.
+ */
+@Getter
+public class ItemChangesResponseDTO {
+
+    // 이번 페이지의 변경 물건 목록 (세대, 물건번호 순)
+    private final List<ItemChangeDTO> data;
+
+    // 이번 동기화의 기준 세대 (다음 동기화의 since)
+    private final long generation;
+
+    // 다음 페이지 커서 (마지막 페이지면 null)
+    private final String nextCursor;
+
+    private final boolean hasNext;
+
+    public ItemChangesResponseDTO(List<ItemChangeDTO> data, long generation, String nextCursor) {
+        this.data = data;
+        this.generation = generation;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+}
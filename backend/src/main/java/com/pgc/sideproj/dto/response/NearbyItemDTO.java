@@ -0,0 +1,25 @@
+package com.pgc.sideproj.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Builder
+public class NearbyItemDTO {
+
+    private final String cltrNo;         // 물건번호
+    private final String cltrNm;         // 물건명
+    private final String ctgrFullNm;     // 카테고리
+    private final double latitude;       // 위도
+    private final double longitude;      // 경도
+    private final Long minBidPrc;        // 최신 최저입찰가
+    private final String pbctCltrStatNm; // 최신 물건상태
+    private final double distanceKm;     // 기준 물건과의 거리 (km)
+
+    // 로그인한 사용자의 찜 여부 (비로그인 요청에서는 응답에 포함하지 않음)
+    @Setter
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean isSaved;
+}
@@ -0,0 +1,25 @@
+package com.pgc.sideproj.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 찜 목록 항목 (마스터 정보 + 최신 이력 + 찜 정보)
+@Getter
+@Setter
+public class SavedItemSummaryDTO extends AuctionItemSummaryDTO {
+
+    // --- saved_item 정보 ---
+    @JsonIgnore
+    private Long savedId;           // 키셋 커서용 saved_item.id
+    private LocalDateTime savedAt;  // 찜한 일시
+    private Long savedMinBidPrc;    // 찜할 당시 최저입찰가
+
+    // 찜한 뒤 가격 인하율 (0.1 = 10% 인하, 음수면 인상, 가격을 모르면 null)
+    private Double priceDropRate;
+
+    @JsonIgnore
+    private Long sortKey;           // 키셋 커서용 정렬 키 (closing/priceDrop)
+}
@@ -0,0 +1,18 @@
+package com.pgc.sideproj.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class TileMetaDTO {
+
+    private final long generation;       // 타일 세대 (URL에 포함되어 캐시 키 역할)
+    private final int minZoom;           // 제공 최소 줌
+    private final int maxZoom;           // 제공 최대 줌
+    private final int extent;            // 타일 내부 좌표 범위 (0 ~ extent-1)
+    private final List<String> statuses; // 물건상태 사전 (타일의 status 바이트 → 문자열)
+    private final String urlTemplate;    // 타일 URL 템플릿
+}
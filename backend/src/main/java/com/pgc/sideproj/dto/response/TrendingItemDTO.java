@@ -0,0 +1,28 @@
+package com.pgc.sideproj.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class TrendingItemDTO {
+
+    private final int rank;                    // 순위 (1부터)
+    private final long viewCount;              // 최근 집계 구간의 상세 조회 수 (추정값)
+    private final String cltrNo;               // 물건번호
+    private final String cltrNm;               // 물건명
+    private final String ctgrFullNm;           // 카테고리
+    private final String clnLdnmAdrs;          // 정제된 지번주소
+    private final Long minBidPrc;              // 최신 최저입찰가
+    private final LocalDateTime pbctClsDtm;    // 입찰마감일시
+    private final String pbctCltrStatNm;       // 물건상태 (입찰 시작/마감 시각 반영)
+
+    // 로그인한 사용자의 찜 여부 (비로그인 요청에서는 응답에 포함하지 않음)
+    @Setter
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean isSaved;
+}
@@ -0,0 +1,18 @@
+package com.pgc.sideproj.dto.stats;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class ActivityPointDTO {
+
+    private final LocalDate periodStart;     // 일자 / 주 시작(월요일) / 월 1일
+    private final String regionName;         // groupBy=region일 때만 값이 있음
+    private final String categoryName;       // groupBy=category일 때만 값이 있음
+    private final long newListings;          // 신규 물건 수
+    private final long priceCuts;            // 가격 인하 수
+    private final long closings;             // 입찰 마감 수
+}
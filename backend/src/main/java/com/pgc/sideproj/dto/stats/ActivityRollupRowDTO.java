@@ -0,0 +1,17 @@
+package com.pgc.sideproj.dto.stats;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+public class ActivityRollupRowDTO {
+
+    private LocalDate activityDate;
+    private String groupName;          // 지역 또는 카테고리 (그룹 없음이면 빈 문자열)
+    private long newListings;
+    private long priceCuts;
+    private long closings;
+}
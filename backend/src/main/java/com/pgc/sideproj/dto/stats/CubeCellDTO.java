@@ -0,0 +1,17 @@
+package com.pgc.sideproj.dto.stats;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class CubeCellDTO {
+
+    private final List<String> region;     // 지역 경로 (시/도, 시/군/구, 읍/면/동), 빈 목록이면 전체
+    private final List<String> category;   // 카테고리 경로, 빈 목록이면 전체
+    private final int count;               // 물건 수
+    private final int pricedCount;         // 가격 이력이 있는 물건 수
+    private final Long avgPrice;           // 평균 최저입찰가 (가격 이력이 없으면 null)
+}
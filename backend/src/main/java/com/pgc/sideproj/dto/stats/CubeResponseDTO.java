@@ -0,0 +1,15 @@
+package com.pgc.sideproj.dto.stats;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class CubeResponseDTO {
+
+    private final CubeCellDTO total;             // 요청한 지역 x 카테고리 조각의 합계
+    private final String drill;                  // 하위 분해 축 (none / region / category)
+    private final List<CubeCellDTO> children;    // 분해 축의 바로 아래 단계 (물건 수 내림차순)
+}
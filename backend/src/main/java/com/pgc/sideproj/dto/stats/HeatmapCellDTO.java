@@ -0,0 +1,16 @@
+package com.pgc.sideproj.dto.stats;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class HeatmapCellDTO {
+
+    private final double latitude;   // 격자 중심 위도
+    private final double longitude;  // 격자 중심 경도
+    private final int count;         // 격자 내 물건 수
+    private final int pricedCount;   // 가격 이력이 있는 물건 수
+    private final Long avgPrice;     // 평균 최저입찰가 (가격 이력이 없으면 null)
+    private final Long medianPrice;  // 중앙값 최저입찰가 (가격 이력이 없으면 null)
+}
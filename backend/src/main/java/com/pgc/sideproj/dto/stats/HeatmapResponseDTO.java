@@ -0,0 +1,16 @@
+package com.pgc.sideproj.dto.stats;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class HeatmapResponseDTO {
+
+    private final int resolution;            // 해상도 인덱스
+    private final double cellSizeDeg;        // 격자 크기 (도)
+    private final boolean truncated;         // 최대 격자 수를 넘어 잘렸는지 여부
+    private final List<HeatmapCellDTO> cells;
+}
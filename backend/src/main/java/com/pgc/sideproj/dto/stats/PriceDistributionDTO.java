@@ -0,0 +1,15 @@
+package com.pgc.sideproj.dto.stats;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class PriceDistributionDTO {
+
+    private final String regionName;                 // groupBy=region일 때만 값이 있음
+    private final String categoryName;               // groupBy=category일 때만 값이 있음
+    private final long itemCount;
+    private final QuantileSummaryDTO minBidPrc;      // 최저입찰가 분위수
+    private final QuantileSummaryDTO discountRate;   // 할인율 (1 - 최저입찰가/감정가) 분위수, 감정가가 없으면 null
+}
@@ -0,0 +1,16 @@
+package com.pgc.sideproj.dto.stats;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class PricePointDTO {
+
+    private final LocalDateTime time;          // 입찰마감일시 (집계 추이는 일/월 시작 시각)
+    private final Long minBidPrc;              // 최저입찰가 (집계 추이는 평균)
+    private final Double appraisalRatio;       // 감정가 대비 최저입찰가 비율 (감정가가 없으면 null)
+    private final Long itemCount;              // 집계 건수 (단일 물건 이력은 null)
+}
@@ -0,0 +1,17 @@
+package com.pgc.sideproj.dto.stats;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+public class PriceRollupRowDTO {
+
+    private LocalDate bucket;              // 일 또는 월(1일)
+    private long itemCount;
+    private long minBidPrcSum;
+    private double appraisalRatioSum;
+    private long appraisalRatioCount;
+}
@@ -0,0 +1,16 @@
+package com.pgc.sideproj.dto.stats;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class PriceSeriesDTO {
+
+    private final String granularity;          // raw(단일 물건 이력) / day / month
+    private final int totalPoints;             // 다운샘플링 전 점 개수
+    private final boolean downsampled;         // 다운샘플링 적용 여부
+    private final List<PricePointDTO> points;
+}
@@ -0,0 +1,15 @@
+package com.pgc.sideproj.dto.stats;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class QuantileSummaryDTO {
+
+    private final Double min;
+    private final Double p10;
+    private final Double p50;      // 중앙값
+    private final Double p90;
+    private final Double max;
+}
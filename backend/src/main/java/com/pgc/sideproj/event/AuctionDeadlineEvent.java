@@ -0,0 +1,28 @@
+package com.pgc.sideproj.event;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 물건의 입찰 시작/마감 시각이 지났음을 알리는 애플리케이션 이벤트입니다.
+ *
+ * <p>배치를 기다리지 않고 마감 타이밍 휠이 시각에 맞춰 발행합니다.
+ * 물건 상태에 의존하는 캐시는 이 이벤트를 구독해 해당 물건만 무효화합니다.
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+@Getter
+@Builder
+@ToString
+public class AuctionDeadlineEvent {
+
+    // 입찰 시작 시각이 지난 물건번호 (입찰준비중 -> 입찰진행중)
+    private final List<String> startedCltrNos;
+
+    // 입찰 마감 시각이 지난 물건번호 (-> 입찰마감)
+    private final List<String> closedCltrNos;
+}
@@ -0,0 +1,31 @@
+package com.pgc.sideproj.event;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 온비드 수집 배치가 끝났음을 알리는 애플리케이션 이벤트입니다.
+ *
+ * <p>배치가 한 건 이상 저장에 성공했을 때만 발행됩니다.
+ * 인메모리 인덱스, 통계 집계 등 배치 결과에 의존하는 기능은 이 이벤트를 구독하여 갱신합니다.
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+@Getter
+@Builder
+@ToString
+public class BatchCompletedEvent {
+
+    // 배치 시작 시각 (DB 시계 기준, updated_at 비교에 사용)
+    private final LocalDateTime startedAt;
+
+    // 배치 종료 시각 (DB 시계 기준)
+    private final LocalDateTime finishedAt;
+
+    // 저장에 성공한 물건 수
+    private final int processedCount;
+}
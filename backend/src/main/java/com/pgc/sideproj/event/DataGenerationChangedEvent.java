@@ -0,0 +1,25 @@
+package com.pgc.sideproj.event;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 데이터 세대(data_generation)가 바뀌었음을 알리는 애플리케이션 이벤트입니다.
+ *
+ * <p>{@link BatchCompletedEvent}는 배치를 실행한 인스턴스에서만 발행되지만,
+ * 이 이벤트는 세대 변경을 감지한 모든 인스턴스에서 발행됩니다.
+ * DB에 기록하는 후속 작업(집계, 알림)은 BatchCompletedEvent를, 인스턴스마다 가진
+ * 캐시/인메모리 인덱스 갱신은 이 이벤트를 구독합니다.
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+@Getter
+@Builder
+@ToString
+public class DataGenerationChangedEvent {
+
+    // 새 데이터 세대 (DB 조회에 실패해 로컬에서만 발행한 경우 -1)
+    private final long generation;
+}
@@ -0,0 +1,22 @@
+package com.pgc.sideproj.event;
+
+import com.pgc.sideproj.util.ItemColumns;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 인메모리 읽기 모델(물건 열 테이블)이 교체되었음을 알리는 애플리케이션 이벤트입니다.
+ *
+ * <p>시작 시 파일에서 적재했을 때와 배치 후 다시 만들었을 때 발행됩니다.
+ * 읽기 모델에서 파생되는 인덱스는 이 이벤트를 구독하여 DB를 다시 읽지 않고 갱신합니다.
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+@Getter
+@Builder
+public class ItemReadModelRefreshedEvent {
+
+    // 새 읽기 모델 (불변)
+    private final ItemColumns columns;
+}
@@ -0,0 +1,22 @@
+package com.pgc.sideproj.event;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 데이터 세대 변경 후 대시보드 통계 스냅샷을 다시 읽었음을 알리는 애플리케이션 이벤트입니다.
+ *
+ * <p>세대 변경을 감지한 인스턴스마다 자기 스냅샷을 갱신한 뒤 발행합니다.
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+@Getter
+@Builder
+@ToString
+public class StatisticsRefreshedEvent {
+
+    // 갱신의 계기가 된 데이터 세대
+    private final long generation;
+}
@@ -0,0 +1,13 @@
+package com.pgc.sideproj.exception.custom;
+
+import lombok.Getter;
+
+@Getter
+public class SavedSearchLimitExceededException extends RuntimeException {
+    private final int limit;
+
+    public SavedSearchLimitExceededException(int limit) {
+        super(String.format("저장 검색은 최대 %d개까지 등록할 수 있습니다.", limit));
+        this.limit = limit;
+    }
+}
@@ -1,18 +1,23 @@
 package com.pgc.sideproj.filter;
 
+import com.pgc.sideproj.dto.common.AuthUser;
+import com.pgc.sideproj.service.TokenVersionService;
 import com.pgc.sideproj.util.JwtTokenProvider;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
+@Slf4j
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
@@ -20,6 +25,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     public static final String BEARER_PREFIX = "Bearer ";
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenVersionService tokenVersionService;
 
     /**
      * 실제 필터링 로직이 구현되는 메소드
@@ -34,15 +40,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 1. Request Header에서 토큰 추출
         String jwt = resolveToken(request);
 
-        // 2. 토큰 유효성 검사
-        if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
+        // 2. 토큰 검증 (서명 검증과 클레임 추출을 한 번에, 검증된 토큰은 캐시)
+        Optional<Authentication> authentication = StringUtils.hasText(jwt)
+                ? jwtTokenProvider.authenticate(jwt)
+                : Optional.empty();
 
-            // 3. 토큰이 유효하면 인증 객체를 가져옴
-            Authentication authentication = jwtTokenProvider.getAuthentication(jwt);
+        if (authentication.isPresent()) {
 
-            // 4. Spring Security Context에 인증 정보 저장 (인증 완료)
-            // 이후 해당 요청이 끝날 때까지 @AuthenticationPrincipal 등으로 인증 정보를 사용할 수 있게 됩니다.
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+            // 3. 폐기된 토큰(토큰 버전 불일치)은 인증하지 않음
+            if (tokenVersionService.isCurrent((AuthUser) authentication.get().getPrincipal())) {
+                // 4. Spring Security Context에 인증 정보 저장 (인증 완료)
+                // 이후 해당 요청이 끝날 때까지 @AuthenticationPrincipal 등으로 인증 정보를 사용할 수 있게 됩니다.
+                SecurityContextHolder.getContext().setAuthentication(authentication.get());
+            } else {
+                log.info("폐기된 JWT 토큰입니다.");
+            }
         }
 
         // 다음 필터 또는 서블릿으로 요청을 넘김
@@ -0,0 +1,52 @@
+package com.pgc.sideproj.mapper;
+
+import com.pgc.sideproj.dto.stats.ActivityRollupRowDTO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface ActivityMapper {
+
+    /**
+     * 해당 배치 실행이 이미 집계되었는지 확인합니다.
+     */
+    boolean existsRun(@Param("runStartedAt") LocalDateTime runStartedAt);
+
+    /**
+     * 이전 실행까지 마감을 집계한 시각을 조회합니다. (없으면 null)
+     */
+    LocalDateTime findLastClosedUntil();
+
+    int insertRun(@Param("runStartedAt") LocalDateTime runStartedAt,
+                  @Param("closedUntil") LocalDateTime closedUntil);
+
+    /**
+     * 배치 실행에서 발견한 신규 물건/가격 인하/마감을 일자별로 집계해 추가합니다.
+     *
+     * @param runStartedAt 배치 시작 일시 (실행 식별자)
+     * @param since        신규 행 판별 기준 (배치 시작 일시)
+     * @param closedFrom   마감 집계 구간 시작 (포함)
+     * @param closedUntil  마감 집계 구간 끝 (미포함)
+     */
+    int insertActivityRollup(@Param("runStartedAt") LocalDateTime runStartedAt,
+                             @Param("since") LocalDateTime since,
+                             @Param("closedFrom") LocalDateTime closedFrom,
+                             @Param("closedUntil") LocalDateTime closedUntil);
+
+    /**
+     * 기간 내 일별 활동을 조회합니다.
+     *
+     * @param groupBy none / region / category
+     */
+    List<ActivityRollupRowDTO> findDailyActivity(
+            @Param("region") String region,
+            @Param("category") String category,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("groupBy") String groupBy
+    );
+}
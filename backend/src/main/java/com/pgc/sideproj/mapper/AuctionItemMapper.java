@@ -2,32 +2,109 @@ package com.pgc.sideproj.mapper;
 
 import com.pgc.sideproj.dto.db.AuctionHistoryDTO;
 import com.pgc.sideproj.dto.db.AuctionMasterDTO;
+import com.pgc.sideproj.dto.db.DeadlineItemDTO;
+import com.pgc.sideproj.dto.db.ItemLocationDTO;
 import com.pgc.sideproj.dto.response.AuctionItemSummaryDTO;
+import com.pgc.sideproj.dto.response.ItemChangeDTO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Mapper
 public interface AuctionItemMapper {
 
-    void upsertMaster(AuctionMasterDTO master);
-    void upsertHistory(AuctionHistoryDTO history);
+    /**
+     * 마스터를 저장합니다. 값이 바뀐 경우에만 change_generation을 changeGeneration으로 올립니다.
+     */
+    void upsertMaster(@Param("master") AuctionMasterDTO master,
+                      @Param("changeGeneration") long changeGeneration);
 
+    /**
+     * 이력을 저장합니다. 값이 바뀐 경우에만 change_generation을 changeGeneration으로 올립니다.
+     */
+    void upsertHistory(@Param("history") AuctionHistoryDTO history,
+                       @Param("changeGeneration") long changeGeneration);
+
+    /**
+     * 물건의 이력이 changeGeneration에 바뀌었으면 마스터의 change_generation도 올립니다.
+     */
+    void markChangedByHistory(@Param("cltrNo") String cltrNo,
+                              @Param("changeGeneration") long changeGeneration);
+
+    /**
+     * 물건 목록을 조회합니다. fields에 있는 필드의 컬럼만 읽습니다.
+     *
+     * @param keyword     전문 검색 불린 질의 ({@link com.pgc.sideproj.util.SearchPercolator#toFullTextQuery(String)}, 없으면 null)
+     * @param fields      응답 필드 ({@link com.pgc.sideproj.util.ItemFields})
+     * @param withHistory 최신 이력 필드가 있는지 여부 (없으면 이력을 조인하지 않음)
+     */
     List<AuctionItemSummaryDTO> findItems(
             @Param("keyword") String keyword,
             @Param("region") String region,
             @Param("offset") int offset,
-            @Param("limit") int limit
+            @Param("limit") int limit,
+            @Param("fields") Set<String> fields,
+            @Param("withHistory") boolean withHistory
     );
 
     Optional<AuctionMasterDTO> findMasterByCltrNo(String cltrNo);
     List<AuctionHistoryDTO> findHistoryByCltrNo(String cltrNo);
 
-    // --- (2) Phase 2-3 추가: 검색 결과 총 개수 ---
+    // --- (2) Phase 2-3 추가: 검색 결과 총 개수 (keyword는 findItems와 같은 불린 질의) ---
     int countItems(
             @Param("keyword") String keyword,
             @Param("region") String region
     );
+
+    /**
+     * DB 서버의 현재 시각을 조회합니다. (배치 변경분 판별 기준)
+     */
+    LocalDateTime selectCurrentTimestamp();
+
+    /**
+     * 좌표가 있는 모든 물건의 위치와 최신 가격/상태를 조회합니다. (인메모리 공간 인덱스 적재용)
+     */
+    List<ItemLocationDTO> findItemLocations();
+
+    /**
+     * 입찰마감일시가 [from, to] 구간인 물건 중 최신 이력의 상태가 statuses인 물건을 조회합니다.
+     * (마감 타이밍 휠 적재용)
+     */
+    List<DeadlineItemDTO> findUpcomingDeadlines(@Param("from") LocalDateTime from,
+                                                @Param("to") LocalDateTime to,
+                                                @Param("statuses") List<String> statuses);
+
+    /**
+     * 물건번호 목록에 해당하는 물건의 마스터 요약과 최신 이력을 조회합니다. (인기 물건 스냅샷용)
+     */
+    List<DeadlineItemDTO> findLatestByCltrNos(@Param("cltrNos") List<String> cltrNos);
+
+    /**
+     * 모든 물건의 마스터 정보와 최신 이력을 조회합니다. (인메모리 읽기 모델 적재용)
+     */
+    List<AuctionItemSummaryDTO> findAllWithLatestHistory();
+
+    /**
+     * (since, upTo] 세대에 바뀐 물건을 (세대, 물건번호) 순으로 조회합니다. (변경분 동기화용)
+     *
+     * @param since            마지막으로 동기화한 세대 (null이면 전체)
+     * @param upTo             이번 동기화의 기준 세대 (이후 세대는 제외)
+     * @param cursorGeneration 이전 페이지 마지막 물건의 세대 (첫 페이지는 null)
+     * @param cursorCltrNo     이전 페이지 마지막 물건번호
+     * @param limit            최대 건수
+     */
+    List<ItemChangeDTO> findChangedItems(@Param("since") Long since,
+                                         @Param("upTo") long upTo,
+                                         @Param("cursorGeneration") Long cursorGeneration,
+                                         @Param("cursorCltrNo") String cursorCltrNo,
+                                         @Param("limit") int limit);
+
+    /**
+     * 물건 데이터 버전을 조회합니다. (물건 수와 마스터/이력의 마지막 수정일시, 읽기 모델 파일 재사용 판단용)
+     */
+    String selectDataVersion();
 }
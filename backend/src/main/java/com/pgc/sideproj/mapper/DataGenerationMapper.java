@@ -0,0 +1,24 @@
+package com.pgc.sideproj.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+
+@Mapper
+public interface DataGenerationMapper {
+
+    /**
+     * 현재 데이터 세대를 조회합니다. (행이 없으면 null)
+     */
+    Long selectGeneration();
+
+    /**
+     * 데이터 세대를 1 증가시킵니다.
+     *
+     * @return 변경된 행 수 (행이 없으면 0)
+     */
+    int incrementGeneration();
+
+    /**
+     * 세대 행이 없을 때 초기 행을 만듭니다.
+     */
+    void insertInitialGeneration();
+}
@@ -0,0 +1,59 @@
+package com.pgc.sideproj.mapper;
+
+import com.pgc.sideproj.dto.db.NotificationDTO;
+import com.pgc.sideproj.dto.db.SearchMatchDTO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface NotificationMapper {
+
+    /**
+     * since 이후 변경된 물건의 최신 이력을 saved_item과 한 번에 조인해
+     * 알림 기준값보다 가격이 내려갔거나 상태가 바뀐 찜 항목마다 알림을 추가합니다.
+     *
+     * @return 추가된 알림 수
+     */
+    int insertAlerts(@Param("since") LocalDateTime since);
+
+    /**
+     * since 이후 변경된 물건을 찜한 항목의 알림 기준값을 최신 이력 값으로 맞춥니다.
+     *
+     * @return 변경된 찜 항목 수
+     */
+    int updateNotifiedBaseline(@Param("since") LocalDateTime since);
+
+    /**
+     * 저장 검색 일치 알림을 한 문장으로 추가합니다.
+     * 같은 검색에 같은 물건은 uk_search_item에 걸려 한 번만 기록됩니다.
+     *
+     * @return 추가된 알림 수
+     */
+    int insertSearchMatches(@Param("matches") List<SearchMatchDTO> matches);
+
+    /**
+     * 사용자의 알림을 조회합니다.
+     * afterId가 있으면 그 이후 알림을 오래된 순으로, 없으면 beforeId 이전 알림을 최신 순으로 반환합니다.
+     */
+    List<NotificationDTO> findByUser(@Param("userId") Long userId,
+                                     @Param("afterId") Long afterId,
+                                     @Param("beforeId") Long beforeId,
+                                     @Param("limit") int limit);
+
+    long countUnread(@Param("userId") Long userId);
+
+    /**
+     * upToId 이하의 읽지 않은 알림을 읽음으로 표시합니다.
+     */
+    int markReadUpTo(@Param("userId") Long userId, @Param("upToId") Long upToId);
+
+    /**
+     * afterId 이후의 모든 사용자 알림을 id 순으로 조회합니다. (실시간 스트림 전달용)
+     */
+    List<NotificationDTO> findAfter(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    Long findMaxId();
+}
@@ -0,0 +1,43 @@
+package com.pgc.sideproj.mapper;
+
+import com.pgc.sideproj.dto.db.PriceSketchDTO;
+import com.pgc.sideproj.dto.db.PriceSketchSourceDTO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Mapper
+public interface PriceSketchMapper {
+
+    /**
+     * 한 달치 이력의 지역/카테고리별 가격을 조회합니다. (스케치 생성용)
+     */
+    List<PriceSketchSourceDTO> findSketchSources(@Param("month") LocalDate month,
+                                                 @Param("nextMonth") LocalDate nextMonth);
+
+    /**
+     * 이력이 존재하는 모든 월(1일)을 조회합니다. (전체 재생성용)
+     */
+    List<LocalDate> findHistoryMonths();
+
+    int deleteMonth(@Param("month") LocalDate month);
+
+    int insertSketches(@Param("sketches") List<PriceSketchDTO> sketches);
+
+    /**
+     * 기간/지역/카테고리 조건에 맞는 직렬화된 스케치를 조회합니다.
+     *
+     * @param region   시/도 (null 또는 빈 문자열이면 전체)
+     * @param category 대분류 카테고리 (null 또는 빈 문자열이면 전체)
+     * @param from     시작 월 (1일, 포함)
+     * @param to       종료 월 (1일, 포함)
+     */
+    List<PriceSketchDTO> findSketches(
+            @Param("region") String region,
+            @Param("category") String category,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to
+    );
+}
@@ -0,0 +1,50 @@
+package com.pgc.sideproj.mapper;
+
+import com.pgc.sideproj.dto.db.AuctionHistoryDTO;
+import com.pgc.sideproj.dto.stats.PriceRollupRowDTO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface PriceTrendMapper {
+
+    /**
+     * 기준 시각 이후 변경된 이력이 속한 입찰마감일 목록을 조회합니다. (집계 재계산 대상)
+     */
+    List<LocalDate> findTouchedDays(@Param("since") LocalDateTime since);
+
+    int deleteDailyRollup(@Param("day") LocalDate day);
+
+    /**
+     * 하루치 이력을 지역/카테고리별로 다시 집계하여 일별 집계 테이블에 적재합니다.
+     */
+    int insertDailyRollup(@Param("day") LocalDate day, @Param("nextDay") LocalDate nextDay);
+
+    int deleteMonthlyRollup(@Param("month") LocalDate month);
+
+    /**
+     * 한 달치 일별 집계를 합산하여 월별 집계 테이블에 적재합니다.
+     */
+    int insertMonthlyRollup(@Param("month") LocalDate month, @Param("nextMonth") LocalDate nextMonth);
+
+    /**
+     * 집계 테이블에서 기간 내 추이를 조회합니다.
+     *
+     * @param monthly  true면 월별, false면 일별 집계 사용
+     * @param region   시/도 (null 또는 빈 문자열이면 전체)
+     * @param category 대분류 카테고리 (null 또는 빈 문자열이면 전체)
+     */
+    List<PriceRollupRowDTO> findTrend(
+            @Param("monthly") boolean monthly,
+            @Param("region") String region,
+            @Param("category") String category,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to
+    );
+
+    List<AuctionHistoryDTO> findItemPriceHistory(@Param("cltrNo") String cltrNo);
+}
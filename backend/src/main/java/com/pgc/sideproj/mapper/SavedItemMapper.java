@@ -2,6 +2,7 @@ package com.pgc.sideproj.mapper;
 
 import com.pgc.sideproj.dto.db.SavedItemDTO;
 import com.pgc.sideproj.dto.db.AuctionMasterDTO;
+import com.pgc.sideproj.dto.response.SavedItemSummaryDTO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -11,17 +12,50 @@ import java.util.Optional;
 @Mapper
 public interface SavedItemMapper {
 
-    void save(SavedItemDTO item);
+    /**
+     * 찜 목록에 추가합니다. 이미 있으면 아무것도 하지 않습니다. (uk_user_item 기준)
+     */
+    void saveIfAbsent(@Param("userId") Long userId, @Param("itemId") String itemId);
+
+    /**
+     * 여러 물건을 한 문장으로 찜 목록에 추가합니다.
+     * 존재하지 않는 물건은 건너뛰고, 이미 찜한 물건은 그대로 둡니다.
+     */
+    void saveAllIfAbsent(@Param("userId") Long userId, @Param("itemIds") List<String> itemIds);
 
     /**
      * @Param 이름 변경: cltrNo -> itemId
      */
     void delete(@Param("userId") Long userId, @Param("itemId") String itemId);
 
+    /**
+     * 여러 물건을 한 문장으로 찜 목록에서 제거합니다.
+     */
+    void deleteAll(@Param("userId") Long userId, @Param("itemIds") List<String> itemIds);
+
     /**
      * @Param 이름 변경: cltrNo -> itemId
      */
     Optional<SavedItemDTO> findByUserIdAndItemId(@Param("userId") Long userId, @Param("itemId") String itemId);
 
     List<AuctionMasterDTO> findItemsByUserId(Long userId);
+
+    /**
+     * 사용자가 찜한 물건번호만 조회합니다. (목록 찜 여부 표시용)
+     */
+    List<String> findItemIdsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 찜 목록 키셋 페이지를 최신 가격/상태/마감일시와 함께 조회합니다.
+     *
+     * @param sort      recent / closing / priceDrop
+     * @param cursorKey 이전 페이지 마지막 항목의 정렬 키 (recent는 사용하지 않음)
+     * @param cursorId  이전 페이지 마지막 항목의 saved_item.id (첫 페이지는 null)
+     * @param limit     조회할 최대 행 수
+     */
+    List<SavedItemSummaryDTO> findSavedItemPage(@Param("userId") Long userId,
+                                                @Param("sort") String sort,
+                                                @Param("cursorKey") Long cursorKey,
+                                                @Param("cursorId") Long cursorId,
+                                                @Param("limit") int limit);
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.pgc.sideproj.mapper;
+
+import com.pgc.sideproj.dto.db.ChangedItemDTO;
+import com.pgc.sideproj.dto.db.SavedSearchDTO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface SavedSearchMapper {
+
+    /**
+     * 저장 검색을 추가합니다. (생성된 id는 search.id에 채워짐)
+     */
+    void save(SavedSearchDTO search);
+
+    List<SavedSearchDTO> findByUserId(@Param("userId") Long userId);
+
+    int countByUserId(@Param("userId") Long userId);
+
+    /**
+     * 사용자의 저장 검색을 삭제합니다.
+     *
+     * @return 삭제된 행 수 (다른 사용자의 검색이면 0)
+     */
+    int delete(@Param("userId") Long userId, @Param("id") Long id);
+
+    /**
+     * 모든 사용자의 저장 검색을 조회합니다. (퍼콜레이터 색인용)
+     */
+    List<SavedSearchDTO> findAll();
+
+    /**
+     * since 이후 새로 들어오거나 바뀐 물건을 최신 이력과 함께 한 행씩 읽습니다.
+     * 결과를 메모리에 모으지 않으므로 트랜잭션 안에서 사용하고 다 읽은 뒤 닫아야 합니다.
+     */
+    Cursor<ChangedItemDTO> streamChangedItems(@Param("since") LocalDateTime since);
+}
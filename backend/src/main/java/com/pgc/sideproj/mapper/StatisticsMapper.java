@@ -1,20 +1,52 @@
 package com.pgc.sideproj.mapper;
 
+import com.pgc.sideproj.dto.db.CubeSourceDTO;
 import com.pgc.sideproj.dto.stats.CategoryStatsDTO;
 import com.pgc.sideproj.dto.stats.RegionStatsDTO;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
 public interface StatisticsMapper {
     /**
-     * 지역별(시/도) 물건의 평균 최저 입찰가를 조회합니다.
+     * 지역별(시/도) 물건의 평균 최저 입찰가를 조회합니다. (region_stats 요약 테이블)
      */
     List<RegionStatsDTO> getRegionAveragePrice();
 
     /**
-     * 카테고리별 물건 개수를 조회합니다.
+     * 카테고리별 물건 개수를 조회합니다. (category_stats 요약 테이블)
      */
     List<CategoryStatsDTO> getCategoryCounts();
+
+    /**
+     * 기준 시각 이후 변경된 물건/이력이 속한 지역 목록을 조회합니다.
+     */
+    List<String> findChangedRegions(@Param("since") LocalDateTime since);
+
+    /**
+     * 기준 시각 이후 변경된 물건이 속한 카테고리 목록을 조회합니다.
+     */
+    List<String> findChangedCategories(@Param("since") LocalDateTime since);
+
+    int deleteRegionStats(@Param("regionName") String regionName);
+
+    /**
+     * 한 지역의 요약 통계를 원본 테이블에서 다시 집계하여 적재합니다.
+     */
+    int insertRegionStats(@Param("regionName") String regionName);
+
+    int deleteCategoryStats(@Param("categoryName") String categoryName);
+
+    /**
+     * 한 카테고리의 요약 통계를 원본 테이블에서 다시 집계하여 적재합니다.
+     */
+    int insertCategoryStats(@Param("categoryName") String categoryName);
+
+    /**
+     * 모든 물건의 주소/카테고리 경로와 최신 최저입찰가를 조회합니다. (인메모리 집계 큐브 적재용)
+     */
+    List<CubeSourceDTO> findCubeSources();
 }
@@ -2,6 +2,7 @@ package com.pgc.sideproj.mapper;
 
 import com.pgc.sideproj.dto.db.UserDTO;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -23,4 +24,15 @@ public interface UserMapper {
     Optional<UserDTO> findByEmail(String email);
 
     List<UserDTO> findAll();
+
+    /**
+     * 사용자의 현재 토큰 버전을 조회합니다. (사용자가 없으면 null)
+     */
+    Integer findTokenVersion(@Param("id") Long id);
+
+    /**
+     * 토큰 버전을 1 올려 이전에 발급된 토큰을 모두 무효화합니다.
+     * @return 변경된 행 수 (사용자가 없으면 0)
+     */
+    int incrementTokenVersion(@Param("id") Long id);
 }
@@ -0,0 +1,53 @@
+package com.pgc.sideproj.service;
+
+import com.pgc.sideproj.mapper.ActivityMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 물건 활동 일별 집계(activity_rollup_daily)의 적재 트랜잭션을 관리하는 서비스입니다.
+ *
+ * <p>배치 실행마다 그 실행에서 발견한 활동만 새 행으로 추가하고 기존 행은 수정하지 않습니다.
+ * 실행 기록과 집계 행을 한 트랜잭션으로 넣어 같은 실행이 두 번 집계되지 않도록 합니다.
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ActivityRollupService {
+
+    // 첫 실행에서 마감을 거슬러 집계할 기간 (일)
+    private static final int INITIAL_CLOSING_LOOKBACK_DAYS = 1;
+
+    private final ActivityMapper activityMapper;
+
+    /**
+     * 배치 실행 하나의 활동을 집계해 추가합니다.
+     *
+     * @param runStartedAt 배치 시작 일시 (DB 시계)
+     * @param finishedAt   배치 종료 일시 (DB 시계, 마감 집계 구간의 끝)
+     * @return 추가된 집계 행 수 (이미 집계된 실행이면 0)
+     */
+    @Transactional
+    public int recordRun(LocalDateTime runStartedAt, LocalDateTime finishedAt) {
+        if (activityMapper.existsRun(runStartedAt)) {
+            log.warn("이미 집계된 배치 실행입니다 - {}", runStartedAt);
+            return 0;
+        }
+
+        LocalDateTime closedFrom = activityMapper.findLastClosedUntil();
+        if (closedFrom == null || closedFrom.isAfter(finishedAt)) {
+            closedFrom = runStartedAt.minusDays(INITIAL_CLOSING_LOOKBACK_DAYS);
+        }
+
+        int inserted = activityMapper.insertActivityRollup(runStartedAt, runStartedAt, closedFrom, finishedAt);
+        activityMapper.insertRun(runStartedAt, finishedAt);
+        return inserted;
+    }
+}
@@ -0,0 +1,101 @@
+package com.pgc.sideproj.service;
+
+import com.pgc.sideproj.dto.stats.ActivityPointDTO;
+import com.pgc.sideproj.dto.stats.ActivityRollupRowDTO;
+import com.pgc.sideproj.event.BatchCompletedEvent;
+import com.pgc.sideproj.mapper.ActivityMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 신규 물건, 가격 인하, 입찰 마감 건수의 기간별 추이를 제공하는 서비스입니다.
+ *
+ * <p>배치마다 적재되는 일별 집계만 읽고, 주/월 단위 묶음은 메모리에서 계산합니다.
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ActivityStatsService {
+
+    public static final String GRANULARITY_DAY = "day";
+    public static final String GRANULARITY_WEEK = "week";
+    public static final String GRANULARITY_MONTH = "month";
+
+    private final ActivityMapper activityMapper;
+    private final ActivityRollupService activityRollupService;
+
+    /**
+     * 배치에서 발견한 활동을 일별 집계에 추가합니다.
+     */
+    @EventListener
+    public void onBatchCompleted(BatchCompletedEvent event) {
+        try {
+            int inserted = activityRollupService.recordRun(event.getStartedAt(), event.getFinishedAt());
+            log.info("물건 활동 집계 완료 - {}건 추가", inserted);
+        } catch (Exception e) {
+            log.error("물건 활동 집계 실패 - 배치 시작: {}", event.getStartedAt(), e);
+        }
+    }
+
+    /**
+     * 기간 내 활동 추이를 조회합니다.
+     *
+     * @param region      시/도 (null이면 전체)
+     * @param category    대분류 카테고리 (null이면 전체)
+     * @param granularity day / week / month
+     * @param groupBy     none / region / category
+     * @param from        시작일 (포함)
+     * @param to          종료일 (포함)
+     * @return 기간 시작일, 그룹 순으로 정렬된 활동 건수
+     */
+    public List<ActivityPointDTO> getActivity(String region, String category, String granularity,
+                                              String groupBy, LocalDate from, LocalDate to) {
+        List<ActivityRollupRowDTO> rows = activityMapper.findDailyActivity(region, category, from, to, groupBy);
+
+        // 기간 시작일 -> 그룹 -> [신규, 인하, 마감]
+        Map<LocalDate, Map<String, long[]>> buckets = new TreeMap<>();
+        for (ActivityRollupRowDTO row : rows) {
+            LocalDate periodStart = periodStart(row.getActivityDate(), granularity);
+            long[] sums = buckets.computeIfAbsent(periodStart, key -> new TreeMap<>())
+                    .computeIfAbsent(row.getGroupName(), key -> new long[3]);
+            sums[0] += row.getNewListings();
+            sums[1] += row.getPriceCuts();
+            sums[2] += row.getClosings();
+        }
+
+        boolean byRegion = "region".equals(groupBy);
+        boolean byCategory = "category".equals(groupBy);
+        List<ActivityPointDTO> result = new ArrayList<>();
+        buckets.forEach((periodStart, groups) -> groups.forEach((groupName, sums) ->
+                result.add(ActivityPointDTO.builder()
+                        .periodStart(periodStart)
+                        .regionName(byRegion ? groupName : null)
+                        .categoryName(byCategory ? groupName : null)
+                        .newListings(sums[0])
+                        .priceCuts(sums[1])
+                        .closings(sums[2])
+                        .build())));
+        return result;
+    }
+
+    private static LocalDate periodStart(LocalDate date, String granularity) {
+        return switch (granularity) {
+            case GRANULARITY_WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case GRANULARITY_MONTH -> date.withDayOfMonth(1);
+            default -> date;
+        };
+    }
+}
@@ -2,12 +2,16 @@ package com.pgc.sideproj.service;
 
 import com.pgc.sideproj.dto.onbid.OnbidApiResponseDTO;
 import com.pgc.sideproj.dto.onbid.OnbidItemDTO;
+import com.pgc.sideproj.event.BatchCompletedEvent;
+import com.pgc.sideproj.mapper.AuctionItemMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -15,6 +19,9 @@ import java.util.List;
  * - 매일 새벽 1시 자동 실행
  * - ShedLock으로 분산 환경에서 중복 실행 방지
  * - 부분 실패 허용 (한 항목 실패 시 다른 항목 계속 처리)
+ * - 완료 시 BatchCompletedEvent 발행 (집계/알림 등 DB 후속 작업용)
+ * - 후속 작업까지 끝나면 데이터 세대 증가 (모든 인스턴스의 로컬 캐시/인덱스 갱신용)
+ * - 값이 바뀐 물건에는 증가될 세대를 미리 기록 (변경분 동기화용)
  */
 @Slf4j
 @Service
@@ -23,6 +30,9 @@ public class AuctionBatchService {
 
     private final OnbidApiService onbidApiService;
     private final AuctionTransactionService auctionTransactionService;
+    private final AuctionItemMapper auctionItemMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DataGenerationService dataGenerationService;
 
     /**
      * 매일 01:00에 온비드 데이터를 수집합니다.
@@ -52,15 +62,33 @@ public class AuctionBatchService {
      */
     public void fetchAndSaveOnbidData() {
         log.info("Onbid 전체 데이터 수집 배치를 시작합니다.");
-        processBatchData();
+        // 변경분 판별 기준은 DB 시계로 잡아야 updated_at 컬럼과 비교할 수 있습니다.
+        LocalDateTime startedAt = auctionItemMapper.selectCurrentTimestamp();
+        // 배치가 끝나 세대를 올리기 전까지는 변경분 동기화 API에 노출되지 않음
+        long changeGeneration = dataGenerationService.nextGeneration();
+
+        int processedCount = processBatchData(changeGeneration);
+
+        if (processedCount > 0) {
+            eventPublisher.publishEvent(BatchCompletedEvent.builder()
+                    .startedAt(startedAt)
+                    .finishedAt(auctionItemMapper.selectCurrentTimestamp())
+                    .processedCount(processedCount)
+                    .build());
+            // 요약 테이블 등 후속 집계가 끝난 뒤에 올려야 다른 인스턴스가 갱신된 값을 읽음
+            dataGenerationService.bump();
+        }
         log.info("배치 작업 완료.");
     }
 
     /**
      * 온비드 API에서 모든 페이지의 데이터를 수집합니다.
      * 개선: 부분 실패 처리 추가
+     *
+     * @param changeGeneration 값이 바뀐 행에 기록할 데이터 세대
+     * @return 저장에 성공한 물건 수
      */
-    private void processBatchData() {
+    private int processBatchData(long changeGeneration) {
         int pageNo = 1;
         int totalCount = 0;
         final int numOfRows = 100;
@@ -81,7 +109,7 @@ public class AuctionBatchService {
                 totalCount = response.getBody().getTotalCount();
                 if (totalCount == 0) {
                     log.info("수집할 데이터가 없습니다.");
-                    return;
+                    return 0;
                 }
                 log.info("총 수집할 물건 수: {}", totalCount);
             }
@@ -93,7 +121,7 @@ public class AuctionBatchService {
             }
 
             // 개선: 페이지 단위 부분 실패 처리
-            int pageProcessed = processPageWithPartialRetry(items, pageNo);
+            int pageProcessed = processPageWithPartialRetry(items, pageNo, changeGeneration);
             processedCount += pageProcessed;
             errorCount += (items.size() - pageProcessed);
 
@@ -113,17 +141,18 @@ public class AuctionBatchService {
         
         log.info("배치 결과 - 총 처리: {}건, 성공: {}건, 실패: {}건",
                 processedCount + errorCount, processedCount, errorCount);
+        return processedCount;
     }
 
     /**
      * 개선: 한 항목 실패 시 다른 항목까지 롤백되지 않도록 처리
      */
-    private int processPageWithPartialRetry(List<OnbidItemDTO> items, int pageNo) {
+    private int processPageWithPartialRetry(List<OnbidItemDTO> items, int pageNo, long changeGeneration) {
         int successCount = 0;
         
         for (OnbidItemDTO item : items) {
             try {
-                auctionTransactionService.processSingleItem(item);
+                auctionTransactionService.processSingleItem(item, changeGeneration);
                 successCount++;
             } catch (Exception e) {
                 log.error("항목 처리 실패 (cltrNo: {}, 페이지: {}): {}",
@@ -0,0 +1,217 @@
+package com.pgc.sideproj.service;
+
+import com.pgc.sideproj.dto.db.DeadlineItemDTO;
+import com.pgc.sideproj.dto.response.ClosingSoonItemDTO;
+import com.pgc.sideproj.event.AuctionDeadlineEvent;
+import com.pgc.sideproj.event.DataGenerationChangedEvent;
+import com.pgc.sideproj.mapper.AuctionItemMapper;
+import com.pgc.sideproj.util.TimingWheel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 입찰 시작/마감 시각에 맞춰 물건 상태를 바꾸어 보여 주는 서비스입니다.
+ *
+ * <p>물건상태(pbct_cltr_stat_nm)는 배치가 다시 수집할 때만 바뀌므로, 마감 시각이 지나도 몇 시간 동안
+ * "입찰진행중"으로 남습니다. 배치 후 데이터 세대가 바뀔 때마다 곧 시작/마감되는 물건을 읽어 {@link TimingWheel}에 등록하고,
+ * 1초 간격으로 휠을 진행하며 시각이 지난 물건의 파생 상태를 바꾸고 {@link AuctionDeadlineEvent}를 발행합니다.
+ * 휠 진행은 메모리 안에서만 이루어지며 DB를 다시 조회하지 않습니다.
+ *
+ * <p>마감 임박 목록은 마감 시각 순으로 정렬된 구조에서 바로 잘라 반환하고, 마감되면 그 자리에서 빠집니다.
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class AuctionDeadlineService {
+
+    public static final String STATUS_PREPARING = "입찰준비중";
+    public static final String STATUS_BIDDING = "입찰진행중";
+    public static final String STATUS_CLOSED = "입찰마감";
+
+    private static final int WHEEL_SIZE = 64;
+
+    // 적재 시 이미 마감되었지만 배치가 아직 상태를 바꾸지 못한 물건을 찾는 구간
+    private static final long LOOKBACK_DAYS = 1;
+
+    private final AuctionItemMapper auctionItemMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ZoneId zone;
+    private final long tickMillis;
+    private final int horizonDays;
+
+    // 아래 세 필드의 교체와 휠 진행은 this로 동기화
+    private TimingWheel<Deadline> wheel;
+    private volatile Map<String, String> derivedStatuses = new ConcurrentHashMap<>();
+    private volatile ConcurrentSkipListMap<ClosingKey, DeadlineItemDTO> closing = new ConcurrentSkipListMap<>();
+
+    public AuctionDeadlineService(AuctionItemMapper auctionItemMapper,
+                                  ApplicationEventPublisher eventPublisher,
+                                  @Value("${deadlines.zone:Asia/Seoul}") String zone,
+                                  @Value("${deadlines.tick-millis:1000}") long tickMillis,
+                                  @Value("${deadlines.horizon-days:14}") int horizonDays) {
+        this.auctionItemMapper = auctionItemMapper;
+        this.eventPublisher = eventPublisher;
+        this.zone = ZoneId.of(zone);
+        this.tickMillis = tickMillis;
+        this.horizonDays = horizonDays;
+        this.wheel = new TimingWheel<>(tickMillis, WHEEL_SIZE, System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    @EventListener
+    public void onDataGenerationChanged(DataGenerationChangedEvent event) {
+        reload();
+    }
+
+    /**
+     * 곧 시작/마감되는 물건을 다시 읽어 타이밍 휠과 마감 임박 목록을 새로 만듭니다.
+     * 실패하면 기존 휠을 유지합니다.
+     */
+    public void reload() {
+        long startTime = System.currentTimeMillis();
+        try {
+            long now = System.currentTimeMillis();
+            LocalDateTime nowLocal = LocalDateTime.ofInstant(Instant.ofEpochMilli(now), zone);
+            List<DeadlineItemDTO> items = auctionItemMapper.findUpcomingDeadlines(
+                    nowLocal.minusDays(LOOKBACK_DAYS), nowLocal.plusDays(horizonDays),
+                    List.of(STATUS_PREPARING, STATUS_BIDDING));
+
+            TimingWheel<Deadline> rebuiltWheel = new TimingWheel<>(tickMillis, WHEEL_SIZE, now);
+            Map<String, String> rebuiltStatuses = new ConcurrentHashMap<>();
+            ConcurrentSkipListMap<ClosingKey, DeadlineItemDTO> rebuiltClosing = new ConcurrentSkipListMap<>();
+            for (DeadlineItemDTO item : items) {
+                long closeAt = toMillis(item.getPbctClsDtm());
+                ClosingKey key = new ClosingKey(closeAt, item.getCltrNo());
+                if (!rebuiltWheel.schedule(closeAt, new Deadline(key, true))) {
+                    rebuiltStatuses.put(item.getCltrNo(), STATUS_CLOSED);
+                    continue;
+                }
+                rebuiltClosing.put(key, item);
+                if (STATUS_PREPARING.equals(item.getPbctCltrStatNm()) && item.getPbctBegnDtm() != null
+                        && !rebuiltWheel.schedule(toMillis(item.getPbctBegnDtm()), new Deadline(key, false))) {
+                    rebuiltStatuses.put(item.getCltrNo(), STATUS_BIDDING);
+                }
+            }
+
+            synchronized (this) {
+                wheel = rebuiltWheel;
+                derivedStatuses = rebuiltStatuses;
+                closing = rebuiltClosing;
+            }
+            log.info("마감 타이밍 휠 적재 완료 - 물건 {}건, 예약 {}건 ({}ms)",
+                    items.size(), rebuiltWheel.size(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("마감 타이밍 휠 적재 실패. 기존 휠을 유지합니다.", e);
+        }
+    }
+
+    /**
+     * 타이밍 휠을 현재 시각까지 진행하고, 시각이 지난 물건의 파생 상태를 바꿉니다.
+     * (스케줄러 풀이 작업 수만큼 있으므로 배치/세대 폴링이 스레드를 잡고 있어도 밀리지 않음)
+     */
+    @Scheduled(fixedRateString = "${deadlines.tick-millis:1000}")
+    public void tick() {
+        List<String> started = new ArrayList<>();
+        List<String> closed = new ArrayList<>();
+        synchronized (this) {
+            wheel.advance(System.currentTimeMillis(), deadline -> {
+                String cltrNo = deadline.key().cltrNo();
+                if (deadline.close()) {
+                    derivedStatuses.put(cltrNo, STATUS_CLOSED);
+                    closing.remove(deadline.key());
+                    closed.add(cltrNo);
+                } else if (!STATUS_CLOSED.equals(derivedStatuses.get(cltrNo))) {
+                    derivedStatuses.put(cltrNo, STATUS_BIDDING);
+                    started.add(cltrNo);
+                }
+            });
+        }
+        if (!started.isEmpty() || !closed.isEmpty()) {
+            log.debug("입찰 시각 경과 - 시작 {}건, 마감 {}건", started.size(), closed.size());
+            eventPublisher.publishEvent(AuctionDeadlineEvent.builder()
+                    .startedCltrNos(started)
+                    .closedCltrNos(closed)
+                    .build());
+        }
+    }
+
+    /**
+     * 입찰 시작/마감 시각을 반영한 물건상태를 반환합니다.
+     *
+     * @param cltrNo   물건번호
+     * @param dbStatus DB에 저장된 최신 물건상태
+     * @return 시각이 지나 바뀐 상태가 있으면 그 상태, 없으면 dbStatus
+     */
+    public String derivedStatus(String cltrNo, String dbStatus) {
+        String derived = derivedStatuses.get(cltrNo);
+        return derived != null ? derived : dbStatus;
+    }
+
+    /**
+     * 마감이 임박한 물건을 마감 시각 순으로 조회합니다.
+     *
+     * @param withinHours 지금부터 몇 시간 안에 마감되는 물건까지 포함할지
+     * @param size        최대 개수
+     * @return 마감 시각 오름차순의 물건 목록
+     */
+    public List<ClosingSoonItemDTO> getClosingSoon(int withinHours, int size) {
+        long now = System.currentTimeMillis();
+        long until = now + withinHours * 3_600_000L;
+        List<ClosingSoonItemDTO> result = new ArrayList<>(Math.min(size, 100));
+        // 휠이 다음 tick에 꺼낼 물건도 이미 마감된 것으로 보고 제외
+        for (Map.Entry<ClosingKey, DeadlineItemDTO> entry
+                : closing.tailMap(new ClosingKey(now + 1, ""), true).entrySet()) {
+            if (entry.getKey().closeAt() > until || result.size() >= size) {
+                break;
+            }
+            DeadlineItemDTO item = entry.getValue();
+            result.add(ClosingSoonItemDTO.builder()
+                    .cltrNo(item.getCltrNo())
+                    .cltrNm(item.getCltrNm())
+                    .ctgrFullNm(item.getCtgrFullNm())
+                    .clnLdnmAdrs(item.getClnLdnmAdrs())
+                    .minBidPrc(item.getMinBidPrc())
+                    .pbctBegnDtm(item.getPbctBegnDtm())
+                    .pbctClsDtm(item.getPbctClsDtm())
+                    .pbctCltrStatNm(derivedStatus(item.getCltrNo(), item.getPbctCltrStatNm()))
+                    .remainingSeconds((entry.getKey().closeAt() - now) / 1000)
+                    .build());
+        }
+        return result;
+    }
+
+    private long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(zone).toInstant().toEpochMilli();
+    }
+
+    private record ClosingKey(long closeAt, String cltrNo) implements Comparable<ClosingKey> {
+        @Override
+        public int compareTo(ClosingKey other) {
+            int byTime = Long.compare(closeAt, other.closeAt);
+            return byTime != 0 ? byTime : cltrNo.compareTo(other.cltrNo);
+        }
+    }
+
+    private record Deadline(ClosingKey key, boolean close) {
+    }
+}
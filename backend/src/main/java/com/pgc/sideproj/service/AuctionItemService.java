@@ -8,22 +8,30 @@ import com.pgc.sideproj.dto.onbid.OnbidFileInfoResponseDTO;
 import com.pgc.sideproj.dto.response.AuctionItemDetailDTO;
 import com.pgc.sideproj.dto.response.AuctionItemSummaryDTO;
 import com.pgc.sideproj.dto.response.BasicInfoResponseDTO;
+import com.pgc.sideproj.dto.response.ItemChangeDTO;
+import com.pgc.sideproj.dto.response.ItemChangesResponseDTO;
 import com.pgc.sideproj.dto.response.PageResponseDTO;
 import com.pgc.sideproj.exception.custom.ResourceNotFoundException;
 import com.pgc.sideproj.mapper.AuctionItemMapper;
+import com.pgc.sideproj.util.ItemFields;
+import com.pgc.sideproj.util.SearchPercolator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 /**
  * 공매 물건 조회 관련 비즈니스 로직을 처리하는 서비스입니다.
  * 
  * <p>공매 물건 목록 조회 및 상세 정보 조회 기능을 제공합니다.
  * 목록 조회는 Full-Text Search(FTS)를 지원하며 페이지네이션이 적용됩니다.
+ * 인메모리 읽기 모델({@link ItemReadModelService})이 준비된 뒤에는 목록 조회를 DB 없이 처리합니다.
+ * 외부 미러/모바일 클라이언트를 위해 데이터 세대 기준 변경분 동기화를 제공합니다.
  * 상세 정보 조회 시 온비드 API를 호출하여 추가 정보를 가져옵니다.
  * 
  * @author sideproj
@@ -35,34 +43,60 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class AuctionItemService {
 
+    private static final String CHANGE_CREATED = "CREATED";
+    private static final String CHANGE_UPDATED = "UPDATED";
+
     private final AuctionItemMapper auctionItemMapper;
    private final OnbidApiService onbidApiService;
+    private final AuctionDeadlineService auctionDeadlineService;
+    private final ItemReadModelService itemReadModelService;
+    private final DataGenerationService dataGenerationService;
 
     /**
      * FTS 검색 및 페이지네이션을 적용하여 물건 목록을 조회합니다.
      *
-     * @param keyword 검색어 (FTS 대상)
+     * <p>DB에서 조회할 때는 fields에 있는 컬럼만 읽습니다. (읽기 모델은 메모리의 값을 그대로 채우며,
+     * 응답에서 빠지는 필드는 컨트롤러의 JSON 필터가 거릅니다.)
+     *
+     * @param keyword 검색어 (토큰마다 물건명/정제 주소 단어의 접두어, 읽기 모델과 같은 규칙)
      * @param page    현재 페이지 (1부터 시작)
      * @param size    페이지 크기
+     * @param fields  응답 필드 ({@link ItemFields#parse(String)})
      * @return 페이지네이션 결과 DTO (PageResponseDTO)
      */
-    public PageResponseDTO<AuctionItemSummaryDTO> getItems(String keyword, String region, int page, int size) {
+    public PageResponseDTO<AuctionItemSummaryDTO> getItems(String keyword, String region, int page, int size,
+                                                           Set<String> fields) {
         log.info("물건 검색 중 - 검색어: {}, 지역: {}, 페이지: {}, 크기: {}",
                 keyword, region, page, size);
 
+        // 읽기 모델이 준비되어 있으면 DB를 조회하지 않음
+        if (itemReadModelService.isReady()) {
+            return itemReadModelService.getItems(keyword, region, page, size);
+        }
+
         try {
             // 1. offset 계산
             int offset = (page - 1) * size;
+            // 읽기 모델과 같은 토큰으로 나눠 토큰마다 접두어 조건을 거는 불린 질의
+            String fullTextQuery = SearchPercolator.toFullTextQuery(keyword);
 
             // 2. DB에서 총 개수 조회 (FTS 검색어, region 포함)
-            int totalCount = auctionItemMapper.countItems(keyword, region);
+            int totalCount = auctionItemMapper.countItems(fullTextQuery, region);
 
             if (totalCount == 0) {
                 log.warn("검색 결과 없음 - 검색어: {}, 지역: {}", keyword, region);
             }
 
             // 3. DB에서 데이터 목록 조회 (FTS 검색어, region, 페이지네이션 포함)
-            List<AuctionItemSummaryDTO> items = auctionItemMapper.findItems(keyword, region, offset, size);
+            List<AuctionItemSummaryDTO> items = auctionItemMapper.findItems(
+                    fullTextQuery, region, offset, size, fields, ItemFields.needsHistory(fields));
+
+            // 배치 이후 입찰 시작/마감 시각이 지난 물건은 파생 상태로 표시
+            if (fields.contains(ItemFields.PBCT_CLTR_STAT_NM)) {
+                for (AuctionItemSummaryDTO item : items) {
+                    item.setPbctCltrStatNm(auctionDeadlineService.derivedStatus(item.getCltrNo(), item.getPbctCltrStatNm()));
+                }
+            }
 
             log.debug("총 {}개 중 {}개 항목 조회됨", totalCount, items.size());
 
@@ -75,6 +109,51 @@ public class AuctionItemService {
         }
     }
 
+    /**
+     * since 세대 이후 새로 들어오거나 값이 바뀐 물건을 키셋 페이지로 조회합니다.
+     *
+     * <p>첫 페이지에서 현재 데이터 세대를 기준(generation)으로 정해 커서에 담으므로,
+     * 페이지를 넘기는 도중 배치가 끝나도 같은 기준으로 잘린 결과를 끝까지 받습니다.
+     * 진행 중인 배치가 기록한 다음 세대의 변경은 세대가 올라간 뒤의 동기화에서 내려갑니다.
+     *
+     * @param since  이전 동기화 응답의 generation (최초 동기화는 null로 전체 조회)
+     * @param size   페이지 크기
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @return 변경 물건 페이지와 기준 세대
+     */
+    public ItemChangesResponseDTO getChanges(Long since, int size, String cursor) {
+        long upTo;
+        Long cursorGeneration = null;
+        String cursorCltrNo = null;
+        if (cursor != null) {
+            String[] parts = cursor.split("_", 3);
+            upTo = Long.parseLong(parts[0]);
+            cursorGeneration = Long.parseLong(parts[1]);
+            cursorCltrNo = parts[2];
+        } else {
+            upTo = dataGenerationService.currentGeneration();
+        }
+        if (since != null && since >= upTo) {
+            return new ItemChangesResponseDTO(new ArrayList<>(), upTo, null);
+        }
+
+        List<ItemChangeDTO> rows = auctionItemMapper.findChangedItems(since, upTo, cursorGeneration, cursorCltrNo, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<ItemChangeDTO> page = hasNext ? rows.subList(0, size) : rows;
+        for (ItemChangeDTO item : page) {
+            boolean created = since == null || item.getCreatedGeneration() > since;
+            item.setChangeType(created ? CHANGE_CREATED : CHANGE_UPDATED);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            ItemChangeDTO last = page.get(page.size() - 1);
+            nextCursor = upTo + "_" + last.getChangeGeneration() + "_" + last.getCltrNo();
+        }
+        log.debug("변경분 조회 - since: {}, 기준 세대: {}, {}건", since, upTo, page.size());
+        return new ItemChangesResponseDTO(new ArrayList<>(page), upTo, nextCursor);
+    }
+
     /**
      * 공매 물건의 상세 정보를 조회합니다.
      * 
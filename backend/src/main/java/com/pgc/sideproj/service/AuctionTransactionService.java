@@ -34,15 +34,16 @@ public class AuctionTransactionService {
      * 
      * <p>페이지 단위로 여러 항목을 처리하며, 하나의 항목이라도 실패하면 전체 트랜잭션이 롤백됩니다.
      * 
-     * @param items 처리할 공매 물건 목록
+     * @param items            처리할 공매 물건 목록
+     * @param changeGeneration 값이 바뀐 행에 기록할 데이터 세대
      * @throws RuntimeException 항목 처리 중 오류가 발생한 경우
      */
     @Transactional
-    public void processPageItems(List<OnbidItemDTO> items) {
+    public void processPageItems(List<OnbidItemDTO> items, long changeGeneration) {
         log.info("{}개 항목의 트랜잭션을 시작합니다.", items.size());
 
         for (OnbidItemDTO item : items) {
-            processItem(item);
+            processItem(item, changeGeneration);
         }
         
         log.info("{}개 항목의 트랜잭션을 커밋합니다.", items.size());
@@ -53,18 +54,18 @@ public class AuctionTransactionService {
      * 
      * <p>데이터 정제, 지오코딩, 데이터베이스 저장을 수행합니다.
      * 
-     * @param item 처리할 공매 물건 DTO
+     * @param item             처리할 공매 물건 DTO
+     * @param changeGeneration 값이 바뀐 행에 기록할 데이터 세대
      * @throws RuntimeException 항목 처리 중 오류가 발생한 경우
      */
-    private void processItem(OnbidItemDTO item) {
+    private void processItem(OnbidItemDTO item, long changeGeneration) {
         try {
             AuctionMasterDTO master = dataCleansingService.createMasterFrom(item);
             AuctionHistoryDTO history = dataCleansingService.createHistoryFrom(item);
 
             processGeocoding(master);
 
-            auctionItemMapper.upsertMaster(master);
-            auctionItemMapper.upsertHistory(history);
+            saveItem(master, history, changeGeneration);
 
         } catch (Exception e) {
             log.error("아이템(cltrNo:{}) 처리 중 오류 발생. 이 페이지의 트랜잭션을 롤백합니다.", item.getCltrNo(), e);
@@ -107,14 +108,21 @@ public class AuctionTransactionService {
      * <p>배치 작업에서 개별 항목 단위로 처리할 때 사용됩니다.
      * 하나의 항목 실패가 다른 항목에 영향을 주지 않도록 독립적인 트랜잭션으로 처리합니다.
      * 
-     * @param item 처리할 공매 물건 DTO
+     * @param item             처리할 공매 물건 DTO
+     * @param changeGeneration 값이 바뀐 행에 기록할 데이터 세대 (변경분 동기화용)
      */
     @Transactional
-    public void processSingleItem(OnbidItemDTO item) {
+    public void processSingleItem(OnbidItemDTO item, long changeGeneration) {
         AuctionMasterDTO master = dataCleansingService.createMasterFrom(item);
         AuctionHistoryDTO history = dataCleansingService.createHistoryFrom(item);
         processGeocoding(master);
-        auctionItemMapper.upsertMaster(master);
-        auctionItemMapper.upsertHistory(history);
+        saveItem(master, history, changeGeneration);
+    }
+
+    // 값이 바뀐 마스터/이력에만 세대를 기록하고, 이력만 바뀐 경우에도 물건 단위로 변경 표시
+    private void saveItem(AuctionMasterDTO master, AuctionHistoryDTO history, long changeGeneration) {
+        auctionItemMapper.upsertMaster(master, changeGeneration);
+        auctionItemMapper.upsertHistory(history, changeGeneration);
+        auctionItemMapper.markChangedByHistory(master.getCltrNo(), changeGeneration);
     }
 }
\ No newline at end of file
@@ -0,0 +1,72 @@
+package com.pgc.sideproj.service;
+
+import com.pgc.sideproj.dto.response.AuthMetricsDTO;
+import com.pgc.sideproj.util.QuantileSketch;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 비밀번호 해싱 소요 시간과 거부된 인증 시도 수를 모으는 지표 저장소입니다.
+ *
+ * <p>해싱 시간은 상대 오차 1%의 {@link QuantileSketch}에 누적합니다.
+ * 해싱 자체가 수십 ms 걸리므로 스케치 갱신을 잠금으로 보호해도 부담이 없습니다.
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+@Component
+public class AuthMetrics {
+
+    private final QuantileSketch hashLatencyMs = new QuantileSketch();
+    private final AtomicLong hashRejected = new AtomicLong();
+    private final AtomicLong hashTimeouts = new AtomicLong();
+    private final AtomicLong ipRateLimited = new AtomicLong();
+    private final AtomicLong emailRateLimited = new AtomicLong();
+
+    public void recordHash(long elapsedNanos) {
+        synchronized (hashLatencyMs) {
+            hashLatencyMs.add(elapsedNanos / 1_000_000d);
+        }
+    }
+
+    public void recordHashRejected() {
+        hashRejected.incrementAndGet();
+    }
+
+    public void recordHashTimeout() {
+        hashTimeouts.incrementAndGet();
+    }
+
+    public void recordIpRateLimited() {
+        ipRateLimited.incrementAndGet();
+    }
+
+    public void recordEmailRateLimited() {
+        emailRateLimited.incrementAndGet();
+    }
+
+    /**
+     * 누적 지표와 해싱 실행기의 현재 상태를 반환합니다.
+     *
+     * @param hashActive 실행 중인 해싱 작업 수
+     * @param hashQueued 대기 중인 해싱 작업 수
+     */
+    public AuthMetricsDTO snapshot(int hashActive, int hashQueued) {
+        synchronized (hashLatencyMs) {
+            boolean empty = hashLatencyMs.count() == 0;
+            return AuthMetricsDTO.builder()
+                    .hashCount(hashLatencyMs.count())
+                    .hashLatencyP50Ms(empty ? null : hashLatencyMs.quantile(0.5))
+                    .hashLatencyP99Ms(empty ? null : hashLatencyMs.quantile(0.99))
+                    .hashLatencyMaxMs(empty ? null : hashLatencyMs.max())
+                    .hashRejected(hashRejected.get())
+                    .hashTimeouts(hashTimeouts.get())
+                    .ipRateLimited(ipRateLimited.get())
+                    .emailRateLimited(emailRateLimited.get())
+                    .hashActive(hashActive)
+                    .hashQueued(hashQueued)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.pgc.sideproj.service;
+
+import com.pgc.sideproj.event.DataGenerationChangedEvent;
+import com.pgc.sideproj.mapper.DataGenerationMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 인스턴스 간 로컬 캐시 무효화를 위한 데이터 세대(data_generation)를 관리하는 서비스입니다.
+ *
+ * <p>배치를 실행한 인스턴스는 데이터 커밋과 후속 집계를 마친 뒤 {@link #bump()}로 세대를 올리고,
+ * 모든 인스턴스는 poll-millis 간격으로 세대 행(PK 한 건)을 읽어 값이 바뀌면
+ * {@link DataGenerationChangedEvent}를 발행합니다. 메시지 브로커 없이 DB만으로 동작합니다.
+ *
+ * <p>세대를 올린 인스턴스는 폴링을 기다리지 않고 바로 이벤트를 발행합니다.
+ * 세대 증가가 DB 오류로 실패하면 버리지 않고 다음 폴링마다 다시 시도하므로,
+ * DB가 복구되면 다른 인스턴스도 다음 배치를 기다리지 않고 캐시를 갱신합니다.
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class DataGenerationService {
+
+    private final DataGenerationMapper dataGenerationMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 마지막으로 반영한 세대 (시작 시 읽기 전이면 null)
+    private Long lastSeen;
+
+    // 실패해서 다음 폴링에서 다시 올려야 하는 세대 증가가 있는지 여부
+    private boolean bumpPending;
+
+    public DataGenerationService(DataGenerationMapper dataGenerationMapper,
+                                 ApplicationEventPublisher eventPublisher) {
+        this.dataGenerationMapper = dataGenerationMapper;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 시작 시 현재 세대를 기준으로 잡습니다. (시작 시 적재는 각 서비스가 ApplicationReadyEvent로 처리)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void onApplicationReady() {
+        try {
+            lastSeen = dataGenerationMapper.selectGeneration();
+            log.info("데이터 세대 확인 - {}", lastSeen);
+        } catch (Exception e) {
+            log.error("데이터 세대 조회 실패. 다음 폴링에서 다시 확인합니다.", e);
+        }
+    }
+
+    /**
+     * DB에 기록된 현재 데이터 세대를 조회합니다. (행이 없으면 0)
+     */
+    public long currentGeneration() {
+        Long generation = dataGenerationMapper.selectGeneration();
+        return generation != null ? generation : 0L;
+    }
+
+    /**
+     * 다음 {@link #bump()}가 올릴 세대를 조회합니다. 배치는 값이 바뀐 행에 이 세대를 기록합니다.
+     */
+    public long nextGeneration() {
+        return currentGeneration() + 1;
+    }
+
+    /**
+     * 데이터 세대를 올리고 이 인스턴스의 캐시를 바로 갱신합니다.
+     * DB 갱신에 실패해도 이 인스턴스의 캐시는 갱신하고(세대 -1), 세대 증가는 다음 폴링에서 다시 시도합니다.
+     */
+    public void bump() {
+        long generation;
+        try {
+            generation = increment();
+        } catch (Exception e) {
+            synchronized (this) {
+                bumpPending = true;
+            }
+            log.error("데이터 세대 증가 실패. 이 인스턴스의 캐시만 갱신하고 다음 폴링에서 다시 시도합니다.", e);
+            generation = -1;
+        }
+        log.info("데이터 세대 증가 - {}", generation);
+        publish(generation);
+    }
+
+    /**
+     * 세대가 바뀌었는지 확인하고, 바뀌었으면 이벤트를 발행합니다.
+     * 실패했던 세대 증가가 있으면 먼저 다시 시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${data-generation.poll-millis:5000}",
+            initialDelayString = "${data-generation.poll-millis:5000}")
+    public void poll() {
+        if (isBumpPending()) {
+            retryBump();
+            return;
+        }
+
+        Long generation;
+        try {
+            generation = dataGenerationMapper.selectGeneration();
+        } catch (Exception e) {
+            log.warn("데이터 세대 폴링 실패 - {}", e.getMessage());
+            return;
+        }
+        if (generation == null) {
+            return;
+        }
+        synchronized (this) {
+            // 시작 시 조회에 실패했던 경우(null)는 그 사이 바뀐 데이터가 있을 수 있으므로 한 번 갱신
+            if (generation.equals(lastSeen)) {
+                return;
+            }
+            lastSeen = generation;
+        }
+        log.info("다른 인스턴스의 데이터 세대 변경 감지 - {}", generation);
+        publish(generation);
+    }
+
+    private synchronized boolean isBumpPending() {
+        return bumpPending;
+    }
+
+    // 실패한 세대 증가를 다시 시도 (성공하면 이 인스턴스도 실제 세대로 한 번 더 갱신)
+    private void retryBump() {
+        long generation;
+        try {
+            generation = increment();
+        } catch (Exception e) {
+            log.warn("데이터 세대 증가 재시도 실패 - {}", e.getMessage());
+            return;
+        }
+        log.info("데이터 세대 증가 재시도 성공 - {}", generation);
+        publish(generation);
+    }
+
+    private synchronized long increment() {
+        if (dataGenerationMapper.incrementGeneration() == 0) {
+            dataGenerationMapper.insertInitialGeneration();
+        }
+        long generation = dataGenerationMapper.selectGeneration();
+        lastSeen = generation;
+        bumpPending = false;
+        return generation;
+    }
+
+    private void publish(long generation) {
+        eventPublisher.publishEvent(DataGenerationChangedEvent.builder()
+                .generation(generation)
+                .build());
+    }
+}
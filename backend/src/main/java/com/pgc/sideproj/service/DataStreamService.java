@@ -0,0 +1,197 @@
+package com.pgc.sideproj.service;
+
+import com.pgc.sideproj.dto.response.DataStreamEventDTO;
+import com.pgc.sideproj.event.AuctionDeadlineEvent;
+import com.pgc.sideproj.event.DataGenerationChangedEvent;
+import com.pgc.sideproj.event.StatisticsRefreshedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import reactor.core.Exceptions;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 데이터 변경 이벤트(배치 완료, 통계 갱신, 관심 물건 상태 변경)를 SSE로 전달하는 서비스입니다.
+ *
+ * <p>모든 구독자는 하나의 Reactor 멀티캐스트 싱크를 공유하며, 연결마다 스레드를 잡지 않으므로
+ * 유휴 연결이 많아도 비용은 구독자별 작은 버퍼뿐입니다.
+ * 구독자마다 buffer-size개까지 쌓아 두고, 소켓 쓰기가 밀려 버퍼가 넘치면 그 연결만 끊습니다.
+ * (다른 구독자와 이벤트 발행 스레드는 느린 구독자를 기다리지 않으며, 클라이언트는 EventSource 재연결 후
+ * 변경분 동기화 API로 놓친 변경을 따라잡습니다.)
+ *
+ * <p>배치 완료/통계 갱신은 데이터 세대 변경을 감지한 인스턴스마다 발행되므로 어느 인스턴스에 연결해도 받습니다.
+ * 물건 상태 변경은 구독 시 지정한 물건과 로그인한 사용자의 찜 물건만 보냅니다.
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class DataStreamService {
+
+    static final String EVENT_BATCH_COMPLETED = "batch-completed";
+    static final String EVENT_STATISTICS_REFRESHED = "statistics-refreshed";
+    static final String EVENT_ITEMS_CHANGED = "items-changed";
+
+    // 프록시가 유휴 연결을 끊지 않도록 보내는 주석 간격
+    private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(25);
+
+    private final SavedFlagService savedFlagService;
+    private final int bufferSize;
+    private final Duration connectionTimeout;
+
+    // 구독자가 없거나 요청이 없는 구독자에게는 버리고, 발행 스레드는 막지 않음
+    private final Sinks.Many<Signal> sink = Sinks.many().multicast().directBestEffort();
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final AtomicLong evicted = new AtomicLong();
+
+    public DataStreamService(SavedFlagService savedFlagService,
+                             @Value("${data-stream.buffer-size:64}") int bufferSize,
+                             @Value("${data-stream.timeout-millis:1800000}") long timeoutMillis) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("data-stream.buffer-size는 1 이상이어야 합니다.");
+        }
+        this.savedFlagService = savedFlagService;
+        this.bufferSize = bufferSize;
+        this.connectionTimeout = Duration.ofMillis(timeoutMillis);
+    }
+
+    /**
+     * 데이터 변경 스트림을 엽니다.
+     *
+     * @param userId  로그인한 사용자 ID (비로그인이면 null, 찜 물건의 상태 변경 포함 여부)
+     * @param cltrNos 상태 변경을 받을 물건번호 (없으면 빈 집합)
+     * @return SSE 이벤트 스트림 (timeout-millis가 지나거나 버퍼가 넘치면 정상 종료)
+     */
+    public Flux<ServerSentEvent<DataStreamEventDTO>> subscribe(Long userId, Set<String> cltrNos) {
+        Supplier<Predicate<String>> interest = interestOf(userId, cltrNos);
+        Flux<Signal> heartbeats = Flux.interval(HEARTBEAT_INTERVAL).map(tick -> Signal.HEARTBEAT);
+
+        return Flux.merge(sink.asFlux(), heartbeats)
+                // 버퍼 이후의 변환/쓰기는 구독자의 요청 스레드에서 수행되므로 발행 스레드는 버퍼에 넣기만 함
+                .onBackpressureBuffer(bufferSize, dropped -> { }, BufferOverflowStrategy.ERROR)
+                .mapNotNull(signal -> toServerSentEvent(signal, interest))
+                .onErrorResume(Exceptions::isOverflow, e -> {
+                    evicted.incrementAndGet();
+                    log.debug("데이터 변경 스트림 구독자 버퍼 초과로 연결 종료");
+                    return Flux.empty();
+                })
+                .take(connectionTimeout)
+                .startWith(ServerSentEvent.<DataStreamEventDTO>builder().comment("connected").build())
+                .doOnSubscribe(subscription -> subscribers.incrementAndGet())
+                .doFinally(signalType -> subscribers.decrementAndGet());
+    }
+
+    /**
+     * 현재 연결된 구독자 수
+     */
+    public int getSubscriberCount() {
+        return subscribers.get();
+    }
+
+    /**
+     * 버퍼 초과로 끊은 누적 구독자 수
+     */
+    public long getEvictedCount() {
+        return evicted.get();
+    }
+
+    @EventListener
+    public void onDataGenerationChanged(DataGenerationChangedEvent event) {
+        // DB 조회에 실패해 로컬에서만 발행한 세대(-1)는 클라이언트가 since로 쓸 수 없으므로 보내지 않음
+        if (event.getGeneration() >= 0) {
+            publish(new Signal(EVENT_BATCH_COMPLETED, event.getGeneration(), List.of(), List.of()));
+        }
+    }
+
+    @EventListener
+    public void onStatisticsRefreshed(StatisticsRefreshedEvent event) {
+        if (event.getGeneration() >= 0) {
+            publish(new Signal(EVENT_STATISTICS_REFRESHED, event.getGeneration(), List.of(), List.of()));
+        }
+    }
+
+    @EventListener
+    public void onAuctionDeadline(AuctionDeadlineEvent event) {
+        publish(new Signal(EVENT_ITEMS_CHANGED, null, event.getStartedCltrNos(), event.getClosedCltrNos()));
+    }
+
+    // 여러 스레드(폴러, 타이밍 휠)에서 호출되므로 싱크 발행을 직렬화
+    private synchronized void publish(Signal signal) {
+        if (subscribers.get() == 0) {
+            return;
+        }
+        Sinks.EmitResult result = sink.tryEmitNext(signal);
+        if (result.isFailure() && result != Sinks.EmitResult.FAIL_ZERO_SUBSCRIBER) {
+            log.warn("데이터 변경 이벤트 발행 실패 - {}: {}", signal.name(), result);
+        }
+    }
+
+    // 이벤트마다 한 번 찜 집합을 읽음 (캐시에서 읽으며 찜 추가/취소도 바로 반영됨)
+    private Supplier<Predicate<String>> interestOf(Long userId, Set<String> cltrNos) {
+        if (userId == null) {
+            return () -> cltrNos::contains;
+        }
+        return () -> {
+            SavedFlagService.SavedFlags saved = savedFlagService.flagsOf(userId);
+            return cltrNo -> cltrNos.contains(cltrNo) || saved.contains(cltrNo);
+        };
+    }
+
+    private static ServerSentEvent<DataStreamEventDTO> toServerSentEvent(Signal signal,
+                                                                          Supplier<Predicate<String>> interest) {
+        if (signal == Signal.HEARTBEAT) {
+            return ServerSentEvent.<DataStreamEventDTO>builder().comment("heartbeat").build();
+        }
+        if (!EVENT_ITEMS_CHANGED.equals(signal.name())) {
+            return ServerSentEvent.<DataStreamEventDTO>builder()
+                    .event(signal.name())
+                    .data(DataStreamEventDTO.builder().generation(signal.generation()).build())
+                    .build();
+        }
+
+        Predicate<String> interested = interest.get();
+        List<String> started = filter(signal.startedCltrNos(), interested);
+        List<String> closed = filter(signal.closedCltrNos(), interested);
+        if (started.isEmpty() && closed.isEmpty()) {
+            return null;
+        }
+        return ServerSentEvent.<DataStreamEventDTO>builder()
+                .event(EVENT_ITEMS_CHANGED)
+                .data(DataStreamEventDTO.builder()
+                        .startedCltrNos(started.isEmpty() ? null : started)
+                        .closedCltrNos(closed.isEmpty() ? null : closed)
+                        .build())
+                .build();
+    }
+
+    private static List<String> filter(List<String> cltrNos, Predicate<String> interested) {
+        if (cltrNos == null || cltrNos.isEmpty()) {
+            return List.of();
+        }
+        List<String> result = new ArrayList<>();
+        for (String cltrNo : cltrNos) {
+            if (interested.test(cltrNo)) {
+                result.add(cltrNo);
+            }
+        }
+        return result;
+    }
+
+    private record Signal(String name, Long generation, List<String> startedCltrNos, List<String> closedCltrNos) {
+        static final Signal HEARTBEAT = new Signal("heartbeat", null, List.of(), List.of());
+    }
+}
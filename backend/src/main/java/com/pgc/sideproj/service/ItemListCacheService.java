@@ -0,0 +1,283 @@
+package com.pgc.sideproj.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.pgc.sideproj.dto.response.AuctionItemSummaryDTO;
+import com.pgc.sideproj.dto.response.PageResponseDTO;
+import com.pgc.sideproj.event.AuctionDeadlineEvent;
+import com.pgc.sideproj.event.DataGenerationChangedEvent;
+import com.pgc.sideproj.event.ItemReadModelRefreshedEvent;
+import com.pgc.sideproj.util.ItemFields;
+import com.pgc.sideproj.util.OffHeapResponseCache;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.ServletResponseWrapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.connector.CoyoteOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 물건 목록 응답을 직렬화 + gzip 압축한 바이트로 캐시하는 서비스입니다.
+ *
+ * <p>목록 트래픽 대부분은 검색어 없이 지역만 고른 소수의 (검색어, 지역, 페이지, 크기, 필드) 조합이므로,
+ * 같은 조합의 응답은 한 번만 만들어 {@link OffHeapResponseCache}(힙 밖 direct buffer)에 두고
+ * 다음 요청부터는 조회/직렬화/압축 없이 버퍼를 그대로 소켓에 씁니다.
+ * gzip을 받지 않는 클라이언트에게는 캐시된 바이트를 풀어서 보냅니다.
+ *
+ * <p>캐시는 데이터 세대 변경, 읽기 모델 교체 때 모두 비웁니다. 입찰 시작/마감(파생 상태 변경)은 휠이 1초마다
+ * 발행하므로 그때마다 비우면 캐시가 의미 없어져, {@code item-list-cache.deadline-invalidate-seconds} 간격에
+ * 한 번만 비웁니다. (그동안 목록의 물건상태는 최대 그만큼 늦게 바뀜)
+ * 찜 여부가 사용자마다 다른 응답과 JSON이 아닌 응답(CBOR/Smile/XML)은 캐시하지 않습니다.
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+@Service
+public class ItemListCacheService {
+
+    private static final int BLOCK_SIZE = 4096;
+    private static final String GZIP = "gzip";
+    private static final List<MediaType> ENCODABLE_TYPES = List.of(
+            MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR,
+            MediaType.valueOf("application/x-jackson-smile"), MediaType.APPLICATION_XML);
+
+    private final ObjectMapper objectMapper;
+    private final OffHeapResponseCache cache;
+    private final boolean enabled;
+    private final long deadlineInvalidateNanos;
+
+    // 아직 반영하지 않은 입찰 시작/마감이 있는지, 마지막으로 그 때문에 비운 시각
+    private final AtomicBoolean deadlinePending = new AtomicBoolean();
+    private volatile long lastDeadlineInvalidation;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public ItemListCacheService(ObjectMapper objectMapper,
+                                @Value("${item-list-cache.capacity-mb:32}") int capacityMb,
+                                @Value("${item-list-cache.deadline-invalidate-seconds:10}") int deadlineInvalidateSeconds) {
+        if (capacityMb < 0 || capacityMb > 1024) {
+            throw new IllegalArgumentException("item-list-cache.capacity-mb는 0(사용 안 함) ~ 1024여야 합니다.");
+        }
+        if (deadlineInvalidateSeconds < 0) {
+            throw new IllegalArgumentException("item-list-cache.deadline-invalidate-seconds는 0 이상이어야 합니다.");
+        }
+        this.objectMapper = objectMapper;
+        this.cache = new OffHeapResponseCache(capacityMb * 1024 * 1024, BLOCK_SIZE);
+        this.enabled = capacityMb > 0;
+        this.deadlineInvalidateNanos = TimeUnit.SECONDS.toNanos(deadlineInvalidateSeconds);
+        this.lastDeadlineInvalidation = System.nanoTime() - deadlineInvalidateNanos;
+    }
+
+    @EventListener
+    public void onDataGenerationChanged(DataGenerationChangedEvent event) {
+        cache.invalidate();
+    }
+
+    @EventListener
+    public void onItemReadModelRefreshed(ItemReadModelRefreshedEvent event) {
+        // 세대 변경 후 읽기 모델을 다시 만드는 동안에는 옛 모델로 응답하므로, 교체된 뒤 한 번 더 비움
+        cache.invalidate();
+    }
+
+    @EventListener
+    public void onAuctionDeadline(AuctionDeadlineEvent event) {
+        deadlinePending.set(true);
+        invalidateDeadlinesIfDue();
+    }
+
+    // 간격이 지났을 때만 비우고, 아직이면 다음 이벤트나 요청에서 다시 확인
+    private void invalidateDeadlinesIfDue() {
+        if (deadlinePending.get()
+                && System.nanoTime() - lastDeadlineInvalidation >= deadlineInvalidateNanos
+                && deadlinePending.compareAndSet(true, false)) {
+            lastDeadlineInvalidation = System.nanoTime();
+            cache.invalidate();
+        }
+    }
+
+    /**
+     * 캐시로 응답할 요청인지 확인합니다. (캐시가 켜져 있고, Accept 헤더로 보아 JSON으로 응답할 요청)
+     */
+    public boolean isCacheable(HttpServletRequest request) {
+        if (!enabled) {
+            return false;
+        }
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        try {
+            List<MediaType> accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+            MimeTypeUtils.sortBySpecificity(accepted);
+            // 메시지 컨버터가 고를 첫 번째 인코딩이 JSON인지 확인 (*/*는 JSON 컨버터가 먼저 받음)
+            for (MediaType type : accepted) {
+                if (type.getQualityValue() == 0) {
+                    continue;
+                }
+                for (MediaType encodable : ENCODABLE_TYPES) {
+                    if (type.isCompatibleWith(encodable)) {
+                        return type.includes(MediaType.APPLICATION_JSON);
+                    }
+                }
+            }
+            return false;
+        } catch (IllegalArgumentException e) {
+            // 잘못된 Accept는 컨버터 쪽에서 처리
+            return false;
+        }
+    }
+
+    /**
+     * 물건 목록 응답을 캐시에서 쓰거나, 없으면 만들어 캐시에 넣고 씁니다.
+     *
+     * @param keyword  검색어
+     * @param region   지역
+     * @param page     현재 페이지
+     * @param size     페이지 크기
+     * @param fields   응답 필드 ({@link ItemFields#parse(String)})
+     * @param loader   캐시에 없을 때 목록을 조회하는 함수
+     * @param request  HTTP 요청 (Accept-Encoding 확인)
+     * @param response HTTP 응답 (본문까지 이 메서드에서 씀)
+     */
+    public void writeItems(String keyword, String region, int page, int size, Set<String> fields,
+                           Supplier<PageResponseDTO<AuctionItemSummaryDTO>> loader,
+                           HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String key = keyword + '\u0000' + region + '\u0000' + page + '\u0000' + size + '\u0000' + String.join(",", fields);
+        boolean gzip = acceptsGzip(request);
+        // 마감 이벤트가 끊겨도 밀린 무효화가 간격 안에 반영되도록 요청 때도 확인
+        invalidateDeadlinesIfDue();
+
+        try (OffHeapResponseCache.Hit hit = cache.get(key)) {
+            if (hit != null) {
+                hits.incrementAndGet();
+                if (gzip) {
+                    writeHeaders(response, hit.length());
+                    writeBuffers(response, hit.buffers());
+                } else {
+                    writePlain(response, gunzip(hit.toByteArray()));
+                }
+                return;
+            }
+        }
+
+        misses.incrementAndGet();
+        // 조회 전에 읽은 세대로 저장하므로, 조회 도중 무효화되면 이 응답은 캐시에 남지 않음
+        long generation = cache.generation();
+        byte[] json = writerFor(fields).writeValueAsBytes(loader.get());
+        byte[] compressed = gzip(json);
+        cache.put(key, generation, compressed);
+
+        if (gzip) {
+            writeHeaders(response, compressed.length);
+            writeBuffers(response, List.of(ByteBuffer.wrap(compressed)));
+        } else {
+            writePlain(response, json);
+        }
+    }
+
+    /**
+     * 캐시 적중 수
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * 캐시 미스 수
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * 캐시에 보관 중인 응답 바이트 합계 (압축 후)
+     */
+    public long getUsedBytes() {
+        return cache.usedBytes();
+    }
+
+    private ObjectWriter writerFor(Set<String> fields) {
+        if (ItemFields.isAll(fields)) {
+            return objectMapper.writer();
+        }
+        return objectMapper.writer(new SimpleFilterProvider()
+                .addFilter(ItemFields.FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(fields)));
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains(GZIP);
+    }
+
+    private static void writeHeaders(HttpServletResponse response, int length) {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setContentLength(length);
+    }
+
+    private static void writePlain(HttpServletResponse response, byte[] json) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setContentLength(json.length);
+        response.getOutputStream().write(json);
+    }
+
+    // 헤더를 먼저 커밋(보안 헤더 등 래퍼가 붙이는 헤더 포함)한 뒤, Tomcat 출력 스트림에 버퍼를 그대로 넘김
+    private static void writeBuffers(HttpServletResponse response, List<ByteBuffer> buffers) throws IOException {
+        response.flushBuffer();
+        ServletResponse nativeResponse = response;
+        while (nativeResponse instanceof ServletResponseWrapper wrapper) {
+            nativeResponse = wrapper.getResponse();
+        }
+        ServletOutputStream out = nativeResponse.getOutputStream();
+        for (ByteBuffer buffer : buffers) {
+            if (out instanceof CoyoteOutputStream coyote) {
+                coyote.write(buffer);
+            } else {
+                byte[] chunk = new byte[buffer.remaining()];
+                buffer.get(chunk);
+                out.write(chunk);
+            }
+        }
+        out.flush();
+    }
+
+    private static byte[] gzip(byte[] json) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed, BLOCK_SIZE)) {
+            out.write(json);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed), BLOCK_SIZE)) {
+            return in.readAllBytes();
+        }
+    }
+}
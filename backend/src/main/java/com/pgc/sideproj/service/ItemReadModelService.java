@@ -0,0 +1,222 @@
+package com.pgc.sideproj.service;
+
+import com.pgc.sideproj.dto.response.AuctionItemSummaryDTO;
+import com.pgc.sideproj.dto.response.PageResponseDTO;
+import com.pgc.sideproj.event.DataGenerationChangedEvent;
+import com.pgc.sideproj.event.ItemReadModelRefreshedEvent;
+import com.pgc.sideproj.mapper.AuctionItemMapper;
+import com.pgc.sideproj.util.ItemColumns;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 물건 목록/주변 물건 조회에 쓰는 인메모리 읽기 모델({@link ItemColumns})을 관리하는 서비스입니다.
+ *
+ * <p>물건 데이터는 하루 한 번 배치로만 바뀌므로, 마스터 + 최신 이력 전체를 열 단위 원시 배열로 적재해 두고
+ * 목록 검색을 DB 없이 처리합니다. 배치 후 데이터 세대가 바뀌면(모든 인스턴스) 전용 스레드에서 새로 만들어 참조를 통째로 교체하며,
+ * 만드는 동안에는 기존 모델로 응답합니다.
+ *
+ * <p>만든 모델은 read-model.file에 저장합니다. 재시작 시 파일을 먼저 적재하고,
+ * DB의 데이터 버전(물건 수와 마지막 수정일시)이 파일과 같으면 다시 만들지 않습니다.
+ * 모델이 준비되기 전의 목록 요청은 기존처럼 DB에서 조회합니다.
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class ItemReadModelService {
+
+    private static final String TMP_SUFFIX = ".tmp";
+
+    private final AuctionItemMapper auctionItemMapper;
+    private final AuctionDeadlineService auctionDeadlineService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Path modelFile;
+    private final ExecutorService executor;
+
+    private volatile ItemColumns columns;
+
+    public ItemReadModelService(AuctionItemMapper auctionItemMapper,
+                                AuctionDeadlineService auctionDeadlineService,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${read-model.file:./data/read-model.bin}") String modelFile) {
+        this.auctionItemMapper = auctionItemMapper;
+        this.auctionDeadlineService = auctionDeadlineService;
+        this.eventPublisher = eventPublisher;
+        this.modelFile = Paths.get(modelFile).toAbsolutePath().normalize();
+        // 적재/재생성은 한 번에 하나씩, 요청/배치 스레드 밖에서 수행
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "item-read-model");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        executor.execute(this::loadOrRebuild);
+    }
+
+    @EventListener
+    public void onDataGenerationChanged(DataGenerationChangedEvent event) {
+        executor.execute(this::rebuild);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 목록 조회를 읽기 모델로 처리할 수 있는지 여부
+     */
+    public boolean isReady() {
+        return columns != null;
+    }
+
+    /**
+     * 읽기 모델에서 물건 목록을 조회합니다. (물건번호 내림차순)
+     *
+     * <p>검색어는 DB 목록 조회와 같은 토큰으로 나눠 모든 토큰이 단어 접두어여야 일치합니다.
+     * ({@link com.pgc.sideproj.util.SearchPercolator#toFullTextQuery(String)}) 다만 DB 전문 색인의 최소 토큰 길이와 불용어는
+     * 적용하지 않으므로, 짧은 단어나 불용어가 들어간 물건은 이쪽에서만 찾아질 수 있습니다.
+     *
+     * @param keyword 검색어 (토큰마다 물건명/정제 주소 단어의 접두어)
+     * @param region  지역 (정제된 지번주소 접두어)
+     * @param page    현재 페이지 (1부터 시작)
+     * @param size    페이지 크기
+     * @throws IllegalStateException 읽기 모델이 아직 준비되지 않은 경우 ({@link #isReady()} 확인)
+     */
+    public PageResponseDTO<AuctionItemSummaryDTO> getItems(String keyword, String region, int page, int size) {
+        ItemColumns current = columns;
+        if (current == null) {
+            throw new IllegalStateException("읽기 모델이 아직 준비되지 않았습니다.");
+        }
+        List<AuctionItemSummaryDTO> items = new ArrayList<>(size);
+        long offset = (long) (page - 1) * size;
+        int totalCount = current.search(keyword, region, (int) Math.min(offset, Integer.MAX_VALUE), size,
+                row -> items.add(toSummary(current, row)));
+        return new PageResponseDTO<>(items, page, size, totalCount);
+    }
+
+    // 파일이 최신이면 그대로 쓰고, 아니면 DB에서 다시 만듦
+    private void loadOrRebuild() {
+        ItemColumns loaded = readModelFile();
+        if (loaded != null) {
+            publish(loaded);
+            log.info("읽기 모델 파일 적재 완료 - {}건, 버전 {}", loaded.size(), loaded.dataVersion());
+        }
+        try {
+            if (loaded != null && loaded.dataVersion().equals(auctionItemMapper.selectDataVersion())) {
+                return;
+            }
+        } catch (Exception e) {
+            log.error("물건 데이터 버전 조회 실패. 읽기 모델을 다시 만듭니다.", e);
+        }
+        rebuild();
+    }
+
+    /**
+     * DB에서 읽기 모델을 다시 만들어 교체하고 파일에 저장합니다. 실패하면 기존 모델을 유지합니다.
+     */
+    private void rebuild() {
+        long startTime = System.currentTimeMillis();
+        try {
+            // 버전을 먼저 읽어야 적재 중에 바뀐 데이터가 있을 때 다음 시작에서 다시 만듦
+            String dataVersion = auctionItemMapper.selectDataVersion();
+            List<AuctionItemSummaryDTO> items = auctionItemMapper.findAllWithLatestHistory();
+            List<ItemColumns.Row> rows = new ArrayList<>(items.size());
+            for (AuctionItemSummaryDTO item : items) {
+                rows.add(new ItemColumns.Row(item.getCltrNo(), item.getCltrNm(), item.getCtgrFullNm(),
+                        item.getLdnmAdrs(), item.getNmrdAdrs(), item.getClnLdnmAdrs(), item.getClnNmrdAdrs(),
+                        item.getLatitude(), item.getLongitude(),
+                        item.getOnbidDetailUrl(), item.getPlnmNo(), item.getPbctNo(),
+                        item.getMinBidPrc(), item.getApslAsesAvgAmt(),
+                        item.getPbctBegnDtm(), item.getPbctClsDtm(), item.getPbctCltrStatNm()));
+            }
+            ItemColumns built = ItemColumns.build(dataVersion, rows);
+            publish(built);
+            log.info("읽기 모델 생성 완료 - {}건 ({}ms)", built.size(), System.currentTimeMillis() - startTime);
+            writeModelFile(built);
+        } catch (Exception e) {
+            log.error("읽기 모델 생성 실패. 기존 모델을 유지합니다.", e);
+        }
+    }
+
+    private void publish(ItemColumns built) {
+        columns = built;
+        eventPublisher.publishEvent(ItemReadModelRefreshedEvent.builder().columns(built).build());
+    }
+
+    private ItemColumns readModelFile() {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(modelFile)))) {
+            return ItemColumns.readFrom(in);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            log.warn("읽기 모델 파일을 읽지 못했습니다. 새로 만듭니다. 원인: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // 임시 파일에 쓴 뒤 교체하므로 쓰는 도중에 종료되어도 이전 파일이 남음
+    private void writeModelFile(ItemColumns built) {
+        Path tmpFile = modelFile.resolveSibling(modelFile.getFileName() + TMP_SUFFIX);
+        try {
+            Files.createDirectories(modelFile.getParent());
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmpFile)))) {
+                built.writeTo(out);
+            }
+            Files.move(tmpFile, modelFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("읽기 모델 파일 저장 실패 - {}. 다음 시작 시 DB에서 다시 만듭니다.", e.getMessage());
+        }
+    }
+
+    private AuctionItemSummaryDTO toSummary(ItemColumns current, int row) {
+        AuctionItemSummaryDTO item = new AuctionItemSummaryDTO();
+        item.setCltrNo(current.cltrNo(row));
+        item.setCltrNm(current.cltrNm(row));
+        item.setCtgrFullNm(current.ctgrFullNm(row));
+        item.setLdnmAdrs(current.ldnmAdrs(row));
+        item.setNmrdAdrs(current.nmrdAdrs(row));
+        item.setClnLdnmAdrs(current.clnLdnmAdrs(row));
+        item.setClnNmrdAdrs(current.clnNmrdAdrs(row));
+        item.setLatitude(current.latitudeDecimal(row));
+        item.setLongitude(current.longitudeDecimal(row));
+        item.setOnbidDetailUrl(current.onbidDetailUrl(row));
+        item.setPlnmNo(current.plnmNo(row));
+        item.setPbctNo(current.pbctNo(row));
+        item.setMinBidPrc(boxed(current.minBidPrc(row)));
+        item.setApslAsesAvgAmt(boxed(current.apslAsesAvgAmt(row)));
+        item.setPbctBegnDtm(current.pbctBegnDtm(row));
+        item.setPbctClsDtm(current.pbctClsDtm(row));
+        item.setPbctCltrStatNm(auctionDeadlineService.derivedStatus(current.cltrNo(row), current.pbctCltrStatNm(row)));
+        return item;
+    }
+
+    private static Long boxed(long value) {
+        return value != ItemColumns.NO_VALUE ? value : null;
+    }
+}
@@ -0,0 +1,417 @@
+package com.pgc.sideproj.service;
+
+import com.pgc.sideproj.dto.db.ItemLocationDTO;
+import com.pgc.sideproj.dto.response.TileMetaDTO;
+import com.pgc.sideproj.event.DataGenerationChangedEvent;
+import com.pgc.sideproj.mapper.AuctionItemMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 지도 마커용 정적 타일(z/x/y)을 생성하고 위치를 알려주는 서비스입니다.
+ *
+ * <p>데이터 세대(generation)마다 한 번, 지오코딩된 좌표를 Web Mercator 타일로 나누어
+ * 바이너리 파일로 기록합니다. 요청 처리 시에는 파일을 그대로 전송만 하므로
+ * 지도 이동(panning)에 DB 조회나 직렬화 비용이 들지 않습니다.
+ *
+ * <p>타일 디렉터리 이름은 DB의 데이터 세대이므로 로드 밸런서 뒤의 모든 인스턴스가 같은 URL로 같은 타일을 제공합니다.
+ * 교체된 세대는 이전 meta를 받은 클라이언트를 위해 retain-previous-minutes 동안 남겨 둡니다.
+ *
+ * <p>타일 파일 형식 (big-endian):
+ * <pre>
+ *   int   magic (0x414D5431, "AMT1")
+ *   short version (2)
+ *   int   marker count
+ *   반복: short x, short y  (타일 내부 좌표, 0 ~ EXTENT-1)
+ *         long  minBidPrc  (없으면 -1)
+ *         byte  status     (meta의 statuses 인덱스, 없으면 -1)
+ *         unsigned short cltrNo 길이 + UTF-8 바이트  (버전 1은 1바이트 길이)
+ * </pre>
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class MarkerTileService {
+
+    public static final int TILE_MAGIC = 0x414D5431;
+    public static final short TILE_VERSION = 2;
+    public static final int EXTENT = 4096;
+
+    // 세대 디렉터리의 완료 표시 겸 상태 사전 파일
+    private static final String META_FILE = "_meta";
+    private static final String TMP_SUFFIX = ".tmp";
+
+    private final AuctionItemMapper auctionItemMapper;
+    private final DataGenerationService dataGenerationService;
+    private final Path tilesRoot;
+    private final int minZoom;
+    private final int maxZoom;
+    private final long retainPreviousMillis;
+
+    private volatile TileMetaDTO currentMeta;
+
+    // 교체된 세대와 교체 시각 (regenerate에서만 사용, retain-previous-minutes가 지나면 삭제)
+    private final Map<Long, Long> retiredGenerations = new HashMap<>();
+
+    public MarkerTileService(
+            AuctionItemMapper auctionItemMapper,
+            DataGenerationService dataGenerationService,
+            @Value("${tiles.dir:./data/tiles}") String tilesDir,
+            @Value("${tiles.min-zoom:7}") int minZoom,
+            @Value("${tiles.max-zoom:14}") int maxZoom,
+            @Value("${tiles.retain-previous-minutes:60}") long retainPreviousMinutes) {
+        if (minZoom < 0 || maxZoom > 16 || minZoom > maxZoom) {
+            throw new IllegalArgumentException("타일 줌 범위가 올바르지 않습니다: " + minZoom + "~" + maxZoom);
+        }
+        this.auctionItemMapper = auctionItemMapper;
+        this.dataGenerationService = dataGenerationService;
+        this.tilesRoot = Paths.get(tilesDir).toAbsolutePath().normalize();
+        this.minZoom = minZoom;
+        this.maxZoom = maxZoom;
+        this.retainPreviousMillis = retainPreviousMinutes * 60_000L;
+    }
+
+    /**
+     * 시작 시 DB의 현재 데이터 세대로 타일을 준비합니다. 그 세대가 디스크에 완성되어 있으면 재사용합니다.
+     * DB를 읽지 못하면 디스크의 가장 최근 세대를 쓰고, 그것도 없으면 로컬 세대로 생성합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        long generation;
+        try {
+            generation = dataGenerationService.currentGeneration();
+        } catch (Exception e) {
+            log.warn("데이터 세대를 읽지 못했습니다. 디스크의 최근 마커 타일 세대를 사용합니다. 원인: {}", e.getMessage());
+            try {
+                TileMetaDTO existing = loadLatestGeneration();
+                if (existing != null) {
+                    activate(existing);
+                    log.info("기존 마커 타일 세대를 사용합니다 - generation: {}", existing.getGeneration());
+                    return;
+                }
+            } catch (IOException ioe) {
+                log.warn("기존 마커 타일을 읽지 못했습니다. 새로 생성합니다. 원인: {}", ioe.getMessage());
+            }
+            generation = localGeneration();
+        }
+        regenerate(generation);
+    }
+
+    @EventListener
+    public void onDataGenerationChanged(DataGenerationChangedEvent event) {
+        // 모든 인스턴스가 같은 데이터 세대로 디렉터리 이름을 정하므로, 어느 인스턴스의 meta를 받아도 같은 URL로 요청 가능
+        // (DB 조회에 실패해 로컬에서만 발행한 세대 -1은 로컬 값으로 대신함)
+        regenerate(event.getGeneration() >= 0 ? event.getGeneration() : localGeneration());
+    }
+
+    /**
+     * 현재 위치 데이터로 해당 세대의 타일을 생성하고 교체합니다.
+     * 이미 완성된 세대이면 다시 만들지 않으며, 실패하면 기존 세대를 그대로 유지합니다.
+     *
+     * @param generation 데이터 세대 (타일 디렉터리 이름)
+     */
+    public synchronized void regenerate(long generation) {
+        long startTime = System.currentTimeMillis();
+        try {
+            if (isAvailable(generation)) {
+                activate(buildMeta(generation, readStatuses(generation)));
+                log.info("기존 마커 타일 세대를 사용합니다 - generation: {}", generation);
+                return;
+            }
+            List<ItemLocationDTO> locations = auctionItemMapper.findItemLocations();
+            activate(writeGeneration(generation, locations));
+            log.info("마커 타일 생성 완료 - generation: {}, 물건 {}건 ({}ms)",
+                    generation, locations.size(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("마커 타일 생성 실패. 기존 세대를 유지합니다.", e);
+        }
+    }
+
+    /**
+     * 현재 세대의 메타 정보를 반환합니다. 타일이 아직 없으면 null입니다.
+     */
+    public TileMetaDTO getCurrentMeta() {
+        return currentMeta;
+    }
+
+    /**
+     * 요청된 타일 파일 경로를 반환합니다.
+     * 경로 구성 요소가 모두 숫자이므로 tilesRoot 밖으로 벗어날 수 없습니다.
+     *
+     * @return 타일 파일 경로 (마커가 없는 타일이면 파일이 존재하지 않을 수 있음), 범위를 벗어나면 null
+     */
+    public Path resolveTile(long generation, int z, int x, int y) {
+        int n = 1 << Math.min(Math.max(z, 0), 30);
+        if (z < minZoom || z > maxZoom || x < 0 || y < 0 || x >= n || y >= n) {
+            return null;
+        }
+        return tilesRoot.resolve(Long.toString(generation))
+                .resolve(Integer.toString(z))
+                .resolve(Integer.toString(x))
+                .resolve(y + ".bin");
+    }
+
+    /**
+     * 해당 세대의 타일이 디스크에 존재하는지 확인합니다.
+     */
+    public boolean isAvailable(long generation) {
+        return Files.isRegularFile(tilesRoot.resolve(Long.toString(generation)).resolve(META_FILE));
+    }
+
+    // --- 타일 생성 ---
+
+    private TileMetaDTO writeGeneration(long generation, List<ItemLocationDTO> locations) throws IOException {
+        Path tmpDir = tilesRoot.resolve(generation + TMP_SUFFIX);
+        Path finalDir = tilesRoot.resolve(Long.toString(generation));
+        // 이전 실행에서 중단된 같은 세대의 임시 디렉터리가 남아 있으면 비우고 시작
+        if (Files.exists(tmpDir)) {
+            deleteRecursively(tmpDir);
+        }
+        Files.createDirectories(tmpDir);
+
+        int n = locations.size();
+        double[] lats = new double[n];
+        double[] lons = new double[n];
+        byte[][] cltrNos = new byte[n][];
+        long[] prices = new long[n];
+        byte[] statusOrds = new byte[n];
+
+        // 물건상태는 종류가 적으므로 사전 인코딩하여 1바이트로 기록합니다.
+        Map<String, Integer> statusDictionary = new HashMap<>();
+        List<String> statuses = new ArrayList<>();
+
+        for (int i = 0; i < n; i++) {
+            ItemLocationDTO location = locations.get(i);
+            lats[i] = location.getLatitude().doubleValue();
+            lons[i] = location.getLongitude().doubleValue();
+            cltrNos[i] = location.getCltrNo().getBytes(StandardCharsets.UTF_8);
+            if (cltrNos[i].length > 0xFFFF) {
+                // 길이가 넘치면 뒤의 레코드가 모두 어긋나므로 세대 생성을 중단 (기존 세대 유지)
+                throw new IllegalStateException("물건번호가 너무 깁니다: " + cltrNos[i].length + "바이트");
+            }
+            prices[i] = location.getMinBidPrc() != null ? location.getMinBidPrc() : -1L;
+
+            String status = location.getPbctCltrStatNm();
+            if (status == null) {
+                statusOrds[i] = -1;
+            } else {
+                int ord = statusDictionary.computeIfAbsent(status, key -> {
+                    statuses.add(key);
+                    return statuses.size() - 1;
+                });
+                statusOrds[i] = ord < Byte.MAX_VALUE ? (byte) ord : -1;
+            }
+        }
+
+        for (int z = minZoom; z <= maxZoom; z++) {
+            writeZoom(tmpDir, z, lats, lons, cltrNos, prices, statusOrds);
+        }
+
+        List<String> dictionary = statuses.size() > Byte.MAX_VALUE ? statuses.subList(0, Byte.MAX_VALUE) : statuses;
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(tmpDir.resolve(META_FILE))))) {
+            out.writeInt(dictionary.size());
+            for (String status : dictionary) {
+                out.writeUTF(status);
+            }
+        }
+
+        Files.move(tmpDir, finalDir, StandardCopyOption.ATOMIC_MOVE);
+        return buildMeta(generation, dictionary);
+    }
+
+    private void writeZoom(Path dir, int z, double[] lats, double[] lons, byte[][] cltrNos,
+                           long[] prices, byte[] statusOrds) throws IOException {
+        int n = lats.length;
+        double scale = (double) (1 << z);
+
+        // (타일 키 << 32 | 행 번호)를 정렬하여 같은 타일의 마커를 연속 구간으로 모읍니다.
+        long[] keyed = new long[n];
+        short[] px = new short[n];
+        short[] py = new short[n];
+        for (int i = 0; i < n; i++) {
+            double worldX = (lons[i] + 180.0) / 360.0 * scale;
+            double latRad = Math.toRadians(lats[i]);
+            double worldY = (1.0 - Math.log(Math.tan(latRad) + 1.0 / Math.cos(latRad)) / Math.PI) / 2.0 * scale;
+            int tileX = clamp((int) Math.floor(worldX), 0, (1 << z) - 1);
+            int tileY = clamp((int) Math.floor(worldY), 0, (1 << z) - 1);
+            px[i] = (short) clamp((int) ((worldX - tileX) * EXTENT), 0, EXTENT - 1);
+            py[i] = (short) clamp((int) ((worldY - tileY) * EXTENT), 0, EXTENT - 1);
+            long tileKey = ((long) tileX << 16) | tileY;
+            keyed[i] = (tileKey << 32) | i;
+        }
+        Arrays.sort(keyed);
+
+        int start = 0;
+        while (start < n) {
+            long tileKey = keyed[start] >>> 32;
+            int end = start;
+            while (end < n && (keyed[end] >>> 32) == tileKey) {
+                end++;
+            }
+            int tileX = (int) (tileKey >>> 16);
+            int tileY = (int) (tileKey & 0xFFFF);
+            Path xDir = dir.resolve(Integer.toString(z)).resolve(Integer.toString(tileX));
+            Files.createDirectories(xDir);
+
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(xDir.resolve(tileY + ".bin"))))) {
+                out.writeInt(TILE_MAGIC);
+                out.writeShort(TILE_VERSION);
+                out.writeInt(end - start);
+                for (int k = start; k < end; k++) {
+                    int row = (int) keyed[k];
+                    out.writeShort(px[row]);
+                    out.writeShort(py[row]);
+                    out.writeLong(prices[row]);
+                    out.writeByte(statusOrds[row]);
+                    out.writeShort(cltrNos[row].length);
+                    out.write(cltrNos[row]);
+                }
+            }
+            start = end;
+        }
+    }
+
+    // --- 세대 관리 ---
+
+    // 데이터 세대를 알 수 없을 때 쓰는 로컬 세대 (DB 세대와 겹치지 않도록 현재 시각)
+    private static long localGeneration() {
+        return System.currentTimeMillis();
+    }
+
+    // 디스크에서 가장 최근에 완성된 세대 (DB 세대를 읽지 못한 경우에만 사용)
+    private TileMetaDTO loadLatestGeneration() throws IOException {
+        if (!Files.isDirectory(tilesRoot)) {
+            return null;
+        }
+        Path latest;
+        try (Stream<Path> dirs = Files.list(tilesRoot)) {
+            latest = dirs.filter(path -> isGenerationName(path.getFileName().toString()))
+                    .filter(path -> Files.isRegularFile(path.resolve(META_FILE)))
+                    .max(Comparator.comparingLong(this::completedAt))
+                    .orElse(null);
+        }
+        if (latest == null) {
+            return null;
+        }
+        long generation = Long.parseLong(latest.getFileName().toString());
+        return buildMeta(generation, readStatuses(generation));
+    }
+
+    private List<String> readStatuses(long generation) throws IOException {
+        List<String> statuses = new ArrayList<>();
+        try (InputStream in = Files.newInputStream(tilesRoot.resolve(Long.toString(generation)).resolve(META_FILE));
+             DataInputStream data = new DataInputStream(in)) {
+            int count = data.readInt();
+            for (int i = 0; i < count; i++) {
+                statuses.add(data.readUTF());
+            }
+        }
+        return statuses;
+    }
+
+    // 현재 세대를 교체하고, 교체된 세대는 이전 meta를 받은 클라이언트를 위해 retain-previous-minutes 동안 남김
+    private synchronized void activate(TileMetaDTO meta) {
+        TileMetaDTO previous = currentMeta;
+        long now = System.currentTimeMillis();
+        if (previous != null && previous.getGeneration() != meta.getGeneration()) {
+            retiredGenerations.put(previous.getGeneration(), now);
+        }
+        retiredGenerations.remove(meta.getGeneration());
+        currentMeta = meta;
+        deleteOldGenerations(meta.getGeneration(), now);
+    }
+
+    /**
+     * 현재 세대와, 교체된 지 retain-previous-minutes가 지나지 않은 세대만 남기고 삭제합니다.
+     * 완료되지 않은 .tmp 디렉터리는 모두 삭제합니다. (생성은 regenerate에서 하나씩만 수행)
+     * 시작 시 디스크에 남아 있던 세대는 그 시점에 교체된 것으로 보고 같은 시간 동안 유지합니다.
+     */
+    private void deleteOldGenerations(long currentGeneration, long now) {
+        if (!Files.isDirectory(tilesRoot)) {
+            return;
+        }
+        try (Stream<Path> dirs = Files.list(tilesRoot)) {
+            for (Path dir : dirs.toList()) {
+                String name = dir.getFileName().toString();
+                if (name.endsWith(TMP_SUFFIX)) {
+                    deleteRecursively(dir);
+                    continue;
+                }
+                if (!isGenerationName(name)) {
+                    continue;
+                }
+                long generation = Long.parseLong(name);
+                if (generation == currentGeneration) {
+                    continue;
+                }
+                long retiredAt = retiredGenerations.computeIfAbsent(generation, key -> now);
+                if (now - retiredAt >= retainPreviousMillis) {
+                    deleteRecursively(dir);
+                    retiredGenerations.remove(generation);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("이전 마커 타일 세대 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private long completedAt(Path dir) {
+        try {
+            return Files.getLastModifiedTime(dir.resolve(META_FILE)).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private static boolean isGenerationName(String name) {
+        return !name.isEmpty() && name.length() <= 18 && name.chars().allMatch(Character::isDigit);
+    }
+
+    private void deleteRecursively(Path dir) throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private TileMetaDTO buildMeta(long generation, List<String> statuses) {
+        return TileMetaDTO.builder()
+                .generation(generation)
+                .minZoom(minZoom)
+                .maxZoom(maxZoom)
+                .extent(EXTENT)
+                .statuses(List.copyOf(statuses))
+                .urlTemplate("/api/v1/tiles/" + generation + "/{z}/{x}/{y}.bin")
+                .build();
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
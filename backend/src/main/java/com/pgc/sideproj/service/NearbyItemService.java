@@ -0,0 +1,178 @@
+package com.pgc.sideproj.service;
+
+import com.pgc.sideproj.dto.response.NearbyItemDTO;
+import com.pgc.sideproj.event.ItemReadModelRefreshedEvent;
+import com.pgc.sideproj.exception.custom.ResourceNotFoundException;
+import com.pgc.sideproj.util.GeoKdTree;
+import com.pgc.sideproj.util.ItemColumns;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * 인메모리 공간 인덱스를 이용해 주변 유사 물건을 조회하는 서비스입니다.
+ *
+ * <p>읽기 모델({@link ItemColumns})에서 좌표가 있는 물건만 골라 k-d 트리를 만들어 두고,
+ * 기준 물건 주변의 k-NN 검색을 DB 조회 없이 처리합니다.
+ * 물건 정보(이름, 카테고리, 가격, 상태)는 읽기 모델의 열을 그대로 참조하며,
+ * 인덱스는 읽기 모델이 교체될 때마다 새로 만들어 통째로 교체합니다.
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NearbyItemService {
+
+    private final AuctionDeadlineService auctionDeadlineService;
+
+    // 검색 스레드는 항상 완성된 스냅샷만 보도록 volatile 참조를 통째로 교체합니다.
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * 새 읽기 모델로 공간 인덱스를 재생성합니다.
+     * 실패하면 기존 인덱스를 그대로 유지합니다.
+     */
+    @EventListener
+    public void onReadModelRefreshed(ItemReadModelRefreshedEvent event) {
+        long startTime = System.currentTimeMillis();
+        try {
+            snapshot = Snapshot.of(event.getColumns());
+            log.info("공간 인덱스 갱신 완료 - {}건 ({}ms)",
+                    snapshot.size(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("공간 인덱스 갱신 실패. 기존 인덱스를 유지합니다.", e);
+        }
+    }
+
+    /**
+     * 기준 물건 주변의 유사 물건을 가까운 순서로 조회합니다.
+     *
+     * @param cltrNo         기준 물건 번호
+     * @param radiusKm       검색 반경 (km)
+     * @param size           최대 결과 수
+     * @param sameCategory   같은 카테고리만 조회할지 여부
+     * @param priceTolerance 최저입찰가 허용 비율 (null이면 가격 조건 없음)
+     * @return 거리 오름차순의 주변 물건 목록 (기준 물건 제외)
+     * @throws ResourceNotFoundException 기준 물건이 인덱스에 없는 경우 (좌표 미확보 포함)
+     */
+    public List<NearbyItemDTO> findNearby(String cltrNo, double radiusKm, int size,
+                                          boolean sameCategory, Double priceTolerance) {
+        Snapshot current = snapshot;
+        int origin = current.treeRowOf(cltrNo);
+        if (origin < 0) {
+            throw new ResourceNotFoundException("AuctionMaster", "cltrNo", cltrNo);
+        }
+
+        double lat = current.latitudes[origin];
+        double lon = current.longitudes[origin];
+        IntPredicate filter = buildFilter(current, origin, sameCategory, priceTolerance);
+
+        int[] rows = current.tree.nearest(lat, lon, size, radiusKm, filter);
+
+        ItemColumns columns = current.columns;
+        List<NearbyItemDTO> result = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            int item = current.modelRows[row];
+            long price = columns.minBidPrc(item);
+            result.add(NearbyItemDTO.builder()
+                    .cltrNo(columns.cltrNo(item))
+                    .cltrNm(columns.cltrNm(item))
+                    .ctgrFullNm(columns.ctgrFullNm(item))
+                    .latitude(current.latitudes[row])
+                    .longitude(current.longitudes[row])
+                    .minBidPrc(price == ItemColumns.NO_VALUE ? null : price)
+                    .pbctCltrStatNm(auctionDeadlineService.derivedStatus(columns.cltrNo(item), columns.pbctCltrStatNm(item)))
+                    .distanceKm(current.tree.distanceKm(lat, lon, row))
+                    .build());
+        }
+        return result;
+    }
+
+    private IntPredicate buildFilter(Snapshot current, int origin, boolean sameCategory, Double priceTolerance) {
+        ItemColumns columns = current.columns;
+        int[] modelRows = current.modelRows;
+        int categoryOrd = columns.categoryOrd(modelRows[origin]);
+        long originPrice = columns.minBidPrc(modelRows[origin]);
+        boolean filterPrice = priceTolerance != null && originPrice != ItemColumns.NO_VALUE;
+        long minPrice = filterPrice ? (long) Math.floor(originPrice * (1 - priceTolerance)) : 0;
+        long maxPrice = filterPrice ? (long) Math.ceil(originPrice * (1 + priceTolerance)) : 0;
+
+        return row -> {
+            if (row == origin) {
+                return false;
+            }
+            int item = modelRows[row];
+            if (sameCategory && columns.categoryOrd(item) != categoryOrd) {
+                return false;
+            }
+            if (filterPrice) {
+                long price = columns.minBidPrc(item);
+                return price != ItemColumns.NO_VALUE && price >= minPrice && price <= maxPrice;
+            }
+            return true;
+        };
+    }
+
+    /**
+     * 특정 시점의 공간 인덱스 (불변)
+     */
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = of(ItemColumns.build("", List.of()));
+
+        final ItemColumns columns;
+        // 트리 행 -> 읽기 모델 행 / 읽기 모델 행 -> 트리 행 (좌표가 없으면 -1)
+        final int[] modelRows;
+        final int[] treeRows;
+        final double[] latitudes;
+        final double[] longitudes;
+        final GeoKdTree tree;
+
+        private Snapshot(ItemColumns columns, int[] modelRows, int[] treeRows,
+                         double[] latitudes, double[] longitudes) {
+            this.columns = columns;
+            this.modelRows = modelRows;
+            this.treeRows = treeRows;
+            this.latitudes = latitudes;
+            this.longitudes = longitudes;
+            this.tree = GeoKdTree.build(latitudes, longitudes);
+        }
+
+        static Snapshot of(ItemColumns columns) {
+            int[] treeRows = new int[columns.size()];
+            int located = 0;
+            for (int i = 0; i < treeRows.length; i++) {
+                treeRows[i] = columns.hasCoordinates(i) ? located++ : -1;
+            }
+
+            int[] modelRows = new int[located];
+            double[] latitudes = new double[located];
+            double[] longitudes = new double[located];
+            for (int i = 0; i < treeRows.length; i++) {
+                int row = treeRows[i];
+                if (row >= 0) {
+                    modelRows[row] = i;
+                    latitudes[row] = columns.latitude(i);
+                    longitudes[row] = columns.longitude(i);
+                }
+            }
+            return new Snapshot(columns, modelRows, treeRows, latitudes, longitudes);
+        }
+
+        int treeRowOf(String cltrNo) {
+            int item = columns.rowOf(cltrNo);
+            return item >= 0 ? treeRows[item] : -1;
+        }
+
+        int size() {
+            return modelRows.length;
+        }
+    }
+}
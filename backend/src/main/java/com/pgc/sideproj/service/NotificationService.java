@@ -0,0 +1,79 @@
+package com.pgc.sideproj.service;
+
+import com.pgc.sideproj.dto.db.NotificationDTO;
+import com.pgc.sideproj.dto.response.CursorPageResponseDTO;
+import com.pgc.sideproj.event.BatchCompletedEvent;
+import com.pgc.sideproj.mapper.NotificationMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 찜 물건 알림(가격 인하, 상태 변경)을 생성하고 조회하는 서비스입니다.
+ *
+ * <p>배치가 끝나면 {@link SavedItemAlertService}로 알림을 만들고, 실시간 구독자에게 바로 전달합니다.
+ * 구독하지 않은 사용자는 목록 API로 가져갑니다.
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationService {
+
+    private final NotificationMapper notificationMapper;
+    private final SavedItemAlertService savedItemAlertService;
+    private final NotificationStreamService notificationStreamService;
+
+    @EventListener
+    public void onBatchCompleted(BatchCompletedEvent event) {
+        try {
+            long startTime = System.currentTimeMillis();
+            int inserted = savedItemAlertService.recordAlerts(event.getStartedAt());
+            log.info("찜 물건 알림 생성 완료 - {}건 ({}ms)", inserted, System.currentTimeMillis() - startTime);
+            if (inserted > 0) {
+                notificationStreamService.deliverNew();
+            }
+        } catch (Exception e) {
+            log.error("찜 물건 알림 생성 실패 - 배치 시작: {}", event.getStartedAt(), e);
+        }
+    }
+
+    /**
+     * 사용자의 알림 목록을 조회합니다.
+     *
+     * <p>afterId를 주면 그 이후의 새 알림을 오래된 순으로(폴링용),
+     * 아니면 beforeId 이전 알림을 최신 순으로(목록 화면용) 반환합니다.
+     *
+     * @param userId   사용자 ID
+     * @param afterId  마지막으로 받은 알림 ID (폴링)
+     * @param beforeId 이전 페이지 마지막 알림 ID (목록)
+     * @param size     페이지 크기
+     * @return 알림 페이지 (nextCursor는 다음 요청에 넘길 알림 ID)
+     */
+    public CursorPageResponseDTO<NotificationDTO> getNotifications(Long userId, Long afterId, Long beforeId, int size) {
+        List<NotificationDTO> rows = notificationMapper.findByUser(userId, afterId, beforeId, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<NotificationDTO> page = hasNext ? new ArrayList<>(rows.subList(0, size)) : rows;
+        String nextCursor = hasNext ? String.valueOf(page.get(page.size() - 1).getId()) : null;
+        return new CursorPageResponseDTO<>(page, nextCursor);
+    }
+
+    public long countUnread(Long userId) {
+        return notificationMapper.countUnread(userId);
+    }
+
+    /**
+     * upToId 이하의 알림을 모두 읽음으로 표시합니다.
+     *
+     * @return 읽음으로 바뀐 알림 수
+     */
+    public int markReadUpTo(Long userId, Long upToId) {
+        return notificationMapper.markReadUpTo(userId, upToId);
+    }
+}
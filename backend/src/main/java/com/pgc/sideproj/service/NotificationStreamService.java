@@ -0,0 +1,172 @@
+package com.pgc.sideproj.service;
+
+import com.pgc.sideproj.dto.db.NotificationDTO;
+import com.pgc.sideproj.mapper.NotificationMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 찜 물건 알림을 SSE(Server-Sent Events)로 실시간 전달하는 서비스입니다.
+ *
+ * <p>사용자별 연결을 메모리에 보관하고, 새 알림은 notification.id 범위 조회 한 번으로 가져와
+ * 이 인스턴스에 연결된 사용자에게만 보냅니다. 알림은 배치를 실행한 인스턴스에서 만들어지므로
+ * 다른 인스턴스는 주기적인 조회(기본 5초)로 따라잡습니다.
+ * 재연결 시 Last-Event-ID 이후의 알림을 먼저 보내므로 연결이 끊긴 동안의 알림도 놓치지 않습니다.
+ * (재연결 직후에는 같은 알림이 두 번 올 수 있으므로 클라이언트는 id로 중복을 거릅니다.)
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class NotificationStreamService {
+
+    // 한 번에 가져올 새 알림 수
+    private static final int FETCH_SIZE = 1000;
+
+    // 재연결 시 보낼 밀린 알림 최대 수 (나머지는 목록 API로 조회)
+    private static final int BACKLOG_SIZE = 100;
+
+    // 프록시가 유휴 연결을 끊지 않도록 보내는 주석 간격
+    private static final long HEARTBEAT_MILLIS = 25_000;
+
+    private final NotificationMapper notificationMapper;
+    private final long emitterTimeoutMillis;
+    private final Map<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    // 구독자에게 전달을 마친 마지막 알림 ID
+    private long lastDeliveredId = -1;
+    private long lastHeartbeatAt = System.currentTimeMillis();
+
+    public NotificationStreamService(NotificationMapper notificationMapper,
+                                     @Value("${notification.stream.timeout-millis:1800000}") long emitterTimeoutMillis) {
+        this.notificationMapper = notificationMapper;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void onApplicationReady() {
+        Long maxId = notificationMapper.findMaxId();
+        lastDeliveredId = maxId != null ? maxId : 0;
+    }
+
+    /**
+     * 사용자의 알림 스트림을 엽니다.
+     *
+     * @param userId      사용자 ID
+     * @param lastEventId 재연결 시 마지막으로 받은 알림 ID (Last-Event-ID 헤더, 없으면 null)
+     * @return SSE 연결
+     */
+    public SseEmitter subscribe(Long userId, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        emitters.compute(userId, (key, userEmitters) -> {
+            Set<SseEmitter> registered = userEmitters != null ? userEmitters : ConcurrentHashMap.newKeySet();
+            registered.add(emitter);
+            return registered;
+        });
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(() -> remove(userId, emitter));
+        emitter.onError(e -> remove(userId, emitter));
+
+        try {
+            emitter.send(SseEmitter.event().comment("connected"));
+            if (lastEventId != null) {
+                for (NotificationDTO notification : notificationMapper.findByUser(userId, lastEventId, null, BACKLOG_SIZE)) {
+                    send(emitter, notification);
+                }
+            }
+        } catch (IOException e) {
+            remove(userId, emitter);
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    /**
+     * 마지막 전달 이후 생긴 알림을 연결된 사용자에게 보냅니다.
+     * 연결된 사용자가 없으면 조회 없이 기준 ID만 앞으로 옮깁니다.
+     */
+    @Scheduled(fixedDelayString = "${notification.stream.poll-millis:5000}")
+    public synchronized void deliverNew() {
+        if (lastDeliveredId < 0) {
+            return;
+        }
+        try {
+            if (emitters.isEmpty()) {
+                Long maxId = notificationMapper.findMaxId();
+                lastDeliveredId = maxId != null ? Math.max(lastDeliveredId, maxId) : lastDeliveredId;
+                return;
+            }
+
+            List<NotificationDTO> batch;
+            do {
+                batch = notificationMapper.findAfter(lastDeliveredId, FETCH_SIZE);
+                for (NotificationDTO notification : batch) {
+                    Set<SseEmitter> userEmitters = emitters.get(notification.getUserId());
+                    if (userEmitters != null) {
+                        for (SseEmitter emitter : userEmitters) {
+                            trySend(notification.getUserId(), emitter, notification);
+                        }
+                    }
+                    lastDeliveredId = notification.getId();
+                }
+            } while (batch.size() == FETCH_SIZE);
+
+            heartbeatIfDue();
+        } catch (Exception e) {
+            log.error("알림 스트림 전달 실패", e);
+        }
+    }
+
+    private void heartbeatIfDue() {
+        long now = System.currentTimeMillis();
+        if (now - lastHeartbeatAt < HEARTBEAT_MILLIS) {
+            return;
+        }
+        lastHeartbeatAt = now;
+        emitters.forEach((userId, userEmitters) -> {
+            for (SseEmitter emitter : userEmitters) {
+                try {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } catch (Exception e) {
+                    remove(userId, emitter);
+                }
+            }
+        });
+    }
+
+    private void trySend(Long userId, SseEmitter emitter, NotificationDTO notification) {
+        try {
+            send(emitter, notification);
+        } catch (Exception e) {
+            // 끊긴 연결은 정리하고 다음 재연결에서 Last-Event-ID로 따라잡음
+            remove(userId, emitter);
+        }
+    }
+
+    private static void send(SseEmitter emitter, NotificationDTO notification) throws IOException {
+        emitter.send(SseEmitter.event()
+                .id(String.valueOf(notification.getId()))
+                .name("notification")
+                .data(notification, MediaType.APPLICATION_JSON));
+    }
+
+    private void remove(Long userId, SseEmitter emitter) {
+        emitters.computeIfPresent(userId, (key, userEmitters) -> {
+            userEmitters.remove(emitter);
+            return userEmitters.isEmpty() ? null : userEmitters;
+        });
+    }
+}
@@ -0,0 +1,127 @@
+package com.pgc.sideproj.service;
+
+import com.pgc.sideproj.dto.response.AuthMetricsDTO;
+import com.pgc.sideproj.exception.custom.TooManyRequestsException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해싱(BCrypt)을 전용 스레드 풀에서 실행하는 서비스입니다.
+ *
+ * <p>BCrypt는 의도적으로 CPU를 많이 쓰므로 요청 스레드에서 바로 실행하면
+ * 로그인 시도가 몰릴 때 모든 코어를 차지해 물건 조회 같은 일반 요청까지 느려집니다.
+ * 고정 크기 스레드 풀과 짧은 대기열로 동시에 해싱하는 양을 제한하고,
+ * 대기열이 가득 차면 기다리지 않고 바로 {@link TooManyRequestsException}(429)으로 거부합니다.
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final AuthMetrics authMetrics;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  AuthMetrics authMetrics,
+                                  @Value("${auth.hashing.threads:0}") int threads,
+                                  @Value("${auth.hashing.queue-capacity:32}") int queueCapacity,
+                                  @Value("${auth.hashing.timeout-millis:3000}") long timeoutMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.authMetrics = authMetrics;
+        this.timeoutMillis = timeoutMillis;
+
+        // 0이면 코어의 절반만 사용 (나머지는 일반 요청 처리용)
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        log.info("비밀번호 해싱 실행기 - 스레드 {}개, 대기열 {}", poolSize, queueCapacity);
+    }
+
+    /**
+     * 비밀번호를 해싱합니다.
+     *
+     * @throws TooManyRequestsException 해싱 요청이 몰려 처리할 수 없는 경우
+     */
+    public String encode(String rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 평문 비밀번호가 저장된 해시와 일치하는지 확인합니다.
+     *
+     * @throws TooManyRequestsException 해싱 요청이 몰려 처리할 수 없는 경우
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 해싱 지표와 실행기 상태를 반환합니다.
+     */
+    public AuthMetricsDTO getMetrics() {
+        return authMetrics.snapshot(executor.getActiveCount(), executor.getQueue().size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T execute(Callable<T> hashing) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    return hashing.call();
+                } finally {
+                    authMetrics.recordHash(System.nanoTime() - start);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            authMetrics.recordHashRejected();
+            throw new TooManyRequestsException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.", 1);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            authMetrics.recordHashTimeout();
+            throw new TooManyRequestsException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.", 1);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 해싱 중 오류가 발생했습니다.", e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 해싱 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.pgc.sideproj.service;
+
+import com.pgc.sideproj.dto.db.PriceSketchDTO;
+import com.pgc.sideproj.dto.stats.PriceDistributionDTO;
+import com.pgc.sideproj.dto.stats.QuantileSummaryDTO;
+import com.pgc.sideproj.mapper.PriceSketchMapper;
+import com.pgc.sideproj.util.QuantileSketch;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 최저입찰가와 할인율의 분위수(p10/중앙값/p90)를 제공하는 서비스입니다.
+ *
+ * <p>배치 때 월/지역/카테고리별로 저장해 둔 분위수 스케치를 요청한 조합에 맞게 병합하므로
+ * 원본 이력을 정렬하지 않고도 밀리초 단위로 분위수를 계산합니다. (상대 오차 1% 이내)
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PriceDistributionService {
+
+    public static final String GROUP_BY_NONE = "none";
+    public static final String GROUP_BY_REGION = "region";
+    public static final String GROUP_BY_CATEGORY = "category";
+
+    private final PriceSketchMapper priceSketchMapper;
+    private final PriceRollupService priceRollupService;
+
+    /**
+     * 조건에 맞는 스케치를 병합하여 분위수를 계산합니다.
+     *
+     * @param region   시/도 (null이면 전체)
+     * @param category 대분류 카테고리 (null이면 전체)
+     * @param from     시작일 (해당 월부터 포함)
+     * @param to       종료일 (해당 월까지 포함)
+     * @param groupBy  none / region / category
+     * @return 그룹별 분위수 (건수 내림차순)
+     */
+    public List<PriceDistributionDTO> getDistribution(String region, String category,
+                                                      LocalDate from, LocalDate to, String groupBy) {
+        List<PriceSketchDTO> rows = priceSketchMapper.findSketches(
+                region, category, from.withDayOfMonth(1), to.withDayOfMonth(1));
+
+        Map<String, QuantileSketch[]> merged = new LinkedHashMap<>();
+        for (PriceSketchDTO row : rows) {
+            String groupKey = switch (groupBy) {
+                case GROUP_BY_REGION -> row.getRegionName();
+                case GROUP_BY_CATEGORY -> row.getCategoryName();
+                default -> "";
+            };
+            QuantileSketch[] pair = merged.computeIfAbsent(groupKey,
+                    key -> new QuantileSketch[]{new QuantileSketch(), new QuantileSketch()});
+            pair[0].merge(QuantileSketch.fromBytes(row.getPriceSketch()));
+            pair[1].merge(QuantileSketch.fromBytes(row.getRatioSketch()));
+        }
+
+        List<PriceDistributionDTO> result = new ArrayList<>(merged.size());
+        merged.forEach((groupKey, pair) -> result.add(PriceDistributionDTO.builder()
+                .regionName(GROUP_BY_REGION.equals(groupBy) ? groupKey : null)
+                .categoryName(GROUP_BY_CATEGORY.equals(groupBy) ? groupKey : null)
+                .itemCount(pair[0].count())
+                .minBidPrc(priceSummary(pair[0]))
+                .discountRate(discountSummary(pair[1]))
+                .build()));
+        result.sort(Comparator.comparingLong(PriceDistributionDTO::getItemCount).reversed());
+        return result;
+    }
+
+    /**
+     * 이력이 있는 모든 월의 분포 스케치를 다시 만듭니다. (최초 적재/복구용)
+     *
+     * @return 다시 만든 월 수
+     */
+    public int rebuildAll() {
+        List<LocalDate> months = priceSketchMapper.findHistoryMonths();
+        int rebuilt = 0;
+        for (LocalDate month : months) {
+            try {
+                priceRollupService.rebuildSketchMonth(month);
+                rebuilt++;
+            } catch (Exception e) {
+                log.error("가격 분포 스케치 재생성 실패 - {}", month, e);
+            }
+        }
+        log.info("가격 분포 스케치 전체 재생성 완료 - {}/{}개월", rebuilt, months.size());
+        return rebuilt;
+    }
+
+    private static QuantileSummaryDTO priceSummary(QuantileSketch sketch) {
+        if (sketch.count() == 0) {
+            return null;
+        }
+        return QuantileSummaryDTO.builder()
+                .min(sketch.min())
+                .p10((double) Math.round(sketch.quantile(0.1)))
+                .p50((double) Math.round(sketch.quantile(0.5)))
+                .p90((double) Math.round(sketch.quantile(0.9)))
+                .max(sketch.max())
+                .build();
+    }
+
+    // 할인율 = 1 - 비율 이므로 비율의 분위를 뒤집어서 계산합니다. (할인율 p10 = 1 - 비율 p90)
+    private static QuantileSummaryDTO discountSummary(QuantileSketch ratioSketch) {
+        if (ratioSketch.count() == 0) {
+            return null;
+        }
+        return QuantileSummaryDTO.builder()
+                .min(1 - ratioSketch.max())
+                .p10(1 - ratioSketch.quantile(0.9))
+                .p50(1 - ratioSketch.quantile(0.5))
+                .p90(1 - ratioSketch.quantile(0.1))
+                .max(1 - ratioSketch.min())
+                .build();
+    }
+}
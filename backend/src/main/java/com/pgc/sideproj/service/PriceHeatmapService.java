@@ -0,0 +1,250 @@
+package com.pgc.sideproj.service;
+
+import com.pgc.sideproj.dto.db.ItemLocationDTO;
+import com.pgc.sideproj.dto.stats.HeatmapCellDTO;
+import com.pgc.sideproj.dto.stats.HeatmapResponseDTO;
+import com.pgc.sideproj.event.DataGenerationChangedEvent;
+import com.pgc.sideproj.mapper.AuctionItemMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 지도 가격 히트맵용 격자 집계를 제공하는 서비스입니다.
+ *
+ * <p>배치 후 데이터 세대가 바뀔 때마다 좌표가 있는 물건의 "최신" 최저입찰가를 고정 크기 위경도 격자로 묶어
+ * 해상도별로 개수/평균/중앙값을 미리 계산해 둡니다.
+ * 요청 시에는 화면 영역(bbox)에 걸친 격자만 이진 탐색으로 잘라 반환하므로
+ * 요청 경로에서 auction_history GROUP BY가 실행되지 않습니다.
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PriceHeatmapService {
+
+    // 해상도 인덱스별 격자 크기 (도 단위, 약 55km / 11km / 2.2km / 0.55km)
+    private static final double[] CELL_SIZES = {0.5, 0.1, 0.02, 0.005};
+
+    // 한 번에 반환할 최대 격자 수 (화면이 너무 넓으면 잘라서 반환)
+    private static final int MAX_CELLS = 10_000;
+
+    private final AuctionItemMapper auctionItemMapper;
+
+    private volatile Grid[] grids = emptyGrids();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    @EventListener
+    public void onDataGenerationChanged(DataGenerationChangedEvent event) {
+        refresh();
+    }
+
+    /**
+     * 물건 위치/최신 가격을 다시 읽어 모든 해상도의 격자 집계를 재계산합니다.
+     * 실패하면 기존 집계를 유지합니다.
+     */
+    public void refresh() {
+        long startTime = System.currentTimeMillis();
+        try {
+            List<ItemLocationDTO> locations = auctionItemMapper.findItemLocations();
+            Grid[] rebuilt = new Grid[CELL_SIZES.length];
+            for (int res = 0; res < CELL_SIZES.length; res++) {
+                rebuilt[res] = Grid.build(CELL_SIZES[res], locations);
+            }
+            grids = rebuilt;
+            log.info("가격 히트맵 집계 갱신 완료 - 물건 {}건 ({}ms)",
+                    locations.size(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("가격 히트맵 집계 갱신 실패. 기존 집계를 유지합니다.", e);
+        }
+    }
+
+    /**
+     * 화면 영역에 걸친 격자 집계를 조회합니다.
+     *
+     * @param minLon     영역 서쪽 경도
+     * @param minLat     영역 남쪽 위도
+     * @param maxLon     영역 동쪽 경도
+     * @param maxLat     영역 북쪽 위도
+     * @param resolution 해상도 인덱스 (0: 가장 거침)
+     * @return 영역 안의 격자 목록 (최대 MAX_CELLS개)
+     */
+    public HeatmapResponseDTO getHeatmap(double minLon, double minLat, double maxLon, double maxLat, int resolution) {
+        Grid grid = grids[resolution];
+        List<HeatmapCellDTO> cells = new ArrayList<>();
+        boolean truncated = grid.collect(minLon, minLat, maxLon, maxLat, MAX_CELLS, cells);
+
+        return HeatmapResponseDTO.builder()
+                .resolution(resolution)
+                .cellSizeDeg(grid.cellSize)
+                .truncated(truncated)
+                .cells(cells)
+                .build();
+    }
+
+    private static Grid[] emptyGrids() {
+        Grid[] empty = new Grid[CELL_SIZES.length];
+        for (int res = 0; res < CELL_SIZES.length; res++) {
+            empty[res] = Grid.build(CELL_SIZES[res], List.of());
+        }
+        return empty;
+    }
+
+    /**
+     * 한 해상도의 격자 집계 (불변)
+     *
+     * <p>격자 키((행 << 32) | 열)를 오름차순 정렬한 배열과 같은 순서의 집계 배열로 구성됩니다.
+     * 같은 행의 격자는 열 순서로 연속해 있으므로 행마다 이진 탐색 한 번으로 범위를 찾습니다.
+     */
+    private static final class Grid {
+        final double cellSize;
+        final long[] keys;
+        final int[] counts;
+        final int[] pricedCounts;
+        final long[] avgPrices;
+        final long[] medianPrices;
+
+        private Grid(double cellSize, long[] keys, int[] counts, int[] pricedCounts,
+                     long[] avgPrices, long[] medianPrices) {
+            this.cellSize = cellSize;
+            this.keys = keys;
+            this.counts = counts;
+            this.pricedCounts = pricedCounts;
+            this.avgPrices = avgPrices;
+            this.medianPrices = medianPrices;
+        }
+
+        static Grid build(double cellSize, List<ItemLocationDTO> locations) {
+            int n = locations.size();
+            long[] itemKeys = new long[n];
+            for (int i = 0; i < n; i++) {
+                ItemLocationDTO location = locations.get(i);
+                itemKeys[i] = key(row(location.getLatitude().doubleValue(), cellSize),
+                        col(location.getLongitude().doubleValue(), cellSize));
+            }
+            // 격자 키, 가격 순으로 정렬하면 격자별 구간 안에서 가격이 정렬되어 중앙값을 바로 구할 수 있습니다.
+            int[] order = IntStream.range(0, n).boxed()
+                    .sorted(Comparator.<Integer>comparingLong(i -> itemKeys[i])
+                            .thenComparingLong(i -> priceOf(locations.get(i))))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+
+            long[] keys = new long[n];
+            int[] counts = new int[n];
+            int[] pricedCounts = new int[n];
+            long[] avgPrices = new long[n];
+            long[] medianPrices = new long[n];
+            long[] prices = new long[n];
+            int cellCount = 0;
+
+            int start = 0;
+            while (start < n) {
+                long cellKey = itemKeys[order[start]];
+                int end = start;
+                int priced = 0;
+                long sum = 0;
+                while (end < n && itemKeys[order[end]] == cellKey) {
+                    long price = priceOf(locations.get(order[end]));
+                    if (price >= 0) {
+                        prices[priced++] = price;
+                        sum += price;
+                    }
+                    end++;
+                }
+                keys[cellCount] = cellKey;
+                counts[cellCount] = end - start;
+                pricedCounts[cellCount] = priced;
+                avgPrices[cellCount] = priced > 0 ? sum / priced : -1;
+                medianPrices[cellCount] = priced == 0 ? -1
+                        : (priced % 2 == 1 ? prices[priced / 2] : (prices[priced / 2 - 1] + prices[priced / 2]) / 2);
+                cellCount++;
+                start = end;
+            }
+
+            return new Grid(cellSize,
+                    Arrays.copyOf(keys, cellCount),
+                    Arrays.copyOf(counts, cellCount),
+                    Arrays.copyOf(pricedCounts, cellCount),
+                    Arrays.copyOf(avgPrices, cellCount),
+                    Arrays.copyOf(medianPrices, cellCount));
+        }
+
+        boolean collect(double minLon, double minLat, double maxLon, double maxLat,
+                        int limit, List<HeatmapCellDTO> out) {
+            int rowFrom = row(minLat, cellSize);
+            int rowTo = row(maxLat, cellSize);
+            int colFrom = col(minLon, cellSize);
+            int colTo = col(maxLon, cellSize);
+
+            for (int r = rowFrom; r <= rowTo; r++) {
+                int idx = lowerBound(key(r, colFrom));
+                long endKey = key(r, colTo);
+                while (idx < keys.length && keys[idx] <= endKey) {
+                    if (out.size() >= limit) {
+                        return true;
+                    }
+                    out.add(toCell(idx));
+                    idx++;
+                }
+            }
+            return false;
+        }
+
+        private HeatmapCellDTO toCell(int idx) {
+            int r = (int) (keys[idx] >>> 32);
+            int c = (int) keys[idx];
+            return HeatmapCellDTO.builder()
+                    .latitude(r * cellSize - 90.0 + cellSize / 2)
+                    .longitude(c * cellSize - 180.0 + cellSize / 2)
+                    .count(counts[idx])
+                    .pricedCount(pricedCounts[idx])
+                    .avgPrice(avgPrices[idx] >= 0 ? avgPrices[idx] : null)
+                    .medianPrice(medianPrices[idx] >= 0 ? medianPrices[idx] : null)
+                    .build();
+        }
+
+        private int lowerBound(long target) {
+            int lo = 0;
+            int hi = keys.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (keys[mid] < target) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        private static long priceOf(ItemLocationDTO location) {
+            return location.getMinBidPrc() != null ? location.getMinBidPrc() : -1L;
+        }
+
+        private static int row(double lat, double cellSize) {
+            return (int) Math.floor((Math.max(-90.0, Math.min(90.0, lat)) + 90.0) / cellSize);
+        }
+
+        private static int col(double lon, double cellSize) {
+            return (int) Math.floor((Math.max(-180.0, Math.min(180.0, lon)) + 180.0) / cellSize);
+        }
+
+        private static long key(int row, int col) {
+            return ((long) row << 32) | (col & 0xFFFFFFFFL);
+        }
+    }
+}
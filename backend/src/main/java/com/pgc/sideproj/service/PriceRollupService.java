@@ -0,0 +1,112 @@
+package com.pgc.sideproj.service;
+
+import com.pgc.sideproj.dto.db.PriceSketchDTO;
+import com.pgc.sideproj.dto.db.PriceSketchSourceDTO;
+import com.pgc.sideproj.mapper.PriceSketchMapper;
+import com.pgc.sideproj.mapper.PriceTrendMapper;
+import com.pgc.sideproj.util.QuantileSketch;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 가격 일별/월별 집계 테이블과 분포 스케치의 재계산 트랜잭션을 관리하는 서비스입니다.
+ *
+ * <p>하루(또는 한 달) 단위로 기존 집계를 지우고 다시 적재하며,
+ * 단위마다 독립적인 트랜잭션으로 처리하여 실패한 날짜가 다른 날짜에 영향을 주지 않도록 합니다.
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PriceRollupService {
+
+    // 다중 행 INSERT 한 번에 넣을 스케치 수
+    private static final int SKETCH_INSERT_CHUNK = 200;
+
+    private final PriceTrendMapper priceTrendMapper;
+    private final PriceSketchMapper priceSketchMapper;
+
+    /**
+     * 하루치 일별 집계를 다시 계산합니다.
+     *
+     * @param day 입찰마감일
+     * @return 적재된 집계 행 수
+     */
+    @Transactional
+    public int rebuildDay(LocalDate day) {
+        priceTrendMapper.deleteDailyRollup(day);
+        return priceTrendMapper.insertDailyRollup(day, day.plusDays(1));
+    }
+
+    /**
+     * 한 달치 월별 집계를 일별 집계로부터 다시 계산합니다.
+     *
+     * @param month 해당 월의 1일
+     * @return 적재된 집계 행 수
+     */
+    @Transactional
+    public int rebuildMonth(LocalDate month) {
+        priceTrendMapper.deleteMonthlyRollup(month);
+        return priceTrendMapper.insertMonthlyRollup(month, month.plusMonths(1));
+    }
+
+    /**
+     * 한 달치 이력으로 지역/카테고리별 가격 분포 스케치를 다시 만듭니다.
+     *
+     * <p>스케치는 값을 빼는 연산이 없으므로, 이력 가격이 갱신된 월은 통째로 다시 만듭니다.
+     *
+     * @param month 해당 월의 1일
+     * @return 적재된 스케치 행 수
+     */
+    @Transactional
+    public int rebuildSketchMonth(LocalDate month) {
+        List<PriceSketchSourceDTO> sources = priceSketchMapper.findSketchSources(month, month.plusMonths(1));
+
+        Map<String, QuantileSketch[]> sketchesByGroup = new LinkedHashMap<>();
+        Map<String, PriceSketchSourceDTO> groupKeys = new LinkedHashMap<>();
+        for (PriceSketchSourceDTO source : sources) {
+            if (source.getMinBidPrc() < 0) {
+                continue;
+            }
+            String groupKey = source.getRegionName() + '\u0000' + source.getCategoryName();
+            QuantileSketch[] pair = sketchesByGroup.computeIfAbsent(groupKey, key -> {
+                groupKeys.put(key, source);
+                return new QuantileSketch[]{new QuantileSketch(), new QuantileSketch()};
+            });
+            pair[0].add(source.getMinBidPrc());
+            Long appraisal = source.getApslAsesAvgAmt();
+            if (appraisal != null && appraisal > 0) {
+                pair[1].add((double) source.getMinBidPrc() / appraisal);
+            }
+        }
+
+        List<PriceSketchDTO> rows = new ArrayList<>(sketchesByGroup.size());
+        sketchesByGroup.forEach((groupKey, pair) -> {
+            PriceSketchSourceDTO group = groupKeys.get(groupKey);
+            rows.add(PriceSketchDTO.builder()
+                    .bucketMonth(month)
+                    .regionName(group.getRegionName())
+                    .categoryName(group.getCategoryName())
+                    .itemCount((int) pair[0].count())
+                    .priceSketch(pair[0].toBytes())
+                    .ratioSketch(pair[1].toBytes())
+                    .build());
+        });
+
+        priceSketchMapper.deleteMonth(month);
+        for (int from = 0; from < rows.size(); from += SKETCH_INSERT_CHUNK) {
+            priceSketchMapper.insertSketches(rows.subList(from, Math.min(from + SKETCH_INSERT_CHUNK, rows.size())));
+        }
+        return rows.size();
+    }
+}
@@ -0,0 +1,185 @@
+package com.pgc.sideproj.service;
+
+import com.pgc.sideproj.dto.db.AuctionHistoryDTO;
+import com.pgc.sideproj.dto.stats.PricePointDTO;
+import com.pgc.sideproj.dto.stats.PriceRollupRowDTO;
+import com.pgc.sideproj.dto.stats.PriceSeriesDTO;
+import com.pgc.sideproj.event.BatchCompletedEvent;
+import com.pgc.sideproj.exception.custom.ResourceNotFoundException;
+import com.pgc.sideproj.mapper.AuctionItemMapper;
+import com.pgc.sideproj.mapper.PriceTrendMapper;
+import com.pgc.sideproj.util.Lttb;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 물건별/지역·카테고리별 가격 추이를 제공하는 서비스입니다.
+ *
+ * <p>지역·카테고리 추이는 배치 때 갱신되는 일별/월별 집계 테이블에서 읽으므로
+ * 이력이 쌓여도 조회 비용이 기간 길이에만 비례합니다.
+ * 응답은 LTTB로 요청한 점 개수까지 줄여 차트가 그리는 데이터 양을 일정하게 유지합니다.
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PriceTrendService {
+
+    public static final String GRANULARITY_RAW = "raw";
+    public static final String GRANULARITY_DAY = "day";
+    public static final String GRANULARITY_MONTH = "month";
+
+    private final PriceTrendMapper priceTrendMapper;
+    private final PriceRollupService priceRollupService;
+    private final AuctionItemMapper auctionItemMapper;
+
+    /**
+     * 배치에서 변경된 이력이 속한 날짜와 월의 집계(및 월별 분포 스케치)만 다시 계산합니다.
+     * 실패한 날짜는 로그만 남기고 다음 배치에서 다시 계산됩니다.
+     */
+    @EventListener
+    public void onBatchCompleted(BatchCompletedEvent event) {
+        long startTime = System.currentTimeMillis();
+        List<LocalDate> days;
+        try {
+            days = priceTrendMapper.findTouchedDays(event.getStartedAt());
+        } catch (Exception e) {
+            log.error("가격 집계 재계산 대상 조회 실패", e);
+            return;
+        }
+
+        Set<LocalDate> months = new TreeSet<>();
+        int failedCount = 0;
+        for (LocalDate day : days) {
+            try {
+                priceRollupService.rebuildDay(day);
+                months.add(day.withDayOfMonth(1));
+            } catch (Exception e) {
+                failedCount++;
+                log.error("일별 가격 집계 재계산 실패 - {}", day, e);
+            }
+        }
+        for (LocalDate month : months) {
+            try {
+                priceRollupService.rebuildMonth(month);
+                priceRollupService.rebuildSketchMonth(month);
+            } catch (Exception e) {
+                failedCount++;
+                log.error("월별 가격 집계 재계산 실패 - {}", month, e);
+            }
+        }
+
+        log.info("가격 집계 갱신 완료 - 일 {}건, 월 {}건, 실패 {}건 ({}ms)",
+                days.size(), months.size(), failedCount, System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 단일 물건의 가격 이력을 입찰마감일시 순으로 조회합니다.
+     *
+     * @param cltrNo 공매 물건 번호
+     * @param points 최대 점 개수
+     * @return 가격 이력 시계열
+     * @throws ResourceNotFoundException 해당 물건을 찾을 수 없는 경우
+     */
+    public PriceSeriesDTO getItemPriceHistory(String cltrNo, int points) {
+        List<AuctionHistoryDTO> history = priceTrendMapper.findItemPriceHistory(cltrNo);
+        if (history.isEmpty() && auctionItemMapper.findMasterByCltrNo(cltrNo).isEmpty()) {
+            throw new ResourceNotFoundException("AuctionMaster", "cltrNo", cltrNo);
+        }
+
+        List<PricePointDTO> all = new ArrayList<>(history.size());
+        for (AuctionHistoryDTO row : history) {
+            Long appraisal = row.getApslAsesAvgAmt();
+            all.add(PricePointDTO.builder()
+                    .time(row.getPbctClsDtm())
+                    .minBidPrc(row.getMinBidPrc())
+                    .appraisalRatio(appraisal != null && appraisal > 0
+                            ? (double) row.getMinBidPrc() / appraisal : null)
+                    .build());
+        }
+        return toSeries(GRANULARITY_RAW, all, points);
+    }
+
+    /**
+     * 지역/카테고리별 가격 추이를 집계 테이블에서 조회합니다.
+     *
+     * @param region      시/도 (null이면 전체)
+     * @param category    대분류 카테고리 (null이면 전체)
+     * @param granularity day 또는 month
+     * @param from        시작일 (포함)
+     * @param to          종료일 (포함)
+     * @param points      최대 점 개수
+     * @return 평균 최저입찰가와 평균 감정가 비율의 시계열
+     */
+    public PriceSeriesDTO getPriceTrend(String region, String category, String granularity,
+                                        LocalDate from, LocalDate to, int points) {
+        boolean monthly = GRANULARITY_MONTH.equals(granularity);
+        LocalDate bucketFrom = monthly ? from.withDayOfMonth(1) : from;
+
+        List<PriceRollupRowDTO> rows = priceTrendMapper.findTrend(monthly, region, category, bucketFrom, to);
+
+        List<PricePointDTO> all = new ArrayList<>(rows.size());
+        for (PriceRollupRowDTO row : rows) {
+            if (row.getItemCount() == 0) {
+                continue;
+            }
+            all.add(PricePointDTO.builder()
+                    .time(row.getBucket().atStartOfDay())
+                    .minBidPrc(row.getMinBidPrcSum() / row.getItemCount())
+                    .appraisalRatio(row.getAppraisalRatioCount() > 0
+                            ? row.getAppraisalRatioSum() / row.getAppraisalRatioCount() : null)
+                    .itemCount(row.getItemCount())
+                    .build());
+        }
+        return toSeries(monthly ? GRANULARITY_MONTH : GRANULARITY_DAY, all, points);
+    }
+
+    private PriceSeriesDTO toSeries(String granularity, List<PricePointDTO> all, int points) {
+        int n = all.size();
+        if (n <= points) {
+            return PriceSeriesDTO.builder()
+                    .granularity(granularity)
+                    .totalPoints(n)
+                    .downsampled(false)
+                    .points(all)
+                    .build();
+        }
+
+        // 시간(초)과 최저입찰가를 기준으로 모양을 보존하는 점만 남깁니다.
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            PricePointDTO point = all.get(i);
+            x[i] = toEpochSecond(point.getTime());
+            y[i] = point.getMinBidPrc();
+        }
+        int[] indices = Lttb.downsample(x, y, points);
+
+        List<PricePointDTO> sampled = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            sampled.add(all.get(index));
+        }
+        return PriceSeriesDTO.builder()
+                .granularity(granularity)
+                .totalPoints(n)
+                .downsampled(true)
+                .points(sampled)
+                .build();
+    }
+
+    private static double toEpochSecond(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+}
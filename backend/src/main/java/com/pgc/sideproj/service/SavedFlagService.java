@@ -0,0 +1,159 @@
+package com.pgc.sideproj.service;
+
+import com.pgc.sideproj.mapper.SavedItemMapper;
+import com.pgc.sideproj.util.SortedIntArrays;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 목록 응답에 "찜 여부"를 표시하기 위한 사용자별 찜 집합 캐시입니다.
+ *
+ * <p>물건번호(cltr_no)를 한 번 정수 번호로 바꿔 두고, 사용자마다 찜한 물건 번호를
+ * 정렬된 int 배열로 보관합니다. 목록 한 페이지의 표시는 항목당 이진 탐색 한 번이므로
+ * 항목마다 saved_item을 조회하지 않습니다.
+ *
+ * <p>사용자 집합은 처음 필요할 때 한 번 읽고, 같은 인스턴스의 찜 추가/삭제는 커밋 후 바로 반영합니다.
+ * 최근에 쓰지 않은 사용자부터 내보내며(LRU), 다른 인스턴스에서 바뀐 찜은 TTL(기본 5분) 후 다시 읽어 반영합니다.
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+@Service
+public class SavedFlagService {
+
+    private final SavedItemMapper savedItemMapper;
+    private final long ttlMillis;
+
+    // cltr_no -> 정수 번호 (추가만 하므로 번호는 바뀌지 않음)
+    private final ConcurrentHashMap<String, Integer> ordinals = new ConcurrentHashMap<>();
+    private final AtomicInteger nextOrdinal = new AtomicInteger();
+
+    // 접근 순서 LinkedHashMap (users 모니터로 보호)
+    private final Map<Long, UserFlags> users;
+    // 로딩 중인 사용자 -> 로딩 중 찜이 바뀌었는지 여부 (users 모니터로 보호)
+    private final Map<Long, Boolean> loading = new HashMap<>();
+
+    public SavedFlagService(SavedItemMapper savedItemMapper,
+                            @Value("${saved-flags.max-users:10000}") int maxUsers,
+                            @Value("${saved-flags.ttl-seconds:300}") long ttlSeconds) {
+        this.savedItemMapper = savedItemMapper;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.users = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserFlags> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    /**
+     * 사용자의 찜 집합을 반환합니다. 캐시에 없거나 만료되었으면 DB에서 읽습니다.
+     *
+     * @param userId 사용자 ID
+     * @return 찜 여부 조회용 집합 (반환 후 바뀌지 않는 스냅샷)
+     */
+    public SavedFlags flagsOf(Long userId) {
+        long now = System.currentTimeMillis();
+        synchronized (users) {
+            UserFlags cached = users.get(userId);
+            if (cached != null && now - cached.loadedAt < ttlMillis) {
+                return new SavedFlags(cached.items);
+            }
+            loading.put(userId, Boolean.FALSE);
+        }
+
+        // DB 조회는 잠금 밖에서 수행
+        List<String> itemIds = savedItemMapper.findItemIdsByUserId(userId);
+        int[] values = new int[itemIds.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = ordinalOf(itemIds.get(i));
+        }
+        int[] items = SortedIntArrays.of(values);
+
+        synchronized (users) {
+            Boolean changedWhileLoading = loading.remove(userId);
+            // 읽는 동안 찜이 바뀌었으면 이번 결과는 캐시하지 않고 다음 요청에서 다시 읽습니다.
+            if (Boolean.FALSE.equals(changedWhileLoading)) {
+                users.put(userId, new UserFlags(items, now));
+            } else {
+                users.remove(userId);
+            }
+        }
+        return new SavedFlags(items);
+    }
+
+    /**
+     * 찜 추가를 캐시에 반영합니다. (트랜잭션 커밋 후 호출)
+     */
+    public void onSaved(Long userId, Collection<String> itemIds) {
+        apply(userId, itemIds, true);
+    }
+
+    /**
+     * 찜 삭제를 캐시에 반영합니다. (트랜잭션 커밋 후 호출)
+     */
+    public void onUnsaved(Long userId, Collection<String> itemIds) {
+        apply(userId, itemIds, false);
+    }
+
+    private void apply(Long userId, Collection<String> itemIds, boolean saved) {
+        synchronized (users) {
+            if (loading.containsKey(userId)) {
+                loading.put(userId, Boolean.TRUE);
+            }
+            UserFlags cached = users.get(userId);
+            if (cached == null) {
+                return;
+            }
+            int[] items = cached.items;
+            for (String itemId : itemIds) {
+                items = saved
+                        ? SortedIntArrays.add(items, ordinalOf(itemId))
+                        : SortedIntArrays.remove(items, ordinalOf(itemId));
+            }
+            cached.items = items;
+        }
+    }
+
+    private int ordinalOf(String itemId) {
+        return ordinals.computeIfAbsent(itemId, k -> nextOrdinal.getAndIncrement());
+    }
+
+    private static final class UserFlags {
+        int[] items;
+        final long loadedAt;
+
+        UserFlags(int[] items, long loadedAt) {
+            this.items = items;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    /**
+     * 한 사용자의 찜 집합 스냅샷
+     */
+    public final class SavedFlags {
+        private final int[] items;
+
+        private SavedFlags(int[] items) {
+            this.items = items;
+        }
+
+        public boolean contains(String itemId) {
+            if (items.length == 0) {
+                return false;
+            }
+            // 번호가 없는 물건은 아무도 찜한 적이 없는 물건
+            Integer ordinal = ordinals.get(itemId);
+            return ordinal != null && SortedIntArrays.contains(items, ordinal);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.pgc.sideproj.service;
+
+import com.pgc.sideproj.mapper.NotificationMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배치 후 찜 물건 알림을 만드는 트랜잭션을 관리하는 서비스입니다.
+ *
+ * <p>배치에서 이력이 바뀐 물건의 최신 이력을 saved_item 전체와 한 번의 INSERT ... SELECT로 조인해
+ * 알림 행을 만들고, 같은 트랜잭션에서 찜 항목의 알림 기준값(notified_*)을 최신 값으로 맞춥니다.
+ * 사용자 수나 찜 수만큼 반복하지 않으며, 같은 구간을 다시 처리해도 기준값이 이미 맞춰져 있으므로
+ * 알림이 중복으로 생기지 않습니다.
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class SavedItemAlertService {
+
+    private final NotificationMapper notificationMapper;
+
+    /**
+     * since 이후 변경된 물건에 대한 알림을 기록합니다.
+     *
+     * @param since 배치 시작 일시 (DB 시계)
+     * @return 추가된 알림 수
+     */
+    @Transactional
+    public int recordAlerts(LocalDateTime since) {
+        int inserted = notificationMapper.insertAlerts(since);
+        notificationMapper.updateNotifiedBaseline(since);
+        return inserted;
+    }
+}
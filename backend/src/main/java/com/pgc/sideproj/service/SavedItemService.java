@@ -1,20 +1,28 @@
 package com.pgc.sideproj.service;
 
 import com.pgc.sideproj.dto.db.AuctionMasterDTO;
-import com.pgc.sideproj.dto.db.SavedItemDTO;
-import com.pgc.sideproj.exception.custom.DuplicateSavedItemException;
+import com.pgc.sideproj.dto.response.CursorPageResponseDTO;
+import com.pgc.sideproj.dto.response.SavedItemSummaryDTO;
+import com.pgc.sideproj.exception.custom.ResourceNotFoundException;
 import com.pgc.sideproj.mapper.SavedItemMapper;
 import lombok.RequiredArgsConstructor;
-import lombok.Setter;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 /**
  * 찜하기 기능을 제공하는 서비스입니다.
  * 
  * <p>사용자가 관심 있는 공매 물건을 찜 목록에 추가하거나 제거할 수 있는 비즈니스 로직을 처리합니다.
+ * 추가/제거는 uk_user_item 유니크 키에 기대는 단일 문장이므로 멱등이며, 같은 요청을 여러 번 보내도 결과가 같습니다.
+ * 커밋이 끝나면 변경 내용을 {@link SavedFlagService}의 사용자별 찜 집합에도 반영합니다.
  * 
  * @author sideproj
  * @since 1.0
@@ -23,26 +31,49 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SavedItemService {
 
+    public static final String SORT_RECENT = "recent";
+    public static final String SORT_CLOSING = "closing";
+    public static final String SORT_PRICE_DROP = "priceDrop";
+
     private final SavedItemMapper savedItemMapper;
+    private final SavedFlagService savedFlagService;
 
     /**
      * 사용자의 찜 목록에 공매 물건을 추가합니다.
      * 
-     * <p>이미 찜한 물건인 경우 DuplicateSavedItemException을 발생시킵니다.
+     * <p>이미 찜한 물건이면 아무것도 바꾸지 않고 정상 처리합니다.
      * 
      * @param userId 사용자 ID
      * @param itemId 공매 물건 ID (cltr_no)
-     * @throws DuplicateSavedItemException 이미 찜한 물건인 경우
+     * @throws ResourceNotFoundException 존재하지 않는 물건인 경우
      */
     @Transactional
     public void addSavedItem(Long userId, String itemId) {
-        if (savedItemMapper.findByUserIdAndItemId(userId, itemId).isPresent()) {
-            throw new DuplicateSavedItemException(userId, itemId);
+        try {
+            savedItemMapper.saveIfAbsent(userId, itemId);
+        } catch (DataIntegrityViolationException e) {
+            // 중복은 문장 안에서 처리되므로 여기 오는 것은 fk_saved_item_auction 위반뿐입니다.
+            throw new ResourceNotFoundException("AuctionMaster", "cltrNo", itemId);
+        }
+        afterCommit(userId, List.of(itemId), true);
+    }
+
+    /**
+     * 여러 공매 물건을 한 번에 찜 목록에 추가합니다.
+     * 
+     * <p>존재하지 않는 물건은 건너뛰고, 이미 찜한 물건은 그대로 둡니다.
+     * 
+     * @param userId  사용자 ID
+     * @param itemIds 공매 물건 ID 목록 (중복은 한 번만 처리)
+     */
+    @Transactional
+    public void addSavedItems(Long userId, List<String> itemIds) {
+        List<String> distinct = distinct(itemIds);
+        if (!distinct.isEmpty()) {
+            savedItemMapper.saveAllIfAbsent(userId, distinct);
+            // 건너뛴(존재하지 않는) 물건도 표시되지만 목록에 나올 일이 없으므로 무해합니다.
+            afterCommit(userId, distinct, true);
         }
-        SavedItemDTO item = new SavedItemDTO();
-        item.setUserId(userId);
-        item.setItemId(itemId);
-        savedItemMapper.save(item);
     }
 
     /**
@@ -55,11 +86,23 @@ public class SavedItemService {
      */
     @Transactional
     public void deleteSavedItem(Long userId, String itemId) {
-        if (savedItemMapper.findByUserIdAndItemId(userId, itemId).isEmpty()) {
-            return;
-        }
-
         savedItemMapper.delete(userId, itemId);
+        afterCommit(userId, List.of(itemId), false);
+    }
+
+    /**
+     * 여러 공매 물건을 한 번에 찜 목록에서 제거합니다.
+     * 
+     * @param userId  사용자 ID
+     * @param itemIds 공매 물건 ID 목록 (찜 목록에 없는 물건은 무시)
+     */
+    @Transactional
+    public void deleteSavedItems(Long userId, List<String> itemIds) {
+        List<String> distinct = distinct(itemIds);
+        if (!distinct.isEmpty()) {
+            savedItemMapper.deleteAll(userId, distinct);
+            afterCommit(userId, distinct, false);
+        }
     }
 
     /**
@@ -72,4 +115,73 @@ public class SavedItemService {
     public List<AuctionMasterDTO> getMySavedItems(Long userId) {
         return savedItemMapper.findItemsByUserId(userId);
     }
+
+    /**
+     * 사용자의 찜 목록을 키셋 페이지로 조회합니다.
+     * 
+     * <p>각 물건의 최신 최저입찰가, 상태, 마감일시와 찜한 뒤 가격 인하율을 함께 반환합니다.
+     * 전체 개수를 세지 않고 size + 1건만 읽어 다음 페이지 여부를 판단합니다.
+     * 
+     * @param userId 사용자 ID
+     * @param sort   정렬 (recent: 찜한 순, closing: 마감 임박순, priceDrop: 가격 인하율 순)
+     * @param size   페이지 크기
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @return 찜 목록 페이지
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<SavedItemSummaryDTO> getMySavedItemPage(Long userId, String sort, int size, String cursor) {
+        Long cursorKey = null;
+        Long cursorId = null;
+        if (cursor != null) {
+            int separator = cursor.indexOf('_');
+            cursorId = Long.parseLong(cursor.substring(separator + 1));
+            // recent 커서에 정렬 키가 없어도 되고, 다른 정렬의 커서에 키가 없으면 첫 페이지로 취급
+            if (separator > 0) {
+                cursorKey = Long.parseLong(cursor.substring(0, separator));
+            } else if (!SORT_RECENT.equals(sort)) {
+                cursorId = null;
+            }
+        }
+
+        List<SavedItemSummaryDTO> rows = savedItemMapper.findSavedItemPage(userId, sort, cursorKey, cursorId, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<SavedItemSummaryDTO> page = hasNext ? rows.subList(0, size) : rows;
+        for (SavedItemSummaryDTO item : page) {
+            item.setPriceDropRate(priceDropRate(item.getSavedMinBidPrc(), item.getMinBidPrc()));
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            SavedItemSummaryDTO last = page.get(page.size() - 1);
+            nextCursor = SORT_RECENT.equals(sort)
+                    ? String.valueOf(last.getSavedId())
+                    : last.getSortKey() + "_" + last.getSavedId();
+        }
+        return new CursorPageResponseDTO<>(new ArrayList<>(page), nextCursor);
+    }
+
+    private static Double priceDropRate(Long savedPrice, Long currentPrice) {
+        if (savedPrice == null || currentPrice == null || savedPrice == 0) {
+            return null;
+        }
+        return (double) (savedPrice - currentPrice) / savedPrice;
+    }
+
+    // 롤백된 변경이 캐시에 남지 않도록 커밋 후에 반영
+    private void afterCommit(Long userId, Collection<String> itemIds, boolean saved) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if (saved) {
+                    savedFlagService.onSaved(userId, itemIds);
+                } else {
+                    savedFlagService.onUnsaved(userId, itemIds);
+                }
+            }
+        });
+    }
+
+    private static List<String> distinct(List<String> itemIds) {
+        return new ArrayList<>(new LinkedHashSet<>(itemIds));
+    }
 }
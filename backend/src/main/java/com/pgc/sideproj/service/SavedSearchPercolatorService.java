@@ -0,0 +1,88 @@
+package com.pgc.sideproj.service;
+
+import com.pgc.sideproj.dto.db.ChangedItemDTO;
+import com.pgc.sideproj.dto.db.SavedSearchDTO;
+import com.pgc.sideproj.dto.db.SearchMatchDTO;
+import com.pgc.sideproj.mapper.SavedSearchMapper;
+import com.pgc.sideproj.util.SearchPercolator;
+import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 배치에서 바뀐 물건을 저장 검색 색인(퍼콜레이터)에 흘려 일치 결과를 만드는 서비스입니다.
+ *
+ * <p>저장 검색을 모두 읽어 {@link SearchPercolator}로 색인한 뒤, 바뀐 물건을 커서로 한 행씩 읽으며 대조합니다.
+ * 저장 검색마다 findItems를 다시 실행하지 않으므로 비용은 (저장 검색 수 + 바뀐 물건 수)에 비례합니다.
+ *
+ * <p>커서가 열려 있는 동안 같은 연결로 다른 문장을 실행하지 않도록, 일치 결과는 모아서 반환하고
+ * 기록은 호출한 쪽에서 커서를 닫은 뒤에 합니다.
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class SavedSearchPercolatorService {
+
+    // 한 배치에서 저장 검색 하나당 최대 알림 수 (넓은 조건의 검색이 알림을 쏟아내지 않도록)
+    static final int MAX_MATCHES_PER_SEARCH = 50;
+
+    private final SavedSearchMapper savedSearchMapper;
+
+    /**
+     * since 이후 바뀐 물건과 일치하는 저장 검색을 찾습니다.
+     *
+     * @param since 배치 시작 일시 (DB 시계)
+     * @return 일치 결과 (저장 검색이 없으면 빈 목록)
+     */
+    @Transactional(readOnly = true)
+    public List<SearchMatchDTO> percolate(LocalDateTime since) {
+        List<SavedSearchDTO> searches = savedSearchMapper.findAll();
+        Map<Long, Long> ownerBySearchId = new HashMap<>(searches.size() * 2);
+        List<SearchPercolator.Query> queries = new ArrayList<>(searches.size());
+        for (SavedSearchDTO search : searches) {
+            ownerBySearchId.put(search.getId(), search.getUserId());
+            queries.add(new SearchPercolator.Query(search.getId(), search.getKeyword(), search.getRegion(),
+                    search.getCategory(), search.getMinPrice(), search.getMaxPrice()));
+        }
+        SearchPercolator percolator = SearchPercolator.build(queries);
+        if (percolator.size() == 0) {
+            return List.of();
+        }
+
+        SearchPercolator.Matcher matcher = percolator.matcher();
+        Map<Long, Integer> matchCounts = new HashMap<>();
+        List<SearchMatchDTO> matches = new ArrayList<>();
+        try (Cursor<ChangedItemDTO> items = savedSearchMapper.streamChangedItems(since)) {
+            for (ChangedItemDTO item : items) {
+                SearchPercolator.Document document = new SearchPercolator.Document(item.getCltrNm(),
+                        item.getClnLdnmAdrs(), item.getClnNmrdAdrs(), item.getCtgrFullNm(), item.getMinBidPrc());
+                matcher.match(document, query -> {
+                    if (matchCounts.merge(query.id(), 1, Integer::sum) <= MAX_MATCHES_PER_SEARCH) {
+                        matches.add(SearchMatchDTO.builder()
+                                .userId(ownerBySearchId.get(query.id()))
+                                .savedSearchId(query.id())
+                                .itemId(item.getCltrNo())
+                                .cltrHstrNo(item.getCltrHstrNo())
+                                .minBidPrc(item.getMinBidPrc())
+                                .status(item.getPbctCltrStatNm())
+                                .build());
+                    }
+                });
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,108 @@
+package com.pgc.sideproj.service;
+
+import com.pgc.sideproj.dto.db.SavedSearchDTO;
+import com.pgc.sideproj.dto.db.SearchMatchDTO;
+import com.pgc.sideproj.dto.request.SavedSearchRequest;
+import com.pgc.sideproj.event.BatchCompletedEvent;
+import com.pgc.sideproj.exception.custom.ResourceNotFoundException;
+import com.pgc.sideproj.exception.custom.SavedSearchLimitExceededException;
+import com.pgc.sideproj.mapper.NotificationMapper;
+import com.pgc.sideproj.mapper.SavedSearchMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 저장 검색을 관리하고, 배치 후 새로 일치한 물건을 알림으로 기록하는 서비스입니다.
+ *
+ * <p>배치가 끝나면 {@link SavedSearchPercolatorService}로 바뀐 물건과 일치하는 저장 검색을 찾아
+ * SEARCH_MATCH 알림을 묶음 단위 INSERT로 기록하고, 실시간 구독자에게 전달합니다.
+ * 같은 검색에 같은 물건은 한 번만 알리므로 같은 구간을 다시 처리해도 중복되지 않습니다.
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SavedSearchService {
+
+    // 사용자당 최대 저장 검색 수
+    public static final int MAX_SEARCHES_PER_USER = 20;
+
+    // 알림 INSERT 한 문장에 담을 최대 행 수
+    private static final int INSERT_CHUNK_SIZE = 1000;
+
+    private final SavedSearchMapper savedSearchMapper;
+    private final NotificationMapper notificationMapper;
+    private final SavedSearchPercolatorService savedSearchPercolatorService;
+    private final NotificationStreamService notificationStreamService;
+
+    @EventListener
+    public void onBatchCompleted(BatchCompletedEvent event) {
+        try {
+            long startTime = System.currentTimeMillis();
+            List<SearchMatchDTO> matches = savedSearchPercolatorService.percolate(event.getStartedAt());
+            int inserted = 0;
+            for (int from = 0; from < matches.size(); from += INSERT_CHUNK_SIZE) {
+                inserted += notificationMapper.insertSearchMatches(
+                        matches.subList(from, Math.min(from + INSERT_CHUNK_SIZE, matches.size())));
+            }
+            log.info("저장 검색 알림 생성 완료 - 일치 {}건, 신규 {}건 ({}ms)",
+                    matches.size(), inserted, System.currentTimeMillis() - startTime);
+            if (inserted > 0) {
+                notificationStreamService.deliverNew();
+            }
+        } catch (Exception e) {
+            log.error("저장 검색 알림 생성 실패 - 배치 시작: {}", event.getStartedAt(), e);
+        }
+    }
+
+    /**
+     * 사용자의 저장 검색 목록을 최신 순으로 조회합니다.
+     */
+    public List<SavedSearchDTO> getSavedSearches(Long userId) {
+        return savedSearchMapper.findByUserId(userId);
+    }
+
+    /**
+     * 저장 검색을 등록합니다. 다음 배치부터 새로 일치하는 물건을 알립니다.
+     *
+     * @param userId  사용자 ID
+     * @param request 검색 조건
+     * @return 등록된 저장 검색
+     * @throws SavedSearchLimitExceededException 사용자당 최대 개수를 넘는 경우
+     */
+    public SavedSearchDTO createSavedSearch(Long userId, SavedSearchRequest request) {
+        if (savedSearchMapper.countByUserId(userId) >= MAX_SEARCHES_PER_USER) {
+            throw new SavedSearchLimitExceededException(MAX_SEARCHES_PER_USER);
+        }
+        SavedSearchDTO search = new SavedSearchDTO();
+        search.setUserId(userId);
+        search.setKeyword(trimToNull(request.getKeyword()));
+        search.setRegion(trimToNull(request.getRegion()));
+        search.setCategory(trimToNull(request.getCategory()));
+        search.setMinPrice(request.getMinPrice());
+        search.setMaxPrice(request.getMaxPrice());
+        savedSearchMapper.save(search);
+        return search;
+    }
+
+    /**
+     * 저장 검색을 삭제합니다. 이미 기록된 알림은 남습니다.
+     *
+     * @throws ResourceNotFoundException 사용자의 저장 검색이 아닌 경우
+     */
+    public void deleteSavedSearch(Long userId, Long id) {
+        if (savedSearchMapper.delete(userId, id) == 0) {
+            throw new ResourceNotFoundException("SavedSearch", "id", id);
+        }
+    }
+
+    private static String trimToNull(String value) {
+        return value == null || value.isBlank() ? null : value.strip();
+    }
+}
@@ -0,0 +1,356 @@
+package com.pgc.sideproj.service;
+
+import com.pgc.sideproj.dto.db.CubeSourceDTO;
+import com.pgc.sideproj.dto.stats.CubeCellDTO;
+import com.pgc.sideproj.dto.stats.CubeResponseDTO;
+import com.pgc.sideproj.event.DataGenerationChangedEvent;
+import com.pgc.sideproj.mapper.StatisticsMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 지역(시/도 → 시/군/구 → 읍/면/동) x 카테고리 경로 집계 큐브를 제공하는 서비스입니다.
+ *
+ * <p>배치 후 데이터 세대가 바뀔 때마다 물건별 최신 최저입찰가를 두 계층의 모든 조상 조합에 미리 더해 두므로
+ * 어떤 조각(slice)이나 상위 단계 합계(roll-up)도 배열 인덱스 한 번으로 조회됩니다.
+ * 셀은 (지역 노드 순번 * 카테고리 노드 수 + 카테고리 노드 순번) 위치의 원시 타입 배열에 저장됩니다.
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StatisticsCubeService {
+
+    public static final String DRILL_NONE = "none";
+    public static final String DRILL_REGION = "region";
+    public static final String DRILL_CATEGORY = "category";
+
+    // 지역 계층 깊이 (시/도, 시/군/구, 읍/면/동)
+    private static final int MAX_REGION_DEPTH = 3;
+    // 셀 수가 이보다 많으면 지역 깊이를 줄여 메모리 사용량을 제한합니다. (셀당 16바이트)
+    private static final long MAX_CELLS = 4_000_000L;
+
+    private final StatisticsMapper statisticsMapper;
+
+    private volatile Cube cube = Cube.build(List.of(), MAX_REGION_DEPTH, MAX_CELLS);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    @EventListener
+    public void onDataGenerationChanged(DataGenerationChangedEvent event) {
+        refresh();
+    }
+
+    /**
+     * 물건 주소/카테고리/최신 가격을 다시 읽어 큐브를 재생성합니다.
+     * 실패하면 기존 큐브를 유지합니다.
+     */
+    public void refresh() {
+        long startTime = System.currentTimeMillis();
+        try {
+            List<CubeSourceDTO> sources = statisticsMapper.findCubeSources();
+            Cube rebuilt = null;
+            for (int depth = MAX_REGION_DEPTH; depth >= 1 && rebuilt == null; depth--) {
+                rebuilt = Cube.build(sources, depth, MAX_CELLS);
+                if (rebuilt == null) {
+                    log.warn("집계 큐브 셀 수가 {}개를 넘습니다. 지역 깊이를 {}단계로 줄입니다.", MAX_CELLS, depth - 1);
+                }
+            }
+            if (rebuilt == null) {
+                log.error("집계 큐브를 만들 수 없습니다. 기존 큐브를 유지합니다.");
+                return;
+            }
+            cube = rebuilt;
+            log.info("집계 큐브 갱신 완료 - 물건 {}건, 지역 {}개 x 카테고리 {}개 ({}ms)",
+                    sources.size(), rebuilt.regions.size(), rebuilt.categories.size(),
+                    System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("집계 큐브 갱신 실패. 기존 큐브를 유지합니다.", e);
+        }
+    }
+
+    /**
+     * 지역 x 카테고리 조각의 합계와 한 축의 하위 단계 분해를 조회합니다.
+     *
+     * @param region   지역 경로 (공백 구분, null 또는 빈 문자열이면 전체)
+     * @param category 카테고리 경로 ("/" 구분, null 또는 빈 문자열이면 전체)
+     * @param drill    none / region / category
+     * @return 조각 합계와 하위 단계 목록 (존재하지 않는 경로면 0건)
+     */
+    public CubeResponseDTO query(String region, String category, String drill) {
+        Cube current = cube;
+        List<String> regionPath = parseRegionPath(region);
+        List<String> categoryPath = parseCategoryPath(category);
+        int r = current.regions.find(regionPath);
+        int c = current.categories.find(categoryPath);
+
+        if (r < 0 || c < 0) {
+            return CubeResponseDTO.builder()
+                    .total(CubeCellDTO.builder().region(regionPath).category(categoryPath).build())
+                    .drill(drill)
+                    .children(List.of())
+                    .build();
+        }
+
+        List<CubeCellDTO> children = new ArrayList<>();
+        if (DRILL_REGION.equals(drill)) {
+            for (int child : current.regions.children[r]) {
+                children.add(current.cell(child, c));
+            }
+        } else if (DRILL_CATEGORY.equals(drill)) {
+            for (int child : current.categories.children[c]) {
+                children.add(current.cell(r, child));
+            }
+        }
+        children.removeIf(cell -> cell.getCount() == 0);
+        children.sort(Comparator.comparingInt(CubeCellDTO::getCount).reversed());
+
+        return CubeResponseDTO.builder()
+                .total(current.cell(r, c))
+                .drill(drill)
+                .children(children)
+                .build();
+    }
+
+    /**
+     * 지번주소에서 시/도, 시/군/구, 읍/면/동 경로를 추출합니다.
+     *
+     * <p>"성남시 분당구"처럼 일반구가 있는 시는 시와 구를 묶어 한 단계로 취급하고,
+     * 세종특별자치시처럼 시/군/구가 없는 주소는 읍/면/동이 두 번째 단계가 됩니다.
+     */
+    static List<String> parseRegionPath(String address) {
+        if (address == null || address.isBlank()) {
+            return List.of();
+        }
+        String[] tokens = address.trim().split("\\s+");
+        List<String> path = new ArrayList<>(MAX_REGION_DEPTH);
+        path.add(tokens[0]);
+
+        int i = 1;
+        if (i < tokens.length && endsWithAny(tokens[i], "시", "군", "구")) {
+            String sigungu = tokens[i++];
+            if (sigungu.endsWith("시") && i < tokens.length && tokens[i].endsWith("구")) {
+                sigungu = sigungu + " " + tokens[i++];
+            }
+            path.add(sigungu);
+        }
+        if (i < tokens.length && endsWithAny(tokens[i], "동", "읍", "면", "가")) {
+            path.add(tokens[i]);
+        }
+        return path;
+    }
+
+    /**
+     * "토지 / 대지" 형식의 카테고리 전체명을 경로로 나눕니다.
+     */
+    static List<String> parseCategoryPath(String category) {
+        if (category == null || category.isBlank()) {
+            return List.of();
+        }
+        List<String> path = new ArrayList<>();
+        for (String part : category.split("/")) {
+            String trimmed = part.trim();
+            if (!trimmed.isEmpty()) {
+                path.add(trimmed);
+            }
+        }
+        return path;
+    }
+
+    private static boolean endsWithAny(String token, String... suffixes) {
+        for (String suffix : suffixes) {
+            if (token.length() > suffix.length() && token.endsWith(suffix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 한 차원의 계층 구조 (불변). 노드 0은 전체(root)입니다.
+     */
+    private static final class Hierarchy {
+        final String[] names;
+        final int[] parents;
+        final int[][] children;
+        final int[][] ancestorsOrSelf;
+        final Map<List<String>, Integer> ordinalByPath;
+
+        private Hierarchy(List<String> names, List<Integer> parents, Map<List<String>, Integer> ordinalByPath) {
+            int n = names.size();
+            this.names = names.toArray(new String[0]);
+            this.parents = new int[n];
+            for (int i = 0; i < n; i++) {
+                this.parents[i] = parents.get(i);
+            }
+
+            int[] childCounts = new int[n];
+            for (int i = 1; i < n; i++) {
+                childCounts[this.parents[i]]++;
+            }
+            this.children = new int[n][];
+            for (int i = 0; i < n; i++) {
+                this.children[i] = new int[childCounts[i]];
+                childCounts[i] = 0;
+            }
+            for (int i = 1; i < n; i++) {
+                int parent = this.parents[i];
+                this.children[parent][childCounts[parent]++] = i;
+            }
+
+            this.ancestorsOrSelf = new int[n][];
+            for (int i = 0; i < n; i++) {
+                int depth = 1;
+                for (int node = i; node != 0; node = this.parents[node]) {
+                    depth++;
+                }
+                int[] chain = new int[depth];
+                int node = i;
+                for (int k = 0; k < depth; k++) {
+                    chain[k] = node;
+                    node = this.parents[node];
+                }
+                this.ancestorsOrSelf[i] = chain;
+            }
+            this.ordinalByPath = ordinalByPath;
+        }
+
+        int size() {
+            return names.length;
+        }
+
+        int find(List<String> path) {
+            Integer ordinal = ordinalByPath.get(path);
+            return ordinal != null ? ordinal : -1;
+        }
+
+        List<String> path(int node) {
+            List<String> path = new ArrayList<>();
+            for (int current = node; current != 0; current = parents[current]) {
+                path.add(names[current]);
+            }
+            Collections.reverse(path);
+            return path;
+        }
+
+        static final class Builder {
+            private final List<String> names = new ArrayList<>(List.of(""));
+            private final List<Integer> parents = new ArrayList<>(List.of(0));
+            private final Map<List<String>, Integer> ordinalByPath = new HashMap<>(Map.of(List.of(), 0));
+
+            int add(List<String> path) {
+                int node = 0;
+                for (int depth = 1; depth <= path.size(); depth++) {
+                    List<String> prefix = List.copyOf(path.subList(0, depth));
+                    Integer existing = ordinalByPath.get(prefix);
+                    if (existing == null) {
+                        existing = names.size();
+                        names.add(prefix.get(depth - 1));
+                        parents.add(node);
+                        ordinalByPath.put(prefix, existing);
+                    }
+                    node = existing;
+                }
+                return node;
+            }
+
+            Hierarchy build() {
+                return new Hierarchy(names, parents, ordinalByPath);
+            }
+        }
+    }
+
+    /**
+     * 특정 시점의 집계 큐브 (불변)
+     */
+    private static final class Cube {
+        final Hierarchy regions;
+        final Hierarchy categories;
+        final int[] counts;
+        final int[] pricedCounts;
+        final long[] priceSums;
+
+        private Cube(Hierarchy regions, Hierarchy categories, int[] counts, int[] pricedCounts, long[] priceSums) {
+            this.regions = regions;
+            this.categories = categories;
+            this.counts = counts;
+            this.pricedCounts = pricedCounts;
+            this.priceSums = priceSums;
+        }
+
+        /**
+         * @return 생성된 큐브 (셀 수가 maxCells를 넘으면 null)
+         */
+        static Cube build(List<CubeSourceDTO> sources, int regionDepth, long maxCells) {
+            Hierarchy.Builder regionBuilder = new Hierarchy.Builder();
+            Hierarchy.Builder categoryBuilder = new Hierarchy.Builder();
+            int n = sources.size();
+            int[] regionLeaves = new int[n];
+            int[] categoryLeaves = new int[n];
+            for (int i = 0; i < n; i++) {
+                CubeSourceDTO source = sources.get(i);
+                List<String> regionPath = parseRegionPath(source.getClnLdnmAdrs());
+                regionLeaves[i] = regionBuilder.add(
+                        regionPath.subList(0, Math.min(regionDepth, regionPath.size())));
+                categoryLeaves[i] = categoryBuilder.add(parseCategoryPath(source.getCtgrFullNm()));
+            }
+            Hierarchy regions = regionBuilder.build();
+            Hierarchy categories = categoryBuilder.build();
+
+            if ((long) regions.size() * categories.size() > maxCells) {
+                return null;
+            }
+            int cells = regions.size() * categories.size();
+            int[] counts = new int[cells];
+            int[] pricedCounts = new int[cells];
+            long[] priceSums = new long[cells];
+            int width = categories.size();
+
+            // 물건 하나를 (지역 조상 x 카테고리 조상) 모든 조합에 더해 roll-up을 미리 계산합니다.
+            for (int i = 0; i < n; i++) {
+                Long price = sources.get(i).getMinBidPrc();
+                int[] regionChain = regions.ancestorsOrSelf[regionLeaves[i]];
+                int[] categoryChain = categories.ancestorsOrSelf[categoryLeaves[i]];
+                for (int r : regionChain) {
+                    int rowOffset = r * width;
+                    for (int c : categoryChain) {
+                        int cell = rowOffset + c;
+                        counts[cell]++;
+                        if (price != null) {
+                            pricedCounts[cell]++;
+                            priceSums[cell] += price;
+                        }
+                    }
+                }
+            }
+            return new Cube(regions, categories, counts, pricedCounts, priceSums);
+        }
+
+        CubeCellDTO cell(int region, int category) {
+            int cell = region * categories.size() + category;
+            int priced = pricedCounts[cell];
+            return CubeCellDTO.builder()
+                    .region(regions.path(region))
+                    .category(categories.path(category))
+                    .count(counts[cell])
+                    .pricedCount(priced)
+                    .avgPrice(priced > 0 ? priceSums[cell] / priced : null)
+                    .build();
+        }
+    }
+}
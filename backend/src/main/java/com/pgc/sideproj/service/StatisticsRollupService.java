@@ -0,0 +1,46 @@
+package com.pgc.sideproj.service;
+
+import com.pgc.sideproj.mapper.StatisticsMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 대시보드 통계 요약 테이블(region_stats, category_stats)의 재계산 트랜잭션을 관리하는 서비스입니다.
+ *
+ * <p>지역/카테고리 하나씩 기존 행을 지우고 다시 집계하며,
+ * 그룹마다 독립적인 트랜잭션으로 처리하여 한 그룹의 실패가 다른 그룹에 영향을 주지 않도록 합니다.
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StatisticsRollupService {
+
+    private final StatisticsMapper statisticsMapper;
+
+    /**
+     * 한 지역의 요약 통계를 다시 계산합니다.
+     *
+     * @param regionName 시/도
+     */
+    @Transactional
+    public void rebuildRegion(String regionName) {
+        statisticsMapper.deleteRegionStats(regionName);
+        statisticsMapper.insertRegionStats(regionName);
+    }
+
+    /**
+     * 한 카테고리의 요약 통계를 다시 계산합니다.
+     *
+     * @param categoryName 대분류 카테고리
+     */
+    @Transactional
+    public void rebuildCategory(String categoryName) {
+        statisticsMapper.deleteCategoryStats(categoryName);
+        statisticsMapper.insertCategoryStats(categoryName);
+    }
+}
@@ -3,37 +3,173 @@ package com.pgc.sideproj.service;
 import com.pgc.sideproj.dto.stats.CategoryStatsDTO;
 import com.pgc.sideproj.dto.stats.DashboardStatsDTO;
 import com.pgc.sideproj.dto.stats.RegionStatsDTO;
+import com.pgc.sideproj.event.BatchCompletedEvent;
+import com.pgc.sideproj.event.DataGenerationChangedEvent;
+import com.pgc.sideproj.event.StatisticsRefreshedEvent;
 import com.pgc.sideproj.mapper.StatisticsMapper;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * 통계 데이터를 조회하는 서비스입니다.
  * 
  * <p>대시보드에 필요한 통계 정보를 제공합니다.
+ * 통계는 배치가 변경한 지역/카테고리만 다시 집계한 요약 테이블(region_stats, category_stats)에서 읽고,
+ * 그 결과를 메모리 스냅샷으로 보관합니다.
+ * 스냅샷이 없거나 만료되었을 때는 한 요청만 요약 테이블을 읽고(single-flight)
+ * 동시에 들어온 다른 요청은 그 결과(또는 기존 스냅샷)를 함께 사용합니다.
  * 
  * @author sideproj
  * @since 1.0
  */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class StatisticsService {
 
     private final StatisticsMapper statisticsMapper;
+    private final StatisticsRollupService statisticsRollupService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long snapshotTtlMillis;
+
+    private volatile Snapshot snapshot;
+    private final AtomicReference<CompletableFuture<Snapshot>> inFlight = new AtomicReference<>();
+
+    public StatisticsService(
+            StatisticsMapper statisticsMapper,
+            StatisticsRollupService statisticsRollupService,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${statistics.snapshot-ttl-seconds:300}") long snapshotTtlSeconds) {
+        this.statisticsMapper = statisticsMapper;
+        this.statisticsRollupService = statisticsRollupService;
+        this.eventPublisher = eventPublisher;
+        this.snapshotTtlMillis = snapshotTtlSeconds * 1000;
+    }
 
     /**
      * 대시보드에 필요한 모든 통계 요약 데이터를 조회합니다.
      * 
      * <p>지역별 평균 가격 및 카테고리별 물건 개수 등의 통계 정보를 조회하여 반환합니다.
+     * 유효한 스냅샷이 있으면 DB를 조회하지 않습니다.
      * 
      * @return 대시보드 통계 요약 데이터 (지역별 평균 가격, 카테고리별 개수 포함)
      */
-    @Transactional(readOnly = true)
     public DashboardStatsDTO getDashboardSummary() {
+        Snapshot current = snapshot;
+        // 만료된 스냅샷이라도 이미 다른 요청이 다시 읽는 중이면 기존 값을 그대로 반환합니다.
+        if (current != null && (!current.isExpired(snapshotTtlMillis) || inFlight.get() != null)) {
+            return current.stats;
+        }
+
+        try {
+            return reload().join().stats;
+        } catch (CompletionException e) {
+            if (current != null) {
+                log.error("대시보드 통계 갱신 실패. 기존 스냅샷을 반환합니다.", e.getCause());
+                return current.stats;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 배치에서 변경된 지역/카테고리의 요약 통계만 다시 계산합니다. (배치를 실행한 인스턴스에서만)
+     * 실패한 그룹은 로그만 남기고 다음 배치에서 다시 계산됩니다.
+     */
+    @EventListener
+    public void onBatchCompleted(BatchCompletedEvent event) {
+        long startTime = System.currentTimeMillis();
+        List<String> regions;
+        List<String> categories;
+        try {
+            regions = statisticsMapper.findChangedRegions(event.getStartedAt());
+            categories = statisticsMapper.findChangedCategories(event.getStartedAt());
+        } catch (Exception e) {
+            log.error("통계 요약 재계산 대상 조회 실패", e);
+            return;
+        }
+
+        int failedCount = 0;
+        for (String region : regions) {
+            try {
+                statisticsRollupService.rebuildRegion(region);
+            } catch (Exception e) {
+                failedCount++;
+                log.error("지역 통계 재계산 실패 - {}", region, e);
+            }
+        }
+        for (String category : categories) {
+            try {
+                statisticsRollupService.rebuildCategory(category);
+            } catch (Exception e) {
+                failedCount++;
+                log.error("카테고리 통계 재계산 실패 - {}", category, e);
+            }
+        }
+        log.info("통계 요약 갱신 완료 - 지역 {}건, 카테고리 {}건, 실패 {}건 ({}ms)",
+                regions.size(), categories.size(), failedCount, System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 요약 테이블이 다시 계산된 뒤(데이터 세대 변경) 스냅샷을 다시 읽습니다.
+     * 배치를 실행하지 않은 인스턴스도 TTL을 기다리지 않고 갱신됩니다.
+     */
+    @EventListener
+    public void onDataGenerationChanged(DataGenerationChangedEvent event) {
+        // 세대 변경 전에 시작된 조회가 진행 중이었다면 그 결과는 오래된 값이므로 한 번 더 읽습니다.
+        long rebuiltAt = System.currentTimeMillis();
+        try {
+            if (reload().join().loadedAt < rebuiltAt) {
+                reload().join();
+            }
+            eventPublisher.publishEvent(StatisticsRefreshedEvent.builder()
+                    .generation(event.getGeneration())
+                    .build());
+        } catch (CompletionException e) {
+            log.error("대시보드 통계 스냅샷 갱신 실패", e.getCause());
+        }
+    }
+
+    /**
+     * 요약 테이블을 읽어 스냅샷을 교체합니다.
+     * 이미 읽는 중인 요청이 있으면 새로 조회하지 않고 그 결과를 기다립니다.
+     */
+    private CompletableFuture<Snapshot> reload() {
+        while (true) {
+            CompletableFuture<Snapshot> running = inFlight.get();
+            if (running != null) {
+                return running;
+            }
+            CompletableFuture<Snapshot> mine = new CompletableFuture<>();
+            if (!inFlight.compareAndSet(null, mine)) {
+                continue;
+            }
+            try {
+                // 조회 시작 시각을 기록해 두어야 재계산보다 먼저 시작된 조회인지 판별할 수 있습니다.
+                long loadStartedAt = System.currentTimeMillis();
+                Snapshot loaded = new Snapshot(load(), loadStartedAt);
+                snapshot = loaded;
+                mine.complete(loaded);
+            } catch (Throwable t) {
+                mine.completeExceptionally(t);
+            } finally {
+                inFlight.set(null);
+            }
+            return mine;
+        }
+    }
 
+    private DashboardStatsDTO load() {
         // 지역별 평균 가격 조회
         List<RegionStatsDTO> regionAvgPrices = statisticsMapper.getRegionAveragePrice();
 
@@ -42,8 +178,25 @@ public class StatisticsService {
 
         // 두 결과를 하나의 DTO로 묶어 반환
         return DashboardStatsDTO.builder()
-                .regionAvgPrices(regionAvgPrices)
-                .categoryCounts(categoryCounts)
+                .regionAvgPrices(List.copyOf(regionAvgPrices))
+                .categoryCounts(List.copyOf(categoryCounts))
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 특정 시점의 대시보드 통계 (불변)
+     */
+    private static final class Snapshot {
+        final DashboardStatsDTO stats;
+        final long loadedAt;
+
+        Snapshot(DashboardStatsDTO stats, long loadedAt) {
+            this.stats = stats;
+            this.loadedAt = loadedAt;
+        }
+
+        boolean isExpired(long ttlMillis) {
+            return System.currentTimeMillis() - loadedAt > ttlMillis;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.pgc.sideproj.service;
+
+import com.pgc.sideproj.dto.common.AuthUser;
+import com.pgc.sideproj.exception.custom.UserNotFoundException;
+import com.pgc.sideproj.mapper.UserMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JWT 토큰 버전을 확인/폐기하는 서비스입니다.
+ *
+ * <p>사용자의 token_version을 올리면 이전 버전으로 발급된 토큰이 모두 거부됩니다.
+ * 요청마다 DB를 조회하지 않도록 사용자별 버전을 짧은 시간(기본 30초) 캐시하므로,
+ * 폐기는 같은 인스턴스에서는 즉시, 다른 인스턴스에서는 캐시 만료 후 반영됩니다.
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class TokenVersionService {
+
+    // 캐시 항목 수 상한 (넘으면 전체를 비우고 다시 채움)
+    private static final int MAX_ENTRIES = 100_000;
+
+    private final UserMapper userMapper;
+    private final long ttlMillis;
+    private final ConcurrentHashMap<Long, CachedVersion> cache = new ConcurrentHashMap<>();
+
+    public TokenVersionService(UserMapper userMapper,
+                               @Value("${jwt.token-version-cache-seconds:30}") long ttlSeconds) {
+        this.userMapper = userMapper;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    /**
+     * 토큰의 버전이 사용자의 현재 토큰 버전과 같은지 확인합니다.
+     *
+     * @param user JWT에서 추출한 사용자 정보
+     * @return 현재 버전이면 true, 폐기되었거나 사용자가 없으면 false
+     */
+    public boolean isCurrent(AuthUser user) {
+        Integer current = currentVersion(user.getUserId());
+        return current != null && current == user.getTokenVersion();
+    }
+
+    /**
+     * 사용자의 토큰 버전을 올려 이미 발급된 모든 토큰을 무효화합니다.
+     *
+     * @param userId 사용자 ID
+     * @throws UserNotFoundException 해당 사용자가 없는 경우
+     */
+    public void revoke(Long userId) {
+        if (userMapper.incrementTokenVersion(userId) == 0) {
+            throw new UserNotFoundException("id", userId);
+        }
+        cache.remove(userId);
+        log.info("사용자 {}의 토큰을 폐기했습니다.", userId);
+    }
+
+    private Integer currentVersion(Long userId) {
+        long now = System.currentTimeMillis();
+        CachedVersion cached = cache.get(userId);
+        if (cached != null && cached.expiresAt > now) {
+            return cached.version;
+        }
+        Integer version = userMapper.findTokenVersion(userId);
+        if (cache.size() >= MAX_ENTRIES) {
+            cache.clear();
+        }
+        cache.put(userId, new CachedVersion(version, now + ttlMillis));
+        return version;
+    }
+
+    private record CachedVersion(Integer version, long expiresAt) {
+    }
+}
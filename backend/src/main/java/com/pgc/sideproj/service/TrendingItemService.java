@@ -0,0 +1,190 @@
+package com.pgc.sideproj.service;
+
+import com.pgc.sideproj.dto.db.DeadlineItemDTO;
+import com.pgc.sideproj.dto.response.TrendingItemDTO;
+import com.pgc.sideproj.event.DataGenerationChangedEvent;
+import com.pgc.sideproj.mapper.AuctionItemMapper;
+import com.pgc.sideproj.util.HeavyHitters;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상세 조회 수 기준 인기 물건(trending)을 집계하는 서비스입니다.
+ *
+ * <p>상세 조회마다 현재 시간 구간의 {@link HeavyHitters}에 물건번호를 기록합니다. (원자적 카운터 증가만 하며 DB/잠금 없음)
+ * 구간은 window-minutes 길이로 windows개를 링으로 돌려 쓰므로, 최근 (window-minutes x windows)분의 조회 수가 집계됩니다.
+ *
+ * <p>snapshot-millis 주기로 모든 구간의 후보를 합산해 상위 {@value #MAX_ITEMS}개를 불변 스냅샷으로 교체하고,
+ * 조회 API는 이 스냅샷만 읽습니다. 물건 정보는 스냅샷에 새로 들어온 물건만 DB에서 읽고, 데이터 세대가 바뀌면 다시 읽습니다.
+ *
+ * <p>조회 수는 인스턴스별 메모리에만 있으며 재시작하면 초기화됩니다.
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class TrendingItemService {
+
+    static final int MAX_ITEMS = 100;
+
+    // 구간당 4 x 4096 카운터 (32KB), 조회 수 상위 후보 256개 유지
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH = 4096;
+    private static final int SKETCH_CANDIDATES = 256;
+
+    private final AuctionItemMapper auctionItemMapper;
+    private final AuctionDeadlineService auctionDeadlineService;
+    private final long windowMillis;
+    private final HeavyHitters[] windows;
+
+    // 구간 교체는 스케줄러 스레드에서만 수행
+    private volatile HeavyHitters current;
+    private long currentEpoch;
+
+    private volatile List<Entry> snapshot = List.of();
+    private volatile Map<String, DeadlineItemDTO> items = Map.of();
+
+    public TrendingItemService(AuctionItemMapper auctionItemMapper,
+                               AuctionDeadlineService auctionDeadlineService,
+                               @Value("${trending.window-minutes:5}") int windowMinutes,
+                               @Value("${trending.windows:12}") int windowCount) {
+        if (windowMinutes < 1 || windowCount < 2) {
+            throw new IllegalArgumentException("trending.window-minutes는 1 이상, trending.windows는 2 이상이어야 합니다.");
+        }
+        this.auctionItemMapper = auctionItemMapper;
+        this.auctionDeadlineService = auctionDeadlineService;
+        this.windowMillis = windowMinutes * 60_000L;
+        this.windows = new HeavyHitters[windowCount];
+        for (int i = 0; i < windowCount; i++) {
+            windows[i] = new HeavyHitters(SKETCH_DEPTH, SKETCH_WIDTH, SKETCH_CANDIDATES);
+        }
+        this.currentEpoch = System.currentTimeMillis() / windowMillis;
+        this.current = windows[(int) (currentEpoch % windowCount)];
+    }
+
+    /**
+     * 물건 상세 조회 1건을 기록합니다.
+     */
+    public void recordView(String cltrNo) {
+        current.add(cltrNo);
+    }
+
+    @EventListener
+    public void onDataGenerationChanged(DataGenerationChangedEvent event) {
+        // 가격/상태가 바뀌었을 수 있으므로 다음 스냅샷에서 물건 정보를 다시 읽음
+        items = Map.of();
+    }
+
+    /**
+     * 시간 구간을 교체하고 인기 물건 스냅샷을 다시 만듭니다. 실패하면 기존 스냅샷을 유지합니다.
+     */
+    @Scheduled(fixedDelayString = "${trending.snapshot-millis:10000}")
+    public void refreshSnapshot() {
+        try {
+            rotate(System.currentTimeMillis());
+
+            Map<String, Long> totals = new HashMap<>();
+            for (HeavyHitters window : windows) {
+                window.trim();
+                window.forEachCandidate((cltrNo, count) -> totals.put(cltrNo, 0L));
+            }
+            // 한 구간에서만 후보인 물건도 다른 구간의 추정값까지 합산
+            for (Map.Entry<String, Long> total : totals.entrySet()) {
+                long sum = 0;
+                for (HeavyHitters window : windows) {
+                    sum += window.estimate(total.getKey());
+                }
+                total.setValue(sum);
+            }
+            List<Map.Entry<String, Long>> ranked = new ArrayList<>(totals.entrySet());
+            ranked.sort(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                    .thenComparing(Map.Entry.comparingByKey()));
+            if (ranked.size() > MAX_ITEMS) {
+                ranked = ranked.subList(0, MAX_ITEMS);
+            }
+
+            Map<String, DeadlineItemDTO> known = items;
+            Map<String, DeadlineItemDTO> loaded = new HashMap<>();
+            List<String> missing = new ArrayList<>();
+            for (Map.Entry<String, Long> entry : ranked) {
+                DeadlineItemDTO item = known.get(entry.getKey());
+                if (item != null) {
+                    loaded.put(entry.getKey(), item);
+                } else {
+                    missing.add(entry.getKey());
+                }
+            }
+            if (!missing.isEmpty()) {
+                for (DeadlineItemDTO item : auctionItemMapper.findLatestByCltrNos(missing)) {
+                    loaded.put(item.getCltrNo(), item);
+                }
+            }
+
+            List<Entry> rebuilt = new ArrayList<>(ranked.size());
+            for (Map.Entry<String, Long> entry : ranked) {
+                DeadlineItemDTO item = loaded.get(entry.getKey());
+                if (item != null) {
+                    rebuilt.add(new Entry(item, entry.getValue()));
+                }
+            }
+            items = loaded;
+            snapshot = List.copyOf(rebuilt);
+        } catch (Exception e) {
+            log.error("인기 물건 스냅샷 갱신 실패. 기존 스냅샷을 유지합니다.", e);
+        }
+    }
+
+    /**
+     * 최근 조회 수 상위 물건을 조회합니다.
+     *
+     * @param size 최대 개수 ({@value #MAX_ITEMS} 이하)
+     * @return 조회 수 내림차순의 물건 목록
+     */
+    public List<TrendingItemDTO> getTrending(int size) {
+        List<Entry> entries = snapshot;
+        int limit = Math.min(size, entries.size());
+        List<TrendingItemDTO> result = new ArrayList<>(limit);
+        for (int i = 0; i < limit; i++) {
+            DeadlineItemDTO item = entries.get(i).item();
+            result.add(TrendingItemDTO.builder()
+                    .rank(i + 1)
+                    .viewCount(entries.get(i).viewCount())
+                    .cltrNo(item.getCltrNo())
+                    .cltrNm(item.getCltrNm())
+                    .ctgrFullNm(item.getCtgrFullNm())
+                    .clnLdnmAdrs(item.getClnLdnmAdrs())
+                    .minBidPrc(item.getMinBidPrc())
+                    .pbctClsDtm(item.getPbctClsDtm())
+                    .pbctCltrStatNm(auctionDeadlineService.derivedStatus(item.getCltrNo(), item.getPbctCltrStatNm()))
+                    .build());
+        }
+        return result;
+    }
+
+    // 현재 시각의 구간으로 넘어가며, 새로 쓰게 될 구간(가장 오래된 구간)을 비움
+    private void rotate(long now) {
+        long epoch = now / windowMillis;
+        if (epoch == currentEpoch) {
+            return;
+        }
+        long from = Math.max(currentEpoch + 1, epoch - windows.length + 1);
+        for (long e = from; e <= epoch; e++) {
+            windows[(int) (e % windows.length)].clear();
+        }
+        currentEpoch = epoch;
+        current = windows[(int) (epoch % windows.length)];
+    }
+
+    private record Entry(DeadlineItemDTO item, long viewCount) {
+    }
+}
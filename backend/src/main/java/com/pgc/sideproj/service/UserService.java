@@ -10,8 +10,8 @@ import com.pgc.sideproj.exception.custom.DuplicateEmailException;
 import com.pgc.sideproj.mapper.UserMapper;
 import com.pgc.sideproj.util.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -33,7 +33,7 @@ import java.util.stream.Collectors;
 public class UserService {
 
     private final UserMapper userMapper;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtTokenProvider jwtTokenProvider;
 
     /**
@@ -42,18 +42,22 @@ public class UserService {
      * <p>이메일 중복 검증을 수행하며, 비밀번호는 BCrypt로 암호화되어 저장됩니다.
      * 기본 역할은 "USER"로 설정됩니다.
      * 
+     * <p>해싱은 전용 실행기에서 대기할 수 있으므로 그동안 DB 커넥션을 잡고 있지 않도록
+     * 트랜잭션 없이 실행합니다. (중복 이메일은 email UNIQUE 제약이 최종적으로 막습니다.)
+     * 
      * @param request 회원가입 요청 정보 (이메일, 비밀번호, 닉네임)
      * @return 생성된 사용자 정보 (비밀번호 제외)
      * @throws DuplicateEmailException 이메일이 이미 존재하는 경우
+     * @throws com.pgc.sideproj.exception.custom.TooManyRequestsException 해싱 요청이 몰린 경우
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponse registerUser(UserRegisterRequest request){
         //이메일 중복검증
         if(userMapper.findByEmail(request.getEmail()).isPresent()){
             throw new DuplicateEmailException(request.getEmail());
         }
         // 비밀번호 암호화
-        String encodedPassword = passwordEncoder.encode(request.getPassword());
+        String encodedPassword = passwordHashingService.encode(request.getPassword());
 
         UserDTO user = new UserDTO();
         user.setEmail(request.getEmail());
@@ -80,7 +84,9 @@ public class UserService {
      * @param request 로그인 요청 정보 (이메일, 비밀번호)
      * @return JWT 토큰 정보 (accessToken, tokenType)
      * @throws BadCredentialsException 이메일 또는 비밀번호가 일치하지 않는 경우
+     * @throws com.pgc.sideproj.exception.custom.TooManyRequestsException 해싱 요청이 몰린 경우
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TokenResponse login(UserLoginRequest request) {
 
         // 1. 이메일로 사용자 조회
@@ -93,12 +99,13 @@ public class UserService {
         UserDTO user = userOptional.get();
 
         // 2. 비밀번호 검증 (입력된 평문 비밀번호와 DB의 해시된 비밀번호 비교)
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHashingService.matches(request.getPassword(), user.getPassword())) {
             throw new BadCredentialsException();
         }
 
         // 3. 검증 성공 시 JWT 토큰 생성
-        String token = jwtTokenProvider.createToken(user.getEmail(), user.getRole());
+        String token = jwtTokenProvider.createToken(
+                user.getId(), user.getEmail(), user.getRole(), user.getTokenVersion());
 
         // 4. 토큰 응답 DTO 반환
         return TokenResponse.builder()
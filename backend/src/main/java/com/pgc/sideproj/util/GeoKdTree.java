@@ -0,0 +1,279 @@
+package com.pgc.sideproj.util;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * 위경도 좌표에 대한 정적 2차원 k-d 트리입니다.
+ *
+ * <p>좌표를 평균 위도 기준의 등장방형(equirectangular) 평면(km)으로 투영한 뒤,
+ * 원시 타입 배열 위에 암묵적(implicit) 균형 트리로 배치합니다.
+ * 노드 객체를 만들지 않으므로 수만~수십만 건에서도 메모리 사용량이 작습니다.
+ *
+ * <p>국내 범위(위도 33~39도)에서는 투영 거리와 대원 거리의 오차가 1% 미만이므로
+ * 근접 물건 검색 용도로는 투영 거리를 그대로 사용합니다.
+ *
+ * <p>생성 이후에는 읽기 전용이므로 여러 스레드에서 동시에 검색해도 안전합니다.
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+public final class GeoKdTree {
+
+    private static final double KM_PER_DEGREE_LAT = 110.574;
+    private static final double KM_PER_DEGREE_LON_AT_EQUATOR = 111.320;
+
+    private final double lonScale;
+
+    // 트리 배치 순서의 투영 좌표와 원래 행 번호
+    private final double[] xs;
+    private final double[] ys;
+    private final int[] rows;
+
+    // 원래 행 번호 순서의 투영 좌표 (거리 계산용)
+    private final double[] rowXs;
+    private final double[] rowYs;
+
+    private GeoKdTree(double lonScale, double[] rowXs, double[] rowYs) {
+        this.lonScale = lonScale;
+        this.rowXs = rowXs;
+        this.rowYs = rowYs;
+        int n = rowXs.length;
+        this.xs = Arrays.copyOf(rowXs, n);
+        this.ys = Arrays.copyOf(rowYs, n);
+        this.rows = new int[n];
+        for (int i = 0; i < n; i++) {
+            rows[i] = i;
+        }
+        build(0, n, 0);
+    }
+
+    /**
+     * 위도/경도 배열로 트리를 생성합니다. 두 배열의 인덱스가 행 번호가 됩니다.
+     *
+     * @param latitudes  위도 배열
+     * @param longitudes 경도 배열
+     * @return 생성된 k-d 트리
+     */
+    public static GeoKdTree build(double[] latitudes, double[] longitudes) {
+        if (latitudes.length != longitudes.length) {
+            throw new IllegalArgumentException("위도/경도 배열의 길이가 다릅니다.");
+        }
+        int n = latitudes.length;
+        double latSum = 0;
+        for (double lat : latitudes) {
+            latSum += lat;
+        }
+        double refLat = n == 0 ? 36.5 : latSum / n;
+        double lonScale = KM_PER_DEGREE_LON_AT_EQUATOR * Math.cos(Math.toRadians(refLat));
+
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = longitudes[i] * lonScale;
+            ys[i] = latitudes[i] * KM_PER_DEGREE_LAT;
+        }
+        return new GeoKdTree(lonScale, xs, ys);
+    }
+
+    public int size() {
+        return rows.length;
+    }
+
+    /**
+     * 기준 좌표에서 가장 가까운 행을 최대 k개 찾습니다.
+     *
+     * @param latitude      기준 위도
+     * @param longitude     기준 경도
+     * @param k             최대 결과 수
+     * @param maxDistanceKm 최대 거리 (km)
+     * @param filter        행 번호에 대한 추가 조건 (카테고리, 가격 등)
+     * @return 거리 오름차순으로 정렬된 행 번호 배열
+     */
+    public int[] nearest(double latitude, double longitude, int k, double maxDistanceKm, IntPredicate filter) {
+        if (k <= 0 || rows.length == 0) {
+            return new int[0];
+        }
+        double qx = longitude * lonScale;
+        double qy = latitude * KM_PER_DEGREE_LAT;
+        BoundedMaxHeap heap = new BoundedMaxHeap(k);
+        search(0, rows.length, 0, qx, qy, maxDistanceKm * maxDistanceKm, filter, heap);
+        return heap.toSortedRows();
+    }
+
+    /**
+     * 기준 좌표와 특정 행 사이의 투영 거리(km)를 계산합니다.
+     */
+    public double distanceKm(double latitude, double longitude, int row) {
+        double dx = longitude * lonScale - rowXs[row];
+        double dy = latitude * KM_PER_DEGREE_LAT - rowYs[row];
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    private void search(int lo, int hi, int depth, double qx, double qy,
+                        double maxDist2, IntPredicate filter, BoundedMaxHeap heap) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        double dx = qx - xs[mid];
+        double dy = qy - ys[mid];
+        double dist2 = dx * dx + dy * dy;
+        if (dist2 <= maxDist2 && dist2 < heap.worst() && filter.test(rows[mid])) {
+            heap.offer(rows[mid], dist2);
+        }
+
+        double axisDiff = (depth & 1) == 0 ? dx : dy;
+        double axisDist2 = axisDiff * axisDiff;
+        if (axisDiff < 0) {
+            search(lo, mid, depth + 1, qx, qy, maxDist2, filter, heap);
+            if (axisDist2 <= maxDist2 && axisDist2 < heap.worst()) {
+                search(mid + 1, hi, depth + 1, qx, qy, maxDist2, filter, heap);
+            }
+        } else {
+            search(mid + 1, hi, depth + 1, qx, qy, maxDist2, filter, heap);
+            if (axisDist2 <= maxDist2 && axisDist2 < heap.worst()) {
+                search(lo, mid, depth + 1, qx, qy, maxDist2, filter, heap);
+            }
+        }
+    }
+
+    // --- 트리 생성 (quickselect 기반 중앙값 분할) ---
+
+    private void build(int lo, int hi, int depth) {
+        if (hi - lo <= 1) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        select(lo, hi - 1, mid, depth & 1);
+        build(lo, mid, depth + 1);
+        build(mid + 1, hi, depth + 1);
+    }
+
+    // 같은 좌표가 많아도(한 건물의 여러 호실) O(n)이 되도록 피벗과 같은 값을 가운데로 모으는 3분할 사용
+    private void select(int left, int right, int k, int axis) {
+        while (right > left) {
+            double pivot = coord((left + right) >>> 1, axis);
+            // [left, lt) < pivot, [lt, i) == pivot, (gt, right] > pivot
+            int lt = left;
+            int gt = right;
+            int i = left;
+            while (i <= gt) {
+                double value = coord(i, axis);
+                if (value < pivot) {
+                    swap(lt++, i++);
+                } else if (value > pivot) {
+                    swap(i, gt--);
+                } else {
+                    i++;
+                }
+            }
+            if (k < lt) {
+                right = lt - 1;
+            } else if (k > gt) {
+                left = gt + 1;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private double coord(int i, int axis) {
+        return axis == 0 ? xs[i] : ys[i];
+    }
+
+    private void swap(int i, int j) {
+        double tx = xs[i];
+        xs[i] = xs[j];
+        xs[j] = tx;
+        double ty = ys[i];
+        ys[i] = ys[j];
+        ys[j] = ty;
+        int tr = rows[i];
+        rows[i] = rows[j];
+        rows[j] = tr;
+    }
+
+    /**
+     * 거리 제곱 기준의 크기 제한 최대 힙 (k-NN 후보 유지용)
+     */
+    private static final class BoundedMaxHeap {
+        private final int[] rows;
+        private final double[] dist2;
+        private int size;
+
+        BoundedMaxHeap(int capacity) {
+            this.rows = new int[capacity];
+            this.dist2 = new double[capacity];
+        }
+
+        double worst() {
+            return size < rows.length ? Double.POSITIVE_INFINITY : dist2[0];
+        }
+
+        void offer(int row, double d2) {
+            if (size < rows.length) {
+                rows[size] = row;
+                dist2[size] = d2;
+                siftUp(size++);
+            } else if (d2 < dist2[0]) {
+                rows[0] = row;
+                dist2[0] = d2;
+                siftDown(0);
+            }
+        }
+
+        int[] toSortedRows() {
+            int n = size;
+            int[] result = new int[n];
+            // 최대 힙에서 하나씩 꺼내 뒤에서부터 채우면 오름차순이 됩니다.
+            for (int i = n - 1; i >= 0; i--) {
+                result[i] = rows[0];
+                size--;
+                rows[0] = rows[size];
+                dist2[0] = dist2[size];
+                siftDown(0);
+            }
+            return result;
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (dist2[parent] >= dist2[i]) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= size) {
+                    return;
+                }
+                int largest = left;
+                int right = left + 1;
+                if (right < size && dist2[right] > dist2[left]) {
+                    largest = right;
+                }
+                if (dist2[i] >= dist2[largest]) {
+                    return;
+                }
+                swap(i, largest);
+                i = largest;
+            }
+        }
+
+        private void swap(int i, int j) {
+            int tr = rows[i];
+            rows[i] = rows[j];
+            rows[j] = tr;
+            double td = dist2[i];
+            dist2[i] = dist2[j];
+            dist2[j] = td;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.pgc.sideproj.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * 자주 등장하는 키(heavy hitter)를 고정 메모리로 추적하는 Count-Min 스케치 + 후보 집합입니다.
+ *
+ * <p>{@link #add}는 depth개 행의 카운터를 원자적으로 1씩 올리고(잠금 없음),
+ * 추정값이 현재 입장 기준 이상인 키만 후보 집합에 넣습니다.
+ * 주기적으로 {@link #trim}을 호출하면 후보를 추정값 상위 capacity개로 줄이고 입장 기준을 그 최솟값으로 올립니다.
+ *
+ * <p>추정값은 실제 값보다 작지 않으며, 확률 1 - (1/2)^depth 로 실제 값 + 2N/width 이하입니다. (N: 전체 추가 수)
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+public final class HeavyHitters {
+
+    private final int depth;
+    private final int width;
+    private final int capacity;
+    private final AtomicLongArray counters;
+    private final Map<String, Boolean> candidates = new ConcurrentHashMap<>();
+    private volatile long admission;
+
+    /**
+     * @param depth    해시 행 수 (오차 확률)
+     * @param width    행당 카운터 수 (2의 거듭제곱으로 올림, 오차 크기)
+     * @param capacity 유지할 후보 수
+     */
+    public HeavyHitters(int depth, int width, int capacity) {
+        if (depth < 1 || width < 1 || capacity < 1) {
+            throw new IllegalArgumentException("depth, width, capacity는 1 이상이어야 합니다.");
+        }
+        this.depth = depth;
+        this.width = width == 1 ? 1 : Integer.highestOneBit(width - 1) << 1;
+        this.capacity = capacity;
+        this.counters = new AtomicLongArray(depth * this.width);
+    }
+
+    /**
+     * 키를 한 번 기록합니다.
+     */
+    public void add(String key) {
+        long hash = mix(key.hashCode());
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.incrementAndGet(index(hash, row)));
+        }
+        // 후보가 너무 많아지면 다음 trim 전까지는 기준을 넘는 키만 받음
+        if (estimate >= admission && !candidates.containsKey(key)
+                && (candidates.size() < capacity * 2 || estimate > admission)) {
+            candidates.putIfAbsent(key, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * 키의 추정 등장 횟수
+     */
+    public long estimate(String key) {
+        long hash = mix(key.hashCode());
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(index(hash, row)));
+        }
+        return estimate;
+    }
+
+    /**
+     * 후보를 추정값 상위 capacity개로 줄이고 입장 기준을 올립니다.
+     */
+    public void trim() {
+        if (candidates.size() <= capacity) {
+            return;
+        }
+        List<Map.Entry<String, Long>> ranked = new ArrayList<>(candidates.size());
+        for (String key : candidates.keySet()) {
+            ranked.add(Map.entry(key, estimate(key)));
+        }
+        ranked.sort(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()));
+        for (int i = capacity; i < ranked.size(); i++) {
+            candidates.remove(ranked.get(i).getKey());
+        }
+        admission = ranked.get(capacity - 1).getValue();
+    }
+
+    /**
+     * 현재 후보와 추정값을 전달합니다.
+     */
+    public void forEachCandidate(ObjLongConsumer<String> action) {
+        for (String key : candidates.keySet()) {
+            action.accept(key, estimate(key));
+        }
+    }
+
+    /**
+     * 모든 카운터와 후보를 비웁니다. (다른 스레드의 add와 겹치면 일부 기록이 남을 수 있음)
+     */
+    public void clear() {
+        candidates.clear();
+        admission = 0;
+        for (int i = 0; i < counters.length(); i++) {
+            counters.set(i, 0);
+        }
+    }
+
+    private int index(long hash, int row) {
+        // 행마다 다른 해시: h1 + row * h2 (Kirsch-Mitzenmacher)
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        return row * width + ((h1 + row * h2) & (width - 1));
+    }
+
+    // MurmurHash3 fmix64
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,552 @@
+package com.pgc.sideproj.util;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.IntConsumer;
+
+/**
+ * 물건(마스터 + 최신 이력) 전체를 열(column) 단위 원시 타입 배열로 담은 불변 테이블입니다.
+ *
+ * <p>행은 물건번호 내림차순(목록 API 정렬 순서)으로 저장하며, 열은 다음과 같이 인코딩합니다.
+ * <ul>
+ *   <li>카테고리/물건상태: 사전(dictionary) 인코딩한 int 서수</li>
+ *   <li>위도/경도: 1e-7도 단위 고정소수점 int (없으면 {@link #NO_COORD})</li>
+ *   <li>가격: long (없으면 {@link #NO_VALUE})</li>
+ *   <li>일시: UTC 기준 epoch 초 long (없으면 {@link #NO_VALUE})</li>
+ *   <li>검색어: 물건명/정제 주소의 토큰을 정렬된 용어 사전의 int 번호로 저장</li>
+ * </ul>
+ * 용어 사전이 정렬되어 있으므로 "토큰이 검색어로 시작한다"는 조건은 용어 번호의 범위 비교가 되고,
+ * {@link #search}는 검색어 토큰화 외에 객체를 만들지 않고 전체 행을 훑습니다.
+ *
+ * <p>{@link #writeTo}/{@link #readFrom}으로 파일에 저장해 두었다가 다시 읽을 수 있습니다.
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+public final class ItemColumns {
+
+    public static final int NO_COORD = Integer.MIN_VALUE;
+    public static final long NO_VALUE = Long.MIN_VALUE;
+
+    private static final int MAGIC = 0x49434F4C; // "ICOL"
+    private static final short VERSION = 1;
+    private static final int COORD_SCALE = 7;
+    private static final double COORD_UNIT = 1e7;
+
+    /**
+     * 적재할 물건 한 건
+     */
+    public record Row(String cltrNo, String cltrNm, String ctgrFullNm,
+                      String ldnmAdrs, String nmrdAdrs, String clnLdnmAdrs, String clnNmrdAdrs,
+                      BigDecimal latitude, BigDecimal longitude,
+                      String onbidDetailUrl, String plnmNo, String pbctNo,
+                      Long minBidPrc, Long apslAsesAvgAmt,
+                      LocalDateTime pbctBegnDtm, LocalDateTime pbctClsDtm, String pbctCltrStatNm) {
+    }
+
+    private final String dataVersion;
+
+    private final String[] cltrNos;
+    private final String[] cltrNms;
+    private final String[] ldnmAdrs;
+    private final String[] nmrdAdrs;
+    private final String[] clnLdnmAdrs;
+    private final String[] clnNmrdAdrs;
+    private final String[] onbidDetailUrls;
+    private final String[] plnmNos;
+    private final String[] pbctNos;
+
+    private final int[] categoryOrds;
+    private final String[] categories;
+    private final int[] statusOrds;
+    private final String[] statuses;
+
+    private final int[] latitudes;
+    private final int[] longitudes;
+    private final long[] minBidPrcs;
+    private final long[] apslAsesAvgAmts;
+    private final long[] pbctBegnDtms;
+    private final long[] pbctClsDtms;
+
+    // 행 i의 용어 번호: rowTerms[termOffsets[i] .. termOffsets[i + 1]) (오름차순)
+    private final String[] terms;
+    private final int[] termOffsets;
+    private final int[] rowTerms;
+
+    private ItemColumns(String dataVersion, String[][] strings, int[] categoryOrds, String[] categories,
+                        int[] statusOrds, String[] statuses, int[] latitudes, int[] longitudes,
+                        long[][] longs, String[] terms, int[] termOffsets, int[] rowTerms) {
+        this.dataVersion = dataVersion;
+        this.cltrNos = strings[0];
+        this.cltrNms = strings[1];
+        this.ldnmAdrs = strings[2];
+        this.nmrdAdrs = strings[3];
+        this.clnLdnmAdrs = strings[4];
+        this.clnNmrdAdrs = strings[5];
+        this.onbidDetailUrls = strings[6];
+        this.plnmNos = strings[7];
+        this.pbctNos = strings[8];
+        this.categoryOrds = categoryOrds;
+        this.categories = categories;
+        this.statusOrds = statusOrds;
+        this.statuses = statuses;
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+        this.minBidPrcs = longs[0];
+        this.apslAsesAvgAmts = longs[1];
+        this.pbctBegnDtms = longs[2];
+        this.pbctClsDtms = longs[3];
+        this.terms = terms;
+        this.termOffsets = termOffsets;
+        this.rowTerms = rowTerms;
+    }
+
+    /**
+     * 물건 목록으로 테이블을 만듭니다.
+     *
+     * @param dataVersion 원본 데이터 버전 (파일 재사용 여부 판단용, 그대로 보관)
+     * @param source      물건 목록 (순서 무관, 물건번호 중복 없음)
+     */
+    public static ItemColumns build(String dataVersion, List<Row> source) {
+        List<Row> rows = new ArrayList<>(source);
+        rows.sort(Comparator.comparing(Row::cltrNo).reversed());
+        int n = rows.size();
+
+        String[][] strings = new String[9][n];
+        int[] categoryOrds = new int[n];
+        int[] statusOrds = new int[n];
+        int[] latitudes = new int[n];
+        int[] longitudes = new int[n];
+        long[][] longs = new long[4][n];
+        Map<String, Integer> categoryDictionary = new HashMap<>();
+        Map<String, Integer> statusDictionary = new HashMap<>();
+        String[][] rowTokens = new String[n][];
+        TreeSet<String> termSet = new TreeSet<>();
+
+        for (int i = 0; i < n; i++) {
+            Row row = rows.get(i);
+            strings[0][i] = row.cltrNo();
+            strings[1][i] = row.cltrNm();
+            strings[2][i] = row.ldnmAdrs();
+            strings[3][i] = row.nmrdAdrs();
+            strings[4][i] = row.clnLdnmAdrs();
+            strings[5][i] = row.clnNmrdAdrs();
+            strings[6][i] = row.onbidDetailUrl();
+            strings[7][i] = row.plnmNo();
+            strings[8][i] = row.pbctNo();
+            categoryOrds[i] = encode(categoryDictionary, row.ctgrFullNm());
+            statusOrds[i] = encode(statusDictionary, row.pbctCltrStatNm());
+            boolean located = row.latitude() != null && row.longitude() != null;
+            latitudes[i] = located ? toFixed(row.latitude()) : NO_COORD;
+            longitudes[i] = located ? toFixed(row.longitude()) : NO_COORD;
+            longs[0][i] = row.minBidPrc() != null ? row.minBidPrc() : NO_VALUE;
+            longs[1][i] = row.apslAsesAvgAmt() != null ? row.apslAsesAvgAmt() : NO_VALUE;
+            longs[2][i] = toEpochSecond(row.pbctBegnDtm());
+            longs[3][i] = toEpochSecond(row.pbctClsDtm());
+
+            // 목록 검색(FTS)과 같은 대상: 물건명, 정제된 지번/도로명 주소
+            rowTokens[i] = SearchPercolator.tokenize(String.join(" ", nonNull(row.cltrNm()),
+                    nonNull(row.clnLdnmAdrs()), nonNull(row.clnNmrdAdrs())));
+            termSet.addAll(Arrays.asList(rowTokens[i]));
+        }
+
+        String[] terms = termSet.toArray(new String[0]);
+        int[] termOffsets = new int[n + 1];
+        int[][] termIdsByRow = new int[n][];
+        int total = 0;
+        for (int i = 0; i < n; i++) {
+            termIdsByRow[i] = Arrays.stream(rowTokens[i])
+                    .mapToInt(token -> Arrays.binarySearch(terms, token))
+                    .sorted()
+                    .distinct()
+                    .toArray();
+            total += termIdsByRow[i].length;
+            termOffsets[i + 1] = total;
+        }
+        int[] rowTerms = new int[total];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(termIdsByRow[i], 0, rowTerms, termOffsets[i], termIdsByRow[i].length);
+        }
+
+        return new ItemColumns(dataVersion, strings, categoryOrds, toArray(categoryDictionary),
+                statusOrds, toArray(statusDictionary), latitudes, longitudes, longs,
+                terms, termOffsets, rowTerms);
+    }
+
+    public String dataVersion() {
+        return dataVersion;
+    }
+
+    public int size() {
+        return cltrNos.length;
+    }
+
+    /**
+     * 검색어/지역 조건에 맞는 행을 목록 순서대로 세고, offset부터 limit개의 행 번호를 pageRows에 전달합니다.
+     *
+     * @param keyword 검색어 (공백/기호로 나눈 토큰마다 물건명/주소의 어떤 단어의 접두어, 비어 있으면 조건 없음)
+     * @param region  지역 (정제된 지번주소 접두어, 비어 있으면 조건 없음)
+     * @return 조건에 맞는 전체 행 수
+     */
+    public int search(String keyword, String region, int offset, int limit, IntConsumer pageRows) {
+        String[] tokens = SearchPercolator.tokenize(keyword);
+        // 토큰마다 그 토큰으로 시작하는 용어 번호 범위 [from, to)
+        int[] ranges = new int[tokens.length * 2];
+        for (int t = 0; t < tokens.length; t++) {
+            int from = lowerBound(tokens[t]);
+            int to = prefixEnd(from, tokens[t]);
+            if (from == to) {
+                return 0;
+            }
+            ranges[t * 2] = from;
+            ranges[t * 2 + 1] = to;
+        }
+        boolean filterRegion = region != null && !region.isEmpty();
+
+        int matched = 0;
+        for (int row = 0; row < cltrNos.length; row++) {
+            if (filterRegion && (clnLdnmAdrs[row] == null || !clnLdnmAdrs[row].startsWith(region))) {
+                continue;
+            }
+            if (!hasAllTerms(row, ranges)) {
+                continue;
+            }
+            if (matched >= offset && matched - offset < limit) {
+                pageRows.accept(row);
+            }
+            matched++;
+        }
+        return matched;
+    }
+
+    /**
+     * 물건번호에 해당하는 행 번호 (없으면 -1)
+     */
+    public int rowOf(String cltrNo) {
+        // 물건번호 내림차순으로 정렬되어 있음
+        int low = 0;
+        int high = cltrNos.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = cltrNo.compareTo(cltrNos[mid]);
+            if (cmp == 0) {
+                return mid;
+            }
+            if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return -1;
+    }
+
+    public String cltrNo(int row) {
+        return cltrNos[row];
+    }
+
+    public String cltrNm(int row) {
+        return cltrNms[row];
+    }
+
+    public String ldnmAdrs(int row) {
+        return ldnmAdrs[row];
+    }
+
+    public String nmrdAdrs(int row) {
+        return nmrdAdrs[row];
+    }
+
+    public String clnLdnmAdrs(int row) {
+        return clnLdnmAdrs[row];
+    }
+
+    public String clnNmrdAdrs(int row) {
+        return clnNmrdAdrs[row];
+    }
+
+    public String onbidDetailUrl(int row) {
+        return onbidDetailUrls[row];
+    }
+
+    public String plnmNo(int row) {
+        return plnmNos[row];
+    }
+
+    public String pbctNo(int row) {
+        return pbctNos[row];
+    }
+
+    public int categoryOrd(int row) {
+        return categoryOrds[row];
+    }
+
+    public String ctgrFullNm(int row) {
+        return categories[categoryOrds[row]];
+    }
+
+    public String pbctCltrStatNm(int row) {
+        return statuses[statusOrds[row]];
+    }
+
+    public boolean hasCoordinates(int row) {
+        return latitudes[row] != NO_COORD;
+    }
+
+    public double latitude(int row) {
+        return latitudes[row] / COORD_UNIT;
+    }
+
+    public double longitude(int row) {
+        return longitudes[row] / COORD_UNIT;
+    }
+
+    /**
+     * 위도 (DB와 같은 DECIMAL 표현, 없으면 null)
+     */
+    public BigDecimal latitudeDecimal(int row) {
+        return latitudes[row] != NO_COORD ? BigDecimal.valueOf(latitudes[row], COORD_SCALE) : null;
+    }
+
+    public BigDecimal longitudeDecimal(int row) {
+        return longitudes[row] != NO_COORD ? BigDecimal.valueOf(longitudes[row], COORD_SCALE) : null;
+    }
+
+    /**
+     * 최신 최저입찰가 (없으면 {@link #NO_VALUE})
+     */
+    public long minBidPrc(int row) {
+        return minBidPrcs[row];
+    }
+
+    /**
+     * 최신 감정가 (없으면 {@link #NO_VALUE})
+     */
+    public long apslAsesAvgAmt(int row) {
+        return apslAsesAvgAmts[row];
+    }
+
+    public LocalDateTime pbctBegnDtm(int row) {
+        return toDateTime(pbctBegnDtms[row]);
+    }
+
+    public LocalDateTime pbctClsDtm(int row) {
+        return toDateTime(pbctClsDtms[row]);
+    }
+
+    /**
+     * 테이블을 스트림에 기록합니다. (big-endian)
+     */
+    public void writeTo(DataOutputStream out) throws IOException {
+        int n = cltrNos.length;
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        writeString(out, dataVersion);
+        out.writeInt(n);
+        for (String[] column : new String[][]{cltrNos, cltrNms, ldnmAdrs, nmrdAdrs, clnLdnmAdrs,
+                clnNmrdAdrs, onbidDetailUrls, plnmNos, pbctNos}) {
+            for (String value : column) {
+                writeString(out, value);
+            }
+        }
+        writeDictionary(out, categories, categoryOrds);
+        writeDictionary(out, statuses, statusOrds);
+        for (int[] column : new int[][]{latitudes, longitudes}) {
+            for (int value : column) {
+                out.writeInt(value);
+            }
+        }
+        for (long[] column : new long[][]{minBidPrcs, apslAsesAvgAmts, pbctBegnDtms, pbctClsDtms}) {
+            for (long value : column) {
+                out.writeLong(value);
+            }
+        }
+        out.writeInt(terms.length);
+        for (String term : terms) {
+            writeString(out, term);
+        }
+        for (int i = 1; i <= n; i++) {
+            out.writeInt(termOffsets[i]);
+        }
+        for (int term : rowTerms) {
+            out.writeInt(term);
+        }
+    }
+
+    /**
+     * {@link #writeTo}로 기록한 테이블을 읽습니다.
+     *
+     * @throws IOException 형식이 다르거나 파일이 손상된 경우
+     */
+    public static ItemColumns readFrom(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC || in.readShort() != VERSION) {
+            throw new IOException("읽기 모델 파일 형식이 다릅니다.");
+        }
+        String dataVersion = readString(in);
+        int n = in.readInt();
+        String[][] strings = new String[9][n];
+        for (String[] column : strings) {
+            for (int i = 0; i < n; i++) {
+                column[i] = readString(in);
+            }
+        }
+        int[] categoryOrds = new int[n];
+        String[] categories = readDictionary(in, categoryOrds);
+        int[] statusOrds = new int[n];
+        String[] statuses = readDictionary(in, statusOrds);
+        int[] latitudes = new int[n];
+        int[] longitudes = new int[n];
+        for (int[] column : new int[][]{latitudes, longitudes}) {
+            for (int i = 0; i < n; i++) {
+                column[i] = in.readInt();
+            }
+        }
+        long[][] longs = new long[4][n];
+        for (long[] column : longs) {
+            for (int i = 0; i < n; i++) {
+                column[i] = in.readLong();
+            }
+        }
+        String[] terms = new String[in.readInt()];
+        for (int i = 0; i < terms.length; i++) {
+            terms[i] = readString(in);
+        }
+        int[] termOffsets = new int[n + 1];
+        for (int i = 1; i <= n; i++) {
+            termOffsets[i] = in.readInt();
+        }
+        int[] rowTerms = new int[termOffsets[n]];
+        for (int i = 0; i < rowTerms.length; i++) {
+            rowTerms[i] = in.readInt();
+        }
+        return new ItemColumns(dataVersion, strings, categoryOrds, categories, statusOrds, statuses,
+                latitudes, longitudes, longs, terms, termOffsets, rowTerms);
+    }
+
+    private boolean hasAllTerms(int row, int[] ranges) {
+        int start = termOffsets[row];
+        int end = termOffsets[row + 1];
+        for (int t = 0; t < ranges.length; t += 2) {
+            boolean found = false;
+            for (int i = start; i < end && !found; i++) {
+                found = rowTerms[i] >= ranges[t] && rowTerms[i] < ranges[t + 1];
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // prefix 이상인 첫 용어 번호
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = terms.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (terms[mid].compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // from부터 prefix로 시작하는 용어가 끝나는 번호 (정렬되어 있으므로 연속 구간)
+    private int prefixEnd(int from, String prefix) {
+        int low = from;
+        int high = terms.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (terms[mid].startsWith(prefix)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int encode(Map<String, Integer> dictionary, String value) {
+        // HashMap은 null 키를 허용하므로 값이 없는 행도 하나의 서수(값 null)로 인코딩
+        return dictionary.computeIfAbsent(value, key -> dictionary.size());
+    }
+
+    private static String nonNull(String value) {
+        return value != null ? value : "";
+    }
+
+    private static String[] toArray(Map<String, Integer> dictionary) {
+        String[] values = new String[dictionary.size()];
+        dictionary.forEach((value, ord) -> values[ord] = value);
+        return values;
+    }
+
+    private static int toFixed(BigDecimal degrees) {
+        return degrees.setScale(COORD_SCALE, RoundingMode.HALF_UP).unscaledValue().intValueExact();
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toEpochSecond(ZoneOffset.UTC) : NO_VALUE;
+    }
+
+    private static LocalDateTime toDateTime(long epochSecond) {
+        return epochSecond != NO_VALUE ? LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC) : null;
+    }
+
+    private static void writeDictionary(DataOutputStream out, String[] values, int[] ords) throws IOException {
+        out.writeInt(values.length);
+        for (String value : values) {
+            writeString(out, value);
+        }
+        for (int ord : ords) {
+            out.writeInt(ord);
+        }
+    }
+
+    private static String[] readDictionary(DataInputStream in, int[] ords) throws IOException {
+        String[] values = new String[in.readInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = readString(in);
+        }
+        for (int i = 0; i < ords.length; i++) {
+            ords[i] = in.readInt();
+        }
+        return values;
+    }
+
+    // 길이(int, null이면 -1) + UTF-8 바이트
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
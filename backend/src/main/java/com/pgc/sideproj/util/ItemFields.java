@@ -0,0 +1,126 @@
+package com.pgc.sideproj.util;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 물건 목록 응답의 필드 선택(sparse fieldset) 유틸리티입니다.
+ *
+ * <p>fields 파라미터는 쉼표로 구분한 필드명(JSON 속성명) 또는 이름 있는 프로필의 조합입니다.
+ * (예: {@code card}, {@code marker,onbidDetailUrl}) 물건번호(cltrNo)는 항상 포함되며,
+ * 비어 있으면 전체 필드({@code full})입니다. 결과 집합은 {@link #ALL}의 순서를 따릅니다.
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+public final class ItemFields {
+
+    /**
+     * 응답 DTO의 Jackson 필터 ID
+     */
+    public static final String FILTER_ID = "itemFields";
+
+    public static final String CLTR_NO = "cltrNo";
+    public static final String PBCT_CLTR_STAT_NM = "pbctCltrStatNm";
+    public static final String IS_SAVED = "isSaved";
+
+    /**
+     * 선택할 수 있는 모든 필드 (마스터, 최신 이력, 찜 여부 순)
+     */
+    public static final List<String> ALL = List.of(
+            CLTR_NO, "cltrNm", "ctgrFullNm", "ldnmAdrs", "nmrdAdrs", "clnLdnmAdrs", "clnNmrdAdrs",
+            "latitude", "longitude", "onbidDetailUrl", "plnmNo", "pbctNo",
+            "minBidPrc", "apslAsesAvgAmt", "pbctBegnDtm", "pbctClsDtm", PBCT_CLTR_STAT_NM,
+            IS_SAVED);
+
+    /**
+     * 최신 이력에서 읽는 필드 (하나도 없으면 이력을 조인하지 않음)
+     */
+    public static final List<String> HISTORY = List.of(
+            "minBidPrc", "apslAsesAvgAmt", "pbctBegnDtm", "pbctClsDtm", PBCT_CLTR_STAT_NM);
+
+    // card: 목록 카드, marker: 지도 마커, full: 전체
+    private static final Map<String, List<String>> PROFILES = Map.of(
+            "card", List.of(CLTR_NO, "cltrNm", "ctgrFullNm", "clnLdnmAdrs",
+                    "minBidPrc", "apslAsesAvgAmt", "pbctClsDtm", PBCT_CLTR_STAT_NM, IS_SAVED),
+            "marker", List.of(CLTR_NO, "cltrNm", "latitude", "longitude", "minBidPrc", PBCT_CLTR_STAT_NM),
+            "full", ALL);
+
+    private static final Set<String> FULL = Collections.unmodifiableSet(new LinkedHashSet<>(ALL));
+
+    private ItemFields() {
+    }
+
+    /**
+     * fields 파라미터를 필드 집합으로 해석합니다.
+     *
+     * @param spec 쉼표로 구분한 필드명/프로필 (null 또는 공백이면 전체)
+     * @return 선택된 필드 (변경 불가, {@link #ALL} 순서)
+     * @throws IllegalArgumentException 알 수 없는 필드명 또는 프로필이 있는 경우
+     */
+    public static Set<String> parse(String spec) {
+        if (spec == null || spec.isBlank()) {
+            return FULL;
+        }
+        Set<String> requested = new LinkedHashSet<>();
+        requested.add(CLTR_NO);
+        for (String token : spec.split(",")) {
+            String name = token.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            List<String> profile = PROFILES.get(name);
+            if (profile != null) {
+                requested.addAll(profile);
+            } else if (FULL.contains(name)) {
+                requested.add(name);
+            } else {
+                throw new IllegalArgumentException("알 수 없는 필드입니다: " + name);
+            }
+        }
+        if (requested.size() == FULL.size()) {
+            return FULL;
+        }
+        Set<String> ordered = new LinkedHashSet<>();
+        for (String field : ALL) {
+            if (requested.contains(field)) {
+                ordered.add(field);
+            }
+        }
+        return Collections.unmodifiableSet(ordered);
+    }
+
+    /**
+     * fields 파라미터가 올바른지 확인합니다. (요청 검증용)
+     */
+    public static boolean isValid(String spec) {
+        try {
+            parse(spec);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 전체 필드가 선택되었는지 여부 (응답 필터를 적용할 필요 없음)
+     */
+    public static boolean isAll(Set<String> fields) {
+        return fields.size() == FULL.size();
+    }
+
+    /**
+     * 최신 이력 필드가 하나라도 선택되었는지 여부
+     */
+    public static boolean needsHistory(Set<String> fields) {
+        for (String field : HISTORY) {
+            if (fields.contains(field)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
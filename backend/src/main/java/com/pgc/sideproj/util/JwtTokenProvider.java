@@ -5,7 +5,9 @@ import java.security.Key;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 
+import com.pgc.sideproj.dto.common.AuthUser;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -14,7 +16,7 @@ import org.springframework.stereotype.Component;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -27,17 +29,33 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret-key}")
-    private String secretKey;
+    // 사용자 ID / 토큰 버전 클레임 이름
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_TOKEN_VERSION = "ver";
 
-    @Value("${jwt.expiration-time}")
-    private long expirationTime;
+    private final String secretKey;
+
+    private final long expirationTime;
+
+    // 서명 검증이 끝난 토큰의 사용자 정보 캐시 (토큰 만료 시각까지 유효)
+    private final VerifiedTokenCache verifiedTokenCache;
 
     private Key key;
 
+    // 스레드 안전하므로 한 번만 만들어 재사용합니다.
+    private JwtParser parser;
+
+    public JwtTokenProvider(@Value("${jwt.secret-key}") String secretKey,
+                            @Value("${jwt.expiration-time}") long expirationTime,
+                            @Value("${jwt.verified-token-cache-size:10000}") int verifiedTokenCacheSize) {
+        this.secretKey = secretKey;
+        this.expirationTime = expirationTime;
+        this.verifiedTokenCache = new VerifiedTokenCache(verifiedTokenCacheSize);
+    }
+
     /**
-     * @PostConstruct: 필드 주입이 완료된 후, 초기화 작업을 수행합니다.
-     *                 문자열 타입의 비밀키를 서명에 사용할 Key 객체로 변환합니다.
+     * @PostConstruct: 의존성 주입이 완료된 후, 초기화 작업을 수행합니다.
+     *                 문자열 타입의 비밀키를 서명에 사용할 Key 객체와 파서로 변환합니다.
      */
 
     @PostConstruct
@@ -56,6 +74,7 @@ public class JwtTokenProvider {
         try {
             byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
             this.key = Keys.hmacShaKeyFor(keyBytes);
+            this.parser = Jwts.parserBuilder().setSigningKey(key).build();
             log.info("Key 객체 생성 성공 (this.key is not null)");
         } catch (Exception e) {
             log.error("Key 객체 생성 중 치명적 오류 발생", e);
@@ -67,14 +86,20 @@ public class JwtTokenProvider {
     /**
      * JWT 토큰을 생성합니다.
      *
-     * @param email 사용자 이메일 (Subject)
-     * @param role  사용자 권한 (Claim)
+     * <p>사용자 ID를 클레임에 담아 두면 인증된 요청마다 이메일로 사용자를 다시 조회할 필요가 없습니다.
+     *
+     * @param userId       사용자 ID (Claim: uid)
+     * @param email        사용자 이메일 (Subject)
+     * @param role         사용자 권한 (Claim)
+     * @param tokenVersion 발급 시점의 토큰 버전 (Claim: ver)
      * @return 생성된 JWT String
      */
 
-    public String createToken(String email, String role) {
+    public String createToken(Long userId, String email, String role, int tokenVersion) {
         Claims claims = Jwts.claims().setSubject(email);
         claims.put("role", role);
+        claims.put(CLAIM_USER_ID, userId);
+        claims.put(CLAIM_TOKEN_VERSION, tokenVersion);
 
         Date now = new Date();
         Date expiration = new Date(now.getTime() + expirationTime);
@@ -88,43 +113,48 @@ public class JwtTokenProvider {
     }
 
     /**
-     * 토큰에서 이메일과 권한 정보를 추출하여 Spring Security의 Authentication 객체를 생성합니다.
+     * 토큰을 검증하고 인증 객체를 반환합니다. (요청 필터에서 사용)
+     *
+     * <p>principal은 {@link AuthUser}이며 {@code @AuthenticationPrincipal AuthUser}로 주입받을 수 있습니다.
+     * 사용자 ID/토큰 버전 클레임이 없는 이전 형식의 토큰은 거부하므로 다시 로그인해야 합니다.
+     *
+     * <p>서명/만료 검증과 클레임 추출을 한 번의 파싱으로 처리하고, 검증된 사용자 정보를
+     * 토큰 다이제스트 기준으로 토큰 만료 시각까지 캐시합니다.
+     * 같은 토큰으로 다시 요청하면 HMAC 검증 없이 캐시에서 인증 객체를 만듭니다.
      *
      * @param token JWT
-     * @return Authentication 객체
+     * @return 유효하면 Authentication, 아니면 empty
      */
+    public Optional<Authentication> authenticate(String token) {
+        long now = System.currentTimeMillis();
+        String digest = VerifiedTokenCache.digest(token);
+        AuthUser cached = verifiedTokenCache.get(digest, now);
+        if (cached != null) {
+            return Optional.of(toAuthentication(cached));
+        }
 
-    public Authentication getAuthentication(String token) {
-        // 토큰 파싱 및 Claims 추출
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        // 권한 정보 추출("ROLE_USER")
-        String roleString = claims.get("role", String.class);
-
-        List<SimpleGrantedAuthority> authorities = Collections.singletonList(
-                new SimpleGrantedAuthority("ROLE_" + roleString));
-
-        // Spring Security용 Authentication 객체 생성
-        return new UsernamePasswordAuthenticationToken(claims.getSubject(), null, authorities);
+        Claims claims = parseValidClaims(token);
+        if (claims == null) {
+            return Optional.empty();
+        }
+        AuthUser user = toAuthUser(claims);
+        verifiedTokenCache.put(digest, user, claims.getExpiration().getTime(), now);
+        return Optional.of(toAuthentication(user));
     }
 
-    /**
-     * 토큰의 유효성을 검증합니다.
-     *
-     * @param token JWT
-     * @return 유효하면 true, 아니면 false
-     */
-    public boolean validateToken(String token) {
+    // 서명/만료/필수 클레임을 검증하고 Claims를 반환합니다. 유효하지 않으면 null
+    private Claims parseValidClaims(String token) {
         try {
-            Jws<Claims> claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return !claims.getBody().getExpiration().before(new Date());
+            Claims body = parser.parseClaimsJws(token).getBody();
+            if (body.get(CLAIM_USER_ID) == null || body.get(CLAIM_TOKEN_VERSION) == null) {
+                log.info("사용자 정보가 없는 이전 형식의 JWT 토큰입니다.");
+                return null;
+            }
+            if (body.getExpiration() == null || body.getExpiration().before(new Date())) {
+                log.info("만료된 JWT 토큰입니다.");
+                return null;
+            }
+            return body;
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("잘못된 JWT 서명입니다.");
         } catch (ExpiredJwtException e) {
@@ -134,6 +164,24 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.info("JWT 토큰이 잘못되었습니다.");
         }
-        return false;
+        return null;
+    }
+
+    private static AuthUser toAuthUser(Claims claims) {
+        return new AuthUser(
+                claims.get(CLAIM_USER_ID, Long.class),
+                claims.getSubject(),
+                claims.get("role", String.class),
+                claims.get(CLAIM_TOKEN_VERSION, Integer.class));
+    }
+
+    // Authentication은 변경 가능한 객체이므로 캐시하지 않고 요청마다 새로 만듭니다.
+    private static Authentication toAuthentication(AuthUser user) {
+        // 권한 정보 추출("ROLE_USER")
+        List<SimpleGrantedAuthority> authorities = Collections.singletonList(
+                new SimpleGrantedAuthority("ROLE_" + user.getRole()));
+
+        // Spring Security용 Authentication 객체 생성
+        return new UsernamePasswordAuthenticationToken(user, null, authorities);
     }
 }
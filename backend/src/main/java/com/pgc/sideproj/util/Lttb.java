@@ -0,0 +1,86 @@
+package com.pgc.sideproj.util;
+
+/**
+ * Largest-Triangle-Three-Buckets(LTTB) 다운샘플링 유틸리티입니다.
+ *
+ * <p>시계열을 threshold개의 점으로 줄이면서 꺾이는 지점(급등/급락)을 최대한 보존합니다.
+ * 첫 점과 마지막 점은 항상 포함되며, 나머지 구간마다 이전 선택 점과 다음 구간 평균점으로 만든
+ * 삼각형의 넓이가 가장 큰 점을 고릅니다.
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+public final class Lttb {
+
+    private Lttb() {
+    }
+
+    /**
+     * 유지할 점의 인덱스를 계산합니다.
+     *
+     * @param x         x 값 (오름차순 정렬되어 있어야 함)
+     * @param y         y 값
+     * @param threshold 결과 점 개수
+     * @return 유지할 점의 인덱스 (오름차순). 점 개수가 threshold 이하이면 모든 인덱스
+     */
+    public static int[] downsample(double[] x, double[] y, int threshold) {
+        int n = x.length;
+        if (y.length != n) {
+            throw new IllegalArgumentException("x, y 배열의 길이가 다릅니다.");
+        }
+        if (threshold >= n || n <= 2) {
+            int[] all = new int[n];
+            for (int i = 0; i < n; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+        if (threshold < 3) {
+            return threshold <= 1 ? new int[]{0} : new int[]{0, n - 1};
+        }
+
+        int[] sampled = new int[threshold];
+        int sampledCount = 0;
+        double every = (double) (n - 2) / (threshold - 2);
+        int a = 0;
+        sampled[sampledCount++] = a;
+
+        for (int i = 0; i < threshold - 2; i++) {
+            // 다음 구간의 평균점
+            int avgRangeStart = (int) Math.floor((i + 1) * every) + 1;
+            int avgRangeEnd = Math.min((int) Math.floor((i + 2) * every) + 1, n);
+            double avgX = 0;
+            double avgY = 0;
+            int avgRangeLength = avgRangeEnd - avgRangeStart;
+            for (int j = avgRangeStart; j < avgRangeEnd; j++) {
+                avgX += x[j];
+                avgY += y[j];
+            }
+            if (avgRangeLength > 0) {
+                avgX /= avgRangeLength;
+                avgY /= avgRangeLength;
+            } else {
+                avgX = x[n - 1];
+                avgY = y[n - 1];
+            }
+
+            // 현재 구간에서 삼각형 넓이가 가장 큰 점
+            int rangeOffset = (int) Math.floor(i * every) + 1;
+            int rangeTo = (int) Math.floor((i + 1) * every) + 1;
+            double maxArea = -1;
+            int next = rangeOffset;
+            for (int j = rangeOffset; j < rangeTo; j++) {
+                double area = Math.abs((x[a] - avgX) * (y[j] - y[a]) - (x[a] - x[j]) * (avgY - y[a]));
+                if (area > maxArea) {
+                    maxArea = area;
+                    next = j;
+                }
+            }
+            sampled[sampledCount++] = next;
+            a = next;
+        }
+
+        sampled[sampledCount] = n - 1;
+        return sampled;
+    }
+}
@@ -0,0 +1,228 @@
+package com.pgc.sideproj.util;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * 직렬화된 응답 바이트를 힙 밖(direct buffer)에 보관하는 크기 제한 LRU 캐시입니다.
+ *
+ * <p>시작 시 capacity 바이트의 direct buffer 하나를 blockSize 단위 블록으로 나눠 두고,
+ * 항목마다 필요한 블록만 빌려 씁니다. 값이 힙에 남지 않고 버퍼도 다시 할당하지 않으므로 GC 부담이 없습니다.
+ * 블록이 모자라면 오래 조회되지 않은 항목부터 내보내며, 한 항목은 전체 용량의 1/4까지만 저장합니다.
+ *
+ * <p>{@link #invalidate()}는 모든 항목을 내보내고 세대를 올립니다. 무효화 전에 읽은 세대({@link #generation()})로
+ * 만든 값은 {@link #put}에서 버려지므로, 응답을 만드는 도중 데이터가 바뀌어도 옛 값이 남지 않습니다.
+ *
+ * <p>조회 결과({@link Hit})는 닫을 때까지 블록을 붙잡아 두므로, 소켓에 쓰는 동안 내보내져도 다른 항목이 덮어쓰지 않습니다.
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+public final class OffHeapResponseCache {
+
+    private final int blockSize;
+    private final ByteBuffer[] blocks;
+    private final int maxEntryBlocks;
+
+    // 아래 필드는 모두 this로 동기화
+    private final int[] freeBlocks;
+    private int freeCount;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long generation;
+    private long usedBytes;
+
+    public OffHeapResponseCache(int capacity, int blockSize) {
+        if (capacity < 0 || blockSize < 1) {
+            throw new IllegalArgumentException("캐시 용량은 0 이상, 블록 크기는 1 이상이어야 합니다: " + capacity + ", " + blockSize);
+        }
+        int blockCount = capacity / blockSize;
+        ByteBuffer arena = ByteBuffer.allocateDirect(blockCount * blockSize);
+        this.blockSize = blockSize;
+        this.blocks = new ByteBuffer[blockCount];
+        this.freeBlocks = new int[blockCount];
+        for (int i = 0; i < blockCount; i++) {
+            blocks[i] = arena.slice(i * blockSize, blockSize);
+            freeBlocks[i] = blockCount - 1 - i;
+        }
+        this.freeCount = blockCount;
+        this.maxEntryBlocks = blockCount / 4;
+    }
+
+    /**
+     * 현재 세대 (값을 만들기 전에 읽어 {@link #put}에 넘김)
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * 항목을 조회합니다. 반환된 Hit은 다 쓴 뒤 반드시 닫아야 합니다.
+     *
+     * @return 저장된 값 (없으면 null)
+     */
+    public synchronized Hit get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        entry.refs++;
+        return new Hit(entry);
+    }
+
+    /**
+     * 값을 저장합니다. 자리가 모자라면 오래된 항목을 내보냅니다.
+     *
+     * @param key        키
+     * @param generation 값을 만들기 전에 읽은 세대
+     * @param value      직렬화된 값
+     * @return 저장 여부 (세대가 바뀌었거나, 값이 너무 크거나, 사용 중인 블록 때문에 자리가 없으면 false)
+     */
+    public synchronized boolean put(String key, long generation, byte[] value) {
+        int needed = (value.length + blockSize - 1) / blockSize;
+        if (generation != this.generation || needed > maxEntryBlocks) {
+            return false;
+        }
+        Entry previous = entries.remove(key);
+        if (previous != null) {
+            retire(previous);
+        }
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (freeCount < needed && eldest.hasNext()) {
+            Entry entry = eldest.next();
+            eldest.remove();
+            retire(entry);
+        }
+        if (freeCount < needed) {
+            return false;
+        }
+
+        int[] owned = new int[needed];
+        for (int i = 0; i < needed; i++) {
+            int block = freeBlocks[--freeCount];
+            int offset = i * blockSize;
+            blocks[block].put(0, value, offset, Math.min(blockSize, value.length - offset));
+            owned[i] = block;
+        }
+        entries.put(key, new Entry(owned, value.length));
+        usedBytes += value.length;
+        return true;
+    }
+
+    /**
+     * 모든 항목을 내보내고 세대를 올립니다.
+     */
+    public synchronized void invalidate() {
+        generation++;
+        for (Entry entry : entries.values()) {
+            retire(entry);
+        }
+        entries.clear();
+    }
+
+    /**
+     * 저장된 항목 수
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 저장된 값의 바이트 합계
+     */
+    public synchronized long usedBytes() {
+        return usedBytes;
+    }
+
+    // 캐시에서 빠진 항목의 블록은 읽는 쪽이 모두 닫은 뒤에 반납
+    private void retire(Entry entry) {
+        entry.removed = true;
+        usedBytes -= entry.length;
+        if (entry.refs == 0) {
+            release(entry);
+        }
+    }
+
+    private void release(Entry entry) {
+        for (int block : entry.blocks) {
+            freeBlocks[freeCount++] = block;
+        }
+    }
+
+    private synchronized void close(Entry entry) {
+        entry.refs--;
+        if (entry.removed && entry.refs == 0) {
+            release(entry);
+        }
+    }
+
+    private static final class Entry {
+        final int[] blocks;
+        final int length;
+        int refs;
+        boolean removed;
+
+        Entry(int[] blocks, int length) {
+            this.blocks = blocks;
+            this.length = length;
+        }
+    }
+
+    /**
+     * 조회한 값 (닫을 때까지 유효)
+     */
+    public final class Hit implements AutoCloseable {
+
+        private final Entry entry;
+        private boolean closed;
+
+        private Hit(Entry entry) {
+            this.entry = entry;
+        }
+
+        /**
+         * 값의 길이 (바이트)
+         */
+        public int length() {
+            return entry.length;
+        }
+
+        /**
+         * 값을 순서대로 담은 읽기 전용 버퍼 (블록마다 하나, 힙으로 복사하지 않음)
+         */
+        public List<ByteBuffer> buffers() {
+            List<ByteBuffer> result = new ArrayList<>(entry.blocks.length);
+            int remaining = entry.length;
+            for (int block : entry.blocks) {
+                int length = Math.min(blockSize, remaining);
+                result.add(blocks[block].asReadOnlyBuffer().limit(length));
+                remaining -= length;
+            }
+            return result;
+        }
+
+        /**
+         * 값을 힙 배열로 복사합니다.
+         */
+        public byte[] toByteArray() {
+            byte[] value = new byte[entry.length];
+            int offset = 0;
+            for (ByteBuffer buffer : buffers()) {
+                int length = buffer.remaining();
+                buffer.get(value, offset, length);
+                offset += length;
+            }
+            return value;
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                OffHeapResponseCache.this.close(entry);
+            }
+        }
+    }
+}
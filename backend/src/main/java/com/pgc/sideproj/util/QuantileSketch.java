@@ -0,0 +1,245 @@
+package com.pgc.sideproj.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 상대 오차가 보장되는 병합 가능한 분위수(quantile) 스케치입니다.
+ *
+ * <p>DDSketch 방식으로 양수 값을 로그 간격 버킷(gamma = (1+a)/(1-a))에 세어 두며,
+ * 어떤 분위수든 실제 값 대비 상대 오차 a(1%) 이내로 추정합니다.
+ * 버킷 개수만 합치면 되므로 월/지역/카테고리별 스케치를 임의 조합으로 병합해도
+ * 전체 데이터로 만든 스케치와 결과가 같습니다.
+ *
+ * <p>직렬화 형식 (가변 길이 정수 사용):
+ * <pre>
+ *   byte   version (1)
+ *   varlong zeroCount
+ *   double min, double max
+ *   varint 버킷 수
+ *   반복: zigzag varint 키 증분, varlong 개수
+ * </pre>
+ *
+ * <p>스레드 안전하지 않습니다. 생성/병합 후 읽기 전용으로 사용합니다.
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+public final class QuantileSketch {
+
+    public static final double RELATIVE_ACCURACY = 0.01;
+
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+    // 이보다 작은 값은 0으로 취급합니다.
+    private static final double MIN_INDEXABLE_VALUE = 1e-9;
+    private static final byte FORMAT_VERSION = 1;
+
+    // counts[i]는 키 (offset + i) 버킷의 개수
+    private long[] counts = new long[0];
+    private int offset;
+    private long zeroCount;
+    private long count;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * 값을 하나 추가합니다.
+     *
+     * @param value 0 이상의 유한한 값
+     */
+    public void add(double value) {
+        if (!(value >= 0) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("0 이상의 유한한 값만 추가할 수 있습니다: " + value);
+        }
+        if (value < MIN_INDEXABLE_VALUE) {
+            zeroCount++;
+        } else {
+            increment(key(value), 1);
+        }
+        count++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * 다른 스케치의 내용을 이 스케치에 합칩니다.
+     */
+    public void merge(QuantileSketch other) {
+        if (other.count == 0) {
+            return;
+        }
+        for (int i = 0; i < other.counts.length; i++) {
+            if (other.counts[i] != 0) {
+                increment(other.offset + i, other.counts[i]);
+            }
+        }
+        zeroCount += other.zeroCount;
+        count += other.count;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * 분위수를 추정합니다.
+     *
+     * @param q 0 ~ 1 사이의 분위 (0.5 = 중앙값)
+     * @return 추정값 (비어 있으면 NaN)
+     */
+    public double quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("분위는 0 ~ 1 사이여야 합니다: " + q);
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        double rank = q * (count - 1);
+        long cumulative = zeroCount;
+        if (cumulative > rank) {
+            return 0;
+        }
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            if (cumulative > rank) {
+                return Math.max(min, Math.min(max, value(offset + i)));
+            }
+        }
+        return max;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public double min() {
+        return count == 0 ? Double.NaN : min;
+    }
+
+    public double max() {
+        return count == 0 ? Double.NaN : max;
+    }
+
+    /**
+     * 스케치를 바이트 배열로 직렬화합니다.
+     */
+    public byte[] toBytes() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(32 + counts.length * 3);
+        out.write(FORMAT_VERSION);
+        writeVarLong(out, zeroCount);
+        writeDouble(out, min);
+        writeDouble(out, max);
+
+        int nonEmpty = 0;
+        for (long c : counts) {
+            if (c != 0) {
+                nonEmpty++;
+            }
+        }
+        writeVarLong(out, nonEmpty);
+        int previousKey = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                int key = offset + i;
+                writeVarLong(out, zigzag(key - previousKey));
+                writeVarLong(out, counts[i]);
+                previousKey = key;
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 직렬화된 바이트 배열에서 스케치를 복원합니다.
+     *
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static QuantileSketch fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try {
+            byte version = buffer.get();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalArgumentException("지원하지 않는 스케치 버전입니다: " + version);
+            }
+            QuantileSketch sketch = new QuantileSketch();
+            sketch.zeroCount = readVarLong(buffer);
+            sketch.min = buffer.getDouble();
+            sketch.max = buffer.getDouble();
+            sketch.count = sketch.zeroCount;
+
+            long buckets = readVarLong(buffer);
+            int key = 0;
+            for (long i = 0; i < buckets; i++) {
+                key += unzigzag(readVarLong(buffer));
+                long bucketCount = readVarLong(buffer);
+                sketch.increment(key, bucketCount);
+                sketch.count += bucketCount;
+            }
+            return sketch;
+        } catch (java.nio.BufferUnderflowException e) {
+            throw new IllegalArgumentException("스케치 데이터가 잘렸습니다.", e);
+        }
+    }
+
+    private static int key(double value) {
+        return (int) Math.ceil(Math.log(value) / LOG_GAMMA);
+    }
+
+    // 버킷 (gamma^(k-1), gamma^k] 안에서 상대 오차가 가장 작은 대표값
+    private static double value(int key) {
+        return 2 * Math.pow(GAMMA, key) / (GAMMA + 1);
+    }
+
+    private void increment(int key, long amount) {
+        if (counts.length == 0) {
+            counts = new long[16];
+            offset = key - 8;
+        }
+        if (key < offset) {
+            int grow = Math.max(offset - key, counts.length / 2);
+            long[] grown = new long[counts.length + grow];
+            System.arraycopy(counts, 0, grown, grow, counts.length);
+            counts = grown;
+            offset -= grow;
+        } else if (key >= offset + counts.length) {
+            int needed = key - offset + 1;
+            counts = Arrays.copyOf(counts, Math.max(needed, counts.length + counts.length / 2));
+        }
+        counts[key - offset] += amount;
+    }
+
+    private static void writeDouble(ByteArrayOutputStream out, double value) {
+        long bits = Double.doubleToLongBits(value);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            out.write((int) (bits >>> shift));
+        }
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(ByteBuffer buffer) {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("가변 길이 정수 형식이 올바르지 않습니다.");
+    }
+
+    private static long zigzag(int value) {
+        return ((long) value << 1) ^ (value >> 31);
+    }
+
+    private static int unzigzag(long value) {
+        return (int) ((value >>> 1) ^ -(value & 1));
+    }
+}
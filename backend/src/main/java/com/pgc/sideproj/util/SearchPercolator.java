@@ -0,0 +1,286 @@
+package com.pgc.sideproj.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * 저장된 검색 조건(질의)을 색인해 두고, 물건(문서)이 들어오면 일치하는 질의를 찾는 퍼콜레이터입니다.
+ *
+ * <p>문서마다 모든 질의를 실행하는 대신 질의를 가장 좁은 조건 하나(앵커)로 색인합니다.
+ * <ul>
+ *   <li>검색어가 있으면 가장 긴 검색어 토큰</li>
+ *   <li>없으면 지역(지번주소 접두어)</li>
+ *   <li>그것도 없으면 카테고리(카테고리 전체명 접두어)</li>
+ * </ul>
+ * 문서가 들어오면 문서의 단어/주소/카테고리 접두어로 앵커 색인을 조회해 후보 질의만 얻고,
+ * 후보에 대해서만 나머지 조건(다른 검색어 토큰, 지역, 카테고리, 가격 범위)을 확인합니다.
+ *
+ * <p>일치 규칙은 물건 목록 검색과 맞춥니다. 검색어는 공백/기호로 나눈 토큰마다
+ * 물건명/주소의 어떤 단어의 접두어여야 하고(대소문자 무시), 지역은 지번주소의 접두어입니다.
+ * 검색어/지역/카테고리가 모두 없는 질의는 모든 물건과 일치하므로 색인하지 않습니다.
+ *
+ * <p>생성 후 불변이며 스레드 안전합니다. {@link Matcher}는 스레드마다 따로 만들어 사용합니다.
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+public final class SearchPercolator {
+
+    /**
+     * 저장된 검색 조건
+     *
+     * @param id       질의 ID (saved_search.id)
+     * @param keyword  검색어 (없으면 null)
+     * @param region   지역 (지번주소 접두어, 없으면 null)
+     * @param category 카테고리 (카테고리 전체명 접두어, 없으면 null)
+     * @param minPrice 최저입찰가 하한 (없으면 null)
+     * @param maxPrice 최저입찰가 상한 (없으면 null)
+     */
+    public record Query(long id, String keyword, String region, String category, Long minPrice, Long maxPrice) {
+    }
+
+    /**
+     * 일치 여부를 확인할 물건
+     *
+     * @param name        물건명
+     * @param address     정제된 지번주소
+     * @param roadAddress 정제된 도로명주소
+     * @param category    카테고리 전체명
+     * @param price       최신 최저입찰가 (없으면 null)
+     */
+    public record Document(String name, String address, String roadAddress, String category, Long price) {
+    }
+
+    private final Query[] queries;
+    // 질의별 정규화된 조건 (queries와 같은 순서)
+    private final String[][] keywordTokens;
+    private final String[] regions;
+    private final String[] categories;
+
+    private final PrefixIndex keywordIndex;
+    private final PrefixIndex regionIndex;
+    private final PrefixIndex categoryIndex;
+
+    private SearchPercolator(List<Query> indexed) {
+        int n = indexed.size();
+        this.queries = indexed.toArray(new Query[0]);
+        this.keywordTokens = new String[n][];
+        this.regions = new String[n];
+        this.categories = new String[n];
+
+        Map<String, List<Integer>> byKeyword = new HashMap<>();
+        Map<String, List<Integer>> byRegion = new HashMap<>();
+        Map<String, List<Integer>> byCategory = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            Query query = queries[i];
+            keywordTokens[i] = tokenize(query.keyword());
+            regions[i] = normalize(query.region());
+            categories[i] = normalize(query.category());
+
+            if (keywordTokens[i].length > 0) {
+                byKeyword.computeIfAbsent(longest(keywordTokens[i]), k -> new ArrayList<>()).add(i);
+            } else if (regions[i] != null) {
+                byRegion.computeIfAbsent(regions[i], k -> new ArrayList<>()).add(i);
+            } else {
+                byCategory.computeIfAbsent(categories[i], k -> new ArrayList<>()).add(i);
+            }
+        }
+        this.keywordIndex = new PrefixIndex(byKeyword);
+        this.regionIndex = new PrefixIndex(byRegion);
+        this.categoryIndex = new PrefixIndex(byCategory);
+    }
+
+    /**
+     * 질의 목록으로 퍼콜레이터를 만듭니다. 조건이 하나도 없는 질의는 제외됩니다.
+     */
+    public static SearchPercolator build(List<Query> queries) {
+        List<Query> indexed = new ArrayList<>(queries.size());
+        for (Query query : queries) {
+            if (tokenize(query.keyword()).length > 0
+                    || normalize(query.region()) != null
+                    || normalize(query.category()) != null) {
+                indexed.add(query);
+            }
+        }
+        return new SearchPercolator(indexed);
+    }
+
+    /**
+     * 색인된 질의 수
+     */
+    public int size() {
+        return queries.length;
+    }
+
+    public Matcher matcher() {
+        return new Matcher();
+    }
+
+    /**
+     * 문서를 하나씩 넣어 일치하는 질의를 찾는 객체 (스레드 안전하지 않음)
+     */
+    public final class Matcher {
+
+        // 질의별로 마지막으로 확인한 문서 번호 (한 문서에서 같은 질의를 두 번 확인하지 않도록)
+        private final int[] checkedAt = new int[queries.length];
+        private int documentSeq;
+
+        private Matcher() {
+        }
+
+        /**
+         * 문서와 일치하는 질의를 모두 out에 전달합니다.
+         */
+        public void match(Document document, Consumer<Query> out) {
+            documentSeq++;
+            String[] words = tokenize(String.join(" ", nonNull(document.name()),
+                    nonNull(document.address()), nonNull(document.roadAddress())));
+            String address = normalize(document.address());
+            String category = normalize(document.category());
+
+            for (String word : words) {
+                keywordIndex.forEachPrefixOf(word, i -> check(i, words, address, category, document.price(), out));
+            }
+            regionIndex.forEachPrefixOf(address, i -> check(i, words, address, category, document.price(), out));
+            categoryIndex.forEachPrefixOf(category, i -> check(i, words, address, category, document.price(), out));
+        }
+
+        private void check(int i, String[] words, String address, String category, Long price,
+                           Consumer<Query> out) {
+            if (checkedAt[i] == documentSeq) {
+                return;
+            }
+            checkedAt[i] = documentSeq;
+
+            Query query = queries[i];
+            if (regions[i] != null && (address == null || !address.startsWith(regions[i]))) {
+                return;
+            }
+            if (categories[i] != null && (category == null || !category.startsWith(categories[i]))) {
+                return;
+            }
+            if (query.minPrice() != null && (price == null || price < query.minPrice())) {
+                return;
+            }
+            if (query.maxPrice() != null && (price == null || price > query.maxPrice())) {
+                return;
+            }
+            for (String token : keywordTokens[i]) {
+                if (!anyStartsWith(words, token)) {
+                    return;
+                }
+            }
+            out.accept(query);
+        }
+    }
+
+    /**
+     * 문자열 키 -> 질의 번호 목록 색인. 조회 시 입력 문자열의 접두어들을 키로 찾습니다.
+     */
+    private static final class PrefixIndex {
+        private final Map<String, int[]> postings;
+        private final int maxKeyLength;
+
+        PrefixIndex(Map<String, List<Integer>> source) {
+            this.postings = new HashMap<>(source.size() * 2);
+            int longest = 0;
+            for (Map.Entry<String, List<Integer>> entry : source.entrySet()) {
+                postings.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+                longest = Math.max(longest, entry.getKey().length());
+            }
+            this.maxKeyLength = longest;
+        }
+
+        void forEachPrefixOf(String value, IntConsumer action) {
+            if (value == null || postings.isEmpty()) {
+                return;
+            }
+            int limit = Math.min(value.length(), maxKeyLength);
+            for (int length = 1; length <= limit; length++) {
+                int[] ids = postings.get(value.substring(0, length));
+                if (ids != null) {
+                    for (int id : ids) {
+                        action.accept(id);
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean anyStartsWith(String[] words, String token) {
+        for (String word : words) {
+            if (word.startsWith(token)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String longest(String[] tokens) {
+        String longest = tokens[0];
+        for (String token : tokens) {
+            if (token.length() > longest.length()) {
+                longest = token;
+            }
+        }
+        return longest;
+    }
+
+    private static String nonNull(String value) {
+        return value != null ? value : "";
+    }
+
+    private static String normalize(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.strip().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 검색어를 같은 토큰 규칙의 DB 전문 검색 불린 질의로 바꿉니다. (토큰마다 필수 + 접두어: {@code +tok1* +tok2*})
+     *
+     * <p>토큰은 글자/숫자로만 이루어지므로 검색어에 들어 있는 불린 연산자는 그대로 전달되지 않습니다.
+     *
+     * @param keyword 검색어
+     * @return 불린 질의 (토큰이 없으면 null, 검색 조건 없음)
+     */
+    public static String toFullTextQuery(String keyword) {
+        String[] tokens = tokenize(keyword);
+        if (tokens.length == 0) {
+            return null;
+        }
+        StringBuilder query = new StringBuilder();
+        for (String token : tokens) {
+            if (!query.isEmpty()) {
+                query.append(' ');
+            }
+            query.append('+').append(token).append('*');
+        }
+        return query.toString();
+    }
+
+    // 글자/숫자가 아닌 문자로 나눈 소문자 토큰
+    static String[] tokenize(String text) {
+        if (text == null) {
+            return new String[0];
+        }
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return tokens.toArray(new String[0]);
+    }
+}
@@ -0,0 +1,76 @@
+package com.pgc.sideproj.util;
+
+import java.util.Arrays;
+
+/**
+ * 정렬된 int 배열을 작은 불변 정수 집합으로 다루는 유틸리티입니다.
+ *
+ * <p>추가/삭제는 새 배열을 반환하고 원본은 바꾸지 않으므로,
+ * 배열 참조만 교체하면 읽는 쪽은 잠금 없이 이진 탐색할 수 있습니다.
+ * 원소당 4바이트이며 수천 개 규모의 집합(사용자의 찜 목록 등)을 대상으로 합니다.
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+public final class SortedIntArrays {
+
+    public static final int[] EMPTY = new int[0];
+
+    private SortedIntArrays() {
+    }
+
+    /**
+     * 임의 순서의 값으로 정렬/중복 제거된 배열을 만듭니다.
+     */
+    public static int[] of(int[] values) {
+        if (values.length == 0) {
+            return EMPTY;
+        }
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int size = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[size - 1]) {
+                sorted[size++] = sorted[i];
+            }
+        }
+        return size == sorted.length ? sorted : Arrays.copyOf(sorted, size);
+    }
+
+    public static boolean contains(int[] set, int value) {
+        return Arrays.binarySearch(set, value) >= 0;
+    }
+
+    /**
+     * value를 추가한 새 배열을 반환합니다. (이미 있으면 원본 그대로)
+     */
+    public static int[] add(int[] set, int value) {
+        int idx = Arrays.binarySearch(set, value);
+        if (idx >= 0) {
+            return set;
+        }
+        int insertAt = -idx - 1;
+        int[] grown = new int[set.length + 1];
+        System.arraycopy(set, 0, grown, 0, insertAt);
+        grown[insertAt] = value;
+        System.arraycopy(set, insertAt, grown, insertAt + 1, set.length - insertAt);
+        return grown;
+    }
+
+    /**
+     * value를 뺀 새 배열을 반환합니다. (없으면 원본 그대로)
+     */
+    public static int[] remove(int[] set, int value) {
+        int idx = Arrays.binarySearch(set, value);
+        if (idx < 0) {
+            return set;
+        }
+        if (set.length == 1) {
+            return EMPTY;
+        }
+        int[] shrunk = new int[set.length - 1];
+        System.arraycopy(set, 0, shrunk, 0, idx);
+        System.arraycopy(set, idx + 1, shrunk, idx, set.length - idx - 1);
+        return shrunk;
+    }
+}
@@ -0,0 +1,167 @@
+package com.pgc.sideproj.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 마감 시각이 지난 작업을 꺼내 주는 계층형 타이밍 휠입니다.
+ *
+ * <p>0단계 휠은 tick 간격의 버킷 wheelSize개로 (tick x wheelSize) 범위를 담고,
+ * 그보다 먼 작업은 tick x wheelSize^L 간격의 상위 단계에 넣습니다. (단계는 필요할 때 추가)
+ * 시간이 상위 단계 버킷의 시작에 도달하면 그 버킷의 작업을 하위 단계로 다시 나누어 넣으므로,
+ * 등록과 만료 모두 작업 수와 무관하게 작업당 O(단계 수)입니다.
+ *
+ * <p>작업은 마감 시각 이후 첫 tick 경계에서 꺼내집니다. (일찍 꺼내지 않으며 늦어도 tick 이내)
+ *
+ * <p>스레드 안전하지 않습니다. 등록과 {@link #advance}를 한 스레드에서 하거나 외부에서 동기화합니다.
+ *
+ * @param <T> 작업 타입
+ * @author sideproj
+ * @since 1.0
+ */
+public final class TimingWheel<T> {
+
+    private static final int MAX_LEVELS = 8;
+
+    private final long tickMillis;
+    private final int wheelSize;
+    // levels.get(L)[i]: L단계 i번 버킷
+    private final List<List<Entry<T>>[]> levels = new ArrayList<>();
+    private long currentTime;
+    private int size;
+
+    /**
+     * @param tickMillis 0단계 버킷 간격 (ms)
+     * @param wheelSize  단계별 버킷 수
+     * @param startMillis 시작 시각 (tick 단위로 내림)
+     */
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("tick은 양수, 버킷 수는 2 이상이어야 합니다.");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.currentTime = Math.floorDiv(startMillis, tickMillis) * tickMillis;
+        addLevel();
+    }
+
+    /**
+     * 작업을 등록합니다.
+     *
+     * @param deadlineMillis 마감 시각 (epoch ms)
+     * @param task           작업
+     * @return 등록했으면 true, 이미 마감 시각이 지났으면 false (호출한 쪽에서 바로 처리)
+     */
+    public boolean schedule(long deadlineMillis, T task) {
+        if (deadlineMillis <= currentTime) {
+            return false;
+        }
+        place(new Entry<>(deadlineMillis, task));
+        size++;
+        return true;
+    }
+
+    /**
+     * 현재 시각까지 시간을 진행하며 마감된 작업을 마감 시각 순(tick 단위)으로 out에 전달합니다.
+     */
+    public void advance(long nowMillis, Consumer<T> out) {
+        while (currentTime + tickMillis <= nowMillis) {
+            currentTime += tickMillis;
+
+            List<Entry<T>>[] wheel = levels.get(0);
+            int index = (int) Math.floorMod(currentTime / tickMillis, (long) wheelSize);
+            List<Entry<T>> due = wheel[index];
+            if (due != null) {
+                wheel[index] = null;
+                size -= due.size();
+                for (Entry<T> entry : due) {
+                    out.accept(entry.task);
+                }
+            }
+
+            // 그다음 상위 단계부터 경계에 도달한 버킷을 하위 단계로 내림
+            // (0단계를 먼저 비워야 한 바퀴 뒤 같은 버킷으로 내려온 작업이 일찍 꺼내지지 않음)
+            for (int level = levels.size() - 1; level >= 1; level--) {
+                long levelTick = levelTick(level);
+                if (currentTime % levelTick == 0) {
+                    List<Entry<T>>[] buckets = levels.get(level);
+                    int bucketIndex = (int) Math.floorMod(currentTime / levelTick, (long) wheelSize);
+                    List<Entry<T>> bucket = buckets[bucketIndex];
+                    if (bucket != null) {
+                        buckets[bucketIndex] = null;
+                        for (Entry<T> entry : bucket) {
+                            if (entry.deadline <= currentTime) {
+                                size--;
+                                out.accept(entry.task);
+                            } else {
+                                place(entry);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 등록되어 아직 꺼내지지 않은 작업 수
+     */
+    public int size() {
+        return size;
+    }
+
+    public long currentTime() {
+        return currentTime;
+    }
+
+    private void place(Entry<T> entry) {
+        long deadline = entry.deadline;
+        // 0단계: 마감 시각 이후 첫 tick 경계의 버킷
+        long slot = Math.floorDiv(deadline + tickMillis - 1, tickMillis);
+        if (slot - currentTime / tickMillis <= wheelSize) {
+            add(0, (int) Math.floorMod(slot, (long) wheelSize), entry);
+            return;
+        }
+        // 상위 단계: 버킷 시작 시각이 미래이고 한 바퀴 안에 들어가는 가장 낮은 단계
+        for (int level = 1; ; level++) {
+            if (level == levels.size()) {
+                if (levels.size() == MAX_LEVELS) {
+                    throw new IllegalArgumentException("타이밍 휠 범위를 벗어난 마감 시각입니다: " + deadline);
+                }
+                addLevel();
+            }
+            long levelTick = levelTick(level);
+            long levelSlot = Math.floorDiv(deadline, levelTick);
+            if (levelSlot * levelTick > currentTime
+                    && levelSlot - Math.floorDiv(currentTime, levelTick) <= wheelSize) {
+                add(level, (int) Math.floorMod(levelSlot, (long) wheelSize), entry);
+                return;
+            }
+        }
+    }
+
+    private void add(int level, int index, Entry<T> entry) {
+        List<Entry<T>>[] buckets = levels.get(level);
+        if (buckets[index] == null) {
+            buckets[index] = new ArrayList<>();
+        }
+        buckets[index].add(entry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void addLevel() {
+        levels.add(new List[wheelSize]);
+    }
+
+    private long levelTick(int level) {
+        long tick = tickMillis;
+        for (int i = 0; i < level; i++) {
+            tick *= wheelSize;
+        }
+        return tick;
+    }
+
+    private record Entry<T>(long deadline, T task) {
+    }
+}
@@ -0,0 +1,129 @@
+package com.pgc.sideproj.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 키(IP, 이메일 등)별 토큰 버킷을 보관하는 메모리 테이블입니다.
+ *
+ * <p>버킷은 최대 capacity개의 토큰을 가지며 초당 refillPerSecond개씩 다시 채워집니다.
+ * 요청마다 토큰 하나를 소비하고, 토큰이 없으면 거부합니다.
+ * 테이블은 ConcurrentHashMap이고 각 버킷은 자기 자신만 잠그므로 서로 다른 키끼리는 경쟁하지 않습니다.
+ *
+ * <p>가득 찬 버킷은 새로 만든 버킷과 같으므로 {@link #evictIdle(long)}로 제거해도 동작이 바뀌지 않습니다.
+ * 키 수가 maxKeys에 이르면 유휴 버킷을 먼저 정리하고, 그래도 가득 차 있으면 가장 오래 사용하지 않은 버킷부터
+ * maxKeys의 1/8을 내보냅니다. (한 번 정렬로 여러 자리를 비워 키가 몰려도 새 키마다 전체를 훑지 않음)
+ * 내보낸 키는 가득 찬 버킷으로 다시 시작하지만, 새 키의 요청을 막아 정상 사용자가 거부되지는 않습니다.
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+public final class TokenBucketTable {
+
+    private final int capacity;
+    private final double refillPerNano;
+    private final int maxKeys;
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * @param capacity        버킷 크기 (연속으로 허용할 요청 수)
+     * @param refillPerSecond 초당 다시 채워지는 토큰 수
+     * @param maxKeys         보관할 최대 키 수
+     */
+    public TokenBucketTable(int capacity, double refillPerSecond, int maxKeys) {
+        if (capacity <= 0 || refillPerSecond <= 0 || maxKeys <= 0) {
+            throw new IllegalArgumentException("버킷 크기, 충전 속도, 최대 키 수는 0보다 커야 합니다.");
+        }
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / 1_000_000_000d;
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * 키의 버킷에서 토큰 하나를 소비합니다.
+     *
+     * @param key      제한 대상 키
+     * @param nowNanos 현재 시각 ({@link System#nanoTime()})
+     * @return 허용되면 true, 토큰이 없으면 false
+     */
+    public boolean tryAcquire(String key, long nowNanos) {
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxKeys) {
+                evictIdle(nowNanos);
+                if (buckets.size() >= maxKeys) {
+                    evictLeastRecentlyUsed(nowNanos);
+                }
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new Bucket(capacity, nowNanos));
+        }
+        return bucket.tryAcquire(nowNanos);
+    }
+
+    /**
+     * 다시 가득 찬(= 최근 요청이 없는) 버킷을 제거합니다.
+     *
+     * @return 제거한 버킷 수
+     */
+    public int evictIdle(long nowNanos) {
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.isFull(nowNanos));
+        return before - buckets.size();
+    }
+
+    // 마지막 사용 후 오래된 순으로 maxKeys / 8개(최소 1개)를 제거
+    private void evictLeastRecentlyUsed(long nowNanos) {
+        long[] ages = buckets.values().stream()
+                .mapToLong(bucket -> nowNanos - bucket.usedAt())
+                .sorted()
+                .toArray();
+        if (ages.length == 0) {
+            return;
+        }
+        long minAge = ages[Math.max(0, ages.length - Math.max(1, maxKeys / 8))];
+        buckets.values().removeIf(bucket -> nowNanos - bucket.usedAt() >= minAge);
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private final class Bucket {
+        private double tokens;
+        private long refilledAt;
+        // 마지막 요청 시각 (정리 중의 충전으로는 바뀌지 않음)
+        private long usedAt;
+
+        Bucket(double tokens, long nowNanos) {
+            this.tokens = tokens;
+            this.refilledAt = nowNanos;
+            this.usedAt = nowNanos;
+        }
+
+        synchronized boolean tryAcquire(long nowNanos) {
+            usedAt = nowNanos;
+            refill(nowNanos);
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+
+        synchronized long usedAt() {
+            return usedAt;
+        }
+
+        synchronized boolean isFull(long nowNanos) {
+            refill(nowNanos);
+            return tokens >= capacity;
+        }
+
+        private void refill(long nowNanos) {
+            long elapsed = nowNanos - refilledAt;
+            if (elapsed > 0) {
+                tokens = Math.min(capacity, tokens + elapsed * refillPerNano);
+                refilledAt = nowNanos;
+            }
+        }
+    }
+}
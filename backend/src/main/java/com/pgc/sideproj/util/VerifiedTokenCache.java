@@ -0,0 +1,92 @@
+package com.pgc.sideproj.util;
+
+import com.pgc.sideproj.dto.common.AuthUser;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서명 검증을 마친 JWT의 사용자 정보를 보관하는 크기 제한 캐시입니다.
+ *
+ * <p>토큰 원문 대신 SHA-256 다이제스트를 키로 사용하므로 메모리에 토큰이 남지 않으며,
+ * 각 항목은 토큰의 만료 시각(exp)이 지나면 조회되지 않습니다.
+ * 항목 수가 상한에 이르면 만료된 항목을 먼저 정리하고, 그래도 가득 차 있으면 전체를 비웁니다.
+ * 비워진 뒤에는 다시 서명 검증을 거쳐 채워지므로 정확성에는 영향이 없습니다.
+ *
+ * @author sideproj
+ * @since 1.0
+ */
+public final class VerifiedTokenCache {
+
+    private final int maxEntries;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public VerifiedTokenCache(int maxEntries) {
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("캐시 크기는 0 이상이어야 합니다: " + maxEntries);
+        }
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 토큰 원문의 SHA-256 다이제스트(Base64)를 반환합니다.
+     */
+    public static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 만료되지 않은 항목을 조회합니다.
+     *
+     * @param digest    토큰 다이제스트
+     * @param nowMillis 현재 시각
+     * @return 캐시된 사용자 정보 (없거나 만료되었으면 null)
+     */
+    public AuthUser get(String digest, long nowMillis) {
+        Entry entry = entries.get(digest);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= nowMillis) {
+            entries.remove(digest, entry);
+            return null;
+        }
+        return entry.user;
+    }
+
+    /**
+     * 검증된 토큰의 사용자 정보를 저장합니다.
+     *
+     * @param digest          토큰 다이제스트
+     * @param user            사용자 정보
+     * @param expiresAtMillis 토큰 만료 시각
+     * @param nowMillis       현재 시각
+     */
+    public void put(String digest, AuthUser user, long expiresAtMillis, long nowMillis) {
+        if (maxEntries == 0 || expiresAtMillis <= nowMillis) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            entries.values().removeIf(entry -> entry.expiresAt <= nowMillis);
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+        }
+        entries.put(digest, new Entry(user, expiresAtMillis));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private record Entry(AuthUser user, long expiresAt) {
+    }
+}
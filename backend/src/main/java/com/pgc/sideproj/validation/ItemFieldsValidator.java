@@ -0,0 +1,14 @@
+package com.pgc.sideproj.validation;
+
+import com.pgc.sideproj.util.ItemFields;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class ItemFieldsValidator implements ConstraintValidator<ValidItemFields, String> {
+
+    @Override
+    public boolean isValid(String value, ConstraintValidatorContext context) {
+        // null이거나 알려진 필드명/프로필(card, marker, full)로만 이루어져 있으면 유효
+        return value == null || ItemFields.isValid(value);
+    }
+}
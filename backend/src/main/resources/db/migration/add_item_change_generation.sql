@@ -0,0 +1,15 @@
+-- ========================================
+-- auction_master / auction_history 변경 세대 컬럼 추가
+-- ========================================
+-- 배치가 물건을 저장할 때 값이 실제로 바뀐 행에만 이번 배치의 데이터 세대(data_generation.generation + 1)를 기록합니다.
+-- 변경분 동기화 API(/api/v1/items/changes)는 since 세대 이후에 바뀐 물건만 (세대, 물건번호) 순으로 반환합니다.
+-- 기존 행은 세대 0으로 두며, since 없이 요청하는 최초 동기화에서 전체가 내려갑니다.
+
+ALTER TABLE `auction_master`
+    ADD COLUMN IF NOT EXISTS `created_generation` BIGINT NOT NULL DEFAULT 0 COMMENT '처음 수집된 데이터 세대' AFTER `onbid_detail_url`,
+    ADD COLUMN IF NOT EXISTS `change_generation` BIGINT NOT NULL DEFAULT 0 COMMENT '마스터 또는 이력 값이 마지막으로 바뀐 데이터 세대' AFTER `created_generation`;
+
+ALTER TABLE `auction_history`
+    ADD COLUMN IF NOT EXISTS `change_generation` BIGINT NOT NULL DEFAULT 0 COMMENT '값이 마지막으로 바뀐 데이터 세대' AFTER `pbct_cltr_stat_nm`;
+
+CREATE INDEX IF NOT EXISTS `idx_change_generation` ON `auction_master` (`change_generation`, `cltr_no`);
@@ -0,0 +1,23 @@
+-- ========================================
+-- saved_item.saved_min_bid_prc 컬럼 추가
+-- ========================================
+-- 찜할 당시의 최저입찰가입니다. 찜 목록을 "찜한 뒤 가격 인하폭" 순으로 정렬할 때 사용합니다.
+
+ALTER TABLE `saved_item`
+    ADD COLUMN IF NOT EXISTS `saved_min_bid_prc` BIGINT COMMENT '찜할 당시 최저입찰가 (가격 인하폭 정렬용)' AFTER `item_id`;
+
+-- 기존 찜 항목은 찜한 시점의 가격을 알 수 없으므로, 찜한 날짜 이전에 수집된 최신 이력(없으면 가장 오래된 이력)의 가격으로 채웁니다.
+UPDATE `saved_item` si
+SET si.saved_min_bid_prc = COALESCE(
+        (SELECT h.min_bid_prc
+         FROM `auction_history` h
+         WHERE h.cltr_no = si.item_id
+           AND h.created_at <= si.created_at
+         ORDER BY h.pbct_cls_dtm DESC, h.cltr_hstr_no DESC
+         LIMIT 1),
+        (SELECT h.min_bid_prc
+         FROM `auction_history` h
+         WHERE h.cltr_no = si.item_id
+         ORDER BY h.pbct_cls_dtm ASC, h.cltr_hstr_no ASC
+         LIMIT 1))
+WHERE si.saved_min_bid_prc IS NULL;
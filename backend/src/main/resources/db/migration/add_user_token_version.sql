@@ -0,0 +1,7 @@
+-- ========================================
+-- user.token_version 컬럼 추가
+-- ========================================
+-- JWT에 담기는 토큰 버전입니다. 값을 올리면 이전에 발급된 토큰이 모두 거부됩니다.
+
+ALTER TABLE `user`
+    ADD COLUMN IF NOT EXISTS `token_version` INT NOT NULL DEFAULT 0 COMMENT '토큰 버전 (증가시키면 기존 JWT 무효화)';
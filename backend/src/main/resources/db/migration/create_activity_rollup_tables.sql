@@ -0,0 +1,25 @@
+-- ========================================
+-- 물건 활동 일별 집계 테이블 생성
+-- ========================================
+-- 배치 실행마다 그 실행에서 발견한 신규 물건/가격 인하/마감을 일자별로 추가합니다.
+
+CREATE TABLE IF NOT EXISTS `activity_rollup_daily` (
+    `run_started_at` DATETIME NOT NULL,
+    `activity_date` DATE NOT NULL,
+    `region_name` VARCHAR(50) NOT NULL,
+    `category_name` VARCHAR(100) NOT NULL,
+    `new_listings` INT NOT NULL,
+    `price_cuts` INT NOT NULL,
+    `closings` INT NOT NULL,
+    PRIMARY KEY (`run_started_at`, `activity_date`, `region_name`, `category_name`),
+    KEY `idx_activity_date` (`activity_date`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+CREATE TABLE IF NOT EXISTS `activity_rollup_run` (
+    `run_started_at` DATETIME NOT NULL PRIMARY KEY,
+    `closed_until` DATETIME NOT NULL,
+    `created_at` DATETIME DEFAULT CURRENT_TIMESTAMP
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+CREATE INDEX IF NOT EXISTS `idx_created_at` ON `auction_history` (`created_at`);
+CREATE INDEX IF NOT EXISTS `idx_master_created_at` ON `auction_master` (`created_at`);
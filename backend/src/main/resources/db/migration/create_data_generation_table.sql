@@ -0,0 +1,16 @@
+-- ========================================
+-- 데이터 세대 테이블 생성
+-- ========================================
+-- 배치가 데이터를 커밋하고 후속 집계를 마치면 generation을 1 증가시킵니다.
+-- 각 인스턴스는 이 행을 주기적으로 읽어 값이 바뀌면 로컬 캐시/인덱스를 다시 만듭니다.
+-- (별도 메시지 브로커 없이 DB만으로 동작하며, 표준 SQL만 사용하므로 H2에서도 실행됩니다.)
+
+CREATE TABLE IF NOT EXISTS data_generation (
+    id INT PRIMARY KEY,
+    generation BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO data_generation (id, generation)
+SELECT 1, 0 FROM (SELECT 1 AS one) seed
+WHERE NOT EXISTS (SELECT 1 FROM data_generation WHERE id = 1);
@@ -0,0 +1,40 @@
+-- ========================================
+-- 찜 물건 알림 테이블 생성 및 saved_item 알림 기준 컬럼 추가
+-- ========================================
+-- 배치가 끝나면 변경된 물건의 최신 이력을 saved_item과 한 번에 조인해
+-- 가격 인하/상태 변경 알림을 사용자별로 기록합니다.
+
+CREATE TABLE IF NOT EXISTS `notification` (
+    `id` BIGINT AUTO_INCREMENT PRIMARY KEY,
+    `user_id` BIGINT NOT NULL COMMENT '사용자 ID',
+    `item_id` VARCHAR(50) NOT NULL COMMENT '물건번호 (auction_master.cltr_no)',
+    `type` VARCHAR(20) NOT NULL COMMENT '알림 종류 (PRICE_DROP / STATUS_CHANGE)',
+    `cltr_hstr_no` VARCHAR(50) NOT NULL COMMENT '알림을 만든 이력번호',
+    `old_min_bid_prc` BIGINT COMMENT '이전 최저입찰가',
+    `new_min_bid_prc` BIGINT COMMENT '새 최저입찰가',
+    `old_status` VARCHAR(100) COMMENT '이전 물건상태',
+    `new_status` VARCHAR(100) COMMENT '새 물건상태',
+    `created_at` DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
+    `read_at` DATETIME COMMENT '읽은 일시',
+
+    KEY `idx_user_id_id` (`user_id`, `id`),
+    CONSTRAINT `fk_notification_user`
+        FOREIGN KEY (`user_id`) REFERENCES `user`(`id`)
+        ON DELETE CASCADE ON UPDATE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci COMMENT='찜 물건 알림';
+
+ALTER TABLE `saved_item`
+    ADD COLUMN IF NOT EXISTS `notified_min_bid_prc` BIGINT COMMENT '마지막으로 알림 기준이 된 최저입찰가' AFTER `saved_min_bid_prc`,
+    ADD COLUMN IF NOT EXISTS `notified_status` VARCHAR(100) COMMENT '마지막으로 알림 기준이 된 물건상태' AFTER `notified_min_bid_prc`;
+
+-- 기존 찜 항목은 현재 최신 이력을 기준으로 시작합니다. (배포 직후 알림이 한꺼번에 쏟아지지 않도록)
+UPDATE `saved_item` si
+    JOIN `auction_history` h ON h.cltr_hstr_no = (
+        SELECT h2.cltr_hstr_no
+        FROM `auction_history` h2
+        WHERE h2.cltr_no = si.item_id
+        ORDER BY h2.pbct_cls_dtm DESC, h2.cltr_hstr_no DESC
+        LIMIT 1)
+SET si.notified_min_bid_prc = h.min_bid_prc,
+    si.notified_status = h.pbct_cltr_stat_nm
+WHERE si.notified_min_bid_prc IS NULL AND si.notified_status IS NULL;
@@ -0,0 +1,74 @@
+-- ========================================
+-- 가격 추이 집계 테이블 생성 및 초기 적재
+-- ========================================
+-- 배치는 이후 변경된 날짜/월만 다시 계산하므로, 기존 이력은 이 스크립트로 한 번 적재합니다.
+
+CREATE TABLE IF NOT EXISTS `price_rollup_daily` (
+    `bucket_date` DATE NOT NULL,
+    `region_name` VARCHAR(50) NOT NULL,
+    `category_name` VARCHAR(100) NOT NULL,
+    `item_count` INT NOT NULL,
+    `min_bid_prc_sum` BIGINT NOT NULL,
+    `appraisal_ratio_sum` DOUBLE NOT NULL,
+    `appraisal_ratio_count` INT NOT NULL,
+    PRIMARY KEY (`bucket_date`, `region_name`, `category_name`),
+    KEY `idx_region_category_date` (`region_name`, `category_name`, `bucket_date`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+CREATE TABLE IF NOT EXISTS `price_rollup_monthly` (
+    `bucket_month` DATE NOT NULL,
+    `region_name` VARCHAR(50) NOT NULL,
+    `category_name` VARCHAR(100) NOT NULL,
+    `item_count` INT NOT NULL,
+    `min_bid_prc_sum` BIGINT NOT NULL,
+    `appraisal_ratio_sum` DOUBLE NOT NULL,
+    `appraisal_ratio_count` INT NOT NULL,
+    PRIMARY KEY (`bucket_month`, `region_name`, `category_name`),
+    KEY `idx_region_category_month` (`region_name`, `category_name`, `bucket_month`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+CREATE INDEX IF NOT EXISTS `idx_updated_at` ON `auction_history` (`updated_at`);
+CREATE INDEX IF NOT EXISTS `idx_master_updated_at` ON `auction_master` (`updated_at`);
+
+-- 초기 적재: 일별
+INSERT INTO `price_rollup_daily`
+    (`bucket_date`, `region_name`, `category_name`, `item_count`,
+     `min_bid_prc_sum`, `appraisal_ratio_sum`, `appraisal_ratio_count`)
+SELECT
+    DATE(h.pbct_cls_dtm) AS bucket_date,
+    COALESCE(SUBSTRING_INDEX(m.cln_ldnm_adrs, ' ', 1), '') AS region_name,
+    COALESCE(SUBSTRING_INDEX(m.ctgr_full_nm, ' / ', 1), '') AS category_name,
+    COUNT(*),
+    SUM(h.min_bid_prc),
+    COALESCE(SUM(CASE WHEN h.apsl_ases_avg_amt > 0 THEN h.min_bid_prc / h.apsl_ases_avg_amt END), 0),
+    COUNT(CASE WHEN h.apsl_ases_avg_amt > 0 THEN 1 END)
+FROM auction_history h
+JOIN auction_master m ON m.cltr_no = h.cltr_no
+WHERE h.pbct_cls_dtm IS NOT NULL
+  AND h.min_bid_prc IS NOT NULL
+GROUP BY bucket_date, region_name, category_name
+ON DUPLICATE KEY UPDATE
+    `item_count` = VALUES(`item_count`),
+    `min_bid_prc_sum` = VALUES(`min_bid_prc_sum`),
+    `appraisal_ratio_sum` = VALUES(`appraisal_ratio_sum`),
+    `appraisal_ratio_count` = VALUES(`appraisal_ratio_count`);
+
+-- 초기 적재: 월별 (일별 집계에서 파생)
+INSERT INTO `price_rollup_monthly`
+    (`bucket_month`, `region_name`, `category_name`, `item_count`,
+     `min_bid_prc_sum`, `appraisal_ratio_sum`, `appraisal_ratio_count`)
+SELECT
+    DATE_FORMAT(bucket_date, '%Y-%m-01') AS bucket_month,
+    region_name,
+    category_name,
+    SUM(item_count),
+    SUM(min_bid_prc_sum),
+    SUM(appraisal_ratio_sum),
+    SUM(appraisal_ratio_count)
+FROM price_rollup_daily
+GROUP BY bucket_month, region_name, category_name
+ON DUPLICATE KEY UPDATE
+    `item_count` = VALUES(`item_count`),
+    `min_bid_prc_sum` = VALUES(`min_bid_prc_sum`),
+    `appraisal_ratio_sum` = VALUES(`appraisal_ratio_sum`),
+    `appraisal_ratio_count` = VALUES(`appraisal_ratio_count`);
@@ -0,0 +1,16 @@
+-- ========================================
+-- 가격 분포 스케치 테이블 생성
+-- ========================================
+-- 스케치는 애플리케이션에서 만들어 저장하므로, 기존 이력은 테이블 생성 후
+-- POST /api/v1/admin/statistics/sketches/rebuild 로 한 번 적재합니다.
+
+CREATE TABLE IF NOT EXISTS `price_sketch_monthly` (
+    `bucket_month` DATE NOT NULL,
+    `region_name` VARCHAR(50) NOT NULL,
+    `category_name` VARCHAR(100) NOT NULL,
+    `item_count` INT NOT NULL,
+    `price_sketch` BLOB NOT NULL,
+    `ratio_sketch` BLOB NOT NULL,
+    PRIMARY KEY (`bucket_month`, `region_name`, `category_name`),
+    KEY `idx_region_category_month` (`region_name`, `category_name`, `bucket_month`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
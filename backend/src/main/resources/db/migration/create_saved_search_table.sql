@@ -0,0 +1,26 @@
+-- ========================================
+-- 저장 검색 테이블 생성 및 notification 검색 일치 컬럼 추가
+-- ========================================
+-- 배치가 끝나면 새로 들어오거나 바뀐 물건을 저장 검색 색인과 대조해
+-- 일치한 검색의 사용자에게 SEARCH_MATCH 알림을 기록합니다.
+
+CREATE TABLE IF NOT EXISTS `saved_search` (
+    `id` BIGINT AUTO_INCREMENT PRIMARY KEY,
+    `user_id` BIGINT NOT NULL COMMENT '사용자 ID',
+    `keyword` VARCHAR(100) COMMENT '검색어 (토큰마다 물건명/주소 단어의 접두어)',
+    `region` VARCHAR(50) COMMENT '지역 (지번주소 접두어)',
+    `category` VARCHAR(100) COMMENT '카테고리 (카테고리 전체명 접두어)',
+    `min_price` BIGINT COMMENT '최저입찰가 하한',
+    `max_price` BIGINT COMMENT '최저입찰가 상한',
+    `created_at` DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
+
+    KEY `idx_user_id` (`user_id`),
+    CONSTRAINT `fk_saved_search_user`
+        FOREIGN KEY (`user_id`) REFERENCES `user`(`id`)
+        ON DELETE CASCADE ON UPDATE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci COMMENT='저장 검색';
+
+ALTER TABLE `notification`
+    MODIFY COLUMN `type` VARCHAR(20) NOT NULL COMMENT '알림 종류 (PRICE_DROP / STATUS_CHANGE / SEARCH_MATCH)',
+    ADD COLUMN IF NOT EXISTS `saved_search_id` BIGINT COMMENT '일치한 저장 검색 ID (SEARCH_MATCH만)' AFTER `type`,
+    ADD UNIQUE KEY IF NOT EXISTS `uk_search_item` (`saved_search_id`, `item_id`);
@@ -0,0 +1,37 @@
+-- ========================================
+-- 대시보드 통계 요약 테이블 생성 및 초기 적재
+-- ========================================
+-- 배치는 이후 변경된 지역/카테고리만 다시 계산하므로, 기존 데이터는 이 스크립트로 한 번 적재합니다.
+
+CREATE TABLE IF NOT EXISTS `region_stats` (
+    `region_name` VARCHAR(50) NOT NULL PRIMARY KEY,
+    `history_count` BIGINT NOT NULL,
+    `price_count` BIGINT NOT NULL,
+    `min_bid_prc_sum` BIGINT NOT NULL,
+    `refreshed_at` DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+CREATE TABLE IF NOT EXISTS `category_stats` (
+    `category_name` VARCHAR(100) NOT NULL PRIMARY KEY,
+    `item_count` BIGINT NOT NULL,
+    `refreshed_at` DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+REPLACE INTO `region_stats` (`region_name`, `history_count`, `price_count`, `min_bid_prc_sum`)
+SELECT
+    SUBSTRING_INDEX(am.cln_ldnm_adrs, ' ', 1) AS region_name,
+    COUNT(*),
+    COUNT(ah.min_bid_prc),
+    COALESCE(SUM(ah.min_bid_prc), 0)
+FROM auction_master am
+JOIN auction_history ah ON am.cltr_no = ah.cltr_no
+WHERE am.cln_ldnm_adrs IS NOT NULL AND am.cln_ldnm_adrs != ''
+GROUP BY region_name;
+
+REPLACE INTO `category_stats` (`category_name`, `item_count`)
+SELECT
+    SUBSTRING_INDEX(ctgr_full_nm, ' / ', 1) AS category_name,
+    COUNT(*)
+FROM auction_master
+WHERE ctgr_full_nm IS NOT NULL AND ctgr_full_nm != ''
+GROUP BY category_name;
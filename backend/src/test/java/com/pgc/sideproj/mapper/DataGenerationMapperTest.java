@@ -0,0 +1,102 @@
+package com.pgc.sideproj.mapper;
+
+import com.pgc.sideproj.event.DataGenerationChangedEvent;
+import com.pgc.sideproj.service.DataGenerationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 데이터 세대 테이블 테스트입니다.
+ *
+ * <p>내장 H2에 마이그레이션 스크립트를 그대로 실행해, 브로커 없이 DB만으로 세대 증가와 폴링 감지가 동작하는지 확인합니다.
+ */
+@MybatisTest
+@Sql("classpath:db/migration/create_data_generation_table.sql")
+@DisplayName("DataGenerationMapper 테스트")
+class DataGenerationMapperTest {
+
+    @Autowired
+    private DataGenerationMapper dataGenerationMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * 1. 세대 증가
+     */
+    @Test
+    @DisplayName("마이그레이션이 만든 세대 행(0)을 1씩 증가")
+    void incrementGeneration_should_increase_generation() {
+        assertThat(dataGenerationMapper.selectGeneration()).isZero();
+
+        assertThat(dataGenerationMapper.incrementGeneration()).isEqualTo(1);
+        assertThat(dataGenerationMapper.incrementGeneration()).isEqualTo(1);
+
+        assertThat(dataGenerationMapper.selectGeneration()).isEqualTo(2L);
+    }
+
+    /**
+     * 2. 행이 없을 때 초기 행 생성
+     */
+    @Test
+    @DisplayName("세대 행이 없으면 증가는 0건이고, 초기 행을 만들면 세대 1")
+    void insertInitialGeneration_should_create_row_when_missing() {
+        jdbcTemplate.update("DELETE FROM data_generation");
+        assertThat(dataGenerationMapper.selectGeneration()).isNull();
+
+        assertThat(dataGenerationMapper.incrementGeneration()).isZero();
+        dataGenerationMapper.insertInitialGeneration();
+
+        assertThat(dataGenerationMapper.selectGeneration()).isEqualTo(1L);
+    }
+
+    /**
+     * 3. 다른 인스턴스의 세대 변경 감지
+     */
+    @Test
+    @DisplayName("다른 인스턴스가 세대를 올리면 폴링에서 한 번만 이벤트 발행")
+    void poll_should_detect_generation_change() {
+        List<Object> events = new ArrayList<>();
+        DataGenerationService service = new DataGenerationService(dataGenerationMapper, events::add);
+        service.onApplicationReady();
+
+        // 변경 없음
+        service.poll();
+        assertThat(events).isEmpty();
+
+        // 다른 인스턴스의 배치가 세대를 올림
+        dataGenerationMapper.incrementGeneration();
+        service.poll();
+        service.poll();
+
+        assertThat(events).hasSize(1);
+        assertThat(((DataGenerationChangedEvent) events.get(0)).getGeneration()).isEqualTo(1L);
+    }
+
+    /**
+     * 4. 이 인스턴스의 세대 증가
+     */
+    @Test
+    @DisplayName("세대를 올린 인스턴스는 바로 이벤트를 발행하고, 폴링에서 다시 발행하지 않음")
+    void bump_should_publish_once() {
+        List<Object> events = new ArrayList<>();
+        DataGenerationService service = new DataGenerationService(dataGenerationMapper, events::add);
+        service.onApplicationReady();
+
+        service.bump();
+        service.poll();
+
+        assertThat(events).hasSize(1);
+        assertThat(((DataGenerationChangedEvent) events.get(0)).getGeneration()).isEqualTo(1L);
+        assertThat(service.currentGeneration()).isEqualTo(1L);
+    }
+}
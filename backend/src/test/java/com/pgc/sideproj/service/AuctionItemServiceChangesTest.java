@@ -0,0 +1,141 @@
+package com.pgc.sideproj.service;
+
+import com.pgc.sideproj.dto.response.ItemChangeDTO;
+import com.pgc.sideproj.dto.response.ItemChangesResponseDTO;
+import com.pgc.sideproj.mapper.AuctionItemMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 변경분 동기화(getChanges)의 커서, 기준 세대, 변경 종류 판별 테스트입니다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuctionItemService 변경분 동기화 테스트")
+class AuctionItemServiceChangesTest {
+
+    @Mock
+    private AuctionItemMapper auctionItemMapper;
+
+    @Mock
+    private OnbidApiService onbidApiService;
+
+    @Mock
+    private AuctionDeadlineService auctionDeadlineService;
+
+    @Mock
+    private ItemReadModelService itemReadModelService;
+
+    @Mock
+    private DataGenerationService dataGenerationService;
+
+    @InjectMocks
+    private AuctionItemService auctionItemService;
+
+    private static ItemChangeDTO change(String cltrNo, long changeGeneration, long createdGeneration) {
+        ItemChangeDTO item = new ItemChangeDTO();
+        item.setCltrNo(cltrNo);
+        item.setChangeGeneration(changeGeneration);
+        item.setCreatedGeneration(createdGeneration);
+        return item;
+    }
+
+    private static List<ItemChangeDTO> rows(ItemChangeDTO... items) {
+        return new ArrayList<>(List.of(items));
+    }
+
+    /**
+     * 1. since 없는 전체 조회를 여러 페이지로 이어 받기
+     */
+    @Test
+    @DisplayName("since가 없으면 전체를 CREATED로 내려주고, 페이지를 넘기는 동안 기준 세대를 유지")
+    void getChanges_should_walk_all_pages_with_fixed_generation() {
+        // given: 기준 세대 7, 페이지 크기 2 (한 건 더 읽어 다음 페이지 여부 판단)
+        when(dataGenerationService.currentGeneration()).thenReturn(7L);
+        when(auctionItemMapper.findChangedItems(null, 7L, null, null, 3))
+                .thenReturn(rows(change("1001", 2, 1), change("1002", 3, 3), change("1003", 5, 2)));
+        when(auctionItemMapper.findChangedItems(null, 7L, 3L, "1002", 3))
+                .thenReturn(rows(change("1003", 5, 2), change("A_1", 6, 6)));
+
+        // when: 첫 페이지
+        ItemChangesResponseDTO first = auctionItemService.getChanges(null, 2, null);
+
+        // then
+        assertThat(first.getGeneration()).isEqualTo(7L);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getNextCursor()).isEqualTo("7_3_1002");
+        assertThat(first.getData()).extracting(ItemChangeDTO::getCltrNo).containsExactly("1001", "1002");
+        assertThat(first.getData()).extracting(ItemChangeDTO::getChangeType).containsOnly("CREATED");
+
+        // when: 두 번째(마지막) 페이지. 그 사이 배치가 세대를 올려도 커서의 기준 세대(7)로 조회
+        ItemChangesResponseDTO second = auctionItemService.getChanges(null, 2, first.getNextCursor());
+
+        // then
+        assertThat(second.getGeneration()).isEqualTo(7L);
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+        assertThat(second.getData()).extracting(ItemChangeDTO::getCltrNo).containsExactly("1003", "A_1");
+        verify(dataGenerationService, times(1)).currentGeneration();
+    }
+
+    /**
+     * 2. 커서의 물건번호에 구분자가 들어 있는 경우
+     */
+    @Test
+    @DisplayName("커서는 앞의 두 구분자로만 나누므로 물건번호에 '_'가 있어도 그대로 복원")
+    void getChanges_should_parse_cursor_with_underscore_in_cltr_no() {
+        when(auctionItemMapper.findChangedItems(4L, 9L, 6L, "A_1_B", 11))
+                .thenReturn(rows(change("A_2", 7, 3)));
+
+        ItemChangesResponseDTO page = auctionItemService.getChanges(4L, 10, "9_6_A_1_B");
+
+        assertThat(page.getGeneration()).isEqualTo(9L);
+        assertThat(page.getData()).extracting(ItemChangeDTO::getCltrNo).containsExactly("A_2");
+        verifyNoInteractions(dataGenerationService);
+    }
+
+    /**
+     * 3. CREATED / UPDATED 판별
+     */
+    @Test
+    @DisplayName("since 이후 처음 수집된 물건은 CREATED, 그 전부터 있던 물건은 UPDATED")
+    void getChanges_should_classify_created_and_updated() {
+        when(dataGenerationService.currentGeneration()).thenReturn(8L);
+        when(auctionItemMapper.findChangedItems(5L, 8L, null, null, 11))
+                .thenReturn(rows(change("1001", 6, 6), change("1002", 7, 5), change("1003", 8, 1)));
+
+        ItemChangesResponseDTO page = auctionItemService.getChanges(5L, 10, null);
+
+        assertThat(page.getData()).extracting(ItemChangeDTO::getChangeType)
+                .containsExactly("CREATED", "UPDATED", "UPDATED");
+        assertThat(page.isHasNext()).isFalse();
+    }
+
+    /**
+     * 4. 이미 최신인 클라이언트
+     */
+    @Test
+    @DisplayName("since가 기준 세대 이상이면 DB를 조회하지 않고 빈 결과")
+    void getChanges_should_short_circuit_when_up_to_date() {
+        when(dataGenerationService.currentGeneration()).thenReturn(7L);
+
+        ItemChangesResponseDTO page = auctionItemService.getChanges(7L, 10, null);
+
+        assertThat(page.getData()).isEmpty();
+        assertThat(page.getGeneration()).isEqualTo(7L);
+        assertThat(page.isHasNext()).isFalse();
+        verifyNoInteractions(auctionItemMapper);
+    }
+}
@@ -0,0 +1,124 @@
+package com.pgc.sideproj.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GeoKdTree 테스트")
+class GeoKdTreeTest {
+
+    private static double[] randomRange(Random random, int n, double min, double max) {
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = min + random.nextDouble() * (max - min);
+        }
+        return values;
+    }
+
+    /**
+     * 1. 전수 비교(brute force)와 k-NN 결과 일치
+     */
+    @Test
+    @DisplayName("k-NN 결과가 전수 탐색 결과와 일치")
+    void nearest_should_match_brute_force() {
+        // given: 국내 범위의 임의 좌표 5,000개
+        Random random = new Random(42);
+        int n = 5_000;
+        double[] lats = randomRange(random, n, 33.0, 38.5);
+        double[] lons = randomRange(random, n, 125.0, 130.0);
+        GeoKdTree tree = GeoKdTree.build(lats, lons);
+
+        double qLat = 37.5;
+        double qLon = 127.0;
+
+        // when
+        int[] actual = tree.nearest(qLat, qLon, 20, 100.0, row -> row % 3 != 0);
+
+        // then
+        int[] expected = IntStream.range(0, n)
+                .filter(row -> row % 3 != 0)
+                .filter(row -> tree.distanceKm(qLat, qLon, row) <= 100.0)
+                .boxed()
+                .sorted(Comparator.comparingDouble(row -> tree.distanceKm(qLat, qLon, row)))
+                .limit(20)
+                .mapToInt(Integer::intValue)
+                .toArray();
+        assertThat(actual).containsExactly(expected);
+    }
+
+    /**
+     * 2. 반경 제한 적용
+     */
+    @Test
+    @DisplayName("반경 밖의 물건은 결과에서 제외")
+    void nearest_should_respect_max_distance() {
+        // given: 서울시청, 약 1km 떨어진 지점, 부산
+        double[] lats = {37.5663, 37.5753, 35.1796};
+        double[] lons = {126.9779, 126.9779, 129.0756};
+        GeoKdTree tree = GeoKdTree.build(lats, lons);
+
+        // when
+        int[] rows = tree.nearest(37.5663, 126.9779, 10, 5.0, row -> true);
+
+        // then
+        assertThat(rows).containsExactly(0, 1);
+        assertThat(tree.distanceKm(37.5663, 126.9779, 1)).isBetween(0.9, 1.1);
+    }
+
+    /**
+     * 3. 빈 트리 / 중복 좌표 처리
+     */
+    @Test
+    @DisplayName("빈 트리와 중복 좌표도 정상 처리")
+    void nearest_should_handle_empty_and_duplicates() {
+        assertThat(GeoKdTree.build(new double[0], new double[0]).nearest(37.0, 127.0, 5, 10.0, row -> true))
+                .isEmpty();
+
+        double[] lats = new double[100];
+        double[] lons = new double[100];
+        Arrays.fill(lats, 37.0);
+        Arrays.fill(lons, 127.0);
+        GeoKdTree tree = GeoKdTree.build(lats, lons);
+
+        assertThat(tree.nearest(37.0, 127.0, 7, 1.0, row -> true)).hasSize(7);
+    }
+
+    /**
+     * 4. 같은 좌표가 몰린 경우 (한 건물의 여러 호실)
+     */
+    @Test
+    @DisplayName("같은 좌표가 대량으로 몰려도 k-NN 거리가 전수 탐색과 일치")
+    void nearest_should_handle_clustered_coordinates() {
+        // given: 건물 20곳에 호실 5,000개씩 (중복 좌표 10만 건)
+        Random random = new Random(7);
+        double[] buildingLats = randomRange(random, 20, 37.4, 37.7);
+        double[] buildingLons = randomRange(random, 20, 126.8, 127.2);
+        int n = 100_000;
+        double[] lats = new double[n];
+        double[] lons = new double[n];
+        for (int i = 0; i < n; i++) {
+            lats[i] = buildingLats[i % 20];
+            lons[i] = buildingLons[i % 20];
+        }
+        GeoKdTree tree = GeoKdTree.build(lats, lons);
+
+        // when
+        int[] actual = tree.nearest(37.55, 127.0, 50, 50.0, row -> row % 7 != 0);
+
+        // then: 거리가 같은 행은 순서가 정해지지 않으므로 거리로 비교
+        double[] expected = IntStream.range(0, n)
+                .filter(row -> row % 7 != 0)
+                .mapToDouble(row -> tree.distanceKm(37.55, 127.0, row))
+                .sorted()
+                .limit(50)
+                .toArray();
+        assertThat(Arrays.stream(actual).mapToDouble(row -> tree.distanceKm(37.55, 127.0, row)).toArray())
+                .containsExactly(expected);
+    }
+}
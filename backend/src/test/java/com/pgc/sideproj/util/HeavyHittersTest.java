@@ -0,0 +1,112 @@
+package com.pgc.sideproj.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HeavyHitters 테스트")
+class HeavyHittersTest {
+
+    /**
+     * 1. 추정값은 실제 값 이상이며 오차 한도 이내
+     */
+    @Test
+    @DisplayName("추정값이 실제 등장 횟수보다 작지 않고 2N/width 이내로 큼")
+    void estimate_should_not_underestimate() {
+        HeavyHitters sketch = new HeavyHitters(4, 1024, 16);
+        Random random = new Random(43);
+        Map<String, Long> actual = new HashMap<>();
+        int total = 50_000;
+        for (int i = 0; i < total; i++) {
+            String key = "C" + random.nextInt(5_000);
+            sketch.add(key);
+            actual.merge(key, 1L, Long::sum);
+        }
+
+        for (Map.Entry<String, Long> entry : actual.entrySet()) {
+            long estimate = sketch.estimate(entry.getKey());
+            assertThat(estimate).isGreaterThanOrEqualTo(entry.getValue());
+            assertThat(estimate - entry.getValue()).isLessThanOrEqualTo(2L * total / 1024);
+        }
+    }
+
+    /**
+     * 2. 치우친 분포에서 상위 키를 후보로 유지
+     */
+    @Test
+    @DisplayName("trim 후 후보에 실제 상위 키가 모두 남음")
+    void trim_should_keep_heavy_hitters() {
+        HeavyHitters sketch = new HeavyHitters(4, 4096, 32);
+        Random random = new Random(7);
+        for (int i = 0; i < 200_000; i++) {
+            // 상위 10개 키가 절반, 나머지 만 개가 절반
+            String key = random.nextBoolean() ? "HOT" + random.nextInt(10) : "C" + random.nextInt(10_000);
+            sketch.add(key);
+            if (i % 10_000 == 0) {
+                sketch.trim();
+            }
+        }
+        sketch.trim();
+
+        List<String> candidates = new ArrayList<>();
+        sketch.forEachCandidate((key, count) -> candidates.add(key));
+        assertThat(candidates).hasSizeLessThanOrEqualTo(32);
+        for (int i = 0; i < 10; i++) {
+            assertThat(candidates).contains("HOT" + i);
+        }
+    }
+
+    /**
+     * 3. 여러 스레드의 동시 기록
+     */
+    @Test
+    @DisplayName("여러 스레드가 동시에 기록해도 카운트가 누락되지 않음")
+    void add_should_be_thread_safe() throws Exception {
+        HeavyHitters sketch = new HeavyHitters(4, 1024, 8);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        sketch.add("HOT");
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(sketch.estimate("HOT")).isEqualTo(40_000);
+    }
+
+    /**
+     * 4. clear
+     */
+    @Test
+    @DisplayName("clear 후 추정값과 후보가 비워짐")
+    void clear_should_reset() {
+        HeavyHitters sketch = new HeavyHitters(2, 64, 4);
+        sketch.add("A");
+        sketch.add("A");
+        sketch.clear();
+
+        List<String> candidates = new ArrayList<>();
+        sketch.forEachCandidate((key, count) -> candidates.add(key));
+        assertThat(sketch.estimate("A")).isZero();
+        assertThat(candidates).isEmpty();
+    }
+}
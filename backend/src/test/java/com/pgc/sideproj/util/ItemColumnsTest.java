@@ -0,0 +1,163 @@
+package com.pgc.sideproj.util;
+
+import com.pgc.sideproj.util.ItemColumns.Row;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ItemColumns 테스트")
+class ItemColumnsTest {
+
+    private static final String[] REGIONS = {"서울특별시", "경기도", "부산광역시"};
+    private static final String[] DISTRICTS = {"강남구", "수원시", "해운대구", "성남시"};
+    private static final String[] NAMES = {"아파트", "토지", "상가", "오피스텔", "Apartment"};
+
+    private static Row row(String cltrNo, String name, String address, BigDecimal lat, BigDecimal lon, Long price) {
+        return new Row(cltrNo, name, "부동산 / 토지", address, null, address, null, lat, lon,
+                null, "P" + cltrNo, "1", price, null, LocalDateTime.of(2025, 1, 2, 10, 0), null, "입찰진행중");
+    }
+
+    private static List<String> page(ItemColumns columns, String keyword, String region, int offset, int limit) {
+        List<String> cltrNos = new ArrayList<>();
+        columns.search(keyword, region, offset, limit, r -> cltrNos.add(columns.cltrNo(r)));
+        return cltrNos;
+    }
+
+    // 색인 없이 모든 행을 직접 확인하는 기준 구현
+    private static List<String> bruteForce(List<Row> rows, String keyword, String region) {
+        String[] tokens = SearchPercolator.tokenize(keyword);
+        return rows.stream()
+                .sorted(Comparator.comparing(Row::cltrNo).reversed())
+                .filter(r -> region == null || r.clnLdnmAdrs().startsWith(region))
+                .filter(r -> {
+                    String[] words = SearchPercolator.tokenize(r.cltrNm() + " " + r.clnLdnmAdrs());
+                    return Arrays.stream(tokens)
+                            .allMatch(token -> Arrays.stream(words).anyMatch(word -> word.startsWith(token)));
+                })
+                .map(Row::cltrNo)
+                .toList();
+    }
+
+    /**
+     * 1. 검색어/지역 조건과 페이지
+     */
+    @Test
+    @DisplayName("검색어 접두어와 지역으로 거르고 물건번호 내림차순으로 페이지를 자름")
+    void search_should_filter_and_page() {
+        ItemColumns columns = ItemColumns.build("v1", List.of(
+                row("A001", "강남 래미안 아파트", "서울특별시 강남구 역삼동", null, null, 100L),
+                row("A003", "수원 토지", "경기도 수원시 영통동", null, null, null),
+                row("A002", "Apartment 101동", "서울특별시 서초구 서초동", null, null, 200L)));
+
+        assertThat(page(columns, "", null, 0, 10)).containsExactly("A003", "A002", "A001");
+        assertThat(page(columns, "apart", null, 0, 10)).containsExactly("A002");
+        assertThat(page(columns, "서울 아파", "서울특별시", 0, 10)).containsExactly("A001");
+        assertThat(page(columns, "부산", null, 0, 10)).isEmpty();
+        assertThat(columns.search("", "서울특별시", 1, 1, r -> { })).isEqualTo(2);
+        assertThat(page(columns, "", "서울특별시", 1, 1)).containsExactly("A001");
+    }
+
+    /**
+     * 2. 무작위 물건/검색어에 대해 전수 확인 결과와 동일
+     */
+    @Test
+    @DisplayName("무작위 물건과 검색어에서 검색 결과가 전수 확인 결과와 같음")
+    void search_should_equal_brute_force() {
+        Random random = new Random(44);
+        List<Row> rows = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            String address = pick(random, REGIONS) + " " + pick(random, DISTRICTS) + " " + i + "번지";
+            rows.add(row(String.format("C%05d", i), pick(random, NAMES) + " " + i, address, null, null, null));
+        }
+        ItemColumns columns = ItemColumns.build("v1", rows);
+
+        for (int i = 0; i < 200; i++) {
+            String keyword = random.nextInt(4) == 0 ? ""
+                    : pick(random, DISTRICTS).substring(0, 1 + random.nextInt(2))
+                    + (random.nextBoolean() ? " " + pick(random, NAMES).substring(0, 2) : "");
+            String region = random.nextBoolean() ? pick(random, REGIONS) : null;
+            List<String> expected = bruteForce(rows, keyword, region);
+            int offset = random.nextInt(20);
+
+            List<String> actual = new ArrayList<>();
+            int total = columns.search(keyword, region, offset, 10, r -> actual.add(columns.cltrNo(r)));
+            assertThat(total).isEqualTo(expected.size());
+            assertThat(actual).isEqualTo(expected.subList(Math.min(offset, expected.size()),
+                    Math.min(offset + 10, expected.size())));
+        }
+    }
+
+    /**
+     * 3. 파일 저장/적재
+     */
+    @Test
+    @DisplayName("기록한 테이블을 다시 읽으면 값과 검색 결과가 같음")
+    void writeTo_readFrom_should_round_trip() throws Exception {
+        ItemColumns columns = ItemColumns.build("2025-01-01T00:00:00:3", List.of(
+                row("A001", "강남 아파트", "서울특별시 강남구", new BigDecimal("37.49794200"), new BigDecimal("127.02762100"), 100L),
+                row("A002", "토지", "경기도 수원시", null, null, null)));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            columns.writeTo(out);
+        }
+        ItemColumns loaded = ItemColumns.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertThat(loaded.dataVersion()).isEqualTo("2025-01-01T00:00:00:3");
+        assertThat(loaded.size()).isEqualTo(2);
+        int row = loaded.rowOf("A001");
+        assertThat(loaded.cltrNm(row)).isEqualTo("강남 아파트");
+        assertThat(loaded.latitudeDecimal(row)).isEqualByComparingTo("37.497942");
+        assertThat(loaded.longitude(row)).isEqualTo(127.027621);
+        assertThat(loaded.minBidPrc(row)).isEqualTo(100L);
+        assertThat(loaded.pbctBegnDtm(row)).isEqualTo(LocalDateTime.of(2025, 1, 2, 10, 0));
+        assertThat(loaded.pbctClsDtm(row)).isNull();
+        assertThat(loaded.nmrdAdrs(row)).isNull();
+        int empty = loaded.rowOf("A002");
+        assertThat(loaded.hasCoordinates(empty)).isFalse();
+        assertThat(loaded.minBidPrc(empty)).isEqualTo(ItemColumns.NO_VALUE);
+        assertThat(loaded.rowOf("A999")).isEqualTo(-1);
+        assertThat(page(loaded, "강남 아", null, 0, 10)).containsExactly("A001");
+    }
+
+    /**
+     * 4. 여러 토큰 검색어 (DB 불린 질의와 같은 규칙)
+     */
+    @Test
+    @DisplayName("여러 토큰은 모두 단어 접두어여야 일치하고 DB 질의도 같은 토큰으로 만듦")
+    void search_should_require_every_token() {
+        ItemColumns columns = ItemColumns.build("v1", List.of(
+                row("A001", "강남 래미안 아파트", "서울특별시 강남구 역삼동", null, null, null),
+                row("A002", "강남 상가", "서울특별시 강남구 삼성동", null, null, null),
+                row("A003", "수원 아파트", "경기도 수원시 영통동", null, null, null)));
+
+        assertThat(page(columns, "강남 아파", null, 0, 10)).containsExactly("A001");
+        assertThat(page(columns, "강남, 아파트!", null, 0, 10)).containsExactly("A001");
+        assertThat(page(columns, "아파트", null, 0, 10)).containsExactly("A003", "A001");
+        // 단어 중간은 일치하지 않음 (접두어만)
+        assertThat(page(columns, "남 아파트", null, 0, 10)).isEmpty();
+        assertThat(page(columns, "강남 부산", null, 0, 10)).isEmpty();
+
+        assertThat(SearchPercolator.toFullTextQuery("강남, 아파")).isEqualTo("+강남* +아파*");
+        assertThat(SearchPercolator.toFullTextQuery("Apart -토지")).isEqualTo("+apart* +토지*");
+        assertThat(SearchPercolator.toFullTextQuery(" ,. ")).isNull();
+        assertThat(SearchPercolator.toFullTextQuery(null)).isNull();
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
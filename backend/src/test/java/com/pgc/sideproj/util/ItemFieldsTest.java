@@ -0,0 +1,52 @@
+package com.pgc.sideproj.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ItemFields 테스트")
+class ItemFieldsTest {
+
+    /**
+     * 1. 생략/full은 전체 필드
+     */
+    @Test
+    @DisplayName("fields가 없거나 full이면 전체 필드")
+    void parse_should_return_all_fields_by_default() {
+        assertThat(ItemFields.parse(null)).containsExactlyElementsOf(ItemFields.ALL);
+        assertThat(ItemFields.parse(" ")).containsExactlyElementsOf(ItemFields.ALL);
+        assertThat(ItemFields.isAll(ItemFields.parse("full"))).isTrue();
+        assertThat(ItemFields.isAll(ItemFields.parse("marker"))).isFalse();
+    }
+
+    /**
+     * 2. 프로필과 필드명 조합, 물건번호 항상 포함, 정해진 순서
+     */
+    @Test
+    @DisplayName("프로필과 필드명을 합치고 물건번호를 항상 포함해 정해진 순서로 반환")
+    void parse_should_combine_profiles_and_fields() {
+        Set<String> fields = ItemFields.parse("onbidDetailUrl, marker");
+
+        assertThat(fields).containsExactly("cltrNo", "cltrNm", "latitude", "longitude",
+                "onbidDetailUrl", "minBidPrc", "pbctCltrStatNm");
+        assertThat(ItemFields.parse("cltrNm")).containsExactly("cltrNo", "cltrNm");
+        assertThat(ItemFields.needsHistory(fields)).isTrue();
+        assertThat(ItemFields.needsHistory(ItemFields.parse("cltrNm,latitude"))).isFalse();
+    }
+
+    /**
+     * 3. 알 수 없는 필드/프로필 거부
+     */
+    @Test
+    @DisplayName("알 수 없는 필드나 프로필은 거부")
+    void parse_should_reject_unknown_names() {
+        assertThatThrownBy(() -> ItemFields.parse("card,password"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(ItemFields.isValid("Card")).isFalse();
+        assertThat(ItemFields.isValid("card,,isSaved")).isTrue();
+    }
+}
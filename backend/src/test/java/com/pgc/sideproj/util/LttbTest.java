@@ -0,0 +1,70 @@
+package com.pgc.sideproj.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Lttb 다운샘플링 테스트")
+class LttbTest {
+
+    /**
+     * 1. 점 개수와 양 끝점 보존
+     */
+    @Test
+    @DisplayName("요청한 개수로 줄이고 첫 점과 마지막 점을 유지")
+    void downsample_should_keep_threshold_points_and_endpoints() {
+        // given
+        int n = 1_000;
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = i;
+            y[i] = Math.sin(i / 20.0);
+        }
+
+        // when
+        int[] indices = Lttb.downsample(x, y, 50);
+
+        // then
+        assertThat(indices).hasSize(50);
+        assertThat(indices[0]).isZero();
+        assertThat(indices[49]).isEqualTo(n - 1);
+        assertThat(indices).isSorted();
+    }
+
+    /**
+     * 2. 급격한 변화(스파이크) 보존
+     */
+    @Test
+    @DisplayName("급격히 튀는 점을 결과에 포함")
+    void downsample_should_keep_spike() {
+        // given: 평탄한 시계열 중간에 스파이크 하나
+        int n = 500;
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = i;
+            y[i] = 100;
+        }
+        y[250] = 10_000;
+
+        // when
+        int[] indices = Lttb.downsample(x, y, 20);
+
+        // then
+        assertThat(indices).contains(250);
+    }
+
+    /**
+     * 3. 점 개수가 threshold 이하인 경우
+     */
+    @Test
+    @DisplayName("점 개수가 threshold 이하이면 모든 점 반환")
+    void downsample_should_return_all_when_small() {
+        double[] x = {1, 2, 3};
+        double[] y = {5, 6, 7};
+
+        assertThat(Lttb.downsample(x, y, 10)).containsExactly(0, 1, 2);
+    }
+}
@@ -0,0 +1,99 @@
+package com.pgc.sideproj.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OffHeapResponseCache 테스트")
+class OffHeapResponseCacheTest {
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 1. 블록 단위 저장/조회
+     */
+    @Test
+    @DisplayName("여러 블록에 나눠 저장한 값을 그대로 조회")
+    void get_should_return_stored_value() {
+        OffHeapResponseCache cache = new OffHeapResponseCache(128, 4);
+        cache.put("a", cache.generation(), bytes("hello, 물건 목록"));
+
+        try (OffHeapResponseCache.Hit hit = cache.get("a")) {
+            assertThat(hit.length()).isEqualTo(bytes("hello, 물건 목록").length);
+            assertThat(hit.buffers()).hasSize(5);
+            assertThat(hit.toByteArray()).isEqualTo(bytes("hello, 물건 목록"));
+        }
+        assertThat(cache.get("b")).isNull();
+    }
+
+    /**
+     * 2. 크기 제한
+     */
+    @Test
+    @DisplayName("자리가 모자라면 오래 조회되지 않은 항목부터 내보내고, 용량의 1/4보다 큰 값은 저장하지 않음")
+    void put_should_evict_least_recently_used() {
+        OffHeapResponseCache cache = new OffHeapResponseCache(16, 2);
+        long generation = cache.generation();
+        cache.put("a", generation, bytes("aaaa"));
+        cache.put("b", generation, bytes("bbbb"));
+        cache.put("c", generation, bytes("cccc"));
+        cache.put("d", generation, bytes("dddd"));
+        cache.get("a").close();
+
+        assertThat(cache.put("e", generation, bytes("eeee"))).isTrue();
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("a")).isNotNull();
+        assertThat(cache.size()).isEqualTo(4);
+        assertThat(cache.usedBytes()).isEqualTo(16);
+
+        assertThat(cache.put("f", generation, bytes("ffffff"))).isFalse();
+    }
+
+    /**
+     * 3. 무효화
+     */
+    @Test
+    @DisplayName("무효화하면 모두 내보내고, 무효화 전 세대로 만든 값은 저장하지 않음")
+    void invalidate_should_reject_stale_values() {
+        OffHeapResponseCache cache = new OffHeapResponseCache(64, 4);
+        long before = cache.generation();
+        cache.put("a", before, bytes("old"));
+
+        cache.invalidate();
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.put("a", before, bytes("old"))).isFalse();
+        assertThat(cache.put("a", cache.generation(), bytes("new"))).isTrue();
+        assertThat(cache.usedBytes()).isEqualTo(3);
+    }
+
+    /**
+     * 4. 사용 중인 블록 보호
+     */
+    @Test
+    @DisplayName("조회 중인 값은 내보내져도 닫을 때까지 다른 항목이 덮어쓰지 않음")
+    void hit_should_pin_blocks_until_closed() {
+        OffHeapResponseCache cache = new OffHeapResponseCache(8, 2);
+        cache.put("a", cache.generation(), bytes("aa"));
+        cache.put("b", cache.generation(), bytes("bb"));
+        OffHeapResponseCache.Hit hit = cache.get("a");
+
+        cache.invalidate();
+        cache.put("c", cache.generation(), bytes("cc"));
+        cache.put("d", cache.generation(), bytes("dd"));
+        cache.put("e", cache.generation(), bytes("ee"));
+
+        assertThat(hit.toByteArray()).isEqualTo(bytes("aa"));
+        assertThat(cache.size()).isEqualTo(3);
+
+        hit.close();
+        hit.close();
+        assertThat(cache.put("f", cache.generation(), bytes("ff"))).isTrue();
+        assertThat(cache.size()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,88 @@
+package com.pgc.sideproj.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("QuantileSketch 테스트")
+class QuantileSketchTest {
+
+    private static double exactQuantile(double[] sorted, double q) {
+        return sorted[(int) Math.floor(q * (sorted.length - 1))];
+    }
+
+    /**
+     * 1. 상대 오차 보장
+     */
+    @Test
+    @DisplayName("분위수 추정값이 실제 값 대비 1% 이내")
+    void quantile_should_be_within_relative_accuracy() {
+        // given: 가격처럼 한쪽으로 긴 꼬리를 가진 로그정규 분포
+        Random random = new Random(7);
+        int n = 20_000;
+        double[] values = new double[n];
+        QuantileSketch sketch = new QuantileSketch();
+        for (int i = 0; i < n; i++) {
+            values[i] = Math.exp(17 + random.nextGaussian() * 1.5);
+            sketch.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        // when & then
+        for (double q : new double[]{0.1, 0.5, 0.9, 0.99}) {
+            double exact = exactQuantile(values, q);
+            assertThat(sketch.quantile(q)).isCloseTo(exact, within(exact * QuantileSketch.RELATIVE_ACCURACY));
+        }
+        assertThat(sketch.count()).isEqualTo(n);
+    }
+
+    /**
+     * 2. 병합 결과가 전체로 만든 스케치와 동일
+     */
+    @Test
+    @DisplayName("나누어 만든 스케치를 병합하면 전체 스케치와 같은 결과")
+    void merge_should_equal_single_sketch() {
+        Random random = new Random(11);
+        QuantileSketch whole = new QuantileSketch();
+        QuantileSketch left = new QuantileSketch();
+        QuantileSketch right = new QuantileSketch();
+        for (int i = 0; i < 5_000; i++) {
+            double value = random.nextDouble() * 2;
+            whole.add(value);
+            (i % 3 == 0 ? left : right).add(value);
+        }
+
+        left.merge(right);
+
+        for (double q : new double[]{0.1, 0.5, 0.9}) {
+            assertThat(left.quantile(q)).isEqualTo(whole.quantile(q));
+        }
+        assertThat(left.count()).isEqualTo(whole.count());
+    }
+
+    /**
+     * 3. 직렬화/역직렬화
+     */
+    @Test
+    @DisplayName("직렬화 후 복원해도 같은 분위수")
+    void toBytes_should_round_trip() {
+        QuantileSketch sketch = new QuantileSketch();
+        sketch.add(0);
+        for (int i = 1; i <= 1_000; i++) {
+            sketch.add(i * 1_000_000L);
+        }
+
+        QuantileSketch restored = QuantileSketch.fromBytes(sketch.toBytes());
+
+        assertThat(restored.count()).isEqualTo(sketch.count());
+        assertThat(restored.min()).isEqualTo(0);
+        assertThat(restored.max()).isEqualTo(sketch.max());
+        assertThat(restored.quantile(0.5)).isEqualTo(sketch.quantile(0.5));
+        assertThat(restored.quantile(0)).isEqualTo(0);
+    }
+}
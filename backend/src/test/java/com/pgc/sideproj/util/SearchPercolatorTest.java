@@ -0,0 +1,112 @@
+package com.pgc.sideproj.util;
+
+import com.pgc.sideproj.util.SearchPercolator.Document;
+import com.pgc.sideproj.util.SearchPercolator.Query;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SearchPercolator 테스트")
+class SearchPercolatorTest {
+
+    private static final String[] REGIONS = {"서울특별시", "경기도", "부산광역시"};
+    private static final String[] DISTRICTS = {"강남구", "수원시", "해운대구", "성남시"};
+    private static final String[] NAMES = {"아파트", "토지", "상가", "오피스텔", "Apartment"};
+    private static final String[] CATEGORIES = {"부동산 / 주거용건물", "부동산 / 토지", "자동차 / 승용차"};
+
+    private static Set<Long> match(SearchPercolator percolator, Document document) {
+        Set<Long> ids = new TreeSet<>();
+        percolator.matcher().match(document, query -> ids.add(query.id()));
+        return ids;
+    }
+
+    // 색인 없이 모든 질의를 직접 확인하는 기준 구현
+    private static Set<Long> bruteForce(List<Query> queries, Document document) {
+        String[] words = SearchPercolator.tokenize(document.name() + " " + document.address() + " " + document.roadAddress());
+        Set<Long> ids = new TreeSet<>();
+        for (Query query : queries) {
+            String[] tokens = SearchPercolator.tokenize(query.keyword());
+            if (tokens.length == 0 && query.region() == null && query.category() == null) {
+                continue;
+            }
+            boolean matches = Arrays.stream(tokens)
+                    .allMatch(token -> Arrays.stream(words).anyMatch(word -> word.startsWith(token)));
+            matches &= query.region() == null || document.address().startsWith(query.region());
+            matches &= query.category() == null || document.category().startsWith(query.category());
+            matches &= query.minPrice() == null || (document.price() != null && document.price() >= query.minPrice());
+            matches &= query.maxPrice() == null || (document.price() != null && document.price() <= query.maxPrice());
+            if (matches) {
+                ids.add(query.id());
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 1. 조건별 일치
+     */
+    @Test
+    @DisplayName("검색어 접두어, 지역, 카테고리, 가격 범위를 모두 만족하는 질의만 일치")
+    void match_should_apply_all_conditions() {
+        List<Query> queries = List.of(
+                new Query(1, "강남 아파", null, null, null, null),
+                new Query(2, null, "서울특별시", null, 100_000_000L, 300_000_000L),
+                new Query(3, null, null, "부동산", null, 100_000_000L),
+                new Query(4, "apart", "경기도", null, null, null),
+                new Query(5, null, null, null, 1L, 2L) // 조건이 없어 색인되지 않음
+        );
+        SearchPercolator percolator = SearchPercolator.build(queries);
+        Document gangnam = new Document("강남 래미안 아파트", "서울특별시 강남구 역삼동 1", "서울특별시 강남구 테헤란로 1",
+                "부동산 / 주거용건물", 200_000_000L);
+        Document suwon = new Document("Apartment 101동", "경기도 수원시 영통동 2", null,
+                "부동산 / 주거용건물", 50_000_000L);
+
+        assertThat(percolator.size()).isEqualTo(4);
+        assertThat(match(percolator, gangnam)).containsExactly(1L, 2L);
+        assertThat(match(percolator, suwon)).containsExactly(3L, 4L);
+    }
+
+    /**
+     * 2. 무작위 질의/문서에 대해 전수 확인 결과와 동일
+     */
+    @Test
+    @DisplayName("무작위 질의와 물건에서 색인 결과가 전수 확인 결과와 같음")
+    void match_should_equal_brute_force() {
+        Random random = new Random(41);
+        List<Query> queries = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            String keyword = random.nextInt(3) == 0 ? null
+                    : pick(random, DISTRICTS).substring(0, 1 + random.nextInt(2))
+                    + (random.nextBoolean() ? " " + pick(random, NAMES).substring(0, 2) : "");
+            String region = random.nextInt(3) == 0 ? pick(random, REGIONS) : null;
+            String category = random.nextInt(4) == 0 ? pick(random, CATEGORIES).substring(0, 3) : null;
+            Long minPrice = random.nextInt(4) == 0 ? (long) random.nextInt(500) : null;
+            Long maxPrice = random.nextInt(4) == 0 ? 500L + random.nextInt(500) : null;
+            queries.add(new Query(i, keyword, region, category, minPrice, maxPrice));
+        }
+        SearchPercolator percolator = SearchPercolator.build(queries);
+        SearchPercolator.Matcher matcher = percolator.matcher();
+
+        for (int i = 0; i < 500; i++) {
+            String address = pick(random, REGIONS) + " " + pick(random, DISTRICTS) + " " + i + "번지";
+            Document document = new Document(pick(random, NAMES) + " " + i, address, "",
+                    pick(random, CATEGORIES), random.nextInt(5) == 0 ? null : (long) random.nextInt(1000));
+
+            Set<Long> actual = new TreeSet<>();
+            matcher.match(document, query -> assertThat(actual.add(query.id())).isTrue());
+            assertThat(actual).isEqualTo(bruteForce(queries, document));
+        }
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,53 @@
+package com.pgc.sideproj.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SortedIntArrays 테스트")
+class SortedIntArraysTest {
+
+    /**
+     * 1. 생성 시 정렬/중복 제거
+     */
+    @Test
+    @DisplayName("임의 순서의 값을 정렬하고 중복을 제거")
+    void of_should_sort_and_deduplicate() {
+        assertThat(SortedIntArrays.of(new int[]{5, 1, 5, 3, 1})).containsExactly(1, 3, 5);
+        assertThat(SortedIntArrays.of(new int[0])).isEmpty();
+    }
+
+    /**
+     * 2. 추가/삭제 결과가 TreeSet과 동일하고 원본은 변하지 않음
+     */
+    @Test
+    @DisplayName("무작위 추가/삭제 결과가 TreeSet과 같고 원본 배열은 그대로")
+    void add_remove_should_match_tree_set() {
+        Random random = new Random(3);
+        TreeSet<Integer> expected = new TreeSet<>();
+        int[] set = SortedIntArrays.EMPTY;
+
+        for (int i = 0; i < 5_000; i++) {
+            int value = random.nextInt(500);
+            int[] before = set.clone();
+            int[] previous = set;
+            if (random.nextBoolean()) {
+                expected.add(value);
+                set = SortedIntArrays.add(set, value);
+            } else {
+                expected.remove(value);
+                set = SortedIntArrays.remove(set, value);
+            }
+            assertThat(previous).containsExactly(before);
+        }
+
+        assertThat(set).containsExactly(expected.stream().mapToInt(Integer::intValue).toArray());
+        for (int value = 0; value < 500; value++) {
+            assertThat(SortedIntArrays.contains(set, value)).isEqualTo(expected.contains(value));
+        }
+    }
+}
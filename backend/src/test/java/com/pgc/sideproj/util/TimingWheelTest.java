@@ -0,0 +1,77 @@
+package com.pgc.sideproj.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TimingWheel 테스트")
+class TimingWheelTest {
+
+    /**
+     * 1. 마감 전에는 꺼내지 않고 마감 후 첫 tick에 꺼냄
+     */
+    @Test
+    @DisplayName("마감 시각이 지난 뒤 첫 tick 경계에서 꺼냄")
+    void advance_should_fire_after_deadline() {
+        TimingWheel<String> wheel = new TimingWheel<>(1_000, 8, 0);
+        assertThat(wheel.schedule(2_500, "a")).isTrue();
+        assertThat(wheel.schedule(10 * 60_000, "far")).isTrue();
+        assertThat(wheel.schedule(0, "past")).isFalse();
+
+        List<String> fired = new ArrayList<>();
+        wheel.advance(2_999, fired::add);
+        assertThat(fired).isEmpty();
+        wheel.advance(3_000, fired::add);
+        assertThat(fired).containsExactly("a");
+
+        wheel.advance(10 * 60_000 - 1, fired::add);
+        assertThat(fired).containsExactly("a");
+        wheel.advance(10 * 60_000, fired::add);
+        assertThat(fired).containsExactly("a", "far");
+        assertThat(wheel.size()).isZero();
+    }
+
+    /**
+     * 2. 무작위 마감 시각과 진행 간격에서 모든 작업이 정확히 한 번, 제때 꺼내짐
+     */
+    @Test
+    @DisplayName("무작위 등록/진행에서 모든 작업이 한 번씩 제 tick에 꺼내짐")
+    void advance_should_fire_each_task_once_on_time() {
+        Random random = new Random(42);
+        long tick = 1_000;
+        long start = 1_700_000_123_456L;
+        TimingWheel<Integer> wheel = new TimingWheel<>(tick, 16, start);
+        Map<Integer, Long> deadlines = new HashMap<>();
+        Map<Integer, Long> firedAt = new HashMap<>();
+
+        long now = start;
+        int nextId = 0;
+        for (int step = 0; step < 3_000; step++) {
+            for (int i = 0; i < 5; i++) {
+                // 몇 초 ~ 며칠 뒤의 마감 시각
+                long deadline = now + (long) Math.pow(10, 1 + random.nextDouble() * 7.5);
+                int id = nextId++;
+                if (wheel.schedule(deadline, id)) {
+                    deadlines.put(id, deadline);
+                }
+            }
+            now += random.nextInt(200_000);
+            long advancedTo = now;
+            wheel.advance(now, id -> assertThat(firedAt.put(id, advancedTo)).isNull());
+
+            long boundary = Math.floorDiv(now, tick) * tick;
+            for (Map.Entry<Integer, Long> entry : deadlines.entrySet()) {
+                boolean due = Math.floorDiv(entry.getValue() + tick - 1, tick) * tick <= boundary;
+                assertThat(firedAt.containsKey(entry.getKey())).isEqualTo(due);
+            }
+        }
+        assertThat(wheel.size()).isEqualTo(deadlines.size() - firedAt.size());
+    }
+}
@@ -0,0 +1,81 @@
+package com.pgc.sideproj.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TokenBucketTable 테스트")
+class TokenBucketTableTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    /**
+     * 1. 버킷 크기만큼 허용 후 거부, 시간이 지나면 다시 허용
+     */
+    @Test
+    @DisplayName("버킷이 비면 거부하고 충전 속도만큼 다시 허용")
+    void tryAcquire_should_limit_and_refill() {
+        // given: 3개 버킷, 초당 1개 충전
+        TokenBucketTable table = new TokenBucketTable(3, 1, 100);
+
+        // when & then
+        assertThat(table.tryAcquire("ip", 0)).isTrue();
+        assertThat(table.tryAcquire("ip", 0)).isTrue();
+        assertThat(table.tryAcquire("ip", 0)).isTrue();
+        assertThat(table.tryAcquire("ip", 0)).isFalse();
+
+        // 다른 키는 영향 없음
+        assertThat(table.tryAcquire("other", 0)).isTrue();
+
+        assertThat(table.tryAcquire("ip", SECOND / 2)).isFalse();
+        assertThat(table.tryAcquire("ip", SECOND)).isTrue();
+        assertThat(table.tryAcquire("ip", SECOND)).isFalse();
+    }
+
+    /**
+     * 2. 유휴 버킷 정리
+     */
+    @Test
+    @DisplayName("다시 가득 찬 버킷만 정리")
+    void evictIdle_should_remove_only_full_buckets() {
+        TokenBucketTable table = new TokenBucketTable(2, 1, 100);
+        table.tryAcquire("old", 0);
+        table.tryAcquire("recent", 2 * SECOND);
+        table.tryAcquire("recent", 2 * SECOND);
+
+        int evicted = table.evictIdle(2 * SECOND);
+
+        assertThat(evicted).isEqualTo(1);
+        assertThat(table.size()).isEqualTo(1);
+        // 정리된 키는 새 버킷으로 다시 시작
+        assertThat(table.tryAcquire("old", 2 * SECOND)).isTrue();
+    }
+
+    /**
+     * 3. 최대 키 수
+     */
+    @Test
+    @DisplayName("키가 가득 차고 정리할 버킷이 없으면 가장 오래 쓰지 않은 버킷을 내보내고 새 키를 허용")
+    void tryAcquire_should_evict_least_recently_used_when_table_is_full() {
+        // given: 8개 키가 가득 참 (한 번에 8 / 8 = 1개씩 내보냄)
+        TokenBucketTable table = new TokenBucketTable(2, 1, 8);
+        for (int i = 0; i < 8; i++) {
+            table.tryAcquire("k" + i, i);
+        }
+        // k0은 다시 사용해 가장 최근 키가 됨
+        table.tryAcquire("k0", 8);
+
+        // when: 유휴 버킷이 없는 상태에서 새 키
+        boolean allowed = table.tryAcquire("new", 9);
+
+        // then: 새 키는 허용되고, 가장 오래 쓰지 않은 k1이 빠짐
+        assertThat(allowed).isTrue();
+        assertThat(table.size()).isEqualTo(8);
+        // k0은 버킷이 유지되어 남은 토큰이 없음
+        assertThat(table.tryAcquire("k0", 10)).isFalse();
+        // k1은 내보내져 새 버킷으로 다시 시작 (k2가 대신 빠짐)
+        assertThat(table.tryAcquire("k1", 11)).isTrue();
+        assertThat(table.tryAcquire("k1", 12)).isTrue();
+    }
+}
@@ -0,0 +1,61 @@
+package com.pgc.sideproj.util;
+
+import com.pgc.sideproj.dto.common.AuthUser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("VerifiedTokenCache 테스트")
+class VerifiedTokenCacheTest {
+
+    private static final AuthUser USER = new AuthUser(1L, "user@example.com", "USER", 0);
+
+    /**
+     * 1. 토큰 만료 시각까지만 조회
+     */
+    @Test
+    @DisplayName("토큰 만료 시각이 지나면 캐시에서 조회되지 않음")
+    void get_should_respect_token_expiration() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        String digest = VerifiedTokenCache.digest("token");
+
+        cache.put(digest, USER, 2_000, 1_000);
+
+        assertThat(cache.get(digest, 1_999)).isSameAs(USER);
+        assertThat(cache.get(digest, 2_000)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    /**
+     * 2. 크기 제한
+     */
+    @Test
+    @DisplayName("상한에 이르면 만료 항목을 정리하고, 그래도 가득 차면 비운 뒤 저장")
+    void put_should_stay_within_bound() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(3);
+        cache.put("expiring", USER, 1_500, 1_000);
+        cache.put("a", USER, 10_000, 1_000);
+        cache.put("b", USER, 10_000, 1_000);
+
+        // 만료된 항목만 정리
+        cache.put("c", USER, 10_000, 2_000);
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.get("a", 2_000)).isSameAs(USER);
+
+        // 만료 항목이 없으면 비운 뒤 저장
+        cache.put("d", USER, 10_000, 2_000);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get("d", 2_000)).isSameAs(USER);
+    }
+
+    /**
+     * 3. 다이제스트
+     */
+    @Test
+    @DisplayName("같은 토큰은 같은 다이제스트, 다른 토큰은 다른 다이제스트")
+    void digest_should_be_stable() {
+        assertThat(VerifiedTokenCache.digest("a.b.c")).isEqualTo(VerifiedTokenCache.digest("a.b.c"));
+        assertThat(VerifiedTokenCache.digest("a.b.c")).isNotEqualTo(VerifiedTokenCache.digest("a.b.d"));
+    }
+}